@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+set -e
+
+# Creates an AppCDS archive of the shaded jar from a training session (initialize and tools/list)
+# Usage: ./bin/cds-archive.sh <jar> <archive>
+#        Run the server with: java -XX:SharedArchiveFile=<archive> -jar <jar>
+#        The archive only works with the JDK that created it (JAVA, default: java on the PATH)
+
+JAR="$1"
+ARCHIVE="$2"
+JAVA="${JAVA:-java}"
+
+if [ -z "$JAR" ] || [ -z "$ARCHIVE" ]; then
+    echo "Usage: $0 <jar> <archive>" >&2
+    exit 1
+fi
+
+# The server exits at the end of its input, which writes the archive; the pause lets it answer first
+{
+    echo '{"jsonrpc":"2.0","id":1,"method":"initialize","params":{"protocolVersion":"2024-11-05","capabilities":{},"clientInfo":{"name":"cds-training","version":"1"}}}'
+    echo '{"jsonrpc":"2.0","method":"notifications/initialized"}'
+    echo '{"jsonrpc":"2.0","id":2,"method":"tools/list"}'
+    sleep 5
+} | "$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" -jar "$JAR" > /dev/null
+
+echo "Created $ARCHIVE"
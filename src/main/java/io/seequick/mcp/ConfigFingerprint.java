@@ -0,0 +1,17 @@
+package io.seequick.mcp;
+
+/**
+ * Prints the fingerprint of the configuration given by the options and the environment, from which the
+ * {@code strimzi-mcp} launcher names the socket of the daemon serving it, so that the launcher and the relay
+ * can never disagree on it:
+ * {@code java -cp strimzi-mcp-server.jar io.seequick.mcp.ConfigFingerprint [options]}.
+ */
+public final class ConfigFingerprint {
+
+    private ConfigFingerprint() {
+    }
+
+    public static void main(String[] args) {
+        System.out.println(ServerConfig.fingerprint(args, System.getenv()));
+    }
+}
@@ -0,0 +1,315 @@
+package io.seequick.mcp;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Server configuration resolved from command line options and environment variables.
+ * <p>
+ * Each option can be given as {@code --name=value} on the command line or as the environment
+ * variable {@code STRIMZI_MCP_NAME} (upper case, dashes replaced by underscores). Command line
+ * options take precedence.
+ */
+public class ServerConfig {
+
+    /**
+     * How long identical Kubernetes reads are served from the micro-cache, in milliseconds (0 disables it).
+     */
+    public static final String READ_CACHE_TTL_MS = "read-cache-ttl-ms";
+
+    /**
+     * Maximum sustained Kubernetes API requests per second (0 disables rate limiting).
+     */
+    public static final String API_QPS = "api-qps";
+
+    /**
+     * Number of Kubernetes API requests that may be sent in a burst above the sustained rate.
+     */
+    public static final String API_BURST = "api-burst";
+
+    /**
+     * Comma separated kubeconfig contexts to expose (default: all contexts).
+     */
+    public static final String CONTEXTS = "contexts";
+
+    /**
+     * HTTP client implementation of the Kubernetes clients (jdk, vertx or okhttp).
+     */
+    public static final String HTTP_CLIENT = "http-client";
+
+    /**
+     * Maximum Kubernetes API requests in flight across all clusters (0 for unlimited).
+     */
+    public static final String HTTP_MAX_CONNECTIONS = "http-max-connections";
+
+    /**
+     * Maximum Kubernetes API requests in flight per API server (0 for unlimited).
+     */
+    public static final String HTTP_MAX_CONNECTIONS_PER_HOST = "http-max-connections-per-host";
+
+    /**
+     * Connection timeout of the Kubernetes clients in milliseconds.
+     */
+    public static final String HTTP_CONNECT_TIMEOUT_MS = "http-connect-timeout-ms";
+
+    /**
+     * Request timeout of the Kubernetes clients in milliseconds.
+     */
+    public static final String HTTP_REQUEST_TIMEOUT_MS = "http-request-timeout-ms";
+
+    /**
+     * Delay before a closed watch is reconnected, in milliseconds.
+     */
+    public static final String WATCH_RECONNECT_INTERVAL_MS = "watch-reconnect-interval-ms";
+
+    /**
+     * Whether HTTP/2 may be used to talk to the API servers.
+     */
+    public static final String HTTP2 = "http2";
+
+    /**
+     * File holding a snapshot of the Strimzi resources between server runs (not set disables the snapshot).
+     */
+    public static final String SNAPSHOT_FILE = "snapshot-file";
+
+    /**
+     * How often the snapshot file is rewritten when resources changed, in milliseconds (0 writes it on exit only).
+     */
+    public static final String SNAPSHOT_INTERVAL_MS = "snapshot-interval-ms";
+
+    /**
+     * Whether to serve MCP sessions on a Unix domain socket instead of stdio.
+     */
+    public static final String DAEMON = "daemon";
+
+    /**
+     * Whether to relay stdio to the daemon, starting it when none is running.
+     */
+    public static final String RELAY = "relay";
+
+    /**
+     * Unix domain socket of the daemon.
+     */
+    public static final String SOCKET = "socket";
+
+    /**
+     * How long the daemon keeps running without connected sessions, in milliseconds (0 keeps it running).
+     */
+    public static final String IDLE_TIMEOUT_MS = "idle-timeout-ms";
+
+    /**
+     * Default maximum bytes of the items a tool lists in one response (0 for unlimited).
+     */
+    public static final String MAX_OUTPUT_BYTES = "max-output-bytes";
+
+    /**
+     * Default maximum lines of the items a tool lists in one response (0 for unlimited).
+     */
+    public static final String MAX_OUTPUT_LINES = "max-output-lines";
+
+    /**
+     * Maximum results of describe tools kept until their resource changes (0 disables the cache).
+     */
+    public static final String TOOL_CACHE_ENTRIES = "tool-cache-entries";
+
+    private static final String ENV_PREFIX = "STRIMZI_MCP_";
+
+    /**
+     * Options choosing and running the daemon, which do not change what its sessions talk to.
+     */
+    private static final Set<String> DAEMON_OPTIONS = Set.of(DAEMON, RELAY, SOCKET, IDLE_TIMEOUT_MS);
+
+    private final Map<String, String> options;
+    private final Map<String, String> environment;
+
+    ServerConfig(Map<String, String> options, Map<String, String> environment) {
+        this.options = options;
+        this.environment = environment;
+    }
+
+    /**
+     * Loads the configuration from the given command line arguments and the process environment.
+     */
+    public static ServerConfig load(String[] args) {
+        return new ServerConfig(parseArgs(args), System.getenv());
+    }
+
+    /**
+     * Returns the fingerprint of the configuration a daemon serves: the SHA-256 of the sorted command line
+     * options, the sorted {@code KUBECONFIG} and {@code STRIMZI_MCP_*} environment variables, the current context
+     * and the SHA-256 of the contents of every kubeconfig file, one per line, leaving out the options of
+     * {@link #DAEMON_OPTIONS} and the launcher's {@code STRIMZI_MCP_VERSION}. Switching the current context or
+     * editing the kubeconfig in place therefore changes it as well. The {@code strimzi-mcp} launcher gets it from
+     * {@link ConfigFingerprint}.
+     */
+    public static String fingerprint(String[] args, Map<String, String> environment) {
+        List<String> lines = new ArrayList<>(Arrays.stream(args)
+                .filter(arg -> !DAEMON_OPTIONS.contains(optionName(arg)))
+                .sorted()
+                .toList());
+        Set<String> excluded = new HashSet<>(Set.of(ENV_PREFIX + "VERSION"));
+        DAEMON_OPTIONS.forEach(name -> excluded.add(ENV_PREFIX + name.toUpperCase(Locale.ROOT).replace('-', '_')));
+        environment.entrySet().stream()
+                .filter(entry -> entry.getKey().equals("KUBECONFIG") || entry.getKey().startsWith(ENV_PREFIX))
+                .filter(entry -> !excluded.contains(entry.getKey()))
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .sorted()
+                .forEach(lines::add);
+        List<Path> kubeconfigs = kubeconfigFiles(environment);
+        lines.add("current-context=" + currentContext(kubeconfigs));
+        for (Path kubeconfig : kubeconfigs) {
+            lines.add("kubeconfig " + kubeconfig + "=" + contentHash(kubeconfig));
+        }
+        MessageDigest digest = sha256();
+        for (String line : lines) {
+            digest.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    /**
+     * Returns the kubeconfig files the Kubernetes client reads: those of {@code KUBECONFIG}, or
+     * {@code ~/.kube/config}.
+     */
+    static List<Path> kubeconfigFiles(Map<String, String> environment) {
+        String kubeconfig = environment.get("KUBECONFIG");
+        if (kubeconfig == null || kubeconfig.isBlank()) {
+            return List.of(Path.of(System.getProperty("user.home"), ".kube", "config"));
+        }
+        return Arrays.stream(kubeconfig.split(File.pathSeparator))
+                .filter(file -> !file.isBlank())
+                .map(Path::of)
+                .toList();
+    }
+
+    /**
+     * Returns the current context of the kubeconfig files, which the first file setting one decides, or an empty
+     * string. Only the top-level {@code current-context} line is read, to keep the launcher fast.
+     */
+    static String currentContext(List<Path> kubeconfigs) {
+        for (Path kubeconfig : kubeconfigs) {
+            try {
+                for (String line : Files.readAllLines(kubeconfig, StandardCharsets.UTF_8)) {
+                    if (line.startsWith("current-context:")) {
+                        String context = line.substring("current-context:".length()).strip();
+                        context = context.replaceAll("^[\"']|[\"']$", "");
+                        if (!context.isEmpty()) {
+                            return context;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // A missing or unreadable file sets no context, as for the Kubernetes client
+            }
+        }
+        return "";
+    }
+
+    private static String contentHash(Path file) {
+        try {
+            return HexFormat.of().formatHex(sha256().digest(Files.readAllBytes(file)));
+        } catch (IOException e) {
+            return "unreadable";
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String optionName(String arg) {
+        int eq = arg.indexOf('=');
+        return arg.startsWith("--") ? arg.substring(2, eq < 0 ? arg.length() : eq) : arg;
+    }
+
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Returns the value of the option, or null if it is not set.
+     */
+    public String get(String name) {
+        String value = options.get(name);
+        if (value == null) {
+            value = environment.get(ENV_PREFIX + name.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+
+    /**
+     * Returns the value of the option, or the default if it is not set.
+     */
+    public String get(String name, String defaultValue) {
+        String value = get(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns the option as a long, or the default if it is not set.
+     */
+    public long getLong(String name, long defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value, e);
+        }
+    }
+
+    /**
+     * Returns the option as a double, or the default if it is not set.
+     */
+    public double getDouble(String name, double defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value, e);
+        }
+    }
+
+    /**
+     * Returns the option as a boolean, or the default if it is not set.
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        String value = get(name);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
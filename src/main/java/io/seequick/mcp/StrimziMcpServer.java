@@ -2,14 +2,41 @@ package io.seequick.mcp;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.modelcontextprotocol.json.jackson.JacksonMcpJsonMapper;
+import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncCompletionSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
 import io.modelcontextprotocol.server.McpSyncServer;
 import io.modelcontextprotocol.server.transport.StdioServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSchema.ResourcesUpdatedNotification;
 import io.modelcontextprotocol.spec.McpSchema.ServerCapabilities;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import io.seequick.mcp.client.ApiRequestScheduler;
+import io.seequick.mcp.client.ConcurrencyLimiter;
+import io.seequick.mcp.client.HttpClientBackend;
+import io.seequick.mcp.client.HttpClientOptions;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.client.KubernetesClients;
+import io.seequick.mcp.daemon.DaemonServer;
+import io.seequick.mcp.daemon.DisconnectAwareInputStream;
+import io.seequick.mcp.daemon.StdioRelay;
+import io.seequick.mcp.prompt.ArgumentCompleter;
+import io.seequick.mcp.prompt.StrimziPrompts;
+import io.seequick.mcp.resource.ResourceNotifier;
+import io.seequick.mcp.resource.ResourceUri;
+import io.seequick.mcp.resource.StrimziResources;
+import io.seequick.mcp.store.ResourceCache;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.store.SnapshotFile;
+import io.seequick.mcp.tool.BatchTool;
+import io.seequick.mcp.tool.OutputBudget;
+import io.seequick.mcp.tool.RequestCoalescer;
 import io.seequick.mcp.tool.StrimziTool;
+import io.seequick.mcp.tool.ToolResultCache;
 import io.seequick.mcp.tool.factory.ClusterToolFactory;
+import io.seequick.mcp.tool.factory.FleetToolFactory;
 import io.seequick.mcp.tool.factory.KafkaToolFactory;
 import io.seequick.mcp.tool.factory.ObservabilityToolFactory;
 import io.seequick.mcp.tool.factory.SecurityToolFactory;
@@ -18,7 +45,20 @@ import io.seequick.mcp.tool.factory.TopicToolFactory;
 import io.seequick.mcp.tool.factory.UserToolFactory;
 import io.seequick.mcp.tool.factory.UtilityToolFactory;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Strimzi MCP Server - provides MCP tools for interacting with Strimzi Kafka on Kubernetes.
@@ -27,6 +67,17 @@ public class StrimziMcpServer {
 
     private static final String SERVER_NAME = "strimzi-mcp-server";
     private static final String SERVER_VERSION = "0.3.0";
+    private static final long DEFAULT_SNAPSHOT_INTERVAL_MS = 30_000;
+    private static final long DEFAULT_IDLE_TIMEOUT_MS = 30 * 60_000;
+    private static final Duration DAEMON_START_TIMEOUT = Duration.ofSeconds(30);
+    private static final Path SOCKET_DIRECTORY = Path.of(System.getProperty("user.home"), ".strimzi-mcp");
+
+    /**
+     * Output schemas are only validated for tools that declare one, so the validator and its schema library
+     * are loaded on first use instead of on startup.
+     */
+    private static final JsonSchemaValidator OUTPUT_SCHEMA_VALIDATOR =
+            (schema, structuredContent) -> JsonSchemaValidator.getDefault().validate(schema, structuredContent);
 
     private static final List<ToolFactory> FACTORIES = List.of(
             new KafkaToolFactory(),
@@ -35,53 +86,206 @@ public class StrimziMcpServer {
             new ClusterToolFactory(),
             new ObservabilityToolFactory(),
             new SecurityToolFactory(),
-            new UtilityToolFactory()
+            new UtilityToolFactory(),
+            new FleetToolFactory()
     );
 
     private final KubernetesClient kubernetesClient;
     private final List<StrimziTool> tools;
+    private final List<SyncToolSpecification> specifications;
+    private final List<SyncPromptSpecification> prompts;
+    private final List<SyncCompletionSpecification> completions;
+    // The URIs each session has read, the only ones it is notified about
+    private final Map<McpSyncServer, Set<ResourceUri>> sessions = new ConcurrentHashMap<>();
 
     public StrimziMcpServer(KubernetesClient kubernetesClient) {
         this.kubernetesClient = kubernetesClient;
         this.tools = createTools();
+        // Built once: every daemon session lists the same tools
+        this.specifications = tools.stream().map(StrimziTool::getSpecification).toList();
+        this.prompts = StrimziPrompts.prompts();
+        this.completions = StrimziPrompts.completions(new ArgumentCompleter(kubernetesClient, ResourceIndex.shared()));
+        ResourceIndex.shared().addListener(new ResourceNotifier(this::notifyUpdated));
     }
 
-    public static void main(String[] args) {
-        KubernetesClient client = new KubernetesClientBuilder().build();
-        StrimziMcpServer server = new StrimziMcpServer(client);
-        server.start();
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ServerConfig config = ServerConfig.load(args);
+        // Sessions with another kubeconfig, contexts or options get a daemon of their own
+        String fingerprint = ServerConfig.fingerprint(args, System.getenv());
+        Path socket = Path.of(config.get(ServerConfig.SOCKET,
+                SOCKET_DIRECTORY.resolve("daemon-" + SERVER_VERSION + "-" + fingerprint + ".sock").toString()));
+        if (config.getBoolean(ServerConfig.RELAY, false)) {
+            // The relay only copies bytes, so none of the clients and tools below are created
+            SocketChannel channel = StdioRelay.connect(socket, fingerprint, daemonCommand(args), DAEMON_START_TIMEOUT);
+            StdioRelay.relay(System.in, new FileOutputStream(FileDescriptor.out), channel);
+            return;
+        }
+
+        OutputBudget.setServerDefault(new OutputBudget(
+                config.getLong(ServerConfig.MAX_OUTPUT_BYTES, OutputBudget.DEFAULT_MAX_BYTES),
+                config.getLong(ServerConfig.MAX_OUTPUT_LINES, 0)));
+
+        RequestCoalescer.shared().setCacheTtl(Duration.ofMillis(config.getLong(ServerConfig.READ_CACHE_TTL_MS, 0)));
+        KubernetesClients.addWriteListener(RequestCoalescer.shared()::invalidate);
+
+        ToolResultCache.shared().setMaxEntries(
+                (int) config.getLong(ServerConfig.TOOL_CACHE_ENTRIES, ToolResultCache.DEFAULT_MAX_ENTRIES));
+        KubernetesClients.addWriteListener(ToolResultCache.shared()::invalidate);
+
+        ApiRequestScheduler.shared().setLimit(
+                config.getDouble(ServerConfig.API_QPS, ApiRequestScheduler.DEFAULT_QPS),
+                (int) config.getLong(ServerConfig.API_BURST, ApiRequestScheduler.DEFAULT_BURST));
+
+        HttpClientOptions httpOptions = new HttpClientOptions(
+                HttpClientBackend.fromName(config.get(ServerConfig.HTTP_CLIENT, HttpClientBackend.DEFAULT.toString())),
+                (int) config.getLong(ServerConfig.HTTP_MAX_CONNECTIONS, 0),
+                (int) config.getLong(ServerConfig.HTTP_MAX_CONNECTIONS_PER_HOST, 0),
+                config.getLong(ServerConfig.HTTP_CONNECT_TIMEOUT_MS, 0),
+                config.getLong(ServerConfig.HTTP_REQUEST_TIMEOUT_MS, 0),
+                config.getLong(ServerConfig.WATCH_RECONNECT_INTERVAL_MS, 0),
+                config.getBoolean(ServerConfig.HTTP2, true));
+        ConcurrencyLimiter.shared().setLimits(httpOptions.maxConnections(), httpOptions.maxConnectionsPerHost());
+
+        KubernetesClientPool pool = KubernetesClientPool.fromKubeconfig(config.get(ServerConfig.CONTEXTS),
+                ApiRequestScheduler.shared(), httpOptions, ConcurrencyLimiter.shared());
+
+        String snapshotFile = config.get(ServerConfig.SNAPSHOT_FILE);
+        if (snapshotFile != null) {
+            // Restores the previous run's resources now and revalidates them in the background
+            String context = pool.getDefaultContext();
+            ResourceCache.shared().start(pool.client(context), context, new SnapshotFile(Path.of(snapshotFile)),
+                    Duration.ofMillis(config.getLong(ServerConfig.SNAPSHOT_INTERVAL_MS, DEFAULT_SNAPSHOT_INTERVAL_MS)));
+            Runtime.getRuntime().addShutdownHook(new Thread(ResourceCache.shared()::close, "resource-snapshot"));
+        }
+
+        StrimziMcpServer server = new StrimziMcpServer(pool.routingClient());
+        if (config.getBoolean(ServerConfig.DAEMON, false)) {
+            server.startDaemon(socket, fingerprint,
+                    Duration.ofMillis(config.getLong(ServerConfig.IDLE_TIMEOUT_MS, DEFAULT_IDLE_TIMEOUT_MS)));
+        } else {
+            server.start();
+        }
+        // Stops the Kubernetes client threads; the shutdown hooks still run
+        System.exit(0);
+    }
+
+    /**
+     * Returns the command starting a daemon with the same options as this relay.
+     */
+    static List<String> daemonCommand(String[] args) {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") == null) {
+            // A native executable is started as it is; a JVM needs the classpath and main class
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), StrimziMcpServer.class.getName()));
+        }
+        command.addAll(List.of(
+                "--" + ServerConfig.DAEMON,
+                // Overrides STRIMZI_MCP_RELAY, which the daemon inherits
+                "--" + ServerConfig.RELAY + "=false"));
+        Arrays.stream(args)
+                .filter(arg -> !arg.equals("--" + ServerConfig.RELAY) && !arg.startsWith("--" + ServerConfig.RELAY + "="))
+                .forEach(command::add);
+        return command;
     }
 
     /**
      * Creates all available Strimzi tools using factories.
      */
     private List<StrimziTool> createTools() {
-        return FACTORIES.stream()
+        List<StrimziTool> tools = new ArrayList<>(FACTORIES.stream()
                 .flatMap(factory -> factory.createTools(kubernetesClient).stream())
-                .toList();
+                .toList());
+        // Calls the other tools through their specifications
+        tools.add(new BatchTool(kubernetesClient, List.copyOf(tools)));
+        return List.copyOf(tools);
     }
 
     /**
-     * Starts the MCP server with stdio transport.
+     * Runs the MCP server with stdio transport until the client closes stdin.
      */
     public void start() {
-        StdioServerTransportProvider transportProvider = new StdioServerTransportProvider(new JacksonMcpJsonMapper(new ObjectMapper()));
+        DisconnectAwareInputStream in = new DisconnectAwareInputStream(System.in);
+        McpSyncServer syncServer = serve(new StdioServerTransportProvider(
+                new JacksonMcpJsonMapper(new ObjectMapper()), in, System.out));
+
+        // Block main thread - the transport provider handles stdin/stdout
+        try {
+            in.awaitDisconnect();
+            sessions.remove(syncServer);
+            syncServer.closeGracefully();
+        } catch (InterruptedException e) {
+            closeSession(syncServer);
+        }
+    }
+
+    /**
+     * Serves MCP sessions on a Unix domain socket until the daemon has been idle for the timeout.
+     *
+     * @param socket            The socket file
+     * @param configFingerprint The fingerprint of the configuration, checked by connecting relays
+     * @param idleTimeout       How long to keep running without sessions (zero runs until interrupted)
+     */
+    public void startDaemon(Path socket, String configFingerprint, Duration idleTimeout)
+            throws IOException, InterruptedException {
+        try (DaemonServer daemon = new DaemonServer(socket, configFingerprint, idleTimeout, (in, out) -> {
+            McpSyncServer session = openSession(in, out);
+            return () -> closeSession(session);
+        })) {
+            daemon.start();
+            daemon.awaitTermination();
+        }
+    }
+
+    /**
+     * Opens an MCP session on the given streams. All sessions share the tools and clients of the server.
+     */
+    public McpSyncServer openSession(InputStream in, OutputStream out) {
+        return serve(new StdioServerTransportProvider(new JacksonMcpJsonMapper(new ObjectMapper()), in, out));
+    }
 
-        McpSyncServer syncServer = McpServer.sync(transportProvider)
+    /**
+     * Closes a session opened by {@link #openSession}.
+     */
+    public void closeSession(McpSyncServer session) {
+        sessions.remove(session);
+        session.close();
+    }
+
+    private McpSyncServer serve(McpServerTransportProvider transportProvider) {
+        Set<ResourceUri> readUris = ConcurrentHashMap.newKeySet();
+        // Registered with the builder: tools added to a built server notify the sessions of a changed list
+        McpSyncServer session = McpServer.sync(transportProvider)
                 .serverInfo(SERVER_NAME, SERVER_VERSION)
                 .capabilities(ServerCapabilities.builder()
                         .tools(true)
+                        .prompts(false)
+                        .completions()
+                        .resources(false, false)
                         .build())
+                .jsonSchemaValidator(OUTPUT_SCHEMA_VALIDATOR)
+                .tools(specifications)
+                .prompts(prompts)
+                .completions(completions)
+                .resourceTemplates(StrimziResources.templates(kubernetesClient, ResourceIndex.shared(), readUris::add))
                 .build();
+        sessions.put(session, readUris);
+        return session;
+    }
 
-        // Register all tools
-        tools.forEach(tool -> syncServer.addTool(tool.getSpecification()));
-
-        // Block main thread - the transport provider handles stdin/stdout
-        try {
-            Thread.currentThread().join();
-        } catch (InterruptedException e) {
-            syncServer.close();
-        }
+    /**
+     * Sends a resource update notification to the sessions that read the resource. The SDK in use does not route
+     * {@code resources/subscribe}, so a read stands in for the subscription.
+     */
+    private void notifyUpdated(ResourceUri uri) {
+        sessions.forEach((session, readUris) -> {
+            if (readUris.contains(uri)) {
+                try {
+                    session.notifyResourcesUpdated(new ResourcesUpdatedNotification(uri.toString()));
+                } catch (Exception e) {
+                    // The session is closing; the other sessions are still notified
+                }
+            }
+        });
     }
 }
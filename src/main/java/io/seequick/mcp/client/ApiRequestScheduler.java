@@ -0,0 +1,252 @@
+package io.seequick.mcp.client;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side rate limiter for Kubernetes API requests.
+ * <p>
+ * Requests are admitted by a token bucket refilled at {@code qps} tokens per second holding at most
+ * {@code burst} tokens. Waiting requests are queued in two lanes: {@link Lane#INTERACTIVE} requests
+ * (single-resource reads and writes) are always admitted before {@link Lane#BULK} requests (collection
+ * lists used by fleet-wide scans). Within a lane requests are admitted in arrival order.
+ */
+public class ApiRequestScheduler {
+
+    public static final double DEFAULT_QPS = 50;
+    public static final int DEFAULT_BURST = 100;
+
+    private static final ApiRequestScheduler SHARED = new ApiRequestScheduler(DEFAULT_QPS, DEFAULT_BURST);
+
+    /**
+     * Priority lane of a request.
+     */
+    public enum Lane {
+        INTERACTIVE,
+        BULK
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Lane, LaneState> lanes = new EnumMap<>(Lane.class);
+
+    private double qps;
+    private int burst;
+    private double tokens;
+    private long lastRefill;
+    private long exempt;
+
+    public ApiRequestScheduler(double qps, int burst) {
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new LaneState());
+        }
+        setLimit(qps, burst);
+    }
+
+    /**
+     * Returns the scheduler shared by all Kubernetes clients of the server.
+     */
+    public static ApiRequestScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sets the rate limit. A qps of zero or less disables rate limiting.
+     */
+    public void setLimit(double qps, int burst) {
+        lock.lock();
+        try {
+            this.qps = qps;
+            this.burst = Math.max(1, burst);
+            this.tokens = this.burst;
+            this.lastRefill = System.nanoTime();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        lock.lock();
+        try {
+            return qps > 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the request may be sent.
+     *
+     * @param lane The priority lane of the request
+     * @throws InterruptedException if interrupted while waiting; the request is not admitted
+     */
+    public void acquire(Lane lane) throws InterruptedException {
+        LaneState state = lanes.get(lane);
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (qps <= 0) {
+                state.admitted++;
+                return;
+            }
+
+            long ticket = state.nextTicket++;
+            state.queued++;
+            state.maxQueued = Math.max(state.maxQueued, state.queued);
+            try {
+                while (true) {
+                    refill();
+                    if (ticket == state.serving && hasPriority(lane) && tokens >= 1) {
+                        tokens -= 1;
+                        break;
+                    }
+                    if (qps <= 0 && ticket == state.serving) {
+                        break;
+                    }
+                    changed.awaitNanos(nanosUntilNextToken());
+                }
+            } catch (InterruptedException e) {
+                // Skip this ticket so later requests in the lane are not blocked behind it
+                state.abandoned.add(ticket);
+                advance(state);
+                changed.signalAll();
+                throw e;
+            } finally {
+                state.queued--;
+            }
+
+            state.serving++;
+            advance(state);
+            state.admitted++;
+            long waited = System.nanoTime() - start;
+            state.totalWaitNanos += waited;
+            state.maxWaitNanos = Math.max(state.maxWaitNanos, waited);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Admits the request immediately, taking a token even if none is available. Used for requests
+     * issued from threads that must not block; the debt delays subsequent requests instead.
+     */
+    public void acquireNow(Lane lane) {
+        lock.lock();
+        try {
+            if (qps > 0) {
+                refill();
+                tokens -= 1;
+            }
+            lanes.get(lane).admitted++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a request that bypasses the limiter, such as a long-running watch.
+     */
+    public void recordExempt() {
+        lock.lock();
+        try {
+            exempt++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the scheduler metrics.
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            refill();
+            List<LaneStats> laneStats = new ArrayList<>();
+            for (var entry : lanes.entrySet()) {
+                LaneState state = entry.getValue();
+                laneStats.add(new LaneStats(entry.getKey(), state.admitted, state.queued, state.maxQueued,
+                        TimeUnit.NANOSECONDS.toMillis(state.totalWaitNanos),
+                        TimeUnit.NANOSECONDS.toMillis(state.maxWaitNanos)));
+            }
+            return new Stats(qps, burst, qps > 0 ? tokens : burst, exempt, laneStats);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasPriority(Lane lane) {
+        return lane == Lane.INTERACTIVE || lanes.get(Lane.INTERACTIVE).queued == 0;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (qps > 0) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * qps / TimeUnit.SECONDS.toNanos(1));
+        }
+        lastRefill = now;
+    }
+
+    private long nanosUntilNextToken() {
+        if (qps <= 0 || tokens >= 1) {
+            // Waiting for our turn in the lane or for the interactive lane to drain
+            return TimeUnit.MILLISECONDS.toNanos(100);
+        }
+        return Math.max(1, (long) ((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / qps));
+    }
+
+    private static void advance(LaneState state) {
+        while (state.abandoned.remove(state.serving)) {
+            state.serving++;
+        }
+    }
+
+    private static class LaneState {
+        private final Set<Long> abandoned = new HashSet<>();
+        private long nextTicket;
+        private long serving;
+        private long admitted;
+        private int queued;
+        private int maxQueued;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+    }
+
+    /**
+     * Metrics of one priority lane.
+     *
+     * @param lane          The lane
+     * @param admitted      Requests admitted through the lane
+     * @param queued        Requests currently waiting
+     * @param maxQueued     Highest number of requests that waited at the same time
+     * @param totalWaitMs   Total time requests spent waiting
+     * @param maxWaitMs     Longest time a single request waited
+     */
+    public record LaneStats(Lane lane, long admitted, int queued, int maxQueued, long totalWaitMs, long maxWaitMs) {
+
+        public double averageWaitMs() {
+            return admitted == 0 ? 0 : (double) totalWaitMs / admitted;
+        }
+    }
+
+    /**
+     * Metrics of the scheduler.
+     *
+     * @param qps             Configured requests per second (zero or less when disabled)
+     * @param burst           Configured burst size
+     * @param availableTokens Tokens currently available (negative while paying off non-blocking admissions)
+     * @param exempt          Requests that bypassed the limiter
+     * @param lanes           Metrics per lane
+     */
+    public record Stats(double qps, int burst, double availableTokens, long exempt, List<LaneStats> lanes) {
+    }
+}
@@ -0,0 +1,174 @@
+package io.seequick.mcp.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of Kubernetes API requests in flight, in total and per API server host.
+ * <p>
+ * Permits are handed out asynchronously: callers receive a future that completes once a permit is
+ * available, so no thread blocks while waiting. Waiting requests are granted in arrival order,
+ * skipping requests whose host is still at its limit.
+ */
+public class ConcurrencyLimiter {
+
+    private static final ConcurrencyLimiter SHARED = new ConcurrencyLimiter(0, 0);
+
+    private final Deque<Waiter> waiting = new ArrayDeque<>();
+    private final Map<String, Integer> inFlightByHost = new HashMap<>();
+
+    private int maxTotal;
+    private int maxPerHost;
+    private int inFlight;
+    private int maxInFlight;
+    private int maxQueued;
+    private long granted;
+
+    public ConcurrencyLimiter(int maxTotal, int maxPerHost) {
+        setLimits(maxTotal, maxPerHost);
+    }
+
+    /**
+     * Returns the limiter shared by all Kubernetes clients of the server.
+     */
+    public static ConcurrencyLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sets the limits. Zero or less means unlimited.
+     */
+    public void setLimits(int maxTotal, int maxPerHost) {
+        List<Waiter> ready;
+        synchronized (this) {
+            this.maxTotal = maxTotal;
+            this.maxPerHost = maxPerHost;
+            ready = grantWaiting();
+        }
+        ready.forEach(Waiter::complete);
+    }
+
+    public synchronized boolean isEnabled() {
+        return maxTotal > 0 || maxPerHost > 0;
+    }
+
+    /**
+     * Requests a permit for a request to the host.
+     *
+     * @param host The API server host and port
+     * @return A future completing with the permit; the permit must be released when the request is done
+     */
+    public CompletableFuture<Permit> acquire(String host) {
+        Waiter waiter = new Waiter(host, new CompletableFuture<>());
+        synchronized (this) {
+            // Waiting requests are all blocked on a limit, so a request with capacity does not overtake them
+            if (hasCapacity(host)) {
+                take(host);
+            } else {
+                waiting.addLast(waiter);
+                maxQueued = Math.max(maxQueued, waiting.size());
+                return waiter.future;
+            }
+        }
+        waiter.complete();
+        return waiter.future;
+    }
+
+    /**
+     * Returns a snapshot of the limiter metrics.
+     */
+    public synchronized Stats stats() {
+        return new Stats(maxTotal, maxPerHost, inFlight, maxInFlight, waiting.size(), maxQueued, granted);
+    }
+
+    private void release(String host) {
+        List<Waiter> ready;
+        synchronized (this) {
+            inFlight--;
+            inFlightByHost.merge(host, -1, Integer::sum);
+            inFlightByHost.remove(host, 0);
+            ready = grantWaiting();
+        }
+        ready.forEach(Waiter::complete);
+    }
+
+    private List<Waiter> grantWaiting() {
+        List<Waiter> ready = new ArrayList<>();
+        Iterator<Waiter> iterator = waiting.iterator();
+        while (iterator.hasNext() && (maxTotal <= 0 || inFlight < maxTotal)) {
+            Waiter waiter = iterator.next();
+            if (hasCapacity(waiter.host)) {
+                iterator.remove();
+                take(waiter.host);
+                ready.add(waiter);
+            }
+        }
+        return ready;
+    }
+
+    private boolean hasCapacity(String host) {
+        return (maxTotal <= 0 || inFlight < maxTotal)
+                && (maxPerHost <= 0 || inFlightByHost.getOrDefault(host, 0) < maxPerHost);
+    }
+
+    private void take(String host) {
+        inFlight++;
+        maxInFlight = Math.max(maxInFlight, inFlight);
+        inFlightByHost.merge(host, 1, Integer::sum);
+        granted++;
+    }
+
+    private final class Waiter {
+        private final String host;
+        private final CompletableFuture<Permit> future;
+
+        private Waiter(String host, CompletableFuture<Permit> future) {
+            this.host = host;
+            this.future = future;
+        }
+
+        private void complete() {
+            future.complete(new Permit(host));
+        }
+    }
+
+    /**
+     * A granted permit. Releasing it more than once has no effect.
+     */
+    public final class Permit {
+        private final String host;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String host) {
+            this.host = host;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                ConcurrencyLimiter.this.release(host);
+            }
+        }
+    }
+
+    /**
+     * Metrics of the limiter.
+     *
+     * @param maxTotal    Configured limit of requests in flight (zero or less when unlimited)
+     * @param maxPerHost  Configured limit of requests in flight per host (zero or less when unlimited)
+     * @param inFlight    Requests currently in flight
+     * @param maxInFlight Highest number of requests in flight at the same time
+     * @param queued      Requests currently waiting for a permit
+     * @param maxQueued   Highest number of requests waiting at the same time
+     * @param granted     Permits granted in total
+     */
+    public record Stats(int maxTotal, int maxPerHost, int inFlight, int maxInFlight, int queued, int maxQueued,
+                        long granted) {
+    }
+}
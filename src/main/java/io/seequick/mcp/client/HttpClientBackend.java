@@ -0,0 +1,78 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.http.HttpClient;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP client implementations the Kubernetes client can use. Backends are loaded by class name, so a
+ * backend is only available when its fabric8 module is on the classpath.
+ */
+public enum HttpClientBackend {
+
+    JDK("io.fabric8.kubernetes.client.jdkhttp.JdkHttpClientFactory", "kubernetes-httpclient-jdk"),
+    VERTX("io.fabric8.kubernetes.client.vertx.VertxHttpClientFactory", "kubernetes-httpclient-vertx"),
+    OKHTTP("io.fabric8.kubernetes.client.okhttp.OkHttpClientFactory", "kubernetes-httpclient-okhttp");
+
+    /**
+     * Backend used when none is selected: Vert.x, which fabric8 also defaults to, or the JDK client in a
+     * native executable, where Vert.x and Netty would need substantial extra image configuration.
+     */
+    public static final HttpClientBackend DEFAULT =
+            "runtime".equals(System.getProperty("org.graalvm.nativeimage.imagecode")) ? JDK : VERTX;
+
+    private final String factoryClassName;
+    private final String artifactId;
+
+    HttpClientBackend(String factoryClassName, String artifactId) {
+        this.factoryClassName = factoryClassName;
+        this.artifactId = artifactId;
+    }
+
+    /**
+     * Returns the backend with the given name (case-insensitive).
+     *
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static HttpClientBackend fromName(String name) {
+        for (HttpClientBackend backend : values()) {
+            if (backend.name().equalsIgnoreCase(name)) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException("Unknown HTTP client: " + name + ". Supported: "
+                + Arrays.stream(values()).map(HttpClientBackend::toString).collect(Collectors.joining(", ")));
+    }
+
+    public boolean isAvailable() {
+        try {
+            Class.forName(factoryClassName, false, HttpClientBackend.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new factory of the backend.
+     *
+     * @throws IllegalStateException if the backend is not on the classpath
+     */
+    public HttpClient.Factory createFactory() {
+        try {
+            return (HttpClient.Factory) Class.forName(factoryClassName).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("HTTP client " + this + " is not available. Add io.fabric8:"
+                    + artifactId + " to the classpath.", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create HTTP client " + this + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
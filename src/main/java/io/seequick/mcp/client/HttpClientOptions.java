@@ -0,0 +1,55 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+
+/**
+ * HTTP settings of the Kubernetes clients.
+ *
+ * @param backend                  The HTTP client implementation
+ * @param maxConnections           Maximum requests in flight across all API servers (zero or less for unlimited)
+ * @param maxConnectionsPerHost    Maximum requests in flight per API server (zero or less for unlimited)
+ * @param connectTimeoutMs         Connection timeout in milliseconds (zero or less keeps the kubeconfig default)
+ * @param requestTimeoutMs         Request timeout in milliseconds (zero or less keeps the kubeconfig default)
+ * @param watchReconnectIntervalMs Delay before reconnecting a closed watch in milliseconds (zero or less keeps
+ *                                 the kubeconfig default)
+ * @param http2                    Whether HTTP/2 may be negotiated with the API server
+ */
+public record HttpClientOptions(HttpClientBackend backend, int maxConnections, int maxConnectionsPerHost,
+                                long connectTimeoutMs, long requestTimeoutMs, long watchReconnectIntervalMs,
+                                boolean http2) {
+
+    /**
+     * Options leaving everything at the fabric8 defaults.
+     */
+    public static final HttpClientOptions DEFAULTS = new HttpClientOptions(HttpClientBackend.DEFAULT, 0, 0, 0, 0, 0, true);
+
+    public boolean hasConnectionLimits() {
+        return maxConnections > 0 || maxConnectionsPerHost > 0;
+    }
+
+    /**
+     * Returns a copy of the configuration with these options applied.
+     */
+    public Config applyTo(Config config) {
+        Config result = new ConfigBuilder(config).build();
+        if (connectTimeoutMs > 0) {
+            result.setConnectionTimeout(Math.toIntExact(connectTimeoutMs));
+        }
+        if (requestTimeoutMs > 0) {
+            result.setRequestTimeout(Math.toIntExact(requestTimeoutMs));
+        }
+        if (watchReconnectIntervalMs > 0) {
+            result.setWatchReconnectInterval(Math.toIntExact(watchReconnectIntervalMs));
+        }
+        // Only honored by OkHttp; the other backends are limited by LimitingHttpClientFactory
+        if (maxConnections > 0) {
+            result.setMaxConcurrentRequests(maxConnections);
+        }
+        if (maxConnectionsPerHost > 0) {
+            result.setMaxConcurrentRequestsPerHost(maxConnectionsPerHost);
+        }
+        result.setHttp2Disable(!http2);
+        return result;
+    }
+}
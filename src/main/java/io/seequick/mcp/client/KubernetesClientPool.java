@@ -0,0 +1,216 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.NamedContext;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClient;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pool of Kubernetes clients, one per kubeconfig context, created on first use.
+ * <p>
+ * The pool hands out a single routing client that tools keep for their lifetime. Every call on the
+ * routing client is forwarded to the client of the context selected for the current thread with
+ * {@link #call(String, Supplier)}, or to the default context when none is selected.
+ */
+public class KubernetesClientPool implements AutoCloseable {
+
+    /**
+     * Context name used when no kubeconfig is available (e.g. when running inside a cluster).
+     */
+    public static final String IN_CLUSTER_CONTEXT = "in-cluster";
+
+    private final String defaultContext;
+    private final List<String> contexts;
+    private final Function<String, KubernetesClient> factory;
+    private final Map<String, KubernetesClient> clients = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> currentContext = new ThreadLocal<>();
+    private final KubernetesClient routingClient;
+
+    public KubernetesClientPool(String defaultContext, List<String> contexts,
+                                Function<String, KubernetesClient> factory) {
+        if (!contexts.contains(defaultContext)) {
+            throw new IllegalArgumentException("Default context " + defaultContext + " is not one of " + contexts);
+        }
+        this.defaultContext = defaultContext;
+        this.contexts = List.copyOf(contexts);
+        this.factory = factory;
+        this.routingClient = (KubernetesClient) Proxy.newProxyInstance(
+                KubernetesClient.class.getClassLoader(),
+                new Class<?>[]{KubernetesClient.class},
+                new RoutingHandler(this));
+    }
+
+    /**
+     * Creates a pool for the contexts of the local kubeconfig.
+     *
+     * @param contextFilter Comma separated context names to expose, or null for all contexts
+     * @param scheduler     The scheduler rate limiting the clients
+     * @param options       The HTTP settings of the clients
+     * @param limiter       The limiter bounding requests in flight across all clients
+     * @return The pool
+     */
+    public static KubernetesClientPool fromKubeconfig(String contextFilter, ApiRequestScheduler scheduler,
+                                                      HttpClientOptions options, ConcurrencyLimiter limiter) {
+        Config base = Config.autoConfigure(null);
+        if (base.getCurrentContext() == null || base.getContexts() == null || base.getContexts().isEmpty()) {
+            return new KubernetesClientPool(IN_CLUSTER_CONTEXT, List.of(IN_CLUSTER_CONTEXT),
+                    context -> KubernetesClients.create(base, scheduler, options, limiter));
+        }
+
+        List<String> available = base.getContexts().stream().map(NamedContext::getName).toList();
+        List<String> contexts = available;
+        if (contextFilter != null) {
+            contexts = Arrays.stream(contextFilter.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+            for (String context : contexts) {
+                if (!available.contains(context)) {
+                    throw new IllegalArgumentException("Unknown kubeconfig context: " + context
+                            + ". Available: " + String.join(", ", available));
+                }
+            }
+        }
+
+        String current = base.getCurrentContext().getName();
+        String defaultContext = contexts.contains(current) ? current : contexts.get(0);
+        return new KubernetesClientPool(defaultContext, contexts, context -> context.equals(current)
+                ? KubernetesClients.create(base, scheduler, options, limiter)
+                : KubernetesClients.create(Config.autoConfigure(context), scheduler, options, limiter));
+    }
+
+    /**
+     * Returns the pool behind a routing client, if the client is one.
+     */
+    public static Optional<KubernetesClientPool> of(KubernetesClient client) {
+        if (client != null && Proxy.isProxyClass(client.getClass())
+                && Proxy.getInvocationHandler(client) instanceof RoutingHandler handler) {
+            return Optional.of(handler.pool);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the client that calls on the given client are currently forwarded to. Clients that are not
+     * routing clients are returned unchanged.
+     */
+    public static KubernetesClient resolve(KubernetesClient client) {
+        return of(client).map(pool -> pool.client(pool.currentContext())).orElse(client);
+    }
+
+    public String getDefaultContext() {
+        return defaultContext;
+    }
+
+    public List<String> getContexts() {
+        return contexts;
+    }
+
+    public boolean hasContext(String context) {
+        return contexts.contains(context);
+    }
+
+    /**
+     * Returns the context selected for the current thread.
+     */
+    public String currentContext() {
+        String context = currentContext.get();
+        return context != null ? context : defaultContext;
+    }
+
+    /**
+     * Returns the client routing calls to the context selected for the current thread.
+     */
+    public KubernetesClient routingClient() {
+        return routingClient;
+    }
+
+    /**
+     * Returns the client of the context, creating it on first use.
+     */
+    public KubernetesClient client(String context) {
+        if (!hasContext(context)) {
+            throw new IllegalArgumentException("Unknown context: " + context + ". Available: " + String.join(", ", contexts));
+        }
+        return clients.computeIfAbsent(context, factory);
+    }
+
+    /**
+     * Runs the action with the routing client bound to the given context on the current thread.
+     *
+     * @param context The context, or null for the default context
+     * @param action  The action to run
+     * @return The result of the action
+     */
+    public <T> T call(String context, Supplier<T> action) {
+        String target = context != null ? context : defaultContext;
+        if (!hasContext(target)) {
+            throw new IllegalArgumentException("Unknown context: " + target + ". Available: " + String.join(", ", contexts));
+        }
+        String previous = currentContext.get();
+        currentContext.set(target);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                currentContext.set(previous);
+            } else {
+                currentContext.remove();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        List<KubernetesClient> open = new ArrayList<>(clients.values());
+        clients.clear();
+        open.forEach(KubernetesClient::close);
+    }
+
+    private record RoutingHandler(KubernetesClientPool pool) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) {
+                        return "KubernetesClient[context=" + pool.currentContext() + "]";
+                    }
+                    break;
+                case "close":
+                    if (method.getParameterCount() == 0) {
+                        pool.close();
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            try {
+                return method.invoke(pool.client(pool.currentContext()), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.http.HttpClient;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the Kubernetes clients used by the server.
+ */
+public final class KubernetesClients {
+
+    private static final List<WriteTrackingInterceptor.Listener> WRITE_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private KubernetesClients() {
+    }
+
+    /**
+     * Adds a listener notified of the writes sent by all clients created here.
+     */
+    public static void addWriteListener(WriteTrackingInterceptor.Listener listener) {
+        WRITE_LISTENERS.add(listener);
+    }
+
+    /**
+     * Creates a client with the default HTTP settings whose API requests are rate limited by the scheduler.
+     *
+     * @param config    The client configuration
+     * @param scheduler The scheduler admitting the client's requests
+     * @return The client
+     */
+    public static KubernetesClient create(Config config, ApiRequestScheduler scheduler) {
+        return create(config, scheduler, HttpClientOptions.DEFAULTS, ConcurrencyLimiter.shared());
+    }
+
+    /**
+     * Creates a client whose API requests are rate limited by the scheduler and, when the options set
+     * connection limits, admitted by the limiter. Its writes are reported to the write listeners.
+     *
+     * @param config    The client configuration
+     * @param scheduler The scheduler admitting the client's requests
+     * @param options   The HTTP settings
+     * @param limiter   The limiter bounding requests in flight
+     * @return The client
+     */
+    public static KubernetesClient create(Config config, ApiRequestScheduler scheduler, HttpClientOptions options,
+                                          ConcurrencyLimiter limiter) {
+        HttpClient.Factory factory = options.backend().createFactory();
+        if (options.hasConnectionLimits()) {
+            factory = new LimitingHttpClientFactory(factory, limiter);
+        }
+        return new KubernetesClientBuilder()
+                .withConfig(options.applyTo(config))
+                .withHttpClientFactory(factory)
+                .withKubernetesSerialization(ModelSerialization.shared().kubernetesSerialization())
+                .withHttpClientBuilderConsumer(builder -> {
+                    builder.addOrReplaceInterceptor(RateLimitingInterceptor.NAME, new RateLimitingInterceptor(scheduler));
+                    builder.addOrReplaceInterceptor(WriteTrackingInterceptor.NAME, new WriteTrackingInterceptor(
+                            (resource, namespace, name) -> WRITE_LISTENERS.forEach(
+                                    listener -> listener.written(resource, namespace, name))));
+                })
+                .build();
+    }
+}
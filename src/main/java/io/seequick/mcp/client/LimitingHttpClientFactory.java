@@ -0,0 +1,231 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.http.TlsVersion;
+import io.fabric8.kubernetes.client.http.WebSocket;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.TrustManager;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * HTTP client factory that wraps the clients of another factory so that requests are admitted by a
+ * {@link ConcurrencyLimiter}. Works with any backend; watches, followed logs and websockets are
+ * long-running and bypass the limiter.
+ */
+public class LimitingHttpClientFactory implements HttpClient.Factory {
+
+    private final HttpClient.Factory delegate;
+    private final ConcurrencyLimiter limiter;
+
+    public LimitingHttpClientFactory(HttpClient.Factory delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public HttpClient.Builder newBuilder(Config config) {
+        return new LimitingBuilder(delegate.newBuilder(config), limiter);
+    }
+
+    @Override
+    public HttpClient.Builder newBuilder() {
+        return new LimitingBuilder(delegate.newBuilder(), limiter);
+    }
+
+    @Override
+    public int priority() {
+        return delegate.priority();
+    }
+
+    static boolean isLongRunning(URI uri) {
+        if (RateLimitingInterceptor.isWatch(uri)) {
+            return true;
+        }
+        String query = uri.getRawQuery();
+        return query != null && List.of(query.split("&")).contains("follow=true");
+    }
+
+    private record LimitingBuilder(HttpClient.Builder builder, ConcurrencyLimiter limiter) implements HttpClient.Builder {
+
+        @Override
+        public HttpClient build() {
+            return new LimitingHttpClient(builder.build(), limiter);
+        }
+
+        @Override
+        public HttpClient.Builder connectTimeout(long connectTimeout, TimeUnit unit) {
+            builder.connectTimeout(connectTimeout, unit);
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder addOrReplaceInterceptor(String name, Interceptor interceptor) {
+            builder.addOrReplaceInterceptor(name, interceptor);
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder authenticatorNone() {
+            builder.authenticatorNone();
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder sslContext(KeyManager[] keyManagers, TrustManager[] trustManagers) {
+            builder.sslContext(keyManagers, trustManagers);
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder followAllRedirects() {
+            builder.followAllRedirects();
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder proxyAddress(InetSocketAddress proxyAddress) {
+            builder.proxyAddress(proxyAddress);
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder proxyAuthorization(String credentials) {
+            builder.proxyAuthorization(credentials);
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder tlsVersions(TlsVersion... tlsVersions) {
+            builder.tlsVersions(tlsVersions);
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder preferHttp11() {
+            builder.preferHttp11();
+            return this;
+        }
+
+        @Override
+        public HttpClient.Builder proxyType(HttpClient.ProxyType type) {
+            builder.proxyType(type);
+            return this;
+        }
+
+        @Override
+        public HttpClient.DerivedClientBuilder tag(Object value) {
+            builder.tag(value);
+            return this;
+        }
+    }
+
+    private record LimitingDerivedBuilder(HttpClient.DerivedClientBuilder builder, ConcurrencyLimiter limiter)
+            implements HttpClient.DerivedClientBuilder {
+
+        @Override
+        public HttpClient build() {
+            return new LimitingHttpClient(builder.build(), limiter);
+        }
+
+        @Override
+        public HttpClient.DerivedClientBuilder addOrReplaceInterceptor(String name, Interceptor interceptor) {
+            builder.addOrReplaceInterceptor(name, interceptor);
+            return this;
+        }
+
+        @Override
+        public HttpClient.DerivedClientBuilder authenticatorNone() {
+            builder.authenticatorNone();
+            return this;
+        }
+
+        @Override
+        public HttpClient.DerivedClientBuilder tag(Object value) {
+            builder.tag(value);
+            return this;
+        }
+    }
+
+    private record LimitingHttpClient(HttpClient client, ConcurrencyLimiter limiter) implements HttpClient {
+
+        @Override
+        public void close() {
+            client.close();
+        }
+
+        @Override
+        public DerivedClientBuilder newBuilder() {
+            return new LimitingDerivedBuilder(client.newBuilder(), limiter);
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, Class<T> type) {
+            if (isLongRunning(request.uri())) {
+                return client.sendAsync(request, type);
+            }
+            return limited(request, () -> client.sendAsync(request, type), response -> CompletableFuture.completedFuture(null));
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse<AsyncBody>> consumeBytes(HttpRequest request,
+                                                                      AsyncBody.Consumer<List<ByteBuffer>> consumer) {
+            if (isLongRunning(request.uri())) {
+                return client.consumeBytes(request, consumer);
+            }
+            // The request is done once its body has been consumed, not when the headers arrive
+            return limited(request, () -> client.consumeBytes(request, consumer),
+                    response -> response.body() != null ? response.body().done() : CompletableFuture.completedFuture(null));
+        }
+
+        @Override
+        public WebSocket.Builder newWebSocketBuilder() {
+            return client.newWebSocketBuilder();
+        }
+
+        @Override
+        public HttpRequest.Builder newHttpRequestBuilder() {
+            return client.newHttpRequestBuilder();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return client.isClosed();
+        }
+
+        private <R extends HttpResponse<?>> CompletableFuture<R> limited(
+                HttpRequest request, Supplier<CompletableFuture<R>> send,
+                Function<R, CompletableFuture<Void>> done) {
+            URI uri = request.uri();
+            String host = uri.getHost() + ":" + uri.getPort();
+            return limiter.acquire(host).thenCompose(permit -> {
+                CompletableFuture<R> response;
+                try {
+                    response = send.get();
+                } catch (RuntimeException | Error e) {
+                    permit.release();
+                    throw e;
+                }
+                return response.whenComplete((r, e) -> {
+                    if (e != null || r == null) {
+                        permit.release();
+                    } else {
+                        done.apply(r).whenComplete((v, t) -> permit.release());
+                    }
+                });
+            });
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.seequick.mcp.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.fabric8.kubernetes.api.model.ListMeta;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Incremental reader of a Kubernetes list response. Bytes are fed as they arrive and each item is passed
+ * to the action as soon as its closing brace has been read, so the list is never held in memory as a whole.
+ *
+ * @param <T> The type of the items
+ */
+public class ListReader<T> {
+
+    private final ObjectMapper mapper;
+    private final ObjectReader itemReader;
+    private final Consumer<? super T> action;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private byte[] chunk = new byte[0];
+    private int depth;
+    private boolean complete;
+    private String field;
+    private Target target;
+    private TokenBuffer buffer;
+    private ListMeta metadata = new ListMeta();
+
+    ListReader(ObjectMapper mapper, Class<T> itemType, Consumer<? super T> action) throws IOException {
+        this.mapper = mapper;
+        this.itemReader = mapper.readerFor(itemType);
+        this.action = action;
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Parses the next bytes of the response.
+     *
+     * @throws IOException if the bytes are not valid JSON or the response is not a Kubernetes list
+     */
+    public void feed(ByteBuffer bytes) throws IOException {
+        int length = bytes.remaining();
+        if (length == 0) {
+            return;
+        }
+        if (chunk.length < length) {
+            chunk = new byte[length];
+        }
+        bytes.get(chunk, 0, length);
+        feeder.feedInput(chunk, 0, length);
+        parse();
+    }
+
+    /**
+     * Completes the response.
+     *
+     * @return The metadata of the list (resource version, continue token)
+     * @throws IOException if the response ended before the list was complete
+     */
+    public ListMeta finish() throws IOException {
+        feeder.endOfInput();
+        parse();
+        parser.close();
+        if (!complete) {
+            throw new IOException("Incomplete Kubernetes list response");
+        }
+        return metadata;
+    }
+
+    private void parse() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (buffer != null) {
+                buffer.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                start(token);
+            } else if (token.isStructEnd()) {
+                end();
+            } else if (token == JsonToken.FIELD_NAME && depth == 1) {
+                field = parser.currentName();
+            }
+        }
+    }
+
+    private void start(JsonToken token) throws IOException {
+        depth++;
+        if (depth == 1 && token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a Kubernetes list object");
+        }
+        if (buffer != null) {
+            return;
+        }
+        if (depth == 2 && token == JsonToken.START_OBJECT && "metadata".equals(field)) {
+            startBuffer(Target.METADATA);
+        } else if (depth == 3 && token == JsonToken.START_OBJECT && "items".equals(field)) {
+            startBuffer(Target.ITEM);
+        }
+    }
+
+    private void startBuffer(Target target) throws IOException {
+        this.target = target;
+        this.buffer = new TokenBuffer(parser);
+        buffer.copyCurrentEvent(parser);
+    }
+
+    private void end() throws IOException {
+        depth--;
+        complete = depth == 0;
+        boolean completed = buffer != null && (target == Target.METADATA ? depth == 1 : depth == 2);
+        if (!completed) {
+            return;
+        }
+        TokenBuffer value = buffer;
+        buffer = null;
+        try (JsonParser valueParser = value.asParser(mapper)) {
+            if (target == Target.METADATA) {
+                metadata = mapper.readValue(valueParser, ListMeta.class);
+            } else {
+                action.accept(itemReader.readValue(valueParser));
+            }
+        }
+    }
+
+    private enum Target {
+        METADATA,
+        ITEM
+    }
+}
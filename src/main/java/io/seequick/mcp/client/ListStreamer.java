@@ -0,0 +1,104 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Sends a Kubernetes list request and feeds the response body to a {@link ListReader} on the calling thread.
+ * <p>
+ * The next chunk of the body is only requested once the previous one has been parsed, so a slow consumer
+ * applies backpressure instead of buffering the response, and no parsing happens on HTTP client threads.
+ */
+public final class ListStreamer {
+
+    private static final Object END = new Object();
+
+    private ListStreamer() {
+    }
+
+    /**
+     * Streams the list.
+     *
+     * @param httpClient The HTTP client of the Kubernetes client
+     * @param request    The list request
+     * @param reader     The reader receiving the body
+     * @return The metadata of the list
+     * @throws KubernetesClientException if the request fails or the response is not a Kubernetes list
+     */
+    public static ListMeta stream(HttpClient httpClient, HttpRequest request, ListReader<?> reader) {
+        BlockingQueue<Object> chunks = new LinkedBlockingQueue<>();
+        HttpResponse<AsyncBody> response;
+        try {
+            response = httpClient.consumeBytes(request, (buffers, body) -> chunks.add(buffers)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted while sending " + request.uri(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new KubernetesClientException("Failure executing: GET at: " + request.uri() + ". " + cause.getMessage(), cause);
+        }
+
+        AsyncBody body = response.body();
+        body.done().whenComplete((ignored, error) -> chunks.add(error != null ? error : END));
+        try {
+            if (!response.isSuccessful()) {
+                ByteArrayOutputStream message = new ByteArrayOutputStream();
+                drain(body, chunks, buffer -> {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    message.writeBytes(bytes);
+                });
+                throw new KubernetesClientException("Failure executing: GET at: " + request.uri() + ". Message: "
+                        + message.toString(StandardCharsets.UTF_8), response.code(), null);
+            }
+            drain(body, chunks, reader::feed);
+            return reader.finish();
+        } catch (IOException e) {
+            body.cancel();
+            throw new KubernetesClientException("Invalid list response from " + request.uri() + ": " + e.getMessage(), e);
+        } catch (RuntimeException | Error e) {
+            body.cancel();
+            throw e;
+        } catch (InterruptedException e) {
+            body.cancel();
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted while reading " + request.uri(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void drain(AsyncBody body, BlockingQueue<Object> chunks, ChunkConsumer consumer)
+            throws IOException, InterruptedException {
+        while (true) {
+            body.consume();
+            Object next = chunks.take();
+            if (next == END) {
+                return;
+            }
+            if (next instanceof Throwable error) {
+                throw new IOException(error.getMessage(), error);
+            }
+            for (ByteBuffer buffer : (List<ByteBuffer>) next) {
+                consumer.accept(buffer);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(ByteBuffer buffer) throws IOException;
+    }
+}
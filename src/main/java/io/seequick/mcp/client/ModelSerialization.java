@@ -0,0 +1,90 @@
+package io.seequick.mcp.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * JSON binding of the Kubernetes and Strimzi models.
+ * <p>
+ * Model properties are bound through generated lambdas (Jackson Blackbird) instead of reflection, and
+ * resource lists can be read item by item so that a large list is never held in memory as a whole.
+ */
+public class ModelSerialization {
+
+    private static final int READ_CHUNK_SIZE = 16 * 1024;
+
+    private static final ModelSerialization SHARED = new ModelSerialization(!isNativeImage());
+
+    private final ObjectMapper mapper;
+    private final KubernetesSerialization kubernetesSerialization;
+
+    /**
+     * @param optimized Whether to register Jackson Blackbird
+     */
+    public ModelSerialization(boolean optimized) {
+        this.mapper = new ObjectMapper();
+        if (optimized) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        // Registers the fabric8 modules on the mapper
+        this.kubernetesSerialization = new KubernetesSerialization(mapper, true);
+    }
+
+    /**
+     * Returns the serialization shared by all clients, so that deserializers are only built once.
+     */
+    public static ModelSerialization shared() {
+        return SHARED;
+    }
+
+    public KubernetesSerialization kubernetesSerialization() {
+        return kubernetesSerialization;
+    }
+
+    /**
+     * Creates a reader passing each item of a Kubernetes list response to the action as soon as it is parsed.
+     *
+     * @param itemType The type of the items
+     * @param action   The action receiving the items
+     * @return The reader
+     */
+    public <T> ListReader<T> newListReader(Class<T> itemType, Consumer<? super T> action) {
+        try {
+            return new ListReader<>(mapper, itemType, action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a Kubernetes list and passes each item to the action as soon as it is parsed.
+     *
+     * @param in       The JSON list; it is not closed
+     * @param itemType The type of the items
+     * @param action   The action receiving the items
+     * @return The metadata of the list (resource version, continue token)
+     * @throws IOException if the input cannot be read or is not a Kubernetes list
+     */
+    public <T> ListMeta forEachItem(InputStream in, Class<T> itemType, Consumer<? super T> action) throws IOException {
+        ListReader<T> reader = newListReader(itemType, action);
+        byte[] chunk = new byte[READ_CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) >= 0) {
+            reader.feed(ByteBuffer.wrap(chunk, 0, read));
+        }
+        return reader.finish();
+    }
+
+    private static boolean isNativeImage() {
+        // Blackbird generates classes at runtime, which a native image cannot do
+        return System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+    }
+}
@@ -0,0 +1,102 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.seequick.mcp.client.ApiRequestScheduler.Lane;
+
+import java.net.URI;
+
+/**
+ * HTTP interceptor that passes every Kubernetes API request through an {@link ApiRequestScheduler}.
+ * <p>
+ * Single-resource requests (gets, logs, writes, discovery) go to the interactive lane; collection
+ * lists go to the bulk lane. Watches are long-running and exempt. Requests issued from HTTP client
+ * event loop threads (e.g. informer relists) are never blocked; they borrow a token instead.
+ */
+public class RateLimitingInterceptor implements Interceptor {
+
+    public static final String NAME = "rate-limit";
+
+    /**
+     * Name prefixes of HTTP client threads that must never block.
+     */
+    private static final String[] NON_BLOCKING_THREAD_PREFIXES = {"vert.x-", "OkHttp", "HttpClient-"};
+
+    private final ApiRequestScheduler scheduler;
+
+    public RateLimitingInterceptor(ApiRequestScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        if (isWatch(request.uri())) {
+            scheduler.recordExempt();
+            return;
+        }
+
+        Lane lane = classify(request.method(), request.uri());
+        if (isNonBlockingThread(Thread.currentThread())) {
+            scheduler.acquireNow(lane);
+            return;
+        }
+        try {
+            scheduler.acquire(lane);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scheduler.acquireNow(lane);
+        }
+    }
+
+    /**
+     * Determines the priority lane of a request from its method and path.
+     */
+    static Lane classify(String method, URI uri) {
+        if (!"GET".equalsIgnoreCase(method)) {
+            return Lane.INTERACTIVE;
+        }
+
+        String[] segments = uri.getPath().replaceAll("^/+|/+$", "").split("/+");
+        int resourceStart;
+        if (segments.length >= 2 && "api".equals(segments[0])) {
+            resourceStart = 2;
+        } else if (segments.length >= 3 && "apis".equals(segments[0])) {
+            resourceStart = 3;
+        } else {
+            // Discovery, version and other non-resource paths
+            return Lane.INTERACTIVE;
+        }
+
+        int remaining = segments.length - resourceStart;
+        if (remaining >= 3 && "namespaces".equals(segments[resourceStart])) {
+            remaining -= 2;
+        }
+        if (remaining == 0) {
+            return Lane.INTERACTIVE;
+        }
+        return remaining >= 2 ? Lane.INTERACTIVE : Lane.BULK;
+    }
+
+    static boolean isNonBlockingThread(Thread thread) {
+        for (String prefix : NON_BLOCKING_THREAD_PREFIXES) {
+            if (thread.getName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isWatch(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return false;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.equals("watch=true") || parameter.equals("watch=1")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,81 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+
+import java.net.URI;
+
+/**
+ * HTTP interceptor that reports every write (create, update, patch, delete) a Kubernetes client sends, so that
+ * results derived from the written resources can be dropped.
+ * <p>
+ * Writes are reported before they are sent; readers that must not observe a result older than a write validate
+ * it against the resource version as well.
+ */
+public class WriteTrackingInterceptor implements Interceptor {
+
+    public static final String NAME = "write-tracking";
+
+    private final Listener listener;
+
+    public WriteTrackingInterceptor(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+        if ("GET".equalsIgnoreCase(request.method()) || "HEAD".equalsIgnoreCase(request.method())) {
+            return;
+        }
+        ResourcePath path = parse(request.uri());
+        if (path != null) {
+            listener.written(path.resource(), path.namespace(), path.name());
+        }
+    }
+
+    /**
+     * Parses the resource (plural), namespace and name of an API path, e.g.
+     * {@code /apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics/orders/status}.
+     *
+     * @return The parsed path, or null for discovery and other non-resource paths
+     */
+    static ResourcePath parse(URI uri) {
+        String[] segments = uri.getPath().replaceAll("^/+|/+$", "").split("/+");
+        int resourceStart;
+        if (segments.length >= 3 && "api".equals(segments[0])) {
+            resourceStart = 2;
+        } else if (segments.length >= 4 && "apis".equals(segments[0])) {
+            resourceStart = 3;
+        } else {
+            return null;
+        }
+
+        String namespace = null;
+        if (segments.length - resourceStart >= 3 && "namespaces".equals(segments[resourceStart])) {
+            namespace = segments[resourceStart + 1];
+            resourceStart += 2;
+        }
+        String name = segments.length - resourceStart >= 2 ? segments[resourceStart + 1] : null;
+        return new ResourcePath(segments[resourceStart], namespace, name);
+    }
+
+    record ResourcePath(String resource, String namespace, String name) {
+    }
+
+    /**
+     * Receives the writes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called before a write is sent.
+         *
+         * @param resource  The resource (plural) written, e.g. "kafkatopics"
+         * @param namespace The namespace, or null for cluster scoped resources
+         * @param name      The name, or null for writes to the whole collection (creates, collection deletes)
+         */
+        void written(String resource, String namespace, String name);
+    }
+}
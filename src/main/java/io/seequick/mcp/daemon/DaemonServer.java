@@ -0,0 +1,322 @@
+package io.seequick.mcp.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves MCP sessions on a Unix domain socket, so that one long-lived process per user can be shared by
+ * all MCP clients.
+ * <p>
+ * Every connection is an MCP session of its own, while the Kubernetes clients, caches and tools of the
+ * process are shared by all sessions. The server stops once it has had no connection for the idle timeout.
+ * <p>
+ * A daemon only serves the configuration it was started with, so it records the fingerprint of that
+ * configuration next to the socket; relays started with another configuration check it with
+ * {@link #checkConfig} and refuse to connect instead of quietly talking to the wrong clusters.
+ */
+public class DaemonServer implements AutoCloseable {
+
+    private final Path socketPath;
+    private final String configFingerprint;
+    private final Duration idleTimeout;
+    private final SessionFactory sessionFactory;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private ServerSocketChannel serverChannel;
+    private ExecutorService sessionExecutor;
+    private ScheduledExecutorService idleTimer;
+    private ScheduledFuture<?> idleShutdown;
+    private int activeSessions;
+    private long totalSessions;
+    private boolean closed;
+
+    /**
+     * @param socketPath     The socket file to listen on
+     * @param idleTimeout    How long the server keeps running without connections (zero runs it until closed)
+     * @param sessionFactory Opens an MCP session on the streams of a connection
+     */
+    public DaemonServer(Path socketPath, Duration idleTimeout, SessionFactory sessionFactory) {
+        this(socketPath, null, idleTimeout, sessionFactory);
+    }
+
+    /**
+     * @param socketPath        The socket file to listen on
+     * @param configFingerprint The fingerprint of the configuration served, recorded next to the socket, or null
+     * @param idleTimeout       How long the server keeps running without connections (zero runs it until closed)
+     * @param sessionFactory    Opens an MCP session on the streams of a connection
+     */
+    public DaemonServer(Path socketPath, String configFingerprint, Duration idleTimeout,
+                        SessionFactory sessionFactory) {
+        this.socketPath = socketPath;
+        this.configFingerprint = configFingerprint;
+        this.idleTimeout = idleTimeout;
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * Binds the socket and starts accepting connections.
+     *
+     * @throws IllegalStateException if another server is already listening on the socket
+     */
+    public synchronized void start() throws IOException {
+        if (serverChannel != null) {
+            throw new IllegalStateException("Daemon already started");
+        }
+        serverChannel = bind(socketPath, configFingerprint);
+        // Sessions block on their connection for their whole life; on virtual threads a carrier pinned elsewhere
+        // in the process could stall every session on a single CPU machine
+        sessionExecutor = Executors.newCachedThreadPool(
+                Thread.ofPlatform().name("daemon-session-", 0).daemon().factory());
+        idleTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "daemon-idle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleIdleShutdown();
+        Thread.ofPlatform().name("daemon-accept").daemon().start(this::acceptLoop);
+    }
+
+    /**
+     * Blocks until the server is closed or stopped after the idle timeout.
+     */
+    public void awaitTermination() throws InterruptedException {
+        terminated.await();
+    }
+
+    public Path getSocketPath() {
+        return socketPath;
+    }
+
+    public synchronized int getActiveSessions() {
+        return activeSessions;
+    }
+
+    public synchronized long getTotalSessions() {
+        return totalSessions;
+    }
+
+    public boolean isRunning() {
+        return terminated.getCount() > 0;
+    }
+
+    /**
+     * Returns whether a server is listening on the socket.
+     */
+    public static boolean isListening(Path socketPath) {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            return channel.isConnected();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that the daemon on the socket serves the configuration with the fingerprint.
+     *
+     * @throws IllegalStateException if the daemon recorded another configuration or none
+     */
+    public static void checkConfig(Path socketPath, String configFingerprint) throws IOException {
+        Path configFile = configFile(socketPath);
+        String recorded = Files.exists(configFile)
+                ? Files.readString(configFile, StandardCharsets.UTF_8).strip() : null;
+        if (!configFingerprint.equals(recorded)) {
+            throw new IllegalStateException("The daemon on " + socketPath + " was started with a different "
+                    + "configuration (kubeconfig, contexts or STRIMZI_MCP_* options) than this session; stop it or "
+                    + "use another --socket");
+        }
+    }
+
+    /**
+     * Returns the file recording the configuration fingerprint of the daemon on the socket.
+     */
+    static Path configFile(Path socketPath) {
+        return socketPath.resolveSibling(socketPath.getFileName() + ".config");
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (idleShutdown != null) {
+                idleShutdown.cancel(false);
+            }
+        }
+        if (serverChannel != null) {
+            closeQuietly(serverChannel);
+            connections.forEach(DaemonServer::closeQuietly);
+            sessionExecutor.shutdown();
+            idleTimer.shutdownNow();
+            try {
+                Files.deleteIfExists(socketPath);
+                if (configFingerprint != null) {
+                    Files.deleteIfExists(configFile(socketPath));
+                }
+            } catch (IOException e) {
+                // A stale socket file is replaced by the next daemon
+            }
+        }
+        terminated.countDown();
+    }
+
+    private static ServerSocketChannel bind(Path socketPath, String configFingerprint) throws IOException {
+        Path directory = socketPath.toAbsolutePath().getParent();
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (Files.notExists(directory)) {
+            if (posix) {
+                Files.createDirectories(directory,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(directory);
+            }
+        }
+        if (Files.exists(socketPath)) {
+            if (isListening(socketPath)) {
+                throw new IllegalStateException("Another daemon is already listening on " + socketPath);
+            }
+            // Left behind by a daemon that did not shut down cleanly
+            Files.delete(socketPath);
+        }
+        if (configFingerprint != null) {
+            // Written before the socket accepts connections, so that every connecting relay can check it
+            Path configFile = configFile(socketPath);
+            Files.deleteIfExists(configFile);
+            if (posix) {
+                Files.createFile(configFile,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+            }
+            Files.writeString(configFile, configFingerprint + "\n", StandardCharsets.UTF_8);
+        }
+
+        ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.bind(UnixDomainSocketAddress.of(socketPath));
+            if (posix) {
+                // The sessions act with the user's Kubernetes credentials
+                Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    private void acceptLoop() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            if (!sessionStarted()) {
+                closeQuietly(channel);
+                return;
+            }
+            sessionExecutor.execute(() -> serve(channel));
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        connections.add(channel);
+        DisconnectAwareInputStream in = new DisconnectAwareInputStream(Channels.newInputStream(channel));
+        AutoCloseable session = null;
+        try {
+            session = sessionFactory.open(in, Channels.newOutputStream(channel));
+            in.awaitDisconnect();
+        } catch (Exception e) {
+            // The session could not be opened or was interrupted; the connection is dropped
+        } finally {
+            closeQuietly(session);
+            closeQuietly(channel);
+            connections.remove(channel);
+            sessionEnded();
+        }
+    }
+
+    private synchronized boolean sessionStarted() {
+        if (closed) {
+            return false;
+        }
+        activeSessions++;
+        totalSessions++;
+        if (idleShutdown != null) {
+            idleShutdown.cancel(false);
+            idleShutdown = null;
+        }
+        return true;
+    }
+
+    private synchronized void sessionEnded() {
+        activeSessions--;
+        scheduleIdleShutdown();
+    }
+
+    private void scheduleIdleShutdown() {
+        if (!closed && activeSessions == 0 && !idleTimeout.isZero()) {
+            idleShutdown = idleTimer.schedule(this::closeIfIdle, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void closeIfIdle() {
+        synchronized (this) {
+            if (activeSessions > 0) {
+                return;
+            }
+        }
+        close();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Nothing left to do with it
+        }
+    }
+
+    /**
+     * Opens MCP sessions on connections.
+     */
+    @FunctionalInterface
+    public interface SessionFactory {
+
+        /**
+         * Opens a session reading requests from the input stream and writing responses to the output stream.
+         *
+         * @return Closes the session once the connection ended
+         */
+        AutoCloseable open(InputStream in, OutputStream out) throws Exception;
+    }
+}
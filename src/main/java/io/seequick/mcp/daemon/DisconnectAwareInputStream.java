@@ -0,0 +1,59 @@
+package io.seequick.mcp.daemon;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Input stream that signals when the peer is gone. The MCP stdio transport only notices the end of a session
+ * by reading the end of its input, and does not tell anyone.
+ */
+public class DisconnectAwareInputStream extends FilterInputStream {
+
+    private final CountDownLatch disconnected = new CountDownLatch(1);
+
+    public DisconnectAwareInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Blocks until the end of the stream was read, reading failed, or the stream was closed.
+     */
+    public void awaitDisconnect() throws InterruptedException {
+        disconnected.await();
+    }
+
+    @Override
+    public int read() throws IOException {
+        try {
+            return checkEnd(in.read());
+        } catch (IOException e) {
+            disconnected.countDown();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        try {
+            return checkEnd(in.read(b, off, len));
+        } catch (IOException e) {
+            disconnected.countDown();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        disconnected.countDown();
+        super.close();
+    }
+
+    private int checkEnd(int result) {
+        if (result < 0) {
+            disconnected.countDown();
+        }
+        return result;
+    }
+}
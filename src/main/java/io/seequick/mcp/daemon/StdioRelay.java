@@ -0,0 +1,152 @@
+package io.seequick.mcp.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Relays the stdio of an MCP client to the daemon listening on a Unix domain socket, starting the daemon
+ * when none is running.
+ * <p>
+ * The relay only copies bytes, so it starts in a fraction of the time of a full server: the Kubernetes
+ * clients, caches and tools stay warm in the daemon between client sessions.
+ */
+public final class StdioRelay {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final int LOG_TAIL_LINES = 20;
+
+    private StdioRelay() {
+    }
+
+    /**
+     * Connects to the daemon, starting it first if nothing listens on the socket.
+     *
+     * @param socketPath    The socket of the daemon
+     * @param daemonCommand The command starting the daemon
+     * @param startTimeout  How long to wait for a started daemon to listen
+     * @return The connection
+     */
+    public static SocketChannel connect(Path socketPath, List<String> daemonCommand, Duration startTimeout)
+            throws IOException, InterruptedException {
+        return connect(socketPath, null, daemonCommand, startTimeout);
+    }
+
+    /**
+     * Connects to the daemon serving the configuration with the fingerprint, starting it first if nothing
+     * listens on the socket.
+     *
+     * @param socketPath        The socket of the daemon
+     * @param configFingerprint The fingerprint of the configuration of this relay, or null to connect to any daemon
+     * @param daemonCommand     The command starting the daemon
+     * @param startTimeout      How long to wait for a started daemon to listen
+     * @return The connection
+     * @throws IllegalStateException if the daemon on the socket serves another configuration
+     */
+    public static SocketChannel connect(Path socketPath, String configFingerprint, List<String> daemonCommand,
+                                        Duration startTimeout) throws IOException, InterruptedException {
+        SocketChannel channel = open(socketPath, daemonCommand, startTimeout);
+        if (configFingerprint != null) {
+            try {
+                DaemonServer.checkConfig(socketPath, configFingerprint);
+            } catch (IllegalStateException | IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+        return channel;
+    }
+
+    private static SocketChannel open(Path socketPath, List<String> daemonCommand, Duration startTimeout)
+            throws IOException, InterruptedException {
+        try {
+            return SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+        } catch (IOException e) {
+            // No daemon yet, or a stale socket file that the new daemon replaces
+        }
+
+        Path log = socketPath.toAbsolutePath().resolveSibling("daemon.log");
+        Files.createDirectories(log.getParent());
+        Process daemon = new ProcessBuilder(daemonCommand)
+                .redirectInput(ProcessBuilder.Redirect.from(Path.of("/dev/null").toFile()))
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log.toFile()))
+                .redirectErrorStream(true)
+                .start();
+
+        long deadline = System.nanoTime() + startTimeout.toNanos();
+        IOException lastFailure = null;
+        while (System.nanoTime() < deadline) {
+            try {
+                return SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+            } catch (IOException e) {
+                lastFailure = e;
+            }
+            if (!daemon.isAlive()) {
+                // A daemon started by a concurrent relay may win the bind; connecting to it is just as good
+                try {
+                    return SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+                } catch (IOException e) {
+                    throw new IOException("Daemon exited with code " + daemon.exitValue() + " before listening on "
+                            + socketPath + tail(log), e);
+                }
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        throw new IOException("Daemon did not start listening on " + socketPath + " within "
+                + startTimeout.toMillis() + " ms" + tail(log), lastFailure);
+    }
+
+    /**
+     * Returns the last lines of the daemon log, which tell why the daemon did not start.
+     */
+    private static String tail(Path log) {
+        try {
+            List<String> lines = Files.readAllLines(log, StandardCharsets.UTF_8);
+            return ", last lines of " + log + ":\n"
+                    + String.join("\n", lines.subList(Math.max(0, lines.size() - LOG_TAIL_LINES), lines.size()));
+        } catch (IOException e) {
+            return ", see " + log;
+        }
+    }
+
+    /**
+     * Copies the input to the daemon and the daemon's output back until the daemon closes the connection.
+     * End of input is passed on as a half close, which ends the session in the daemon.
+     */
+    public static void relay(InputStream in, OutputStream out, SocketChannel channel) throws IOException {
+        Thread upstream = Thread.ofPlatform().name("relay-upstream").daemon().start(() -> {
+            try {
+                // Closing the stream would close the channel, so only the output is shut down
+                copy(in, Channels.newOutputStream(channel));
+                channel.shutdownOutput();
+            } catch (IOException e) {
+                // The daemon closed the connection; the downstream copy ends as well
+            }
+        });
+        try (InputStream socketIn = Channels.newInputStream(channel)) {
+            copy(socketIn, out);
+        } finally {
+            upstream.interrupt();
+            channel.close();
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+            // Messages are newline delimited and must not wait for a full buffer
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.seequick.mcp.nativeimage;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.graalvm.nativeimage.hosted.Feature;
+import org.graalvm.nativeimage.hosted.RuntimeReflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Registers the classes Jackson binds by reflection when building a native executable: the resources the server
+ * reads from the API server, the kubeconfig, the MCP schema and the resource snapshot, together with every model
+ * class reachable from them.
+ * <p>
+ * Registering only what is reachable from these roots, rather than every class of the model packages, keeps the
+ * thousands of Kubernetes and Strimzi model classes the server never reads out of the image. A new kind read by a
+ * tool must be added to {@link #ROOTS}. Enabled in {@code META-INF/native-image}.
+ */
+public class ReflectionFeature implements Feature {
+
+    /**
+     * The classes the server deserializes or serializes with Jackson.
+     */
+    static final List<String> ROOTS = List.of(
+            // Read by the tools
+            "io.fabric8.kubernetes.api.model.Pod",
+            "io.fabric8.kubernetes.api.model.PodList",
+            "io.fabric8.kubernetes.api.model.Event",
+            "io.fabric8.kubernetes.api.model.EventList",
+            "io.fabric8.kubernetes.api.model.Secret",
+            "io.fabric8.kubernetes.api.model.SecretList",
+            "io.fabric8.kubernetes.api.model.ConfigMap",
+            "io.fabric8.kubernetes.api.model.ConfigMapList",
+            "io.fabric8.kubernetes.api.model.apps.Deployment",
+            "io.fabric8.kubernetes.api.model.apps.DeploymentList",
+            "io.strimzi.api.kafka.model.kafka.Kafka",
+            "io.strimzi.api.kafka.model.kafka.KafkaList",
+            "io.strimzi.api.kafka.model.nodepool.KafkaNodePool",
+            "io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList",
+            "io.strimzi.api.kafka.model.topic.KafkaTopic",
+            "io.strimzi.api.kafka.model.topic.KafkaTopicList",
+            "io.strimzi.api.kafka.model.user.KafkaUser",
+            "io.strimzi.api.kafka.model.user.KafkaUserList",
+            "io.strimzi.api.kafka.model.connect.KafkaConnect",
+            "io.strimzi.api.kafka.model.connect.KafkaConnectList",
+            "io.strimzi.api.kafka.model.connector.KafkaConnector",
+            "io.strimzi.api.kafka.model.connector.KafkaConnectorList",
+            "io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2",
+            "io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List",
+            "io.strimzi.api.kafka.model.bridge.KafkaBridge",
+            "io.strimzi.api.kafka.model.bridge.KafkaBridgeList",
+            "io.strimzi.api.kafka.model.rebalance.KafkaRebalance",
+            "io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList",
+            // Read and written by the Kubernetes client itself
+            "io.fabric8.kubernetes.api.model.Config",
+            "io.fabric8.kubernetes.api.model.Status",
+            "io.fabric8.kubernetes.api.model.WatchEvent",
+            "io.fabric8.kubernetes.api.model.DeleteOptions",
+            // The protocol, with all the messages declared in McpSchema
+            "io.modelcontextprotocol.spec.McpSchema",
+            // The resource snapshot
+            "io.seequick.mcp.store.SnapshotFile$Snapshot"
+    );
+
+    /**
+     * Prefixes of the packages whose classes are followed from the roots; other classes (the JDK, Jackson) need
+     * no registration or register themselves.
+     */
+    static final List<String> PACKAGES = List.of(
+            "io.fabric8.kubernetes.api.model.",
+            "io.strimzi.api.kafka.model.",
+            "io.modelcontextprotocol.spec.",
+            "io.seequick.mcp."
+    );
+
+    /**
+     * Classes created by name rather than bound by Jackson.
+     */
+    static final List<String> CLASSES = List.of(
+            "io.fabric8.kubernetes.client.jdkhttp.JdkHttpClientFactory"
+    );
+
+    @Override
+    public String getDescription() {
+        return "Registers the Kubernetes, Strimzi and MCP models the server reads for reflection";
+    }
+
+    @Override
+    public void beforeAnalysis(BeforeAnalysisAccess access) {
+        List<Class<?>> roots = ROOTS.stream().<Class<?>>map(access::findClassByName).filter(Objects::nonNull).toList();
+        reachable(roots).forEach(ReflectionFeature::register);
+        CLASSES.forEach(name -> register(access.findClassByName(name)));
+    }
+
+    /**
+     * Returns the roots and the classes of {@link #PACKAGES} reachable from them: the types of their fields and of
+     * the fields they inherit, type arguments included, their superclasses and the type arguments these are
+     * declared with (the spec and status of a custom resource), the bounds of their type variables, their nested
+     * classes and the subtypes and (de)serializers named by their Jackson annotations.
+     */
+    static Set<Class<?>> reachable(Collection<Class<?>> roots) {
+        Set<Class<?>> reached = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.pop();
+            if (!reached.add(type)) {
+                continue;
+            }
+            List<Type> references = new ArrayList<>();
+            try {
+                // Superclasses outside the packages, such as CustomResource, hold fields too
+                for (Class<?> owner = type; owner != null && owner != Object.class; owner = owner.getSuperclass()) {
+                    for (Field field : owner.getDeclaredFields()) {
+                        references.add(field.getGenericType());
+                    }
+                }
+                references.add(type.getGenericSuperclass());
+                references.addAll(List.of(type.getGenericInterfaces()));
+                references.addAll(List.of(type.getDeclaredClasses()));
+                references.addAll(List.of(type.getTypeParameters()));
+            } catch (LinkageError e) {
+                // Optional dependencies of a model class are missing, so it cannot be used at runtime either
+            }
+            JsonSubTypes subTypes = type.getAnnotation(JsonSubTypes.class);
+            if (subTypes != null) {
+                Arrays.stream(subTypes.value()).map(JsonSubTypes.Type::value).forEach(references::add);
+            }
+            JsonDeserialize deserialize = type.getAnnotation(JsonDeserialize.class);
+            if (deserialize != null) {
+                references.addAll(List.of(deserialize.using(), deserialize.as()));
+            }
+            JsonSerialize serialize = type.getAnnotation(JsonSerialize.class);
+            if (serialize != null) {
+                references.add(serialize.using());
+            }
+            for (Type reference : references) {
+                classes(reference, new HashSet<>(), found -> {
+                    if (!reached.contains(found) && PACKAGES.stream().anyMatch(found.getName()::startsWith)) {
+                        pending.push(found);
+                    }
+                });
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Passes the classes a generic type is made of to the action. Type variables are followed once, as their
+     * bounds often refer to themselves (builders declared as {@code B extends Builder<B>}).
+     */
+    private static void classes(Type type, Set<Type> variables, Consumer<Class<?>> action) {
+        if (type instanceof Class<?> clazz) {
+            action.accept(clazz.isArray() ? clazz.getComponentType() : clazz);
+        } else if (type instanceof ParameterizedType parameterized) {
+            classes(parameterized.getRawType(), variables, action);
+            Arrays.stream(parameterized.getActualTypeArguments())
+                    .forEach(argument -> classes(argument, variables, action));
+        } else if (type instanceof GenericArrayType array) {
+            classes(array.getGenericComponentType(), variables, action);
+        } else if (type instanceof WildcardType wildcard) {
+            Arrays.stream(wildcard.getUpperBounds()).forEach(bound -> classes(bound, variables, action));
+        } else if (type instanceof TypeVariable<?> variable && variables.add(variable)) {
+            Arrays.stream(variable.getBounds()).forEach(bound -> classes(bound, variables, action));
+        }
+    }
+
+    private static void register(Class<?> type) {
+        if (type == null) {
+            return;
+        }
+        try {
+            RuntimeReflection.register(type);
+            RuntimeReflection.register(type.getDeclaredConstructors());
+            RuntimeReflection.register(type.getDeclaredMethods());
+            RuntimeReflection.register(type.getDeclaredFields());
+            if (type.isRecord()) {
+                RuntimeReflection.registerAllRecordComponents(type);
+            }
+        } catch (LinkageError e) {
+            // Optional dependencies of a model class are missing, so it cannot be used at runtime either
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.seequick.mcp.prompt;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.seequick.mcp.store.NameIndex;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Completes the values of arguments naming Strimzi resources from the {@link ResourceIndex}, scoped by the
+ * arguments already given: a {@code namespace} narrows every name, a {@code kafkaCluster} narrows topics and
+ * users, a {@code connectCluster} narrows connectors.
+ * <p>
+ * Completion never waits for the API server: the index is started on the first completion and answers with
+ * what it holds, so the first completions of a new cluster may be empty.
+ */
+public class ArgumentCompleter {
+
+    /**
+     * The most values MCP allows in a completion.
+     */
+    public static final int MAX_VALUES = 100;
+
+    private final KubernetesClient client;
+    private final ResourceIndex resourceIndex;
+
+    public ArgumentCompleter(KubernetesClient client, ResourceIndex resourceIndex) {
+        this.client = client;
+        this.resourceIndex = resourceIndex;
+    }
+
+    /**
+     * Completes an argument.
+     *
+     * @param argument  The name of the argument, e.g. "namespace", "kafkaCluster" or "topic1"
+     * @param value     The typed value
+     * @param nameKind  The kind named by a plain {@code name} argument, or null
+     * @param arguments The arguments already given
+     * @return The completed values, empty for arguments that do not name a resource
+     */
+    public NameIndex.Completion complete(String argument, String value, StrimziKind nameKind,
+                                         Map<String, String> arguments) {
+        NameIndex index = resourceIndex.current(client).index();
+        String namespace = blankToNull(arguments.get("namespace"));
+        String kafkaCluster = blankToNull(arguments.get("kafkaCluster"));
+        String connectCluster = blankToNull(arguments.get("connectCluster"));
+        return switch (argument) {
+            case "namespace" -> index.completeNamespace(value, MAX_VALUES);
+            case "kafkaCluster" -> index.complete(StrimziKind.KAFKA, namespace, null, value, MAX_VALUES);
+            case "connectCluster" -> index.complete(StrimziKind.KAFKA_CONNECT, namespace, null, value, MAX_VALUES);
+            case "topic", "topic1", "topic2" ->
+                    index.complete(StrimziKind.KAFKA_TOPIC, namespace, kafkaCluster, value, MAX_VALUES);
+            case "user" -> index.complete(StrimziKind.KAFKA_USER, namespace, kafkaCluster, value, MAX_VALUES);
+            case "connector" ->
+                    index.complete(StrimziKind.KAFKA_CONNECTOR, namespace, connectCluster, value, MAX_VALUES);
+            case "name" -> nameKind == null ? empty()
+                    : index.complete(nameKind, namespace, clusterOf(nameKind, kafkaCluster, connectCluster), value,
+                            MAX_VALUES);
+            default -> empty();
+        };
+    }
+
+    /**
+     * Returns the cluster the resources of the kind are labelled with: none for clusters themselves.
+     */
+    private static String clusterOf(StrimziKind kind, String kafkaCluster, String connectCluster) {
+        return switch (kind) {
+            case KAFKA, KAFKA_CONNECT -> null;
+            case KAFKA_CONNECTOR -> connectCluster;
+            default -> kafkaCluster;
+        };
+    }
+
+    private static NameIndex.Completion empty() {
+        return new NameIndex.Completion(List.of(), false);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,128 @@
+package io.seequick.mcp.prompt;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncCompletionSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CompleteResult;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.PromptArgument;
+import io.modelcontextprotocol.spec.McpSchema.PromptMessage;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.store.NameIndex;
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * MCP prompts for the common investigations, with completion of their arguments.
+ * <p>
+ * MCP completes the arguments of prompts and resource templates, not of tools, so the arguments naming
+ * resources ({@code namespace}, {@code kafkaCluster}, {@code name}, {@code topic1}, ...) are completed through
+ * these prompts, which lead to the tools taking the same arguments.
+ */
+public final class StrimziPrompts {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    private static final List<Definition> DEFINITIONS = List.of(
+            new Definition("investigate_kafka", "Investigate the health of a Kafka cluster", StrimziKind.KAFKA,
+                    List.of(new PromptArgument("namespace", "Namespace of the Kafka cluster", true),
+                            new PromptArgument("name", "Name of the Kafka cluster", true)),
+                    "Investigate the Kafka cluster {name} in namespace {namespace}. Call get_kafka_status and "
+                            + "health_check with kafkaCluster={name}, then get_kafka_events for recent warnings. "
+                            + "Summarize what is not ready, why, and what to do about it."),
+            new Definition("investigate_topic", "Investigate a KafkaTopic", StrimziKind.KAFKA_TOPIC,
+                    List.of(new PromptArgument("namespace", "Namespace of the topic", true),
+                            new PromptArgument("kafkaCluster", "Kafka cluster of the topic (narrows the completion of name)", false),
+                            new PromptArgument("name", "Name of the KafkaTopic", true)),
+                    "Investigate the KafkaTopic {name} in namespace {namespace}. Call describe_topic, check its "
+                            + "Ready condition and configuration, and compare it to the defaults with "
+                            + "compare_topic_config. Report problems and suggested changes."),
+            new Definition("compare_topics", "Compare the configuration of two KafkaTopics", StrimziKind.KAFKA_TOPIC,
+                    List.of(new PromptArgument("namespace", "Namespace of the topics", true),
+                            new PromptArgument("kafkaCluster", "Kafka cluster of the topics (narrows the completion of the topics)", false),
+                            new PromptArgument("topic1", "Name of the first KafkaTopic", true),
+                            new PromptArgument("topic2", "Name of the second KafkaTopic", true)),
+                    "Compare the KafkaTopics {topic1} and {topic2} in namespace {namespace} with "
+                            + "compare_topic_config and explain the differences that matter."),
+            new Definition("investigate_user", "Investigate a KafkaUser", StrimziKind.KAFKA_USER,
+                    List.of(new PromptArgument("namespace", "Namespace of the user", true),
+                            new PromptArgument("kafkaCluster", "Kafka cluster of the user (narrows the completion of name)", false),
+                            new PromptArgument("name", "Name of the KafkaUser", true)),
+                    "Investigate the KafkaUser {name} in namespace {namespace}. Call describe_user and "
+                            + "list_user_acls, and report its authentication, ACLs, quotas and readiness."),
+            new Definition("troubleshoot_connector", "Troubleshoot a KafkaConnector", StrimziKind.KAFKA_CONNECTOR,
+                    List.of(new PromptArgument("namespace", "Namespace of the connector", true),
+                            new PromptArgument("connectCluster", "Kafka Connect cluster of the connector (narrows the completion of name)", false),
+                            new PromptArgument("name", "Name of the KafkaConnector", true)),
+                    "Troubleshoot the KafkaConnector {name} in namespace {namespace}. Call describe_connector "
+                            + "and describe_kafka_connect for its Connect cluster, look for failed tasks and their "
+                            + "traces, and suggest whether to restart, reconfigure or pause it."));
+
+    private StrimziPrompts() {
+        // Utility class
+    }
+
+    /**
+     * Returns the specifications of the prompts.
+     */
+    public static List<SyncPromptSpecification> prompts() {
+        return DEFINITIONS.stream()
+                .map(definition -> new SyncPromptSpecification(
+                        new McpSchema.Prompt(definition.name(), definition.description(), definition.arguments()),
+                        (exchange, request) -> definition.render(request.arguments())))
+                .toList();
+    }
+
+    /**
+     * Returns the completions of the arguments of the prompts.
+     */
+    public static List<SyncCompletionSpecification> completions(ArgumentCompleter completer) {
+        return DEFINITIONS.stream()
+                .map(definition -> new SyncCompletionSpecification(new McpSchema.PromptReference(definition.name()),
+                        (exchange, request) -> {
+                            Map<String, String> given = request.context() != null
+                                    && request.context().arguments() != null
+                                    ? request.context().arguments() : Map.of();
+                            NameIndex.Completion completion = completer.complete(request.argument().name(),
+                                    request.argument().value(), definition.kind(), given);
+                            return new CompleteResult(new CompleteResult.CompleteCompletion(completion.values(),
+                                    completion.hasMore() ? null : completion.values().size(), completion.hasMore()));
+                        }))
+                .toList();
+    }
+
+    /**
+     * A prompt.
+     *
+     * @param name        The name of the prompt
+     * @param description The description
+     * @param kind        The kind named by the {@code name} argument
+     * @param arguments   The arguments
+     * @param template    The text of the prompt, with {@code {argument}} placeholders
+     */
+    record Definition(String name, String description, StrimziKind kind, List<PromptArgument> arguments,
+                      String template) {
+
+        GetPromptResult render(Map<String, Object> values) {
+            Map<String, Object> given = values != null ? values : Map.of();
+            for (PromptArgument argument : arguments) {
+                Object value = given.get(argument.name());
+                if (Boolean.TRUE.equals(argument.required()) && (value == null || value.toString().isBlank())) {
+                    throw new IllegalArgumentException("Missing argument " + argument.name() + " of prompt " + name);
+                }
+            }
+            Matcher matcher = PLACEHOLDER.matcher(template);
+            StringBuilder text = new StringBuilder();
+            while (matcher.find()) {
+                matcher.appendReplacement(text, Matcher.quoteReplacement(String.valueOf(given.get(matcher.group(1)))));
+            }
+            matcher.appendTail(text);
+            return new GetPromptResult(description,
+                    List.of(new PromptMessage(McpSchema.Role.USER, new TextContent(text.toString()))));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.seequick.mcp.resource;
+
+import io.seequick.mcp.store.NameProjection;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Turns the changes seen by the watches of the {@link ResourceIndex} into {@code notifications/resources/updated}
+ * for the URIs of the resource and of its status.
+ * <p>
+ * Only the transitions clients wait for are reported: a resource becoming NotReady (its Ready condition leaving
+ * True) and a KafkaRebalance reaching ProposalReady. Status updates that do neither, which the operators write on
+ * every reconciliation, are not, and neither are creations and deletions.
+ */
+public class ResourceNotifier implements ResourceIndex.Listener {
+
+    static final String PROPOSAL_READY = "ProposalReady";
+
+    private final Consumer<ResourceUri> sink;
+
+    /**
+     * @param sink Receives the URIs of the updated resources
+     */
+    public ResourceNotifier(Consumer<ResourceUri> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void changed(StrimziKind kind, NameProjection previous, NameProjection current) {
+        // Nobody can have read a resource before it was created, and deletions are not what clients wait for
+        if (previous == null || current == null
+                || !(becameNotReady(previous, current) || proposalReady(previous, current))) {
+            return;
+        }
+        sink.accept(ResourceUri.statusOf(kind, current.namespace(), current.name()));
+        sink.accept(ResourceUri.of(kind, current.namespace(), current.name()));
+    }
+
+    private static boolean becameNotReady(NameProjection previous, NameProjection current) {
+        return previous.readiness().isReady() && !current.readiness().isReady();
+    }
+
+    private static boolean proposalReady(NameProjection previous, NameProjection current) {
+        return PROPOSAL_READY.equals(current.state()) && !Objects.equals(previous.state(), current.state());
+    }
+}
@@ -0,0 +1,59 @@
+package io.seequick.mcp.resource;
+
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.Locale;
+
+/**
+ * URI of a Strimzi resource exposed as an MCP resource: {@code strimzi://{namespace}/{kind}/{name}} for the
+ * resource and {@code strimzi://{namespace}/{kind}/{name}/status} for its status, where the kind is the
+ * lower-case kind name, e.g. {@code strimzi://kafka/kafkatopic/orders}.
+ *
+ * @param namespace The namespace
+ * @param kind      The kind
+ * @param name      The resource name
+ * @param status    Whether the URI names the status of the resource
+ */
+public record ResourceUri(String namespace, StrimziKind kind, String name, boolean status) {
+
+    public static final String SCHEME = "strimzi://";
+    public static final String TEMPLATE = SCHEME + "{namespace}/{kind}/{name}";
+    public static final String STATUS_TEMPLATE = TEMPLATE + "/status";
+
+    public static ResourceUri of(StrimziKind kind, String namespace, String name) {
+        return new ResourceUri(namespace, kind, name, false);
+    }
+
+    public static ResourceUri statusOf(StrimziKind kind, String namespace, String name) {
+        return new ResourceUri(namespace, kind, name, true);
+    }
+
+    /**
+     * Parses a URI.
+     *
+     * @throws IllegalArgumentException If the URI does not name a Strimzi resource or its status
+     */
+    public static ResourceUri parse(String uri) {
+        if (uri == null || !uri.startsWith(SCHEME)) {
+            throw new IllegalArgumentException("Invalid resource URI " + uri + ": expected " + TEMPLATE);
+        }
+        String[] segments = uri.substring(SCHEME.length()).split("/", -1);
+        boolean status = segments.length == 4 && segments[3].equals("status");
+        if ((segments.length != 3 && !status) || segments[0].isEmpty() || segments[2].isEmpty()) {
+            throw new IllegalArgumentException("Invalid resource URI " + uri + ": expected " + TEMPLATE
+                    + " or " + STATUS_TEMPLATE);
+        }
+        StrimziKind kind = StrimziKind.fromKind(segments[1]);
+        if (kind == null) {
+            throw new IllegalArgumentException("Unsupported kind: " + segments[1] + ". Supported kinds: "
+                    + StrimziKind.kindNames());
+        }
+        return new ResourceUri(segments[0], kind, segments[2], status);
+    }
+
+    @Override
+    public String toString() {
+        return SCHEME + namespace + "/" + kind.getKind().toLowerCase(Locale.ROOT) + "/" + name
+                + (status ? "/status" : "");
+    }
+}
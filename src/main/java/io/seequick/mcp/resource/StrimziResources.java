@@ -0,0 +1,123 @@
+package io.seequick.mcp.resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncResourceTemplateSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
+import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.store.NameProjection;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Strimzi resources exposed as MCP resources, read by {@link ResourceUri}: a whole resource as JSON (without
+ * its managed fields) or only its status.
+ * <p>
+ * Reads go through the {@link ResourceIndex}, which they start, and whose watches feed the
+ * {@link ResourceNotifier}: a resource is fetched from the API server on its first read and again only once the
+ * index saw a newer version of it, and a resource the index does not hold is not found without a request.
+ */
+public final class StrimziResources {
+
+    private static final String MIME_TYPE = "application/json";
+    private static final int MAX_CONTENTS = 256;
+
+    private static final Map<Key, Content> CONTENTS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Content> eldest) {
+            return size() > MAX_CONTENTS;
+        }
+    };
+
+    private StrimziResources() {
+        // Utility class
+    }
+
+    /**
+     * Returns the specifications of the resource templates.
+     *
+     * @param reads Receives the URI of every resource read, e.g. to notify its reader of updates
+     */
+    public static List<SyncResourceTemplateSpecification> templates(KubernetesClient client, ResourceIndex index,
+                                                                    Consumer<ResourceUri> reads) {
+        String kinds = StrimziKind.kindNames().stream().map(kind -> kind.toLowerCase(Locale.ROOT)).toList().toString();
+        return List.of(
+                new SyncResourceTemplateSpecification(new McpSchema.ResourceTemplate(ResourceUri.TEMPLATE,
+                        "strimzi-resource", "A Strimzi custom resource as JSON; kind is one of " + kinds,
+                        MIME_TYPE, null), (exchange, request) -> read(client, index, request.uri(), reads)),
+                new SyncResourceTemplateSpecification(new McpSchema.ResourceTemplate(ResourceUri.STATUS_TEMPLATE,
+                        "strimzi-resource-status", "The status (conditions, listeners, observed generation) of a "
+                        + "Strimzi custom resource as JSON; kind is one of " + kinds, MIME_TYPE, null),
+                        (exchange, request) -> read(client, index, request.uri(), reads)));
+    }
+
+    /**
+     * Reads a resource or its status.
+     *
+     * @throws IllegalArgumentException If the URI is invalid or the resource does not exist
+     */
+    static ReadResourceResult read(KubernetesClient client, ResourceIndex index, String uri,
+                                   Consumer<ResourceUri> reads) {
+        ResourceUri parsed = ResourceUri.parse(uri);
+        ResourceIndex.View view = index.index(client);
+        NameProjection projection = view.index().get(parsed.kind(), parsed.namespace(), parsed.name());
+        if (projection == null && view.syncedKinds().contains(parsed.kind())) {
+            throw notFound(parsed);
+        }
+        JsonNode tree = tree(client, parsed, projection);
+        reads.accept(parsed);
+        JsonNode content = parsed.status() ? tree.path("status") : tree;
+        return new ReadResourceResult(List.of(new TextResourceContents(uri, MIME_TYPE,
+                content.isMissingNode() ? "{}" : content.toPrettyString())));
+    }
+
+    /**
+     * Returns the resource as JSON, fetched unless the version the index holds was already fetched.
+     */
+    private static JsonNode tree(KubernetesClient client, ResourceUri uri, NameProjection projection) {
+        Key key = new Key(KubernetesClientPool.resolve(client), uri.kind(), uri.namespace(), uri.name());
+        synchronized (CONTENTS) {
+            Content cached = CONTENTS.get(key);
+            if (cached != null && projection != null && cached.resourceVersion().equals(projection.resourceVersion())) {
+                return cached.tree();
+            }
+        }
+        HasMetadata resource = uri.kind().repository(client).get(uri.namespace(), uri.name());
+        if (resource == null) {
+            throw notFound(uri);
+        }
+        JsonNode tree = client.getKubernetesSerialization().convertValue(resource, JsonNode.class);
+        if (tree.path("metadata") instanceof ObjectNode metadata) {
+            metadata.remove("managedFields");
+        }
+        if (resource.getMetadata().getResourceVersion() != null) {
+            synchronized (CONTENTS) {
+                CONTENTS.put(key, new Content(resource.getMetadata().getResourceVersion(), tree));
+            }
+        }
+        return tree;
+    }
+
+    private static IllegalArgumentException notFound(ResourceUri uri) {
+        return new IllegalArgumentException(uri.kind().getKind() + " not found: " + uri.namespace() + "/" + uri.name());
+    }
+
+    private record Key(KubernetesClient client, StrimziKind kind, String namespace, String name) {
+    }
+
+    /**
+     * A fetched resource; the tree is shared by the reads, which must not modify it.
+     */
+    private record Content(String resourceVersion, JsonNode tree) {
+    }
+}
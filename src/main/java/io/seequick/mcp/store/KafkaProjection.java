@@ -0,0 +1,48 @@
+package io.seequick.mcp.store;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projection of a Kafka cluster. The brokers and their replicas are defined by the KafkaNodePools of the cluster,
+ * not by the Kafka resource.
+ *
+ * @param namespace       The namespace
+ * @param name            The cluster name
+ * @param version         The Kafka version, or null for the operator default
+ * @param listeners       Names of the configured listeners, never null
+ * @param readiness       The Ready condition
+ * @param resourceVersion The resource version
+ */
+public record KafkaProjection(String namespace, String name, String version, List<String> listeners,
+                              Readiness readiness, String resourceVersion) implements Projection {
+
+    public static KafkaProjection of(Kafka kafka, StringInterner interner) {
+        var metadata = kafka.getMetadata();
+        var spec = kafka.getSpec() != null ? kafka.getSpec().getKafka() : null;
+        List<String> listeners = new ArrayList<>();
+        if (spec != null && spec.getListeners() != null) {
+            for (GenericKafkaListener listener : spec.getListeners()) {
+                listeners.add(listener.getName());
+            }
+        }
+        return new KafkaProjection(
+                interner.intern(metadata.getNamespace()),
+                metadata.getName(),
+                spec != null ? interner.intern(spec.getVersion()) : null,
+                Projections.internAll(listeners, interner),
+                Readiness.of(kafka, interner),
+                metadata.getResourceVersion());
+    }
+
+    /**
+     * A Kafka resource belongs to the cluster it defines.
+     */
+    @Override
+    public String cluster() {
+        return name;
+    }
+}
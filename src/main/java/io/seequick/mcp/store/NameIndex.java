@@ -0,0 +1,439 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory search index over the names of Strimzi resources: resource names, KafkaTopic topic names and
+ * label values.
+ * <p>
+ * Every name is a lower-cased term. Terms are kept sorted, so the terms starting with a prefix are one range
+ * of the dictionary, and each term is indexed by its trigrams (with {@code ^} and {@code $} marking its start
+ * and end), so substrings and names within one or two typos are found by intersecting or counting trigram
+ * postings instead of scanning all names. The index is updated one resource at a time.
+ */
+public class NameIndex {
+
+    /**
+     * Terms of a prefix visited at most, so that a one-letter prefix stays cheap.
+     */
+    static final int MAX_PREFIX_TERMS = 10_000;
+
+    private static final Comparator<Match> ORDER = Comparator.comparing(Match::type)
+            .thenComparing(Match::field)
+            .thenComparingInt(Match::distance)
+            .thenComparingInt(match -> match.term().length())
+            .thenComparing(match -> match.ref().kind())
+            .thenComparing(match -> match.ref().namespace())
+            .thenComparing(match -> match.ref().name());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Ref, NameProjection> entries = new HashMap<>();
+    private final NavigableMap<String, Set<Posting>> terms = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final Map<StrimziKind, NavigableMap<String, NameProjection>> byKind = new EnumMap<>(StrimziKind.class);
+    private final Map<StrimziKind, NavigableMap<String, Integer>> namesByKind = new EnumMap<>(StrimziKind.class);
+    private final NavigableMap<String, Integer> namespaces = new TreeMap<>();
+
+    /**
+     * Replaces the entry of a resource. Matches {@link ProjectionStore.Listener}.
+     *
+     * @param kind     The kind of the resource
+     * @param previous The previous projection, or null if the resource is new
+     * @param current  The current projection, or null if the resource was removed
+     */
+    public void update(StrimziKind kind, NameProjection previous, NameProjection current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                Ref ref = new Ref(kind, previous.namespace(), previous.name());
+                entries.remove(ref);
+                postings(ref, previous).forEach(this::removePosting);
+                byKind.get(kind).remove(key(previous.namespace(), previous.name()));
+                decrement(namesByKind.get(kind), previous.name());
+                decrement(namespaces, previous.namespace());
+            }
+            if (current != null) {
+                Ref ref = new Ref(kind, current.namespace(), current.name());
+                entries.put(ref, current);
+                postings(ref, current).forEach(this::addPosting);
+                byKind.computeIfAbsent(kind, k -> new TreeMap<>()).put(key(current.namespace(), current.name()), current);
+                namesByKind.computeIfAbsent(kind, k -> new TreeMap<>()).merge(current.name(), 1, Integer::sum);
+                namespaces.merge(current.namespace(), 1, Integer::sum);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the resources with a name, topic name or label value equal to the query, starting with it,
+     * containing it, or within a few typos of it. Each resource is returned once, with its best match; exact
+     * matches come first, then prefixes, substrings and typos, and resource names before topic names and
+     * labels.
+     *
+     * @param query     The text to search (case-insensitive)
+     * @param kind      Only return resources of this kind, or null
+     * @param namespace Only return resources of this namespace, or null
+     * @param limit     The maximum number of results
+     * @return The best matches
+     */
+    public List<Match> search(String query, StrimziKind kind, String namespace, int limit) {
+        String text = query.strip().toLowerCase(Locale.ROOT);
+        if (text.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Ref, Match> best = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            collect(text, terms.get(text), MatchType.EXACT, 0, kind, namespace, best);
+
+            int visited = 0;
+            for (Map.Entry<String, Set<Posting>> entry : terms.subMap(text, false, text + Character.MAX_VALUE, false)
+                    .entrySet()) {
+                if (++visited > MAX_PREFIX_TERMS) {
+                    break;
+                }
+                collect(entry.getKey(), entry.getValue(), MatchType.PREFIX, 0, kind, namespace, best);
+            }
+
+            if (text.length() >= 3) {
+                for (String term : substringCandidates(text)) {
+                    if (!term.startsWith(text) && term.contains(text)) {
+                        collect(term, terms.get(term), MatchType.SUBSTRING, 0, kind, namespace, best);
+                    }
+                }
+            }
+
+            if (text.length() >= 3 && best.size() < limit) {
+                int maxEdits = text.length() <= 4 ? 1 : 2;
+                for (String term : fuzzyCandidates(text, maxEdits)) {
+                    int distance = distance(text, term, maxEdits);
+                    if (distance > 0 && distance <= maxEdits) {
+                        collect(term, terms.get(term), MatchType.FUZZY, distance, kind, namespace, best);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return best.values().stream().sorted(ORDER).limit(limit).toList();
+    }
+
+    /**
+     * Completes the name of a resource: the names of the kind starting with the prefix (case-sensitive, as
+     * Kubernetes names are), in order. Names are one range of a sorted map, scoped to the namespace when it is
+     * given, so the cost depends on the names returned rather than on the size of the index.
+     *
+     * @param kind      The kind of the resource
+     * @param namespace Only complete names of this namespace, or null
+     * @param cluster   Only complete names of resources of this Kafka (or Kafka Connect) cluster, or null
+     * @param prefix    The typed prefix
+     * @param limit     The maximum number of names
+     * @return The names
+     */
+    public Completion complete(StrimziKind kind, String namespace, String cluster, String prefix, int limit) {
+        String typed = prefix != null ? prefix : "";
+        lock.readLock().lock();
+        try {
+            if (namespace == null && cluster == null) {
+                return range(namesByKind.get(kind), typed, limit);
+            }
+            NavigableMap<String, NameProjection> names = byKind.get(kind);
+            if (names == null) {
+                return new Completion(List.of(), false);
+            }
+            // Within a namespace the range is in name order; across namespaces the same name may repeat
+            Map<String, NameProjection> range = namespace != null
+                    ? names.subMap(key(namespace, typed), true, key(namespace, typed) + Character.MAX_VALUE, false)
+                    : names;
+            NavigableSet<String> values = new TreeSet<>();
+            boolean hasMore = false;
+            for (NameProjection projection : range.values()) {
+                if (!projection.name().startsWith(typed) || (cluster != null && !cluster.equals(projection.cluster()))) {
+                    continue;
+                }
+                values.add(projection.name());
+                if (values.size() > limit) {
+                    if (namespace != null) {
+                        break;
+                    }
+                    values.pollLast();
+                    hasMore = true;
+                }
+            }
+            hasMore |= values.size() > limit;
+            return new Completion(values.stream().limit(limit).toList(), hasMore);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Completes a namespace: the namespaces holding indexed resources starting with the prefix, in order.
+     */
+    public Completion completeNamespace(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return range(namespaces, prefix != null ? prefix : "", limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the projection of a resource, or null if the index has none.
+     */
+    public NameProjection get(StrimziKind kind, String namespace, String name) {
+        lock.readLock().lock();
+        try {
+            return entries.get(new Ref(kind, namespace, name));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed resources.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     */
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Completion range(NavigableMap<String, Integer> keys, String prefix, int limit) {
+        if (keys == null) {
+            return new Completion(List.of(), false);
+        }
+        List<String> values = new ArrayList<>();
+        for (String key : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+            if (values.size() == limit) {
+                return new Completion(values, true);
+            }
+            values.add(key);
+        }
+        return new Completion(values, false);
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        if (counts != null) {
+            counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + '\0' + name;
+    }
+
+    private void collect(String term, Set<Posting> postings, MatchType type, int distance, StrimziKind kind,
+                         String namespace, Map<Ref, Match> best) {
+        if (postings == null) {
+            return;
+        }
+        for (Posting posting : postings) {
+            Ref ref = posting.ref();
+            if ((kind != null && ref.kind() != kind) || (namespace != null && !namespace.equals(ref.namespace()))) {
+                continue;
+            }
+            Match match = new Match(ref, entries.get(ref), term, type, posting.field(), distance);
+            best.merge(ref, match, (a, b) -> ORDER.compare(a, b) <= 0 ? a : b);
+        }
+    }
+
+    /**
+     * Returns the terms containing every trigram of the text, starting with the rarest trigram.
+     */
+    private Set<String> substringCandidates(String text) {
+        List<Set<String>> postings = new ArrayList<>();
+        for (String trigram : trigrams(text, false)) {
+            Set<String> matching = trigrams.get(trigram);
+            if (matching == null) {
+                return Set.of();
+            }
+            postings.add(matching);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<String> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the terms of similar length sharing enough trigrams with the text to be within the edits: each
+     * edit changes at most three trigrams.
+     */
+    private Set<String> fuzzyCandidates(String text, int maxEdits) {
+        Set<String> grams = trigrams(text, true);
+        int required = Math.max(1, grams.size() - 3 * maxEdits);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : grams) {
+            for (String term : trigrams.getOrDefault(trigram, Set.of())) {
+                if (Math.abs(term.length() - text.length()) <= maxEdits) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        shared.forEach((term, count) -> {
+            if (count >= required) {
+                candidates.add(term);
+            }
+        });
+        return candidates;
+    }
+
+    private void addPosting(String term, Posting posting) {
+        Set<Posting> postings = terms.get(term);
+        if (postings == null) {
+            postings = new HashSet<>(2);
+            terms.put(term, postings);
+            for (String trigram : trigrams(term, true)) {
+                trigrams.computeIfAbsent(trigram, t -> new HashSet<>()).add(term);
+            }
+        }
+        postings.add(posting);
+    }
+
+    private void removePosting(String term, Posting posting) {
+        Set<Posting> postings = terms.get(term);
+        if (postings == null || !postings.remove(posting) || !postings.isEmpty()) {
+            return;
+        }
+        terms.remove(term);
+        for (String trigram : trigrams(term, true)) {
+            Set<String> matching = trigrams.get(trigram);
+            if (matching != null && matching.remove(term) && matching.isEmpty()) {
+                trigrams.remove(trigram);
+            }
+        }
+    }
+
+    private static Map<String, Posting> postings(Ref ref, NameProjection projection) {
+        Map<String, Posting> postings = new HashMap<>();
+        projection.labels().forEach((key, value) ->
+                postings.put(value.toLowerCase(Locale.ROOT), new Posting(ref, Field.LABEL)));
+        if (projection.topicName() != null) {
+            postings.put(projection.topicName().toLowerCase(Locale.ROOT), new Posting(ref, Field.TOPIC_NAME));
+        }
+        postings.put(projection.name().toLowerCase(Locale.ROOT), new Posting(ref, Field.NAME));
+        return postings;
+    }
+
+    /**
+     * Returns the trigrams of the text, with its start and end marked when padded.
+     */
+    static Set<String> trigrams(String text, boolean padded) {
+        String marked = padded ? "^" + text + "$" : text;
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= marked.length(); i++) {
+            result.add(marked.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Levenshtein distance of two texts, or {@code max + 1} as soon as it exceeds {@code max}.
+     */
+    static int distance(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /**
+     * How a name matched the query, best first.
+     */
+    public enum MatchType {
+        EXACT, PREFIX, SUBSTRING, FUZZY
+    }
+
+    /**
+     * The name a term was taken from, best first.
+     */
+    public enum Field {
+        NAME, TOPIC_NAME, LABEL
+    }
+
+    /**
+     * Identity of an indexed resource.
+     */
+    public record Ref(StrimziKind kind, String namespace, String name) {
+    }
+
+    /**
+     * A resource matching a query.
+     *
+     * @param ref        The resource
+     * @param projection The names and labels of the resource
+     * @param term       The matching name (lower-cased)
+     * @param type       How the name matched
+     * @param field      The name the term was taken from
+     * @param distance   The typos, for {@link MatchType#FUZZY} matches
+     */
+    public record Match(Ref ref, NameProjection projection, String term, MatchType type, Field field, int distance) {
+    }
+
+    /**
+     * Completed values.
+     *
+     * @param values  The values, in order
+     * @param hasMore Whether more values start with the prefix
+     */
+    public record Completion(List<String> values, boolean hasMore) {
+    }
+
+    private record Posting(Ref ref, Field field) {
+    }
+}
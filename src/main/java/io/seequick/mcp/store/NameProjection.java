@@ -0,0 +1,56 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.seequick.mcp.tool.StrimziConditions;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Projection of any Strimzi resource holding what identifies it (names and labels) and its readiness.
+ *
+ * @param namespace       The namespace
+ * @param name            The resource name
+ * @param cluster         The Kafka cluster label, or null
+ * @param topicName       The Kafka topic name of a KafkaTopic when it differs from the resource name, else null
+ * @param labels          The labels, never null
+ * @param readiness       The Ready condition
+ * @param state           The state of a KafkaRebalance (the type of its active condition), else null
+ * @param resourceVersion The resource version
+ */
+public record NameProjection(String namespace, String name, String cluster, String topicName,
+                             Map<String, String> labels, Readiness readiness, String state,
+                             String resourceVersion) implements Projection {
+
+    public static NameProjection of(HasMetadata resource, StringInterner interner) {
+        var metadata = resource.getMetadata();
+        String topicName = resource instanceof KafkaTopic topic && topic.getSpec() != null
+                && topic.getSpec().getTopicName() != null && !topic.getSpec().getTopicName().equals(metadata.getName())
+                ? topic.getSpec().getTopicName() : null;
+        return new NameProjection(
+                interner.intern(metadata.getNamespace()),
+                metadata.getName(),
+                interner.intern(Projections.label(metadata, StrimziLabels.CLUSTER)),
+                topicName,
+                labels(metadata.getLabels(), interner),
+                Readiness.of(resource, interner),
+                resource instanceof KafkaRebalance ? interner.intern(StrimziConditions.activeState(resource)) : null,
+                metadata.getResourceVersion());
+    }
+
+    private static Map<String, String> labels(Map<String, String> labels, StringInterner interner) {
+        if (labels == null || labels.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> copy = new HashMap<>(labels.size() * 2);
+        labels.forEach((key, value) -> {
+            if (key != null && value != null) {
+                copy.put(interner.intern(key), interner.intern(value));
+            }
+        });
+        return Map.copyOf(copy);
+    }
+}
@@ -0,0 +1,21 @@
+package io.seequick.mcp.store;
+
+/**
+ * Compact, immutable view of a Strimzi resource holding only the fields tools read.
+ */
+public interface Projection {
+
+    String namespace();
+
+    String name();
+
+    /**
+     * The Kafka cluster the resource belongs to (the strimzi.io/cluster label), or null.
+     */
+    String cluster();
+
+    /**
+     * The resource version the projection was taken from.
+     */
+    String resourceVersion();
+}
@@ -0,0 +1,259 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * In-memory store of Strimzi resources kept as compact {@link Projection}s instead of full custom resource
+ * objects. Strings that repeat across resources are interned in a pool owned by the store.
+ *
+ * @param <R> The resource type
+ * @param <P> The projection type
+ */
+public class ProjectionStore<R extends HasMetadata, P extends Projection> {
+
+    private static final Comparator<Projection> ORDER = Comparator.comparing(Projection::namespace)
+            .thenComparing(Projection::name);
+
+    private final Class<R> resourceClass;
+    private final BiFunction<R, StringInterner, P> projector;
+    private final StringInterner interner = new StringInterner();
+    private final Map<String, Map<String, P>> byNamespace = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private final List<Listener<P>> listeners = new CopyOnWriteArrayList<>();
+    private volatile String resourceVersion;
+
+    public ProjectionStore(Class<R> resourceClass, BiFunction<R, StringInterner, P> projector) {
+        this.resourceClass = resourceClass;
+        this.projector = projector;
+    }
+
+    public static ProjectionStore<KafkaTopic, TopicProjection> topics() {
+        return new ProjectionStore<>(KafkaTopic.class, TopicProjection::of);
+    }
+
+    public static ProjectionStore<KafkaUser, UserProjection> users() {
+        return new ProjectionStore<>(KafkaUser.class, UserProjection::of);
+    }
+
+    public static ProjectionStore<Kafka, KafkaProjection> kafkas() {
+        return new ProjectionStore<>(Kafka.class, KafkaProjection::of);
+    }
+
+    public Class<R> getResourceClass() {
+        return resourceClass;
+    }
+
+    /**
+     * Adds a listener receiving every projection added, replaced or removed from now on.
+     */
+    public void addListener(Listener<P> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Replaces the content of the store with the resources listed by the repository. The list is streamed,
+     * so the full resources are never held in memory together.
+     *
+     * @param repository The repository to list from
+     * @param namespace  The namespace to load, or null for all namespaces
+     * @return The resource version of the list
+     */
+    public String load(StrimziResourceRepository<R, ?> repository, String namespace) {
+        Map<String, Map<String, P>> loaded = new HashMap<>();
+        ListMeta metadata = repository.forEach(namespace, null, resource -> {
+            P projection = projector.apply(resource, interner);
+            loaded.computeIfAbsent(projection.namespace(), ns -> new HashMap<>()).put(projection.name(), projection);
+        });
+
+        Map<String, Map<String, P>> previous = new HashMap<>(byNamespace);
+        if (namespace == null) {
+            byNamespace.keySet().retainAll(loaded.keySet());
+            loaded.forEach((ns, projections) -> byNamespace.put(ns, new ConcurrentHashMap<>(projections)));
+            notifyReplaced(previous, loaded, previous.keySet());
+        } else {
+            byNamespace.put(interner.intern(namespace),
+                    new ConcurrentHashMap<>(loaded.getOrDefault(namespace, Map.of())));
+            notifyReplaced(previous, loaded, Set.of(namespace));
+        }
+        resourceVersion = metadata != null ? metadata.getResourceVersion() : null;
+        changes.incrementAndGet();
+        return resourceVersion;
+    }
+
+    /**
+     * Replaces the content of the store with previously taken projections, e.g. from a snapshot.
+     *
+     * @param projections     The projections
+     * @param resourceVersion The resource version the projections are current at
+     */
+    public void restore(Collection<P> projections, String resourceVersion) {
+        Map<String, Map<String, P>> restored = new HashMap<>();
+        for (P projection : projections) {
+            restored.computeIfAbsent(interner.intern(projection.namespace()), ns -> new ConcurrentHashMap<>())
+                    .put(projection.name(), projection);
+        }
+        Map<String, Map<String, P>> previous = new HashMap<>(byNamespace);
+        byNamespace.keySet().retainAll(restored.keySet());
+        byNamespace.putAll(restored);
+        notifyReplaced(previous, restored, previous.keySet());
+        this.resourceVersion = resourceVersion;
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Adds or replaces the projection of the resource.
+     *
+     * @return The projection
+     */
+    public P put(R resource) {
+        P projection = projector.apply(resource, interner);
+        P previous = byNamespace.computeIfAbsent(projection.namespace(), ns -> new ConcurrentHashMap<>())
+                .put(projection.name(), projection);
+        changes.incrementAndGet();
+        listeners.forEach(listener -> listener.changed(previous, projection));
+        return projection;
+    }
+
+    /**
+     * Removes the projection of a resource.
+     */
+    public void remove(String namespace, String name) {
+        Map<String, P> projections = byNamespace.get(namespace);
+        P previous = projections != null ? projections.remove(name) : null;
+        if (previous != null) {
+            changes.incrementAndGet();
+            listeners.forEach(listener -> listener.changed(previous, null));
+        }
+    }
+
+    /**
+     * Returns the projection of a resource, or null if the store has none.
+     */
+    public P get(String namespace, String name) {
+        Map<String, P> projections = byNamespace.get(namespace);
+        return projections != null ? projections.get(name) : null;
+    }
+
+    /**
+     * Lists the projections ordered by namespace and name.
+     *
+     * @param namespace Optional namespace (null for all namespaces)
+     * @param cluster   Optional Kafka cluster (null for all clusters)
+     * @return The matching projections
+     */
+    public List<P> list(String namespace, String cluster) {
+        List<P> result = new ArrayList<>();
+        if (namespace != null) {
+            collect(byNamespace.get(namespace), cluster, result);
+        } else {
+            byNamespace.values().forEach(projections -> collect(projections, cluster, result));
+        }
+        result.sort(ORDER);
+        return result;
+    }
+
+    public int size() {
+        return byNamespace.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Returns the resource version the store is current at, or null if the store was never loaded.
+     */
+    public String getResourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * Records the resource version the store is current at, e.g. after a watch event.
+     */
+    public void setResourceVersion(String resourceVersion) {
+        this.resourceVersion = resourceVersion;
+    }
+
+    /**
+     * Returns a counter that increases with every change to the content of the store.
+     */
+    public long getChanges() {
+        return changes.get();
+    }
+
+    /**
+     * Returns the number of distinct strings shared by the projections.
+     */
+    public int internedStrings() {
+        return interner.size();
+    }
+
+    /**
+     * Reports the projections of the namespaces that were replaced in bulk: the ones that disappeared, then
+     * every current one.
+     *
+     * @param previous   The projections before, by namespace
+     * @param current    The projections after, by namespace
+     * @param namespaces Namespaces replaced in addition to the ones of {@code current}
+     */
+    private void notifyReplaced(Map<String, Map<String, P>> previous, Map<String, Map<String, P>> current,
+                                Set<String> namespaces) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        for (String namespace : namespaces) {
+            Map<String, P> after = current.getOrDefault(namespace, Map.of());
+            previous.getOrDefault(namespace, Map.of()).forEach((name, projection) -> {
+                if (!after.containsKey(name)) {
+                    listeners.forEach(listener -> listener.changed(projection, null));
+                }
+            });
+        }
+        current.forEach((namespace, after) -> {
+            Map<String, P> before = previous.getOrDefault(namespace, Map.of());
+            after.forEach((name, projection) ->
+                    listeners.forEach(listener -> listener.changed(before.get(name), projection)));
+        });
+    }
+
+    /**
+     * Receives the changes of the projections of a store.
+     *
+     * @param <P> The projection type
+     */
+    @FunctionalInterface
+    public interface Listener<P> {
+
+        /**
+         * Called after a projection was added, replaced or removed.
+         *
+         * @param previous The replaced or removed projection, or null if it was added
+         * @param current  The new projection, or null if it was removed
+         */
+        void changed(P previous, P current);
+    }
+
+    private static <P extends Projection> void collect(Map<String, P> projections, String cluster, List<P> result) {
+        if (projections == null) {
+            return;
+        }
+        for (P projection : projections.values()) {
+            if (cluster == null || cluster.equals(projection.cluster())) {
+                result.add(projection);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers shared by the projections.
+ */
+final class Projections {
+
+    private Projections() {
+        // Utility class
+    }
+
+    static String label(ObjectMeta metadata, String key) {
+        return metadata.getLabels() != null ? metadata.getLabels().get(key) : null;
+    }
+
+    /**
+     * Copies a configuration map into a compact immutable map with interned keys and string values.
+     */
+    static Map<String, Object> config(Map<String, Object> config, StringInterner interner) {
+        if (config == null || config.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Object> copy = new HashMap<>(config.size() * 2);
+        config.forEach((key, value) -> {
+            if (key != null && value != null) {
+                copy.put(interner.intern(key), value instanceof String s ? interner.intern(s) : value);
+            }
+        });
+        return Map.copyOf(copy);
+    }
+
+    static List<String> internAll(List<String> values, StringInterner interner) {
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        return values.stream().map(interner::intern).toList();
+    }
+}
@@ -0,0 +1,36 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.seequick.mcp.tool.StrimziConditions;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.kafka.Status;
+
+/**
+ * The Ready condition and observed generation of a Strimzi resource.
+ *
+ * @param status             Status of the Ready condition (True, False, Unknown), or null if there is none
+ * @param reason             Reason of the Ready condition, or null
+ * @param message            Message of the Ready condition, or null
+ * @param observedGeneration Generation last reconciled by the operator (0 if never)
+ */
+public record Readiness(String status, String reason, String message, long observedGeneration) {
+
+    static final Readiness UNKNOWN = new Readiness(null, null, null, 0);
+
+    static Readiness of(HasMetadata resource, StringInterner interner) {
+        Status status = StrimziConditions.getStatus(resource);
+        if (status == null) {
+            return UNKNOWN;
+        }
+        Condition ready = StrimziConditions.findCondition(resource, "Ready");
+        if (ready == null) {
+            return new Readiness(null, null, null, status.getObservedGeneration());
+        }
+        return new Readiness(interner.intern(ready.getStatus()), interner.intern(ready.getReason()),
+                ready.getMessage(), status.getObservedGeneration());
+    }
+
+    public boolean isReady() {
+        return "True".equalsIgnoreCase(status);
+    }
+}
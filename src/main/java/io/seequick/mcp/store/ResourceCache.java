@@ -0,0 +1,225 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the KafkaTopics and KafkaUsers of one cluster, backed by an optional snapshot file.
+ * <p>
+ * On start, the snapshot written by a previous server process is restored so that read tools can answer
+ * right away, before anything has been read from the API server. The stores are then revalidated in the
+ * background by watches that resume from the resource versions in the snapshot, and the snapshot is
+ * rewritten periodically and on close.
+ */
+public class ResourceCache implements AutoCloseable {
+
+    private static final ResourceCache SHARED = new ResourceCache();
+
+    private final ProjectionStore<KafkaTopic, TopicProjection> topics = ProjectionStore.topics();
+    private final ProjectionStore<KafkaUser, UserProjection> users = ProjectionStore.users();
+
+    private volatile KubernetesClient client;
+    private String context;
+    private SnapshotFile snapshotFile;
+    private ScheduledExecutorService executor;
+    private volatile StoreSynchronizer<KafkaTopic, TopicProjection> topicSynchronizer;
+    private volatile StoreSynchronizer<KafkaUser, UserProjection> userSynchronizer;
+    private volatile Instant restoredFrom;
+    private volatile boolean started;
+    private long savedChanges;
+    private Instant savedAt;
+
+    /**
+     * Returns the cache shared by the tools of the server. It stays empty unless started.
+     */
+    public static ResourceCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Restores the snapshot, if there is a usable one, and starts keeping the cache in sync in the background.
+     *
+     * @param client           The client of the cluster to cache (not a routing client)
+     * @param context          The kubeconfig context of the cluster
+     * @param snapshotFile     The snapshot file, or null to cache in memory only
+     * @param snapshotInterval How often the snapshot is rewritten when the cache changed
+     */
+    public synchronized void start(KubernetesClient client, String context, SnapshotFile snapshotFile,
+                                   Duration snapshotInterval) {
+        if (started) {
+            throw new IllegalStateException("Resource cache already started");
+        }
+        this.client = client;
+        this.context = context;
+        this.snapshotFile = snapshotFile;
+        if (snapshotFile != null) {
+            restore();
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resource-cache");
+            thread.setDaemon(true);
+            return thread;
+        });
+        topicSynchronizer = new StoreSynchronizer<>(client,
+                new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class), topics, executor);
+        userSynchronizer = new StoreSynchronizer<>(client,
+                new StrimziResourceRepository<>(client, KafkaUser.class, KafkaUserList.class), users, executor);
+        executor.execute(topicSynchronizer::start);
+        executor.execute(userSynchronizer::start);
+        if (snapshotFile != null && !snapshotInterval.isZero()) {
+            long intervalMs = snapshotInterval.toMillis();
+            executor.scheduleWithFixedDelay(this::saveQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+        started = true;
+    }
+
+    /**
+     * Returns the topic store if the cache holds the topics of the cluster the client currently talks to.
+     */
+    public Optional<ProjectionStore<KafkaTopic, TopicProjection>> topics(KubernetesClient client) {
+        return isAvailable(client, topicSynchronizer) ? Optional.of(topics) : Optional.empty();
+    }
+
+    /**
+     * Returns the user store if the cache holds the users of the cluster the client currently talks to.
+     */
+    public Optional<ProjectionStore<KafkaUser, UserProjection>> users(KubernetesClient client) {
+        return isAvailable(client, userSynchronizer) ? Optional.of(users) : Optional.empty();
+    }
+
+    /**
+     * Returns when the restored snapshot was written, or null if the cache did not start from a snapshot.
+     */
+    public Instant getRestoredFrom() {
+        return restoredFrom;
+    }
+
+    /**
+     * Returns whether all stores have been revalidated against the API server.
+     */
+    public boolean isRevalidated() {
+        return started && topicSynchronizer.isSynced() && userSynchronizer.isSynced();
+    }
+
+    /**
+     * Returns a note for results served from the cache while it still holds unrevalidated snapshot data,
+     * or an empty string.
+     */
+    public String freshnessNote() {
+        Instant restored = restoredFrom;
+        if (restored == null || isRevalidated()) {
+            return "";
+        }
+        return "\nServed from the resource snapshot saved at " + restored
+                + "; revalidation against the API server is in progress.\n";
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public synchronized Stats stats() {
+        if (!started) {
+            return new Stats(false, null, null, null, null, List.of());
+        }
+        return new Stats(true, context, snapshotFile != null ? snapshotFile.getPath().toString() : null,
+                restoredFrom, savedAt, List.of(topicSynchronizer.stats(), userSynchronizer.stats()));
+    }
+
+    /**
+     * Writes the snapshot if the cache changed since it was last written.
+     */
+    public synchronized void save() throws IOException {
+        if (snapshotFile == null) {
+            return;
+        }
+        long changes = topics.getChanges() + users.getChanges();
+        if (changes == savedChanges && savedAt != null) {
+            return;
+        }
+        Instant now = Instant.now();
+        snapshotFile.write(new SnapshotFile.Snapshot(SnapshotFile.FORMAT_VERSION, context, server(), now.toEpochMilli(),
+                SnapshotFile.Section.of(topics), SnapshotFile.Section.of(users)));
+        savedChanges = changes;
+        savedAt = now;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!started) {
+            return;
+        }
+        topicSynchronizer.close();
+        userSynchronizer.close();
+        executor.shutdownNow();
+        try {
+            if (topicSynchronizer.isSynced() && userSynchronizer.isSynced()) {
+                save();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write resource snapshot " + snapshotFile.getPath(), e);
+        } finally {
+            started = false;
+        }
+    }
+
+    private void restore() {
+        snapshotFile.read()
+                .filter(snapshot -> context.equals(snapshot.context()) && server().equals(snapshot.server()))
+                .ifPresent(snapshot -> {
+                    topics.restore(snapshot.topics().items(), snapshot.topics().resourceVersion());
+                    users.restore(snapshot.users().items(), snapshot.users().resourceVersion());
+                    restoredFrom = Instant.ofEpochMilli(snapshot.savedAt());
+                    // Nothing to write until the watches bring changes
+                    savedChanges = topics.getChanges() + users.getChanges();
+                    savedAt = restoredFrom;
+                });
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException e) {
+            // Retried on the next interval; the previous snapshot is left intact
+        }
+    }
+
+    private String server() {
+        return String.valueOf(client.getMasterUrl());
+    }
+
+    private boolean isAvailable(KubernetesClient client, StoreSynchronizer<?, ?> synchronizer) {
+        return started && synchronizer != null && KubernetesClientPool.resolve(client) == this.client
+                && (restoredFrom != null || synchronizer.isSynced());
+    }
+
+    /**
+     * Metrics of the cache.
+     *
+     * @param started      Whether the cache is running
+     * @param context      The kubeconfig context cached
+     * @param snapshotFile The snapshot file, or null
+     * @param restoredFrom When the restored snapshot was written, or null
+     * @param savedAt      When the snapshot was last written, or null
+     * @param stores       Metrics of the stores
+     */
+    public record Stats(boolean started, String context, String snapshotFile, Instant restoredFrom, Instant savedAt,
+                        List<StoreSynchronizer.Stats> stores) {
+    }
+}
@@ -0,0 +1,184 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link NameIndex}es of the resources of all Strimzi kinds, one per cluster, kept current by watches.
+ * <p>
+ * The index of a cluster is started the first time it is asked for: every kind is listed once, concurrently,
+ * into a {@link ProjectionStore} of {@link NameProjection}s, and then followed by a {@link StoreSynchronizer},
+ * whose changes are applied to the index one resource at a time. Kinds that are not installed or not readable are
+ * reported as unavailable rather than retried.
+ * <p>
+ * Nothing starts an index but the calls that read it (searches, completions and resource reads), so a session
+ * that never uses them does not list or watch anything.
+ */
+public class ResourceIndex implements AutoCloseable {
+
+    public static final Duration DEFAULT_START_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ResourceIndex SHARED = new ResourceIndex();
+
+    private final Map<KubernetesClient, Cluster> clusters = new IdentityHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Duration startTimeout = DEFAULT_START_TIMEOUT;
+
+    /**
+     * Returns the index shared by the tools of the server.
+     */
+    public static ResourceIndex shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sets how long the first request for the index of a cluster waits for the initial listing.
+     */
+    public void setStartTimeout(Duration startTimeout) {
+        this.startTimeout = startTimeout;
+    }
+
+    /**
+     * Adds a listener called with every change applied to the index of any cluster, after the index.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the index of the cluster the client currently talks to, starting it if needed. A new index is
+     * returned once every kind has been listed, or when the start timeout expires, whichever comes first.
+     */
+    public View index(KubernetesClient client) {
+        Cluster cluster = cluster(client);
+        cluster.awaitStart(startTimeout);
+        return cluster.view();
+    }
+
+    /**
+     * Returns the index of the cluster the client currently talks to as it is now, starting it if needed
+     * without waiting, for callers that must answer right away (a new index is empty until the kinds are
+     * listed).
+     */
+    public View current(KubernetesClient client) {
+        return cluster(client).view();
+    }
+
+    /**
+     * Returns the index of the cluster the client currently talks to if it has already been started.
+     */
+    public synchronized Optional<View> started(KubernetesClient client) {
+        Cluster cluster = clusters.get(KubernetesClientPool.resolve(client));
+        return cluster != null ? Optional.of(cluster.view()) : Optional.empty();
+    }
+
+    private synchronized Cluster cluster(KubernetesClient client) {
+        return clusters.computeIfAbsent(KubernetesClientPool.resolve(client),
+                resolved -> new Cluster(resolved, listeners));
+    }
+
+    @Override
+    public synchronized void close() {
+        clusters.values().forEach(Cluster::close);
+        clusters.clear();
+    }
+
+    /**
+     * The index of a cluster with the state of its synchronizers.
+     *
+     * @param index        The index
+     * @param syncedKinds      The kinds listed and followed so far
+     * @param pendingKinds     The kinds still listing, or retried after a failure
+     * @param unavailableKinds The kinds not installed or not readable, which are not retried
+     */
+    public record View(NameIndex index, List<StrimziKind> syncedKinds, List<StrimziKind> pendingKinds,
+                       List<StrimziKind> unavailableKinds) {
+    }
+
+    /**
+     * Listener of the changes of the indexed resources.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called when a resource changed: previous is null for a new resource, current is null for a deleted one.
+         */
+        void changed(StrimziKind kind, NameProjection previous, NameProjection current);
+    }
+
+    private static final class Cluster {
+
+        private final NameIndex index = new NameIndex();
+        private final Map<StrimziKind, StoreSynchronizer<HasMetadata, NameProjection>> synchronizers =
+                new EnumMap<>(StrimziKind.class);
+        private final ScheduledExecutorService executor;
+        private final CompletableFuture<Void> started;
+
+        @SuppressWarnings("unchecked")
+        Cluster(KubernetesClient client, List<Listener> listeners) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "resource-index");
+                thread.setDaemon(true);
+                return thread;
+            });
+            List<CompletableFuture<Void>> starts = new ArrayList<>();
+            for (StrimziKind kind : StrimziKind.values()) {
+                ProjectionStore<HasMetadata, NameProjection> store = new ProjectionStore<>(
+                        (Class<HasMetadata>) kind.getResourceClass(), NameProjection::of);
+                store.addListener((previous, current) -> {
+                    index.update(kind, previous, current);
+                    listeners.forEach(listener -> listener.changed(kind, previous, current));
+                });
+                StoreSynchronizer<HasMetadata, NameProjection> synchronizer = new StoreSynchronizer<>(client,
+                        kind.repository(client), store, executor);
+                synchronizers.put(kind, synchronizer);
+                // Lists the kinds concurrently; failures other than 403 and 404 are retried in the background
+                starts.add(CompletableFuture.runAsync(synchronizer::start,
+                        task -> Thread.ofVirtual().name("resource-index-" + kind.getKind()).start(task)));
+            }
+            started = CompletableFuture.allOf(starts.toArray(new CompletableFuture[0]));
+        }
+
+        void awaitStart(Duration timeout) {
+            try {
+                started.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                // Answered with the kinds listed so far
+            }
+        }
+
+        View view() {
+            List<StrimziKind> synced = new ArrayList<>();
+            List<StrimziKind> pending = new ArrayList<>();
+            List<StrimziKind> unavailable = new ArrayList<>();
+            synchronizers.forEach((kind, synchronizer) -> (synchronizer.isSynced() ? synced
+                    : synchronizer.isUnavailable() ? unavailable : pending).add(kind));
+            return new View(index, List.copyOf(synced), List.copyOf(pending), List.copyOf(unavailable));
+        }
+
+        void close() {
+            synchronizers.values().forEach(StoreSynchronizer::close);
+            executor.shutdownNow();
+        }
+    }
+}
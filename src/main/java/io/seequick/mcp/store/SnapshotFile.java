@@ -0,0 +1,112 @@
+package io.seequick.mcp.store;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The snapshot file of a {@link ResourceCache}, stored in the Smile binary JSON format.
+ * <p>
+ * Writes go to a temporary file in the same directory that then replaces the snapshot, so a crash
+ * never leaves a partial snapshot behind. Snapshots that cannot be read, or were written in another
+ * format version, are treated as missing.
+ */
+public class SnapshotFile {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper(SmileFactory.builder()
+            // Namespaces, cluster names and config values repeat across resources
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build())
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path path;
+
+    public SnapshotFile(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Reads the snapshot.
+     *
+     * @return The snapshot, or empty if there is none or it cannot be used
+     */
+    public Optional<Snapshot> read() {
+        try (InputStream in = Files.newInputStream(path)) {
+            Snapshot snapshot = MAPPER.readValue(in, Snapshot.class);
+            return snapshot.formatVersion() == FORMAT_VERSION ? Optional.of(snapshot) : Optional.empty();
+        } catch (IOException e) {
+            // Missing, corrupt or incompatible; the next write replaces it
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Atomically replaces the snapshot.
+     */
+    public void write(Snapshot snapshot) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                MAPPER.writeValue(out, snapshot);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Content of a snapshot.
+     *
+     * @param formatVersion Version of the snapshot format
+     * @param context       The kubeconfig context the resources were read from
+     * @param server        The API server URL the resources were read from
+     * @param savedAt       When the snapshot was written, in milliseconds since the epoch
+     * @param topics        The KafkaTopics
+     * @param users         The KafkaUsers
+     */
+    public record Snapshot(int formatVersion, String context, String server, long savedAt,
+                           Section<TopicProjection> topics, Section<UserProjection> users) {
+    }
+
+    /**
+     * The resources of one kind.
+     *
+     * @param resourceVersion The resource version the items are current at, or null if unknown
+     * @param items           The projections
+     */
+    public record Section<P extends Projection>(String resourceVersion, List<P> items) {
+
+        static <P extends Projection> Section<P> of(ProjectionStore<?, P> store) {
+            // The version is read first: items newer than it are corrected when the watch replays their events
+            return new Section<>(store.getResourceVersion(), store.list(null, null));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+
+import java.net.HttpURLConnection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a {@link ProjectionStore} in sync with the API server through a watch on all namespaces.
+ * <p>
+ * The watch resumes from the resource version of the store, so a store restored from a snapshot only
+ * receives the changes made since the snapshot was written. The resources are listed again only when
+ * the store has no resource version yet, or when the API server no longer has it (410 Gone).
+ * <p>
+ * The store counts as synced once a list completed, or once a resumed watch delivered its first bookmark,
+ * which the API server sends after the changes it replays. It stops counting as synced when the watch closes.
+ * <p>
+ * Failures are retried, except 403 Forbidden and 404 Not Found: the kind is not readable or not installed, which
+ * retrying does not change, so the synchronizer stops and reports the kind as unavailable.
+ *
+ * @param <R> The resource type
+ * @param <P> The projection type
+ */
+public class StoreSynchronizer<R extends HasMetadata, P extends Projection> implements AutoCloseable {
+
+    static final long RETRY_DELAY_MS = 10_000;
+
+    private final KubernetesClient client;
+    private final StrimziResourceRepository<R, ?> repository;
+    private final ProjectionStore<R, P> store;
+    private final ScheduledExecutorService executor;
+    private final AtomicLong relists = new AtomicLong();
+    private final AtomicLong resumes = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+
+    private volatile Watch watch;
+    private volatile boolean synced;
+    private volatile boolean unavailable;
+    private volatile boolean closed;
+    private volatile String lastError;
+
+    /**
+     * @param client     The client to watch with
+     * @param repository The repository to relist with
+     * @param store      The store to keep in sync
+     * @param executor   Runs reconnects, which must not run on the watch threads
+     */
+    public StoreSynchronizer(KubernetesClient client, StrimziResourceRepository<R, ?> repository,
+                             ProjectionStore<R, P> store, ScheduledExecutorService executor) {
+        this.client = client;
+        this.repository = repository;
+        this.store = store;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts watching, resuming from the resource version of the store when it has one. Failures are
+     * retried in the background, unless the kind is unavailable.
+     */
+    public void start() {
+        try {
+            connect();
+        } catch (RuntimeException e) {
+            retry(e);
+        }
+    }
+
+    /**
+     * Returns whether the store is revalidated against the API server and kept current by an open watch.
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Returns whether the synchronizer stopped because the kind is not installed or not readable.
+     */
+    public boolean isUnavailable() {
+        return unavailable;
+    }
+
+    public ProjectionStore<R, P> getStore() {
+        return store;
+    }
+
+    public Stats stats() {
+        return new Stats(store.getResourceClass().getSimpleName(), store.size(), synced, unavailable,
+                relists.get(), resumes.get(), events.get(), lastError);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (watch != null) {
+            watch.close();
+            watch = null;
+        }
+    }
+
+    private synchronized void connect() {
+        if (closed) {
+            return;
+        }
+        String resourceVersion = store.getResourceVersion();
+        if (resourceVersion == null) {
+            relist();
+        } else {
+            try {
+                // Synced on the first bookmark, once the changes since the resource version are applied
+                watch = watch(resourceVersion);
+                resumes.incrementAndGet();
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != HttpURLConnection.HTTP_GONE) {
+                    throw e;
+                }
+                relist();
+            }
+        }
+        lastError = null;
+    }
+
+    private void relist() {
+        relists.incrementAndGet();
+        watch = watch(store.load(repository, null));
+        synced = true;
+    }
+
+    private Watch watch(String resourceVersion) {
+        return client.resources(store.getResourceClass()).inAnyNamespace().watch(new ListOptionsBuilder()
+                .withResourceVersion(resourceVersion)
+                .withAllowWatchBookmarks(true)
+                .build(), new StoreWatcher());
+    }
+
+    private void retry(Exception e) {
+        lastError = e.getMessage();
+        if (isForbiddenOrNotFound(e)) {
+            unavailable = true;
+        } else if (!closed) {
+            executor.schedule(this::start, RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static boolean isForbiddenOrNotFound(Exception e) {
+        KubernetesClientException clientException = e instanceof WatcherException watcherException
+                ? watcherException.asClientException()
+                : e instanceof KubernetesClientException kubernetesClientException ? kubernetesClientException : null;
+        return clientException != null && (clientException.getCode() == HttpURLConnection.HTTP_FORBIDDEN
+                || clientException.getCode() == HttpURLConnection.HTTP_NOT_FOUND);
+    }
+
+    private final class StoreWatcher implements Watcher<R> {
+
+        @Override
+        public void eventReceived(Action action, R resource) {
+            events.incrementAndGet();
+            switch (action) {
+                case ADDED, MODIFIED -> store.put(resource);
+                case DELETED -> store.remove(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+                default -> {
+                    // Bookmarks only advance the resource version, after any replayed changes
+                    synced = true;
+                }
+            }
+            store.setResourceVersion(resource.getMetadata().getResourceVersion());
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            synced = false;
+            if (closed) {
+                return;
+            }
+            if (cause.isHttpGone()) {
+                // The resource version is too old to resume from
+                store.setResourceVersion(null);
+                executor.execute(StoreSynchronizer.this::start);
+            } else {
+                retry(cause);
+            }
+        }
+
+        @Override
+        public void onClose() {
+            // Closed by close()
+        }
+    }
+
+    /**
+     * Metrics of a synchronizer.
+     *
+     * @param kind        The resource kind
+     * @param items       Resources in the store
+     * @param synced      Whether the store has been revalidated against the API server
+     * @param unavailable Whether the kind is not installed or not readable, which is not retried
+     * @param relists     Full lists of the resources
+     * @param resumes     Watches resumed from a stored resource version
+     * @param events      Watch events received
+     * @param lastError   Message of the last failure, or null
+     */
+    public record Stats(String kind, int items, boolean synced, boolean unavailable, long relists, long resumes,
+                        long events, String lastError) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.seequick.mcp.store;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates strings that repeat across many resources, such as namespaces, label values and config keys.
+ * <p>
+ * Unlike {@link String#intern()}, the pool belongs to the store and is released with it.
+ */
+public class StringInterner {
+
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the pooled instance equal to the value, or null for null.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    /**
+     * Returns the number of distinct strings in the pool.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,40 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+
+import java.util.Map;
+
+/**
+ * Projection of a KafkaTopic.
+ *
+ * @param namespace       The namespace
+ * @param name            The resource name
+ * @param cluster         The Kafka cluster label, or null
+ * @param topicName       The Kafka topic name (spec.topicName, else the resource name)
+ * @param partitions      Desired partitions, or null
+ * @param replicas        Desired replication factor, or null
+ * @param config          Topic configuration, never null
+ * @param readiness       The Ready condition
+ * @param resourceVersion The resource version
+ */
+public record TopicProjection(String namespace, String name, String cluster, String topicName, Integer partitions,
+                              Integer replicas, Map<String, Object> config, Readiness readiness,
+                              String resourceVersion) implements Projection {
+
+    public static TopicProjection of(KafkaTopic topic, StringInterner interner) {
+        var metadata = topic.getMetadata();
+        var spec = topic.getSpec();
+        String topicName = spec != null && spec.getTopicName() != null ? spec.getTopicName() : metadata.getName();
+        return new TopicProjection(
+                interner.intern(metadata.getNamespace()),
+                metadata.getName(),
+                interner.intern(Projections.label(metadata, StrimziLabels.CLUSTER)),
+                topicName.equals(metadata.getName()) ? metadata.getName() : topicName,
+                spec != null ? spec.getPartitions() : null,
+                spec != null ? spec.getReplicas() : null,
+                Projections.config(spec != null ? spec.getConfig() : null, interner),
+                Readiness.of(topic, interner),
+                metadata.getResourceVersion());
+    }
+}
@@ -0,0 +1,101 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserAuthorizationSimple;
+import io.strimzi.api.kafka.model.user.acl.AclRule;
+import io.strimzi.api.kafka.model.user.acl.AclRuleGroupResource;
+import io.strimzi.api.kafka.model.user.acl.AclRuleResource;
+import io.strimzi.api.kafka.model.user.acl.AclRuleTopicResource;
+import io.strimzi.api.kafka.model.user.acl.AclRuleTransactionalIdResource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projection of a KafkaUser.
+ *
+ * @param namespace       The namespace
+ * @param name            The resource name
+ * @param cluster         The Kafka cluster label, or null
+ * @param authentication  The authentication type (e.g. tls, scram-sha-512), or null
+ * @param authorization   The authorization type (e.g. simple), or null
+ * @param acls            The ACL rules of simple authorization, never null
+ * @param readiness       The Ready condition
+ * @param resourceVersion The resource version
+ */
+public record UserProjection(String namespace, String name, String cluster, String authentication,
+                             String authorization, List<Acl> acls, Readiness readiness,
+                             String resourceVersion) implements Projection {
+
+    public static UserProjection of(KafkaUser user, StringInterner interner) {
+        var metadata = user.getMetadata();
+        var spec = user.getSpec();
+        String authentication = null;
+        String authorization = null;
+        List<Acl> acls = List.of();
+        if (spec != null) {
+            authentication = spec.getAuthentication() != null ? interner.intern(spec.getAuthentication().getType()) : null;
+            authorization = spec.getAuthorization() != null ? interner.intern(spec.getAuthorization().getType()) : null;
+            if (spec.getAuthorization() instanceof KafkaUserAuthorizationSimple simple && simple.getAcls() != null) {
+                List<Acl> rules = new ArrayList<>(simple.getAcls().size());
+                for (var rule : simple.getAcls()) {
+                    rules.add(Acl.of(rule, interner));
+                }
+                acls = List.copyOf(rules);
+            }
+        }
+        return new UserProjection(
+                interner.intern(metadata.getNamespace()),
+                metadata.getName(),
+                interner.intern(Projections.label(metadata, StrimziLabels.CLUSTER)),
+                authentication,
+                authorization,
+                acls,
+                Readiness.of(user, interner),
+                metadata.getResourceVersion());
+    }
+
+    /**
+     * An ACL rule.
+     *
+     * @param type         ALLOW or DENY
+     * @param resourceType topic, group, cluster or transactionalId
+     * @param resourceName The resource name or prefix, or null for the cluster resource
+     * @param patternType  literal or prefix, or null for the cluster resource
+     * @param operations   The operations
+     * @param host         The host, or null
+     */
+    public record Acl(String type, String resourceType, String resourceName, String patternType,
+                      List<String> operations, String host) {
+
+        static Acl of(AclRule rule, StringInterner interner) {
+            AclRuleResource resource = rule.getResource();
+            String resourceName = null;
+            String patternType = null;
+            if (resource instanceof AclRuleTopicResource topic) {
+                resourceName = topic.getName();
+                patternType = topic.getPatternType() != null ? topic.getPatternType().toValue() : null;
+            } else if (resource instanceof AclRuleGroupResource group) {
+                resourceName = group.getName();
+                patternType = group.getPatternType() != null ? group.getPatternType().toValue() : null;
+            } else if (resource instanceof AclRuleTransactionalIdResource transactionalId) {
+                resourceName = transactionalId.getName();
+                patternType = transactionalId.getPatternType() != null ? transactionalId.getPatternType().toValue() : null;
+            }
+
+            List<String> operations = new ArrayList<>();
+            if (rule.getOperations() != null) {
+                rule.getOperations().forEach(operation -> operations.add(interner.intern(operation.name())));
+            }
+
+            return new Acl(
+                    interner.intern(rule.getType() != null ? rule.getType().name() : "ALLOW"),
+                    resource != null ? interner.intern(resource.getType()) : null,
+                    interner.intern(resourceName),
+                    interner.intern(patternType),
+                    List.copyOf(operations),
+                    interner.intern(rule.getHost()));
+        }
+    }
+}
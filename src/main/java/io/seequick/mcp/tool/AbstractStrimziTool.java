@@ -5,15 +5,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import io.modelcontextprotocol.spec.McpSchema.Tool;
+import io.modelcontextprotocol.spec.McpSchema.ToolAnnotations;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.store.Projection;
+import io.seequick.mcp.store.ProjectionStore;
+import io.seequick.mcp.store.ResourceCache;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class for Strimzi MCP tools providing common functionality.
@@ -22,6 +34,47 @@ public abstract class AbstractStrimziTool implements StrimziTool {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * Argument selecting the kubeconfig context a tool runs against when several contexts are configured.
+     */
+    public static final String CONTEXT_ARG = "context";
+
+    /**
+     * Arguments overriding the server's output budget for one call, and skipping items already received.
+     */
+    public static final String MAX_OUTPUT_BYTES_ARG = "maxOutputBytes";
+    public static final String MAX_OUTPUT_LINES_ARG = "maxOutputLines";
+    public static final String CURSOR_ARG = "cursor";
+
+    /**
+     * Argument selecting the {@link OutputFormat} of a response.
+     */
+    public static final String FORMAT_ARG = "format";
+
+    /**
+     * Argument passing the token of an earlier response, to only get the changes since.
+     */
+    public static final String SINCE_ARG = "since";
+
+    /**
+     * Arguments that change how a response is rendered, not which items it reports.
+     */
+    private static final Set<String> RENDERING_ARGS = Set.of(
+            MAX_OUTPUT_BYTES_ARG, MAX_OUTPUT_LINES_ARG, CURSOR_ARG, FORMAT_ARG, SINCE_ARG);
+
+    /**
+     * Schemas of the format and since arguments, added to the tools supporting them.
+     */
+    private static final Map<String, Object> OUTPUT_FORMAT_ARGUMENT = Map.of(FORMAT_ARG, Map.of(
+            "type", "string",
+            "enum", OutputFormat.NAMES,
+            "description", "Response format: text (default), compact (dense JSON text) or json (structured content)"));
+
+    private static final Map<String, Object> SINCE_ARGUMENT = Map.of(SINCE_ARG, Map.of(
+            "type", "string",
+            "description", "Token from the end of an earlier response with the same arguments: "
+                    + "only report what was added, changed or removed since"));
+
     protected final KubernetesClient kubernetesClient;
 
     protected AbstractStrimziTool(KubernetesClient kubernetesClient) {
@@ -48,6 +101,14 @@ public abstract class AbstractStrimziTool implements StrimziTool {
      */
     protected abstract CallToolResult execute(McpSchema.CallToolRequest args);
 
+    /**
+     * Executes the tool with access to the client exchange (e.g. for progress notifications).
+     * Defaults to {@link #execute(McpSchema.CallToolRequest)}; the exchange may be null.
+     */
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
+        return execute(args);
+    }
+
     /**
      * Parses a JSON schema string into a JsonSchema object.
      */
@@ -77,18 +138,225 @@ public abstract class AbstractStrimziTool implements StrimziTool {
         }
     }
 
+    /**
+     * Returns whether the tool accepts the {@link #CONTEXT_ARG} argument when several contexts are configured.
+     */
+    protected boolean supportsContextArgument() {
+        return true;
+    }
+
+    /**
+     * Returns whether the tool renders its response with {@link #renderer(McpSchema.CallToolRequest)}, which
+     * adds the output budget and cursor arguments.
+     */
+    protected boolean supportsOutputBudget() {
+        return false;
+    }
+
+    /**
+     * Returns whether the tool can respond in the structured formats, which adds the {@link #FORMAT_ARG}
+     * argument. Such tools check {@link #outputFormat(McpSchema.CallToolRequest)} and write their response with
+     * {@link #structured(OutputFormat, JsonWriter)} or a format aware {@link #renderer(McpSchema.CallToolRequest)}.
+     */
+    protected boolean supportsOutputFormat() {
+        return false;
+    }
+
+    /**
+     * Returns whether the tool reports only the changes since the token of an earlier response, which adds
+     * the {@link #SINCE_ARG} argument. Such tools fingerprint their items with
+     * {@link #delta(McpSyncServerExchange, McpSchema.CallToolRequest)}.
+     */
+    protected boolean supportsDelta() {
+        return false;
+    }
+
+    /**
+     * Returns the single resource the result of the call is derived from, for read-only tools whose results
+     * may be kept in the {@link ToolResultCache}, or null (the default) if the result is not to be kept.
+     */
+    protected ToolResultCache.Resource cachedResource(McpSchema.CallToolRequest args) {
+        return null;
+    }
+
     @Override
     public McpServerFeatures.SyncToolSpecification getSpecification() {
+        Optional<KubernetesClientPool> pool = KubernetesClientPool.of(kubernetesClient)
+                .filter(p -> p.getContexts().size() > 1 && supportsContextArgument());
+        Map<String, Object> added = new LinkedHashMap<>();
+        if (supportsOutputBudget()) {
+            added.putAll(outputBudgetArguments());
+        }
+        if (supportsOutputFormat()) {
+            added.putAll(OUTPUT_FORMAT_ARGUMENT);
+        }
+        if (supportsDelta()) {
+            added.putAll(SINCE_ARGUMENT);
+        }
+        pool.ifPresent(p -> added.putAll(contextArgument(p)));
         return new McpServerFeatures.SyncToolSpecification.Builder()
             .tool(Tool.builder()
                 .name(getName())
                 .description(getDescription())
-                .inputSchema(getInputSchema())
+                .inputSchema(added.isEmpty() ? getInputSchema() : withProperties(getInputSchema(), added))
+                .annotations(new ToolAnnotations(null, isReadOnly(), null, null, null, null))
                 .build())
-            .callHandler((exchange, args) -> execute(args))
+            .callHandler(pool.isPresent() ? (exchange, args) -> executeInContext(pool.get(), exchange, args) : this::call)
             .build();
     }
 
+    private CallToolResult executeInContext(KubernetesClientPool pool, McpSyncServerExchange exchange,
+                                            McpSchema.CallToolRequest args) {
+        String context = getStringArg(args, CONTEXT_ARG);
+        if (context != null && !pool.hasContext(context)) {
+            return error("Unknown context: " + context + ". Available: " + String.join(", ", pool.getContexts()));
+        }
+        return pool.call(context, () -> call(exchange, args));
+    }
+
+    /**
+     * Handles a call of the tool: executes it, through the {@link ToolResultCache} when
+     * {@link #cachedResource(McpSchema.CallToolRequest)} names a resource.
+     */
+    protected CallToolResult call(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
+        return call(args, cachedResource(args), () -> execute(exchange, args));
+    }
+
+    /**
+     * Runs the execution, or returns the result kept for the same arguments while the resource is unchanged.
+     *
+     * @param resource The resource the result is derived from, or null to always execute
+     */
+    protected final CallToolResult call(McpSchema.CallToolRequest args, ToolResultCache.Resource resource,
+                                        Supplier<CallToolResult> execution) {
+        if (resource == null || resource.namespace() == null || resource.name() == null) {
+            return execution.get();
+        }
+        // The context is implied by the client
+        Map<String, Object> arguments = new TreeMap<>();
+        if (args != null && args.arguments() != null) {
+            args.arguments().forEach((key, value) -> {
+                if (!CONTEXT_ARG.equals(key) && value != null) {
+                    arguments.put(key, value);
+                }
+            });
+        }
+        KubernetesClient client = KubernetesClientPool.resolve(kubernetesClient);
+        return ToolResultCache.shared().call(client, getName(), arguments.toString(), resource,
+                () -> resourceVersion(client, resource), execution);
+    }
+
+    /**
+     * Returns the current resourceVersion of a resource, from the resource cache when it holds the kind,
+     * otherwise with a metadata-only get, or null if it is not found or the get failed (the tool then
+     * executes and reports the failure).
+     */
+    private static String resourceVersion(KubernetesClient client, ToolResultCache.Resource resource) {
+        ResourceCache cache = ResourceCache.shared();
+        Optional<? extends ProjectionStore<?, ?>> store = switch (resource.kind()) {
+            case KAFKA_TOPIC -> cache.topics(client);
+            case KAFKA_USER -> cache.users(client);
+            default -> Optional.empty();
+        };
+        if (store.isPresent() && cache.isRevalidated()) {
+            Projection projection = store.get().get(resource.namespace(), resource.name());
+            if (projection != null) {
+                return projection.resourceVersion();
+            }
+        }
+        try {
+            return resource.kind().repository(client).getResourceVersion(resource.namespace(), resource.name());
+        } catch (KubernetesClientException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the schema with the properties added, after the tool's own.
+     */
+    private static JsonSchema withProperties(JsonSchema schema, Map<String, Object> added) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (schema.properties() != null) {
+            properties.putAll(schema.properties());
+        }
+        properties.putAll(added);
+        return new JsonSchema(schema.type(), properties, schema.required(), schema.additionalProperties(),
+                schema.defs(), schema.definitions());
+    }
+
+    private static Map<String, Object> contextArgument(KubernetesClientPool pool) {
+        return Map.of(CONTEXT_ARG, Map.of(
+                "type", "string",
+                "enum", pool.getContexts(),
+                "description", "Kubernetes context to run against (default: " + pool.getDefaultContext() + ")"));
+    }
+
+    private static Map<String, Object> outputBudgetArguments() {
+        OutputBudget budget = OutputBudget.serverDefault();
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put(MAX_OUTPUT_BYTES_ARG, Map.of(
+                "type", "integer",
+                "description", "Maximum bytes of listed items (default: "
+                        + (budget.maxBytes() > 0 ? budget.maxBytes() : "unlimited") + ", 0 for unlimited)"));
+        arguments.put(MAX_OUTPUT_LINES_ARG, Map.of(
+                "type", "integer",
+                "description", "Maximum lines of listed items (default: "
+                        + (budget.maxLines() > 0 ? budget.maxLines() : "unlimited") + ", 0 for unlimited)"));
+        arguments.put(CURSOR_ARG, Map.of(
+                "type", "integer",
+                "description", "Number of items to skip, as given in the footer of a truncated response"));
+        return arguments;
+    }
+
+    /**
+     * Starts the fingerprint of the call's items, compared with the one of its {@link #SINCE_ARG} token. Tokens
+     * are kept per session of the exchange (which may be null) and per context the items are listed from.
+     */
+    protected DeltaTracker.Delta delta(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
+        Map<String, Object> selection = new TreeMap<>();
+        if (args != null && args.arguments() != null) {
+            args.arguments().forEach((key, value) -> {
+                // The context is implied by the client
+                if (!RENDERING_ARGS.contains(key) && !CONTEXT_ARG.equals(key) && value != null) {
+                    selection.put(key, value);
+                }
+            });
+        }
+        String session = exchange != null && exchange.sessionId() != null ? exchange.sessionId() : "";
+        String context = KubernetesClientPool.of(kubernetesClient).map(KubernetesClientPool::currentContext)
+                .orElse(null);
+        return DeltaTracker.shared().start(session, context, getName() + selection, getStringArg(args, SINCE_ARG));
+    }
+
+    /**
+     * Creates a renderer with the output budget, cursor and format of the call.
+     */
+    protected ResponseRenderer renderer(McpSchema.CallToolRequest args) {
+        OutputBudget budget = OutputBudget.serverDefault().withOverrides(
+                getOptionalIntArg(args, MAX_OUTPUT_BYTES_ARG), getOptionalIntArg(args, MAX_OUTPUT_LINES_ARG));
+        return new ResponseRenderer(budget, getIntArg(args, CURSOR_ARG, 0), outputFormat(args));
+    }
+
+    /**
+     * Returns the format requested by the call, {@link OutputFormat#TEXT} for tools without structured output.
+     */
+    protected OutputFormat outputFormat(McpSchema.CallToolRequest args) {
+        if (!supportsOutputFormat() || args == null || args.arguments() == null) {
+            return OutputFormat.TEXT;
+        }
+        return OutputFormat.of(args.arguments().get(FORMAT_ARG), FORMAT_ARG);
+    }
+
+    /**
+     * Creates a successful result in a structured format.
+     *
+     * @param format The format, {@link OutputFormat#COMPACT} or {@link OutputFormat#JSON}
+     * @param writer Writes the response object
+     */
+    protected CallToolResult structured(OutputFormat format, JsonWriter writer) {
+        return StructuredOutput.write(format, writer);
+    }
+
     /**
      * Creates a successful result with the given text content.
      */
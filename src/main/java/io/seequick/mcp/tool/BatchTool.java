@@ -0,0 +1,219 @@
+package io.seequick.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.seequick.mcp.tool.FanOut.Outcome;
+import io.seequick.mcp.tool.FanOut.Status;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import io.seequick.mcp.tool.args.ToolArguments;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs several calls of read-only tools in one request. The calls are executed concurrently, at most
+ * {@code concurrency} at a time, through the specifications of the tools, so they behave exactly as if they
+ * were called one by one (contexts, caches and argument checks included). The results are reported in the
+ * order of the calls, each with its status and duration.
+ */
+public class BatchTool extends TypedStrimziTool<BatchTool.Arguments> {
+
+    private static final int MAX_CALLS = 100;
+    private static final int MAX_CONCURRENCY = 32;
+    private static final int MAX_TIMEOUT_SECONDS = 300;
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Calls of read-only tools (those with the readOnlyHint annotation), at most 100, each an "
+                    + "object with the name of the tool and its arguments: {\"tool\": ..., \"arguments\": {...}}",
+                    required = true) List<Map<String, Object>> calls,
+            @Arg(value = "Calls executed at the same time (default: 8, max: 32)", defaultValue = "8") int concurrency,
+            @Arg(value = "Timeout of the whole batch in seconds (default: 60, max: 300)", defaultValue = "60")
+            int timeoutSeconds) {
+    }
+
+    private final List<? extends StrimziTool> tools;
+    private volatile Map<String, BatchableTool> batchableTools;
+
+    public BatchTool(KubernetesClient kubernetesClient, List<? extends StrimziTool> tools) {
+        super(kubernetesClient, BatchToolArgumentsBinder.INSTANCE);
+        this.tools = List.copyOf(tools);
+    }
+
+    @Override
+    protected String getName() {
+        return "batch";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Run several read-only tool calls concurrently in one request, e.g. describe_topic for many topics; "
+                + "results are returned in order with their status and duration";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsContextArgument() {
+        // Calls run on threads of their own and pass their own context
+        return false;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected CallToolResult execute(Arguments args) {
+        return execute(null, null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                     Arguments args) {
+        List<Map<String, Object>> entries = args.calls();
+        if (entries.isEmpty()) {
+            return error("Invalid argument calls: expected a non-empty array of {tool, arguments}");
+        }
+        if (entries.size() > MAX_CALLS) {
+            return error("Invalid argument calls: at most " + MAX_CALLS + " calls per batch, got " + entries.size());
+        }
+        OutputFormat format;
+        try {
+            format = outputFormat(request);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+        int concurrency = Math.max(1, Math.min(args.concurrency(), MAX_CONCURRENCY));
+        int timeoutSeconds = Math.max(1, Math.min(args.timeoutSeconds(), MAX_TIMEOUT_SECONDS));
+
+        List<Call> calls = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            calls.add(parse(i + 1, entries.get(i)));
+        }
+
+        try (FanOut<Call> fanOut = new FanOut<>(
+                Executors.newFixedThreadPool(concurrency, Thread.ofVirtual().name("batch-", 0).factory()),
+                timeoutSeconds, "No response within " + timeoutSeconds + "s of the batch")) {
+            for (Call call : calls) {
+                if (call.invalid() != null) {
+                    fanOut.reject(call, call.invalid());
+                } else {
+                    fanOut.submit(call, () -> call.specification().callHandler()
+                            .apply(null, new McpSchema.CallToolRequest(call.tool(), call.arguments())));
+                }
+            }
+            List<Outcome<Call>> outcomes = fanOut.await();
+            long elapsedNanos = fanOut.elapsedNanos();
+            return format.isStructured() ? structured(format, json -> write(json, outcomes, elapsedNanos))
+                    : format(outcomes, elapsedNanos);
+        }
+    }
+
+    private Call parse(int index, Map<String, Object> entry) {
+        if (!(entry.get("tool") instanceof String tool)) {
+            return new Call(index, String.valueOf(entry), Map.of(), null, "Invalid call: expected {tool, arguments}");
+        }
+        Map<String, Object> callArguments = new LinkedHashMap<>();
+        Object arguments = entry.get("arguments");
+        if (arguments != null) {
+            if (!(arguments instanceof Map<?, ?> map)) {
+                return new Call(index, tool, Map.of(), null, "Invalid call: arguments must be an object");
+            }
+            for (Map.Entry<?, ?> argument : map.entrySet()) {
+                if (!(argument.getKey() instanceof String name)) {
+                    return new Call(index, tool, Map.of(), null, "Invalid call: argument names must be strings");
+                }
+                callArguments.put(name, argument.getValue());
+            }
+        }
+        BatchableTool batchable = batchableTools().get(tool);
+        if (batchable == null) {
+            return new Call(index, tool, callArguments, null, "Unknown tool: " + tool);
+        }
+        // Writes are left out of batches, so that a batch can be retried and its calls can run in any order
+        if (!batchable.readOnly()) {
+            return new Call(index, tool, callArguments, null, "Tool " + tool + " is not read-only and cannot be batched");
+        }
+        return new Call(index, tool, callArguments, batchable.specification(), null);
+    }
+
+    private Map<String, BatchableTool> batchableTools() {
+        Map<String, BatchableTool> result = batchableTools;
+        if (result == null) {
+            result = new LinkedHashMap<>();
+            for (StrimziTool tool : tools) {
+                SyncToolSpecification specification = tool.getSpecification();
+                result.put(specification.tool().name(), new BatchableTool(specification, tool.isReadOnly()));
+            }
+            batchableTools = result;
+        }
+        return result;
+    }
+
+    private CallToolResult format(List<Outcome<Call>> outcomes, long elapsedNanos) {
+        Map<Status, Long> counts = FanOut.counts(outcomes);
+        StringBuilder result = FanOut.report("Batch of " + outcomes.size() + " call(s): "
+                + counts.getOrDefault(Status.OK, 0L) + " succeeded, "
+                + counts.getOrDefault(Status.FAILED, 0L) + " failed, "
+                + counts.getOrDefault(Status.TIMED_OUT, 0L) + " timed out (" + FanOut.seconds(elapsedNanos) + ")");
+
+        for (Outcome<Call> outcome : outcomes) {
+            Call call = outcome.key();
+            FanOut.append(result, "[" + call.index() + "] " + call.tool() + " " + new TreeMap<>(call.arguments()),
+                    outcome);
+        }
+
+        if (counts.getOrDefault(Status.OK, 0L) == 0) {
+            return error(result.toString());
+        }
+        return success(result.toString());
+    }
+
+    private static void write(JsonGenerator json, List<Outcome<Call>> outcomes, long elapsedNanos) throws IOException {
+        Map<Status, Long> counts = FanOut.counts(outcomes);
+        json.writeStartObject();
+        json.writeArrayFieldStart("results");
+        for (Outcome<Call> outcome : outcomes) {
+            json.writeStartObject();
+            json.writeNumberField("index", outcome.key().index());
+            json.writeStringField("tool", outcome.key().tool());
+            json.writeStringField("status", outcome.status().name().toLowerCase(Locale.ROOT));
+            json.writeNumberField("elapsedMs", TimeUnit.NANOSECONDS.toMillis(outcome.elapsedNanos()));
+            json.writeStringField(outcome.status() == Status.OK ? "text" : "error", outcome.text());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeNumberField("succeeded", counts.getOrDefault(Status.OK, 0L));
+        json.writeNumberField("failed", counts.getOrDefault(Status.FAILED, 0L));
+        json.writeNumberField("timedOut", counts.getOrDefault(Status.TIMED_OUT, 0L));
+        json.writeNumberField("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        json.writeEndObject();
+    }
+
+    private record BatchableTool(SyncToolSpecification specification, boolean readOnly) {
+    }
+
+    /**
+     * One call of the batch; {@code invalid} holds the reason it is not executed.
+     */
+    private record Call(int index, String tool, Map<String, Object> arguments, SyncToolSpecification specification,
+                        String invalid) {
+    }
+}
@@ -0,0 +1,253 @@
+package io.seequick.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Fingerprints of what list calls returned, so that a later identical call passing the returned token only
+ * reports the items added, changed or removed since.
+ * <p>
+ * A fingerprint maps the key of each item (e.g. namespace/name) to its version (the resourceVersion, or a hash
+ * of computed output). The token is a hash of the call and the fingerprint, so identical listings get the same
+ * token and a call that finds nothing changed returns the token it was given. Fingerprints are immutable, so a
+ * token can be passed again together with a cursor to continue a truncated delta.
+ * <p>
+ * Fingerprints are kept per MCP session and per Kubernetes context, so a token is only known to the session and
+ * context it was returned to: a fleet-wide call passing one token to every context gets the changes from the
+ * context that returned it and the full listing from the others. Each session keeps its least recently used
+ * fingerprints up to the limit, and the least recently active sessions beyond their own limit are dropped; a
+ * call with a dropped token gets the full listing.
+ */
+public class DeltaTracker {
+
+    static final int DEFAULT_MAX_FINGERPRINTS = 32;
+    static final int DEFAULT_MAX_SESSIONS = 16;
+
+    private static final DeltaTracker SHARED = new DeltaTracker(DEFAULT_MAX_FINGERPRINTS, DEFAULT_MAX_SESSIONS);
+
+    private final int maxFingerprints;
+    private final Map<String, Map<String, Fingerprint>> sessions;
+
+    public DeltaTracker(int maxFingerprints, int maxSessions) {
+        this.maxFingerprints = maxFingerprints;
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Fingerprint>> eldest) {
+                return size() > maxSessions;
+            }
+        };
+    }
+
+    /**
+     * Returns the tracker shared by all tools.
+     */
+    public static DeltaTracker shared() {
+        return SHARED;
+    }
+
+    /**
+     * Starts collecting the fingerprint of a call.
+     *
+     * @param session The MCP session of the call
+     * @param context The Kubernetes context the items are listed from, or null with a single cluster
+     * @param call    Identity of the call: the tool and the arguments selecting the items
+     * @param since   The token returned by an earlier identical call, or null for a full listing
+     * @throws InvalidArgumentException if the token was returned by a different call
+     */
+    public Delta start(String session, String context, String call, String since) {
+        Map<String, Fingerprint> fingerprints = fingerprints(session);
+        String scope = context != null ? context + "/" : "";
+        Fingerprint previous;
+        synchronized (fingerprints) {
+            previous = since != null ? fingerprints.get(scope + since) : null;
+        }
+        if (previous != null && !previous.call.equals(call)) {
+            throw new InvalidArgumentException("Invalid argument since: the token was returned for other arguments");
+        }
+        return new Delta(fingerprints, scope, call, since, previous);
+    }
+
+    int size(String session) {
+        Map<String, Fingerprint> fingerprints = fingerprints(session);
+        synchronized (fingerprints) {
+            return fingerprints.size();
+        }
+    }
+
+    int sessions() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    private Map<String, Fingerprint> fingerprints(String session) {
+        synchronized (sessions) {
+            return sessions.computeIfAbsent(session, key -> new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Fingerprint> eldest) {
+                    return size() > maxFingerprints;
+                }
+            });
+        }
+    }
+
+    /**
+     * The finalizer of SplitMix64, spreading the bits of each item over the whole hash.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private record Fingerprint(String call, Map<String, String> versions) {
+    }
+
+    /**
+     * The items of one call, compared with the fingerprint of the token it passed.
+     */
+    public static final class Delta {
+
+        private final Map<String, Fingerprint> fingerprints;
+        private final String scope;
+        private final String call;
+        private final String since;
+        private final Fingerprint previous;
+        private final Map<String, String> versions = new HashMap<>();
+        private int changed;
+        private long hash;
+        private String token;
+
+        private Delta(Map<String, Fingerprint> fingerprints, String scope, String call, String since,
+                      Fingerprint previous) {
+            this.fingerprints = fingerprints;
+            this.scope = scope;
+            this.call = call;
+            this.since = since;
+            this.previous = previous;
+            this.hash = call.hashCode();
+        }
+
+        /**
+         * Returns whether only changes are reported, i.e. the call passed a known token.
+         */
+        public boolean isDelta() {
+            return previous != null;
+        }
+
+        /**
+         * Returns whether the call passed a token that is no longer known, so the full listing is reported.
+         */
+        public boolean isExpired() {
+            return since != null && previous == null;
+        }
+
+        /**
+         * Adds an item to the fingerprint.
+         *
+         * @param key     The key of the item
+         * @param version The version of the item
+         * @return Whether the item is to be reported: always for a full listing, otherwise if it was added or
+         * its version changed
+         */
+        public boolean changed(String key, String version) {
+            if (versions.put(key, version) == null) {
+                // Independent of the order of the items
+                hash += mix(key.hashCode() * 31L + Objects.hashCode(version));
+            }
+            if (previous != null && Objects.equals(previous.versions.get(key), version)) {
+                return false;
+            }
+            changed++;
+            return true;
+        }
+
+        /**
+         * Returns the number of items added to the fingerprint.
+         */
+        public int total() {
+            return versions.size();
+        }
+
+        /**
+         * Returns the keys of the items the previous fingerprint had and this one has not, sorted.
+         */
+        public List<String> removed() {
+            if (previous == null) {
+                return List.of();
+            }
+            List<String> removed = new ArrayList<>();
+            for (String key : previous.versions.keySet()) {
+                if (!versions.containsKey(key)) {
+                    removed.add(key);
+                }
+            }
+            Collections.sort(removed);
+            return removed;
+        }
+
+        /**
+         * Stores the fingerprint, once all items have been added, and returns its token.
+         */
+        public String token() {
+            if (token == null) {
+                token = Long.toString(mix(hash) & Long.MAX_VALUE, 36);
+                synchronized (fingerprints) {
+                    fingerprints.put(scope + token, new Fingerprint(call, Map.copyOf(versions)));
+                }
+            }
+            return token;
+        }
+
+        /**
+         * Returns the summary of the changes, e.g. ", 2 added or changed and 1 removed since abc", or an empty
+         * string for a full listing.
+         */
+        public String describeChanges() {
+            if (previous != null) {
+                return ", " + changed + " added or changed and " + removed().size() + " removed since " + since;
+            }
+            return isExpired() ? " (token " + since + " expired, full listing)" : "";
+        }
+
+        /**
+         * Returns the removed items and the token to pass next, to be appended to a text response.
+         */
+        public String footer() {
+            StringBuilder footer = new StringBuilder();
+            List<String> removed = removed();
+            if (!removed.isEmpty()) {
+                footer.append("\nRemoved:\n");
+                removed.forEach(key -> footer.append("- ").append(key).append("\n"));
+            }
+            footer.append("\nPass since=").append(token()).append(" to get only the changes after this response.\n");
+            return footer.toString();
+        }
+
+        /**
+         * Writes the {@code total}, {@code since}, {@code removed} and {@code token} fields of a structured
+         * response.
+         */
+        public void write(JsonGenerator json) throws IOException {
+            json.writeNumberField("total", total());
+            if (previous != null) {
+                json.writeStringField("since", since);
+                json.writeArrayFieldStart("removed");
+                for (String key : removed()) {
+                    json.writeString(key);
+                }
+                json.writeEndArray();
+            }
+            json.writeStringField("token", token());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.seequick.mcp.tool;
+
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Tool calls run concurrently and awaited against one deadline, for the tools that fan a request out to
+ * several calls. The outcomes are returned in the order the calls were added; a call still running at the
+ * deadline is cancelled and reported as timed out. Also holds the framing of the text reports, so that all
+ * fan-out tools read alike.
+ *
+ * @param <K> What identifies a call in the report
+ */
+final class FanOut<K> implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final long timeoutNanos;
+    private final String timeoutText;
+    private final long start = System.nanoTime();
+    private final List<K> keys = new ArrayList<>();
+    private final List<Future<Outcome<K>>> futures = new ArrayList<>();
+
+    /**
+     * @param executor       Runs the calls, shut down on {@link #close()}
+     * @param timeoutSeconds Time from now after which the calls still running are cancelled
+     * @param timeoutText    The text reported for a cancelled call
+     */
+    FanOut(ExecutorService executor, int timeoutSeconds, String timeoutText) {
+        this.executor = executor;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.timeoutText = timeoutText;
+    }
+
+    void submit(K key, Supplier<CallToolResult> call) {
+        keys.add(key);
+        futures.add(executor.submit(() -> {
+            long callStart = System.nanoTime();
+            CallToolResult result = call.get();
+            boolean failed = Boolean.TRUE.equals(result.isError());
+            return new Outcome<>(key, failed ? Status.FAILED : Status.OK, text(result), System.nanoTime() - callStart);
+        }));
+    }
+
+    /**
+     * Adds a call that is not executed, reported as failed for the given reason.
+     */
+    void reject(K key, String reason) {
+        keys.add(key);
+        futures.add(CompletableFuture.completedFuture(new Outcome<>(key, Status.FAILED, reason, 0)));
+    }
+
+    List<Outcome<K>> await() {
+        long deadline = start + timeoutNanos;
+        List<Outcome<K>> outcomes = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            outcomes.add(await(keys.get(i), futures.get(i), deadline));
+        }
+        return outcomes;
+    }
+
+    private Outcome<K> await(K key, Future<Outcome<K>> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return new Outcome<>(key, Status.TIMED_OUT, timeoutText, timeoutNanos);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return new Outcome<>(key, Status.FAILED, "Error: " + cause.getMessage(), 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new Outcome<>(key, Status.FAILED, "Interrupted", 0);
+        }
+    }
+
+    /**
+     * Returns the time since the fan-out was created.
+     */
+    long elapsedNanos() {
+        return System.nanoTime() - start;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    static Map<Status, Long> counts(List<? extends Outcome<?>> outcomes) {
+        return outcomes.stream().collect(Collectors.groupingBy(Outcome::status, Collectors.counting()));
+    }
+
+    /**
+     * Starts a text report with its title line.
+     */
+    static StringBuilder report(String title) {
+        return new StringBuilder(title).append("\n").append("═".repeat(60)).append("\n\n");
+    }
+
+    /**
+     * Appends the outcome of one call to a text report, under the given heading.
+     */
+    static void append(StringBuilder report, String heading, Outcome<?> outcome) {
+        report.append(heading).append(" [").append(outcome.status().label).append("]");
+        if (outcome.elapsedNanos() > 0) {
+            report.append(" (").append(seconds(outcome.elapsedNanos())).append(")");
+        }
+        report.append("\n");
+        section(report, null);
+        outcome.text().lines().forEach(line -> report.append("  ").append(line).append("\n"));
+        report.append("\n");
+    }
+
+    /**
+     * Appends the rule opening a section of a text report, preceded by its title unless null.
+     */
+    static void section(StringBuilder report, String title) {
+        if (title != null) {
+            report.append(title).append("\n");
+        }
+        report.append("─".repeat(40)).append("\n");
+    }
+
+    static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000.0);
+    }
+
+    private static String text(CallToolResult result) {
+        return result.content().stream()
+                .filter(TextContent.class::isInstance)
+                .map(c -> ((TextContent) c).text())
+                .collect(Collectors.joining("\n"));
+    }
+
+    enum Status {
+        OK("OK"),
+        FAILED("FAILED"),
+        TIMED_OUT("TIMED OUT");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+    }
+
+    record Outcome<K>(K key, Status status, String text, long elapsedNanos) {
+    }
+}
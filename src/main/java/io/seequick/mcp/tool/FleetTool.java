@@ -0,0 +1,138 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.tool.FanOut.Outcome;
+import io.seequick.mcp.tool.FanOut.Status;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+/**
+ * Fleet-wide variant of a tool: runs the wrapped tool against every configured Kubernetes context
+ * concurrently and merges the results. Each context gets its own timeout, so a slow or unreachable
+ * cluster does not delay the others.
+ */
+public class FleetTool extends AbstractStrimziTool {
+
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+    private static final int MAX_TIMEOUT_SECONDS = 300;
+
+    private final AbstractStrimziTool delegate;
+    private final String name;
+    private final String description;
+
+    public FleetTool(KubernetesClient kubernetesClient, AbstractStrimziTool delegate, String name, String description) {
+        super(kubernetesClient);
+        this.delegate = delegate;
+        this.name = name;
+        this.description = description;
+    }
+
+    @Override
+    protected String getName() {
+        return name;
+    }
+
+    @Override
+    protected String getDescription() {
+        return description;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return delegate.isReadOnly();
+    }
+
+    @Override
+    protected boolean supportsContextArgument() {
+        return false;
+    }
+
+    @Override
+    protected JsonSchema getInputSchema() {
+        JsonSchema schema = delegate.getInputSchema();
+        Map<String, Object> properties = new LinkedHashMap<>();
+        if (schema.properties() != null) {
+            properties.putAll(schema.properties());
+        }
+        properties.put("contexts", Map.of(
+                "type", "array",
+                "items", Map.of("type", "string"),
+                "description", "Kubernetes contexts to query (default: all configured contexts)"));
+        properties.put("timeoutSeconds", Map.of(
+                "type", "integer",
+                "description", "Timeout per context in seconds (default: " + DEFAULT_TIMEOUT_SECONDS
+                        + ", max: " + MAX_TIMEOUT_SECONDS + ")"));
+        return new JsonSchema(schema.type(), properties, schema.required(), schema.additionalProperties(),
+                schema.defs(), schema.definitions());
+    }
+
+    @Override
+    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
+        Optional<KubernetesClientPool> pool = KubernetesClientPool.of(kubernetesClient);
+        List<String> available = pool.map(KubernetesClientPool::getContexts).orElse(List.of("current"));
+
+        List<String> contexts = args.arguments() != null && args.arguments().get("contexts") instanceof List<?> list
+                ? (List<String>) list
+                : available;
+        List<String> unknown = contexts.stream().filter(c -> !available.contains(c)).toList();
+        if (!unknown.isEmpty()) {
+            return error("Unknown context(s): " + String.join(", ", unknown)
+                    + ". Available: " + String.join(", ", available));
+        }
+        if (contexts.isEmpty()) {
+            return error("No contexts to query");
+        }
+        int timeoutSeconds = Math.max(1, Math.min(getIntArg(args, "timeoutSeconds", DEFAULT_TIMEOUT_SECONDS),
+                MAX_TIMEOUT_SECONDS));
+
+        Map<String, Object> delegateArgs = new HashMap<>(args.arguments() != null ? args.arguments() : Map.of());
+        delegateArgs.remove("contexts");
+        delegateArgs.remove("timeoutSeconds");
+        McpSchema.CallToolRequest request = new McpSchema.CallToolRequest(delegate.getName(), delegateArgs);
+
+        try (FanOut<String> fanOut = new FanOut<>(Executors.newVirtualThreadPerTaskExecutor(), timeoutSeconds,
+                "No response within " + timeoutSeconds + "s")) {
+            for (String context : contexts) {
+                fanOut.submit(context, () -> pool.isPresent()
+                        ? pool.get().call(context, () -> delegate.execute(exchange, request))
+                        : delegate.execute(exchange, request));
+            }
+            return format(fanOut.await());
+        }
+    }
+
+    private CallToolResult format(List<Outcome<String>> outcomes) {
+        StringBuilder result = FanOut.report("Fleet " + delegate.getName() + " across " + outcomes.size()
+                + " context(s)");
+        for (Outcome<String> outcome : outcomes) {
+            FanOut.append(result, "CONTEXT: " + outcome.key(), outcome);
+        }
+
+        Map<Status, Long> counts = FanOut.counts(outcomes);
+        FanOut.section(result, "SUMMARY");
+        result.append("  Succeeded: ").append(counts.getOrDefault(Status.OK, 0L)).append("/").append(outcomes.size()).append("\n");
+        result.append("  Failed: ").append(counts.getOrDefault(Status.FAILED, 0L)).append("\n");
+        result.append("  Timed out: ").append(counts.getOrDefault(Status.TIMED_OUT, 0L)).append("\n");
+
+        if (counts.getOrDefault(Status.OK, 0L) == 0) {
+            return error(result.toString());
+        }
+        return success(result.toString());
+    }
+}
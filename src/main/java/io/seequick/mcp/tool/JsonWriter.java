@@ -0,0 +1,14 @@
+package io.seequick.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Writes part of a structured tool response.
+ */
+@FunctionalInterface
+public interface JsonWriter {
+
+    void write(JsonGenerator json) throws IOException;
+}
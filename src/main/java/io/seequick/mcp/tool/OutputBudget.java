@@ -0,0 +1,44 @@
+package io.seequick.mcp.tool;
+
+/**
+ * Limits on the text a tool renders for one call. A limit of zero or less means unlimited.
+ *
+ * @param maxBytes Maximum UTF-8 bytes of the rendered items
+ * @param maxLines Maximum lines of the rendered items
+ */
+public record OutputBudget(long maxBytes, long maxLines) {
+
+    /**
+     * Default byte budget: large responses are truncated by most clients anyway.
+     */
+    public static final long DEFAULT_MAX_BYTES = 64 * 1024;
+
+    public static final OutputBudget UNLIMITED = new OutputBudget(0, 0);
+
+    private static volatile OutputBudget serverDefault = new OutputBudget(DEFAULT_MAX_BYTES, 0);
+
+    /**
+     * Returns the budget of calls that do not set one.
+     */
+    public static OutputBudget serverDefault() {
+        return serverDefault;
+    }
+
+    public static void setServerDefault(OutputBudget budget) {
+        serverDefault = budget;
+    }
+
+    /**
+     * Returns this budget with the limits given for a call.
+     *
+     * @param maxBytes The byte limit of the call, or null to keep this one
+     * @param maxLines The line limit of the call, or null to keep this one
+     */
+    public OutputBudget withOverrides(Integer maxBytes, Integer maxLines) {
+        return new OutputBudget(maxBytes != null ? maxBytes : this.maxBytes, maxLines != null ? maxLines : this.maxLines);
+    }
+
+    boolean allows(long bytes, long lines) {
+        return (maxBytes <= 0 || bytes <= maxBytes) && (maxLines <= 0 || lines <= maxLines);
+    }
+}
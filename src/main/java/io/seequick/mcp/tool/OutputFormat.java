@@ -0,0 +1,48 @@
+package io.seequick.mcp.tool;
+
+import io.seequick.mcp.tool.args.ArgumentValues;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Format of a tool response.
+ */
+public enum OutputFormat {
+
+    /**
+     * Decorated text for people (the default).
+     */
+    TEXT,
+
+    /**
+     * Dense single-line JSON as the text content, for clients passing the response to a model.
+     */
+    COMPACT,
+
+    /**
+     * The same JSON as MCP structured content, for automation, mirrored as text content as the MCP
+     * specification recommends.
+     */
+    JSON;
+
+    static final List<String> NAMES = List.of("text", "compact", "json");
+
+    /**
+     * Returns the format with the given name, ignoring case.
+     *
+     * @param value The name, or null for {@link #TEXT}
+     * @param name  The name of the argument, for the error message
+     * @throws io.seequick.mcp.tool.args.InvalidArgumentException if the name is not one of {@link #NAMES}
+     */
+    public static OutputFormat of(Object value, String name) {
+        if (value == null) {
+            return TEXT;
+        }
+        return valueOf(ArgumentValues.asOneOf(value, name, NAMES).toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isStructured() {
+        return this != TEXT;
+    }
+}
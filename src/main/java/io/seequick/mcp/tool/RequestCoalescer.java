@@ -0,0 +1,200 @@
+package io.seequick.mcp.tool;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer for Kubernetes reads.
+ * <p>
+ * Identical reads (same client, kind, namespace, selector and name) that are in flight at the same time
+ * are merged into one API call whose result is shared by all callers. Optionally, results are kept in a
+ * short-lived micro-cache so bursts of identical reads that arrive just after each other are served
+ * without another API call. Results are shared, so callers must not modify them.
+ */
+public class RequestCoalescer {
+
+    private static final RequestCoalescer SHARED = new RequestCoalescer(Duration.ZERO);
+
+    private static final int MAX_CACHE_ENTRIES = 1024;
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, CachedValue> cache = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder apiCalls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private volatile long cacheTtlNanos;
+
+    public RequestCoalescer(Duration cacheTtl) {
+        setCacheTtl(cacheTtl);
+    }
+
+    /**
+     * Returns the coalescer shared by all repositories.
+     */
+    public static RequestCoalescer shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sets how long results are kept in the micro-cache. Zero disables caching; in-flight
+     * requests are always coalesced.
+     */
+    public void setCacheTtl(Duration cacheTtl) {
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        if (cacheTtlNanos <= 0) {
+            cache.clear();
+        }
+    }
+
+    public Duration getCacheTtl() {
+        return Duration.ofNanos(cacheTtlNanos);
+    }
+
+    /**
+     * Executes the read, or joins an identical read that is already in flight.
+     *
+     * @param key    Identity of the read
+     * @param loader Performs the API call
+     * @return The (possibly shared) result
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(Key key, Supplier<V> loader) {
+        requests.increment();
+
+        if (cacheTtlNanos > 0) {
+            CachedValue cached = cache.get(key);
+            if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+                cacheHits.increment();
+                return (V) cached.value;
+            }
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return (V) join(existing);
+        }
+
+        try {
+            apiCalls.increment();
+            V value = loader.get();
+            if (cacheTtlNanos > 0) {
+                store(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Drops cached results for the kind in the namespace, including all-namespace reads.
+     * Called after writes so subsequent reads observe them.
+     */
+    public void invalidate(Object client, String kind, String namespace) {
+        cache.keySet().removeIf(key -> key.client == client
+                && key.kind.equals(kind)
+                && (key.namespace == null || namespace == null || key.namespace.equals(namespace)));
+    }
+
+    /**
+     * Drops cached results a write may have changed, for every client: the lists of the kind in the namespace
+     * (including all-namespace lists) and the reads of the written resource. Registered as a
+     * {@link io.seequick.mcp.client.WriteTrackingInterceptor.Listener}, so writes made outside the repositories
+     * (edits, patches, status updates) are observed too.
+     *
+     * @param kind      The resource (plural) written
+     * @param namespace The namespace, or null for all namespaces
+     * @param name      The name, or null for all resources of the namespace
+     */
+    public void invalidate(String kind, String namespace, String name) {
+        cache.keySet().removeIf(key -> key.kind.equals(kind)
+                && (key.namespace == null || namespace == null || key.namespace.equals(namespace))
+                && (key.name == null || name == null || key.name.equals(name)));
+    }
+
+    /**
+     * Returns a snapshot of the counters.
+     */
+    public Stats stats() {
+        return new Stats(requests.sum(), apiCalls.sum(), coalesced.sum(), cacheHits.sum(), cache.size());
+    }
+
+    private void store(Key key, Object value) {
+        if (cache.size() >= MAX_CACHE_ENTRIES) {
+            long now = System.nanoTime();
+            cache.values().removeIf(v -> v.expiresAt - now <= 0);
+            if (cache.size() >= MAX_CACHE_ENTRIES) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new CachedValue(value, System.nanoTime() + cacheTtlNanos));
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record CachedValue(Object value, long expiresAt) {
+    }
+
+    /**
+     * Identity of a read request. The client is compared by identity.
+     *
+     * @param client    The client that performs the read
+     * @param kind      The resource (plural), e.g. kafkatopics
+     * @param namespace The namespace, or null for all namespaces
+     * @param selector  The label selector, or null
+     * @param name      The resource name for single-resource reads, or null for lists
+     */
+    public record Key(Object client, String kind, String namespace, String selector, String name) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && client == other.client
+                    && kind.equals(other.kind)
+                    && Objects.equals(namespace, other.namespace)
+                    && Objects.equals(selector, other.selector)
+                    && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(client), kind, namespace, selector, name);
+        }
+    }
+
+    /**
+     * Counters of the coalescer.
+     *
+     * @param requests     Reads requested by callers
+     * @param apiCalls     Reads that resulted in an API call
+     * @param coalesced    Reads that joined an identical in-flight API call
+     * @param cacheHits    Reads served from the micro-cache
+     * @param cacheEntries Entries currently held in the micro-cache
+     */
+    public record Stats(long requests, long apiCalls, long coalesced, long cacheHits, int cacheEntries) {
+    }
+}
@@ -0,0 +1,204 @@
+package io.seequick.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Renders the items of a tool response within an {@link OutputBudget}.
+ * <p>
+ * Items before the cursor are only counted. Once an item would exceed the budget it is discarded, and it and
+ * all following items are only counted, so no CPU or memory is spent on text the client would truncate. The
+ * footer then tells how many items were omitted and the cursor continuing at the first of them.
+ * <p>
+ * In a structured {@link OutputFormat} the items are written as the {@code items} array of a JSON object
+ * instead, followed by {@code count}, {@code cursor}, {@code omitted} and {@code nextCursor}.
+ */
+public class ResponseRenderer {
+
+    private final OutputBudget budget;
+    private final int cursor;
+    private final OutputFormat format;
+    private final StringBuilder text = new StringBuilder();
+    private final StructuredOutput structured;
+
+    private long bytes;
+    private long lines;
+    private int items;
+    private int omitted;
+    private String reached;
+
+    /**
+     * @param budget The budget of the rendered items
+     * @param cursor The number of items to skip
+     */
+    public ResponseRenderer(OutputBudget budget, int cursor) {
+        this(budget, cursor, OutputFormat.TEXT);
+    }
+
+    /**
+     * @param budget The budget of the rendered items
+     * @param cursor The number of items to skip
+     * @param format The format of the response
+     */
+    public ResponseRenderer(OutputBudget budget, int cursor, OutputFormat format) {
+        this.budget = budget;
+        this.cursor = Math.max(cursor, 0);
+        this.format = format;
+        if (format.isStructured()) {
+            this.structured = new StructuredOutput();
+            try {
+                structured.generator().writeStartObject();
+                structured.generator().writeArrayFieldStart("items");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            this.structured = null;
+        }
+    }
+
+    public OutputFormat format() {
+        return format;
+    }
+
+    /**
+     * Renders an item of a text response, unless it is before the cursor or the budget has been reached.
+     *
+     * @param writer Appends the text of the item
+     * @throws IllegalStateException if the format is structured
+     */
+    public void item(Consumer<StringBuilder> writer) {
+        if (structured != null) {
+            throw new IllegalStateException("No JSON writer for the " + format + " format");
+        }
+        item(writer, null);
+    }
+
+    /**
+     * Renders an item in the format of the response, unless it is before the cursor or the budget has been
+     * reached.
+     *
+     * @param textWriter Appends the text of the item
+     * @param jsonWriter Writes the item as a JSON value
+     */
+    public void item(Consumer<StringBuilder> textWriter, JsonWriter jsonWriter) {
+        int index = items++;
+        if (index < cursor) {
+            return;
+        }
+        if (omitted > 0) {
+            omitted++;
+            return;
+        }
+        CharSequence rendered = structured != null ? structured.flushed() : text;
+        int start = rendered.length();
+        if (structured != null) {
+            try {
+                jsonWriter.write(structured.generator());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rendered = structured.flushed();
+        } else {
+            textWriter.accept(text);
+        }
+        long itemBytes = 0;
+        long itemLines = 0;
+        for (int i = start; i < rendered.length(); i++) {
+            char c = rendered.charAt(i);
+            if (c == '\n') {
+                itemLines++;
+            }
+            // Surrogate pairs count 2 + 2 bytes, the four bytes of their UTF-8 encoding
+            itemBytes += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+        }
+        // The first item after the cursor is always rendered, so that every call makes progress
+        if (index > cursor && !budget.allows(bytes + itemBytes, lines + itemLines)) {
+            if (reached == null) {
+                reached = budget.maxLines() > 0 && lines + itemLines > budget.maxLines()
+                        ? budget.maxLines() + " lines" : budget.maxBytes() + " bytes";
+            }
+            // The generator has written its separator into the discarded part, so the array stays valid
+            if (rendered instanceof StringBuffer buffer) {
+                buffer.setLength(start);
+            } else {
+                text.setLength(start);
+            }
+            omitted++;
+            return;
+        }
+        bytes += itemBytes;
+        lines += itemLines;
+    }
+
+    /**
+     * Returns the number of items, including the skipped and omitted ones.
+     */
+    public int itemCount() {
+        return items;
+    }
+
+    /**
+     * Returns the number of items the budget left out.
+     */
+    public int omittedCount() {
+        return omitted;
+    }
+
+    /**
+     * Returns the text of the rendered items, followed by a note on skipped and omitted items.
+     */
+    public String render() {
+        StringBuilder result = new StringBuilder(text);
+        if (cursor > 0 && cursor < items) {
+            result.insert(0, "(starting at cursor " + cursor + ")\n");
+        } else if (cursor > 0) {
+            result.append("(cursor ").append(cursor).append(" is past the last of ").append(items).append(" items)\n");
+        }
+        if (omitted > 0) {
+            int next = items - omitted;
+            result.append("\n... ").append(omitted).append(" more item(s) omitted (output budget of ")
+                    .append(reached).append(" reached), use cursor ").append(next).append(" to continue\n");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the response: the text of the supplier, or the rendered items followed by the fields of the
+     * writer in a structured format.
+     *
+     * @param textResult Returns the complete text response, usually including {@link #render()}
+     * @param jsonFields Writes the fields after the items, or null
+     */
+    public CallToolResult result(Supplier<String> textResult, JsonWriter jsonFields) {
+        if (structured == null) {
+            return new CallToolResult(List.of(new TextContent(textResult.get())), false);
+        }
+        JsonGenerator json = structured.generator();
+        try {
+            json.writeEndArray();
+            json.writeNumberField("count", items);
+            if (cursor > 0) {
+                json.writeNumberField("cursor", cursor);
+            }
+            if (omitted > 0) {
+                json.writeNumberField("omitted", omitted);
+                json.writeNumberField("nextCursor", items - omitted);
+            }
+            if (jsonFields != null) {
+                jsonFields.write(json);
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return structured.result(format);
+    }
+}
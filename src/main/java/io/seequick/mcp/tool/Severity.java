@@ -0,0 +1,20 @@
+package io.seequick.mcp.tool;
+
+/**
+ * Severity of a finding of a linting or advisory tool, worst first.
+ */
+public enum Severity {
+    CRITICAL, WARNING, INFO;
+
+    /**
+     * Looks up a severity by name (case-insensitive), returning null if there is none.
+     */
+    public static Severity fromName(String name) {
+        for (Severity severity : values()) {
+            if (severity.name().equalsIgnoreCase(name)) {
+                return severity;
+            }
+        }
+        return null;
+    }
+}
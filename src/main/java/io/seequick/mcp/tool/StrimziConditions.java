@@ -0,0 +1,113 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.kafka.Status;
+
+import java.util.List;
+
+/**
+ * Helpers for reading the status conditions of Strimzi custom resources.
+ */
+public final class StrimziConditions {
+
+    private StrimziConditions() {
+        // Utility class
+    }
+
+    /**
+     * Returns the Strimzi status of the resource, or null if it has none.
+     */
+    public static Status getStatus(HasMetadata resource) {
+        if (resource instanceof CustomResource<?, ?> customResource
+                && customResource.getStatus() instanceof Status status) {
+            return status;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the status conditions of the resource, never null.
+     */
+    public static List<Condition> getConditions(HasMetadata resource) {
+        Status status = getStatus(resource);
+        if (status == null || status.getConditions() == null) {
+            return List.of();
+        }
+        return status.getConditions();
+    }
+
+    /**
+     * Finds the condition of the given type, returning null if not present.
+     */
+    public static Condition findCondition(HasMetadata resource, String type) {
+        for (Condition condition : getConditions(resource)) {
+            if (type.equals(condition.getType())) {
+                return condition;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the resource has a condition of the given type with the given status.
+     */
+    public static boolean hasCondition(HasMetadata resource, String type, String status) {
+        Condition condition = findCondition(resource, type);
+        return condition != null && status.equalsIgnoreCase(condition.getStatus());
+    }
+
+    /**
+     * Checks whether the resource has a Ready=True condition.
+     */
+    public static boolean isReady(HasMetadata resource) {
+        return hasCondition(resource, "Ready", "True");
+    }
+
+    /**
+     * Returns the type of the first condition with status True (e.g. the KafkaRebalance state),
+     * or "Unknown" if there is none.
+     */
+    public static String activeState(HasMetadata resource) {
+        for (Condition condition : getConditions(resource)) {
+            if ("True".equals(condition.getStatus())) {
+                return condition.getType();
+            }
+        }
+        return "Unknown";
+    }
+
+    /**
+     * Checks whether the operator has observed the latest generation of the resource spec.
+     */
+    public static boolean isGenerationObserved(HasMetadata resource) {
+        Status status = getStatus(resource);
+        Long generation = resource.getMetadata().getGeneration();
+        if (status == null) {
+            return false;
+        }
+        return generation == null || status.getObservedGeneration() >= generation;
+    }
+
+    /**
+     * Formats the conditions of the resource as a compact one-line summary.
+     */
+    public static String summarize(HasMetadata resource) {
+        List<Condition> conditions = getConditions(resource);
+        if (conditions.isEmpty()) {
+            return "no conditions";
+        }
+        StringBuilder summary = new StringBuilder();
+        for (Condition condition : conditions) {
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(condition.getType()).append("=").append(condition.getStatus());
+            if (condition.getReason() != null) {
+                summary.append(" (").append(condition.getReason()).append(")");
+            }
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.model.bridge.KafkaBridge;
+import io.strimzi.api.kafka.model.bridge.KafkaBridgeList;
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.api.kafka.model.connect.KafkaConnectList;
+import io.strimzi.api.kafka.model.connector.KafkaConnector;
+import io.strimzi.api.kafka.model.connector.KafkaConnectorList;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaList;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserList;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registry of the Strimzi custom resource kinds the tools operate on generically.
+ */
+public enum StrimziKind {
+
+    KAFKA("Kafka", Kafka.class, KafkaList.class),
+    KAFKA_NODE_POOL("KafkaNodePool", KafkaNodePool.class, KafkaNodePoolList.class),
+    KAFKA_TOPIC("KafkaTopic", KafkaTopic.class, KafkaTopicList.class),
+    KAFKA_USER("KafkaUser", KafkaUser.class, KafkaUserList.class),
+    KAFKA_CONNECT("KafkaConnect", KafkaConnect.class, KafkaConnectList.class),
+    KAFKA_CONNECTOR("KafkaConnector", KafkaConnector.class, KafkaConnectorList.class),
+    KAFKA_MIRROR_MAKER_2("KafkaMirrorMaker2", KafkaMirrorMaker2.class, KafkaMirrorMaker2List.class),
+    KAFKA_BRIDGE("KafkaBridge", KafkaBridge.class, KafkaBridgeList.class),
+    KAFKA_REBALANCE("KafkaRebalance", KafkaRebalance.class, KafkaRebalanceList.class);
+
+    private final String kind;
+    private final Class<? extends HasMetadata> resourceClass;
+    private final Class<? extends KubernetesResourceList<?>> listClass;
+
+    StrimziKind(String kind, Class<? extends HasMetadata> resourceClass,
+                Class<? extends KubernetesResourceList<?>> listClass) {
+        this.kind = kind;
+        this.resourceClass = resourceClass;
+        this.listClass = listClass;
+    }
+
+    /**
+     * Returns the Kubernetes kind name (e.g. "KafkaTopic").
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    public Class<? extends HasMetadata> getResourceClass() {
+        return resourceClass;
+    }
+
+    public Class<? extends KubernetesResourceList<?>> getListClass() {
+        return listClass;
+    }
+
+    /**
+     * Returns the typed client operation for this kind.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MixedOperation<HasMetadata, KubernetesResourceList<HasMetadata>, Resource<HasMetadata>> operation(
+            KubernetesClient client) {
+        return (MixedOperation) client.resources((Class) resourceClass, (Class) listClass);
+    }
+
+    /**
+     * Returns a repository for this kind.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StrimziResourceRepository<HasMetadata, KubernetesResourceList<HasMetadata>> repository(
+            KubernetesClient client) {
+        return new StrimziResourceRepository(client, resourceClass, listClass);
+    }
+
+    /**
+     * Looks up a kind by its Kubernetes kind name (case-insensitive).
+     *
+     * @param kind The kind name, e.g. "KafkaTopic"
+     * @return The matching kind or null if it is not a supported Strimzi kind
+     */
+    public static StrimziKind fromKind(String kind) {
+        if (kind == null) {
+            return null;
+        }
+        for (StrimziKind value : values()) {
+            if (value.kind.equalsIgnoreCase(kind)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all supported kind names, in declaration order.
+     */
+    public static List<String> kindNames() {
+        return Arrays.stream(values()).map(StrimziKind::getKind).toList();
+    }
+}
@@ -20,6 +20,11 @@ public final class StrimziLabels {
      */
     public static final String NAME = "strimzi.io/name";
 
+    /**
+     * The strimzi.io/pool-name label identifying the KafkaNodePool a pod belongs to.
+     */
+    public static final String POOL_NAME = "strimzi.io/pool-name";
+
     private StrimziLabels() {
         // Utility class
     }
@@ -1,26 +1,64 @@
 package io.seequick.mcp.tool;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.utils.URLUtils;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.client.ListStreamer;
+import io.seequick.mcp.client.ModelSerialization;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Generic repository for Strimzi Kubernetes resources.
  * Provides common CRUD operations with filtering by namespace and cluster label.
+ * Reads go through a {@link RequestCoalescer}, so identical concurrent reads share one API call.
  *
  * @param <T>     The resource type
  * @param <TList> The resource list type
  */
 public class StrimziResourceRepository<T extends HasMetadata, TList extends KubernetesResourceList<T>> {
 
+    /**
+     * Asks for the metadata of a resource only, falling back to the whole resource on servers without
+     * metadata-only responses.
+     */
+    private static final String METADATA_ONLY = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final KubernetesClient client;
     private final Class<T> resourceClass;
     private final Class<TList> listClass;
+    private final RequestCoalescer coalescer;
 
     public StrimziResourceRepository(KubernetesClient client, Class<T> resourceClass, Class<TList> listClass) {
+        this(client, resourceClass, listClass, RequestCoalescer.shared());
+    }
+
+    public StrimziResourceRepository(KubernetesClient client, Class<T> resourceClass, Class<TList> listClass,
+                                     RequestCoalescer coalescer) {
         this.client = client;
         this.resourceClass = resourceClass;
         this.listClass = listClass;
+        this.coalescer = coalescer;
     }
 
     /**
@@ -43,6 +81,14 @@ public class StrimziResourceRepository<T extends HasMetadata, TList extends Kube
      * @return The list of matching resources
      */
     public TList list(String namespace, String labelKey, String labelValue) {
+        boolean hasNamespace = namespace != null && !namespace.isEmpty();
+        boolean hasLabel = labelValue != null && !labelValue.isEmpty();
+        RequestCoalescer.Key key = new RequestCoalescer.Key(KubernetesClientPool.resolve(client),
+                HasMetadata.getPlural(resourceClass), hasNamespace ? namespace : null, hasLabel ? labelKey + "=" + labelValue : null, null);
+        return coalescer.execute(key, () -> doList(namespace, labelKey, labelValue));
+    }
+
+    private TList doList(String namespace, String labelKey, String labelValue) {
         if (namespace != null && !namespace.isEmpty()) {
             var resource = client.resources(resourceClass, listClass).inNamespace(namespace);
             if (labelValue != null && !labelValue.isEmpty()) {
@@ -58,6 +104,154 @@ public class StrimziResourceRepository<T extends HasMetadata, TList extends Kube
         }
     }
 
+    /**
+     * Passes each resource matching the namespace and cluster label to the action.
+     * <p>
+     * Unlike {@link #list(String, String)}, the response is parsed item by item, so a large list is never
+     * held in memory as a whole. Streamed reads are not coalesced; when the read cache is enabled the
+     * (possibly cached) list is used instead.
+     *
+     * @param namespace    Optional namespace (null for all namespaces)
+     * @param clusterLabel Optional cluster label value (null for no filtering)
+     * @param action       The action receiving the resources
+     * @return The metadata of the list (resource version)
+     */
+    public ListMeta forEach(String namespace, String clusterLabel, Consumer<? super T> action) {
+        if (!coalescer.getCacheTtl().isZero()) {
+            TList list = list(namespace, clusterLabel);
+            list.getItems().forEach(action);
+            return list.getMetadata() != null ? list.getMetadata() : new ListMeta();
+        }
+        return stream(namespace, clusterLabel, resourceClass, action);
+    }
+
+    /**
+     * Passes each resource matching the namespace and cluster label to the action as a JSON tree, like
+     * {@link #forEach(String, String, Consumer)}. The items are not bound to the model, which is cheaper when
+     * only a few fields of each resource are read.
+     *
+     * @param namespace    Optional namespace (null for all namespaces)
+     * @param clusterLabel Optional cluster label value (null for no filtering)
+     * @param action       The action receiving the resources
+     * @return The metadata of the list (resource version)
+     */
+    public ListMeta forEachTree(String namespace, String clusterLabel, Consumer<? super JsonNode> action) {
+        if (!coalescer.getCacheTtl().isZero()) {
+            TList list = list(namespace, clusterLabel);
+            var serialization = ModelSerialization.shared().kubernetesSerialization();
+            list.getItems().forEach(item -> action.accept(serialization.convertValue(item, JsonNode.class)));
+            return list.getMetadata() != null ? list.getMetadata() : new ListMeta();
+        }
+        return stream(namespace, clusterLabel, JsonNode.class, action);
+    }
+
+    private <I> ListMeta stream(String namespace, String clusterLabel, Class<I> itemType, Consumer<? super I> action) {
+        String url = collectionUrl(namespace);
+        if (clusterLabel != null && !clusterLabel.isEmpty()) {
+            url += "?labelSelector=" + URLEncoder.encode(StrimziLabels.CLUSTER + "=" + clusterLabel, StandardCharsets.UTF_8);
+        }
+
+        HttpClient httpClient = client.getHttpClient();
+        return ListStreamer.stream(httpClient, newRequest(httpClient, url).build(),
+                ModelSerialization.shared().newListReader(itemType, action));
+    }
+
+    /**
+     * Gets the resource version of a single resource without transferring the resource: the API server is
+     * asked for the metadata only, and only the resourceVersion is parsed from the response.
+     *
+     * @param namespace The namespace
+     * @param name      The resource name
+     * @return The resource version, or null if the resource is not found
+     */
+    public String getResourceVersion(String namespace, String name) {
+        String url = URLUtils.join(collectionUrl(namespace), name);
+        HttpClient httpClient = client.getHttpClient();
+        HttpRequest request = newRequest(httpClient, url).setHeader("Accept", METADATA_ONLY).build();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.sendAsync(request, byte[].class).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted while sending " + url, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new KubernetesClientException("Failure executing: GET at: " + url + ". " + cause.getMessage(), cause);
+        }
+
+        if (response.code() == 404) {
+            return null;
+        }
+        byte[] body = response.body() != null ? response.body() : new byte[0];
+        if (!response.isSuccessful()) {
+            throw new KubernetesClientException("Failure executing: GET at: " + url + ". Message: "
+                    + new String(body, StandardCharsets.UTF_8), response.code(), null);
+        }
+        try {
+            return readResourceVersion(body);
+        } catch (IOException e) {
+            throw new KubernetesClientException("Invalid response from " + url + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads metadata.resourceVersion, skipping everything else (e.g. spec and status when the server ignored
+     * the metadata-only Accept header).
+     */
+    private static String readResourceVersion(byte[] body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (!"metadata".equals(field) || parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String metadataField = parser.currentName();
+                    parser.nextToken();
+                    if ("resourceVersion".equals(metadataField)) {
+                        return parser.getValueAsString();
+                    }
+                    parser.skipChildren();
+                }
+                return null;
+            }
+            return null;
+        }
+    }
+
+    private String collectionUrl(String namespace) {
+        List<String> path = new ArrayList<>();
+        path.add(client.getMasterUrl().toString());
+        String group = HasMetadata.getGroup(resourceClass);
+        if (group == null || group.isEmpty()) {
+            path.add("api");
+        } else {
+            path.add("apis");
+            path.add(group);
+        }
+        path.add(HasMetadata.getVersion(resourceClass));
+        if (namespace != null && !namespace.isEmpty()) {
+            path.add("namespaces");
+            path.add(namespace);
+        }
+        path.add(HasMetadata.getPlural(resourceClass));
+        return URLUtils.join(path.toArray(new String[0]));
+    }
+
+    private HttpRequest.Builder newRequest(HttpClient httpClient, String url) {
+        HttpRequest.Builder request = httpClient.newHttpRequestBuilder().uri(url);
+        int requestTimeout = client.getConfiguration().getRequestTimeout();
+        if (requestTimeout > 0) {
+            request.timeout(requestTimeout, TimeUnit.MILLISECONDS);
+        }
+        return request;
+    }
+
     /**
      * Gets a single resource by namespace and name.
      *
@@ -66,10 +260,12 @@ public class StrimziResourceRepository<T extends HasMetadata, TList extends Kube
      * @return The resource or null if not found
      */
     public T get(String namespace, String name) {
-        return client.resources(resourceClass, listClass)
+        RequestCoalescer.Key key = new RequestCoalescer.Key(KubernetesClientPool.resolve(client),
+                HasMetadata.getPlural(resourceClass), namespace, null, name);
+        return coalescer.execute(key, () -> client.resources(resourceClass, listClass)
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
     }
 
     /**
@@ -80,10 +276,12 @@ public class StrimziResourceRepository<T extends HasMetadata, TList extends Kube
      * @return The created resource
      */
     public T create(String namespace, T resource) {
-        return client.resources(resourceClass, listClass)
+        T created = client.resources(resourceClass, listClass)
                 .inNamespace(namespace)
                 .resource(resource)
                 .create();
+        coalescer.invalidate(KubernetesClientPool.resolve(client), HasMetadata.getPlural(resourceClass), namespace);
+        return created;
     }
 
     /**
@@ -97,6 +295,7 @@ public class StrimziResourceRepository<T extends HasMetadata, TList extends Kube
                 .inNamespace(namespace)
                 .withName(name)
                 .delete();
+        coalescer.invalidate(KubernetesClientPool.resolve(client), HasMetadata.getPlural(resourceClass), namespace);
     }
 
     /**
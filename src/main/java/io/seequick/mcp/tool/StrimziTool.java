@@ -11,4 +11,10 @@ public interface StrimziTool {
      * Returns the MCP tool specification for this tool.
      */
     McpServerFeatures.SyncToolSpecification getSpecification();
-}
\ No newline at end of file
+
+    /**
+     * Returns whether the tool only reads, published as the MCP {@code readOnlyHint} annotation. Only read-only
+     * tools can be called through the {@link BatchTool}.
+     */
+    boolean isReadOnly();
+}
@@ -0,0 +1,142 @@
+package io.seequick.mcp.tool;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A structured tool response, streamed by a Jackson generator straight from the model objects.
+ * <p>
+ * Only fields with a value are written, so that the JSON stays dense.
+ */
+public class StructuredOutput {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final ObjectMapper MAPPER = new ObjectMapper(FACTORY);
+    private static final TypeReference<Map<String, Object>> CONTENT_TYPE = new TypeReference<>() {};
+
+    private final StringWriter out = new StringWriter();
+    private final JsonGenerator json;
+
+    public StructuredOutput() {
+        try {
+            this.json = FACTORY.createGenerator(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a complete response.
+     *
+     * @param format The format, {@link OutputFormat#COMPACT} or {@link OutputFormat#JSON}
+     * @param writer Writes the response object
+     */
+    public static CallToolResult write(OutputFormat format, JsonWriter writer) {
+        StructuredOutput output = new StructuredOutput();
+        try {
+            writer.write(output.json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.result(format);
+    }
+
+    public JsonGenerator generator() {
+        return json;
+    }
+
+    /**
+     * Returns the characters written so far, after flushing the generator.
+     */
+    StringBuffer flushed() {
+        try {
+            json.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.getBuffer();
+    }
+
+    /**
+     * Closes the generator and returns the written JSON as a tool result.
+     */
+    public CallToolResult result(OutputFormat format) {
+        try {
+            json.close();
+            String text = out.toString();
+            if (format != OutputFormat.JSON) {
+                return new CallToolResult(List.of(new TextContent(text)), false);
+            }
+            return CallToolResult.builder()
+                    .addTextContent(text)
+                    .structuredContent(MAPPER.readValue(text, CONTENT_TYPE))
+                    .isError(false)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a string field unless the value is null.
+     */
+    public static void field(JsonGenerator json, String name, String value) throws IOException {
+        if (value != null) {
+            json.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Writes a number field unless the value is null.
+     */
+    public static void field(JsonGenerator json, String name, Number value) throws IOException {
+        if (value instanceof Integer || value instanceof Long) {
+            json.writeNumberField(name, value.longValue());
+        } else if (value != null) {
+            json.writeNumberField(name, value.doubleValue());
+        }
+    }
+
+    /**
+     * Writes a boolean field unless the value is null.
+     */
+    public static void field(JsonGenerator json, String name, Boolean value) throws IOException {
+        if (value != null) {
+            json.writeBooleanField(name, value);
+        }
+    }
+
+    /**
+     * Writes an object field with the entries of the map unless it is null or empty. Values are written as
+     * JSON scalars where possible, otherwise as strings.
+     */
+    public static void field(JsonGenerator json, String name, Map<String, ?> value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        json.writeObjectFieldStart(name);
+        for (Map.Entry<String, ?> entry : value.entrySet()) {
+            Object entryValue = entry.getValue();
+            if (entryValue == null) {
+                json.writeNullField(entry.getKey());
+            } else if (entryValue instanceof Number number) {
+                field(json, entry.getKey(), number);
+            } else if (entryValue instanceof Boolean bool) {
+                json.writeBooleanField(entry.getKey(), bool);
+            } else {
+                json.writeStringField(entry.getKey(), entryValue.toString());
+            }
+        }
+        json.writeEndObject();
+    }
+}
@@ -0,0 +1,191 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Results of read-only tools that describe a single resource, kept for as long as the resource stays at the
+ * resourceVersion the result was computed from.
+ * <p>
+ * Entries are keyed by the client (compared by identity, so every kubeconfig context has entries of its own),
+ * the tool and its normalized arguments. Every lookup first gets the current resourceVersion of the resource,
+ * which is much cheaper than fetching and rendering it, so a cached result is never older than the resource.
+ * Writes sent through the server's clients drop the entries of the written resources right away, the least
+ * recently used entries beyond the limit are dropped, and error results are not kept.
+ */
+public class ToolResultCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final ToolResultCache SHARED = new ToolResultCache(DEFAULT_MAX_ENTRIES);
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxEntries;
+    private long lookups;
+    private long hits;
+    private long changed;
+    private long invalidated;
+    private long evicted;
+
+    public ToolResultCache(int maxEntries) {
+        setMaxEntries(maxEntries);
+    }
+
+    /**
+     * Returns the cache shared by all tools.
+     */
+    public static ToolResultCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sets the maximum number of results kept. Zero disables the cache.
+     */
+    public synchronized void setMaxEntries(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        evictBeyondLimit();
+    }
+
+    public synchronized int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Returns the kept result of the call if the resource is still at the version it was computed from,
+     * otherwise executes the tool and keeps its result.
+     *
+     * @param client        The client the tool runs with
+     * @param tool          The name of the tool
+     * @param arguments     The normalized arguments of the call
+     * @param resource      The resource the result is derived from
+     * @param versionLookup Returns the current resourceVersion of the resource, or null if it is not found
+     * @param execute       Executes the tool
+     * @return The kept or the new result
+     */
+    public CallToolResult call(Object client, String tool, String arguments, Resource resource,
+                               Supplier<String> versionLookup, Supplier<CallToolResult> execute) {
+        if (getMaxEntries() == 0) {
+            return execute.get();
+        }
+        String version = versionLookup.get();
+        Key key = new Key(client, tool, arguments);
+        synchronized (this) {
+            lookups++;
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version.equals(version)) {
+                hits++;
+                return entry.result;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                changed++;
+            }
+        }
+        CallToolResult result = execute.get();
+        // The version was read before the tool, so the result is at least as new as the version: a later
+        // lookup of a newer version misses instead of returning it as current
+        if (version != null && result != null && !Boolean.TRUE.equals(result.isError())) {
+            synchronized (this) {
+                if (maxEntries > 0) {
+                    entries.put(key, new Entry(resource, version, result));
+                    evictBeyondLimit();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops the results derived from written resources. Matches the arguments of
+     * {@link io.seequick.mcp.client.WriteTrackingInterceptor.Listener}.
+     *
+     * @param plural    The resource (plural) written, e.g. "kafkatopics"
+     * @param namespace The namespace, or null for all namespaces
+     * @param name      The name, or null for all resources of the namespace
+     */
+    public synchronized void invalidate(String plural, String namespace, String name) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Resource resource = iterator.next().resource;
+            if (resource.plural().equals(plural)
+                    && (namespace == null || namespace.equals(resource.namespace()))
+                    && (name == null || name.equals(resource.name()))) {
+                iterator.remove();
+                invalidated++;
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the counters.
+     */
+    public synchronized Stats stats() {
+        return new Stats(maxEntries, entries.size(), lookups, hits, changed, invalidated, evicted);
+    }
+
+    private void evictBeyondLimit() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evicted++;
+        }
+    }
+
+    /**
+     * The resource a cached result is derived from.
+     *
+     * @param kind      The kind of the resource
+     * @param namespace The namespace
+     * @param name      The name
+     */
+    public record Resource(StrimziKind kind, String namespace, String name) {
+
+        String plural() {
+            return HasMetadata.getPlural(kind.getResourceClass());
+        }
+    }
+
+    /**
+     * Counters of the cache.
+     *
+     * @param maxEntries  The maximum number of results kept (0 when disabled)
+     * @param entries     The number of results kept
+     * @param lookups     Calls looked up in the cache
+     * @param hits        Calls answered with a kept result
+     * @param changed     Kept results dropped because their resource changed
+     * @param invalidated Kept results dropped because their resource was written
+     * @param evicted     Kept results dropped to stay within the limit
+     */
+    public record Stats(int maxEntries, int entries, long lookups, long hits, long changed, long invalidated,
+                        long evicted) {
+    }
+
+    private record Entry(Resource resource, String version, CallToolResult result) {
+    }
+
+    /**
+     * Identity of a call. The client is compared by identity.
+     */
+    private record Key(Object client, String tool, String arguments) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && client == other.client
+                    && tool.equals(other.tool)
+                    && arguments.equals(other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(client), tool, arguments);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.seequick.mcp.tool.args.ArgumentBinder;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import io.seequick.mcp.tool.args.ToolArguments;
+
+import java.util.Map;
+
+/**
+ * Base class for tools whose arguments are a {@link ToolArguments} record. The input schema comes from the
+ * generated binder, and a call with missing or mistyped arguments is answered with an error before the tool
+ * executes.
+ *
+ * @param <A> The arguments record
+ */
+public abstract class TypedStrimziTool<A extends Record> extends AbstractStrimziTool {
+
+    private final ArgumentBinder<A> binder;
+
+    protected TypedStrimziTool(KubernetesClient kubernetesClient, ArgumentBinder<A> binder) {
+        super(kubernetesClient);
+        this.binder = binder;
+    }
+
+    /**
+     * Executes the tool with the bound arguments.
+     */
+    protected abstract CallToolResult execute(A arguments);
+
+    /**
+     * Executes the tool with access to the client exchange (e.g. for progress notifications).
+     * Defaults to {@link #execute(Record)}; the exchange may be null.
+     */
+    protected CallToolResult execute(McpSyncServerExchange exchange, A arguments) {
+        return execute(arguments);
+    }
+
+    /**
+     * Executes the tool with the request the arguments were bound from, for tools that read the arguments added
+     * to every schema rather than declared in the record (e.g. with {@link #renderer(McpSchema.CallToolRequest)}).
+     * Defaults to {@link #execute(McpSyncServerExchange, Record)}; the exchange may be null.
+     */
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request, A arguments) {
+        return execute(exchange, arguments);
+    }
+
+    /**
+     * Returns the single resource the result is derived from, for read-only tools whose results may be kept
+     * in the {@link ToolResultCache}, or null (the default) if the result is not to be kept.
+     */
+    protected ToolResultCache.Resource cachedResource(A arguments) {
+        return null;
+    }
+
+    @Override
+    protected final JsonSchema getInputSchema() {
+        return binder.schema();
+    }
+
+    @Override
+    protected final ToolResultCache.Resource cachedResource(McpSchema.CallToolRequest args) {
+        // Typed tools name the resource with cachedResource(A), which call asks with the arguments it bound
+        return null;
+    }
+
+    @Override
+    protected final CallToolResult call(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
+        A arguments;
+        try {
+            arguments = bind(args);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+        return call(args, cachedResource(arguments), () -> execute(exchange, args, arguments));
+    }
+
+    @Override
+    protected final CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected final CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
+        A arguments;
+        try {
+            arguments = bind(args);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+        return execute(exchange, args, arguments);
+    }
+
+    private A bind(McpSchema.CallToolRequest args) {
+        return binder.bind(args != null && args.arguments() != null ? args.arguments() : Map.of());
+    }
+}
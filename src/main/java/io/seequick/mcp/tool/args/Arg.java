@@ -0,0 +1,35 @@
+package io.seequick.mcp.tool.args;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Describes a component of a {@link ToolArguments} record. Every component needs one.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Arg {
+
+    /**
+     * Description of the argument in the input schema.
+     */
+    String value();
+
+    /**
+     * Whether a call without the argument is rejected.
+     */
+    boolean required() default false;
+
+    /**
+     * Value of an optional argument that is not given, as a literal of its type. Primitive components that
+     * are not required need one; other components are null when not given.
+     */
+    String defaultValue() default "";
+
+    /**
+     * Values a string argument accepts, compared ignoring case. The bound value is the listed spelling.
+     */
+    String[] allowed() default {};
+}
@@ -0,0 +1,28 @@
+package io.seequick.mcp.tool.args;
+
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+
+import java.util.Map;
+
+/**
+ * Binds the arguments of a tool call to a record. Implementations are generated for {@link ToolArguments}
+ * records.
+ *
+ * @param <A> The arguments record
+ */
+public interface ArgumentBinder<A> {
+
+    /**
+     * Returns the input schema of the tool.
+     */
+    JsonSchema schema();
+
+    /**
+     * Binds the arguments of a call. Arguments not in the schema are ignored.
+     *
+     * @param arguments The arguments of the call
+     * @return The bound arguments
+     * @throws InvalidArgumentException if a required argument is missing or an argument has the wrong type
+     */
+    A bind(Map<String, Object> arguments);
+}
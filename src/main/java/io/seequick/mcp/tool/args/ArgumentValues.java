@@ -0,0 +1,179 @@
+package io.seequick.mcp.tool.args;
+
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversions used by the generated binders. Values are the JSON types Jackson produces for the arguments
+ * of a call; integers sent as whole floating point numbers (e.g. {@code 3.0}) are accepted.
+ */
+public final class ArgumentValues {
+
+    private ArgumentValues() {
+    }
+
+    /**
+     * Returns the named argument.
+     *
+     * @throws InvalidArgumentException if it is missing
+     */
+    public static Object require(Map<String, Object> arguments, String name) {
+        Object value = arguments.get(name);
+        if (value == null) {
+            throw new InvalidArgumentException("Missing required argument: " + name);
+        }
+        return value;
+    }
+
+    public static String asString(Object value, String name) {
+        if (value instanceof String string) {
+            return string;
+        }
+        throw invalid(name, "a string", value);
+    }
+
+    /**
+     * Returns the allowed value equal to the argument, ignoring case.
+     */
+    public static String asOneOf(Object value, String name, List<String> allowed) {
+        String string = asString(value, name);
+        for (String candidate : allowed) {
+            if (candidate.equalsIgnoreCase(string)) {
+                return candidate;
+            }
+        }
+        throw new InvalidArgumentException("Invalid argument " + name + ": " + string + " is not one of "
+                + String.join(", ", allowed));
+    }
+
+    public static int asInt(Object value, String name) {
+        if (value instanceof Integer integer) {
+            return integer;
+        }
+        long number = asLong(value, name);
+        if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE) {
+            throw invalid(name, "an integer", value);
+        }
+        return (int) number;
+    }
+
+    public static long asLong(Object value, String name) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Number number) {
+            double d = number.doubleValue();
+            if (d == Math.rint(d) && d >= Long.MIN_VALUE && d <= Long.MAX_VALUE) {
+                return (long) d;
+            }
+        }
+        throw invalid(name, "an integer", value);
+    }
+
+    public static double asDouble(Object value, String name) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        throw invalid(name, "a number", value);
+    }
+
+    public static boolean asBoolean(Object value, String name) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        throw invalid(name, "a boolean", value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<String> asStringList(Object value, String name) {
+        if (value instanceof List<?> list && list.stream().allMatch(String.class::isInstance)) {
+            return (List<String>) list;
+        }
+        throw invalid(name, "an array of strings", value);
+    }
+
+    public static List<Integer> asIntList(Object value, String name) {
+        if (value instanceof List<?> list) {
+            Integer[] integers = new Integer[list.size()];
+            for (int i = 0; i < integers.length; i++) {
+                Object item = list.get(i);
+                if (item == null) {
+                    throw invalid(name, "an array of integers", value);
+                }
+                integers[i] = item instanceof Integer integer ? integer : asInt(item, name);
+            }
+            return List.of(integers);
+        }
+        throw invalid(name, "an array of integers", value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> asObjectList(Object value, String name) {
+        if (value instanceof List<?> list && list.stream().allMatch(Map.class::isInstance)) {
+            return (List<Map<String, Object>>) list;
+        }
+        throw invalid(name, "an array of objects", value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> asObjectMap(Object value, String name) {
+        if (value instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        throw invalid(name, "an object", value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> asStringMap(Object value, String name) {
+        if (value instanceof Map<?, ?> map && map.values().stream().allMatch(String.class::isInstance)) {
+            return (Map<String, String>) map;
+        }
+        throw invalid(name, "an object with string values", value);
+    }
+
+    /**
+     * Creates the schema of an argument.
+     *
+     * @param type         The JSON type
+     * @param itemType     The JSON type of the items of an array, or null
+     * @param description  The description
+     * @param defaultValue The default value, or null
+     * @param allowed      The allowed values, or null
+     */
+    public static Map<String, Object> property(String type, String itemType, String description,
+                                               Object defaultValue, List<String> allowed) {
+        Map<String, Object> property = new LinkedHashMap<>();
+        property.put("type", type);
+        if (itemType != null) {
+            property.put("items", Map.of("type", itemType));
+        }
+        if (allowed != null) {
+            property.put("enum", allowed);
+        }
+        if (defaultValue != null) {
+            property.put("default", defaultValue);
+        }
+        property.put("description", description);
+        return Collections.unmodifiableMap(property);
+    }
+
+    /**
+     * Creates an object schema.
+     *
+     * @param properties The argument schemas by name, in declaration order
+     * @param required   The required arguments
+     */
+    public static JsonSchema schema(Map<String, Object> properties, List<String> required) {
+        return new JsonSchema("object", Collections.unmodifiableMap(properties),
+                required.isEmpty() ? null : required, null, null, null);
+    }
+
+    private static InvalidArgumentException invalid(String name, String expected, Object value) {
+        return new InvalidArgumentException("Invalid argument " + name + ": expected " + expected + ", got "
+                + (value instanceof String ? "\"" + value + "\"" : value));
+    }
+}
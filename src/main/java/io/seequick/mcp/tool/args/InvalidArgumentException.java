@@ -0,0 +1,11 @@
+package io.seequick.mcp.tool.args;
+
+/**
+ * Exception thrown when the arguments of a tool call do not match its schema.
+ */
+public class InvalidArgumentException extends IllegalArgumentException {
+
+    public InvalidArgumentException(String message) {
+        super(message);
+    }
+}
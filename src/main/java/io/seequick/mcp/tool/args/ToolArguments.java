@@ -0,0 +1,20 @@
+package io.seequick.mcp.tool.args;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record as the arguments of a tool. For a record {@code GetKafkaLogsTool.Arguments} the annotation
+ * processor generates {@code GetKafkaLogsToolArgumentsBinder} in the same package: an {@link ArgumentBinder}
+ * with the input schema built from the components and their {@link Arg} annotations.
+ * <p>
+ * Supported component types: {@code String}, {@code int}, {@code long}, {@code double}, {@code boolean} and
+ * their wrappers, {@code List<String>}, {@code List<Integer>}, {@code List<Map<String, Object>>},
+ * {@code Map<String, Object>} and {@code Map<String, String>}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ToolArguments {
+}
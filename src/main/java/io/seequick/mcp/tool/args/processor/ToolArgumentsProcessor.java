@@ -0,0 +1,315 @@
+package io.seequick.mcp.tool.args.processor;
+
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates an {@code ArgumentBinder} for every {@link ToolArguments} record. The binder holds the input
+ * schema as constants and binds a call by calling the record constructor with the converted arguments, so
+ * neither parsing nor reflection happens at runtime. Unsupported component types, missing descriptions and
+ * invalid defaults are compile errors.
+ */
+@SupportedAnnotationTypes("io.seequick.mcp.tool.args.ToolArguments")
+public class ToolArgumentsProcessor extends AbstractProcessor {
+
+    /**
+     * Argument types by the Java type of a record component.
+     */
+    private enum ArgType {
+        STRING("java.lang.String", "string", null, "asString", false),
+        INT("int", "integer", null, "asInt", true),
+        INTEGER("java.lang.Integer", "integer", null, "asInt", false),
+        LONG_PRIMITIVE("long", "integer", null, "asLong", true),
+        LONG("java.lang.Long", "integer", null, "asLong", false),
+        DOUBLE_PRIMITIVE("double", "number", null, "asDouble", true),
+        DOUBLE("java.lang.Double", "number", null, "asDouble", false),
+        BOOLEAN_PRIMITIVE("boolean", "boolean", null, "asBoolean", true),
+        BOOLEAN("java.lang.Boolean", "boolean", null, "asBoolean", false),
+        STRING_LIST("java.util.List<java.lang.String>", "array", "string", "asStringList", false),
+        INT_LIST("java.util.List<java.lang.Integer>", "array", "integer", "asIntList", false),
+        OBJECT_LIST("java.util.List<java.util.Map<java.lang.String,java.lang.Object>>", "array", "object",
+                "asObjectList", false),
+        OBJECT_MAP("java.util.Map<java.lang.String,java.lang.Object>", "object", null, "asObjectMap", false),
+        STRING_MAP("java.util.Map<java.lang.String,java.lang.String>", "object", null, "asStringMap", false);
+
+        final String javaType;
+        final String jsonType;
+        final String itemType;
+        final String conversion;
+        final boolean primitive;
+
+        ArgType(String javaType, String jsonType, String itemType, String conversion, boolean primitive) {
+            this.javaType = javaType;
+            this.jsonType = jsonType;
+            this.itemType = itemType;
+            this.conversion = conversion;
+            this.primitive = primitive;
+        }
+
+        static ArgType of(String javaType) {
+            String normalized = javaType.replace(" ", "");
+            return Arrays.stream(values()).filter(type -> type.javaType.equals(normalized)).findFirst().orElse(null);
+        }
+    }
+
+    private record Component(String name, ArgType type, Arg arg, String defaultLiteral) {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(ToolArguments.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                error(element, "@ToolArguments is only supported on records");
+                continue;
+            }
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, "@ToolArguments records must not be private");
+                continue;
+            }
+            TypeElement record = (TypeElement) element;
+            List<Component> components = components(record);
+            if (components != null) {
+                generate(record, components);
+            }
+        }
+        return true;
+    }
+
+    private List<Component> components(TypeElement record) {
+        List<Component> components = new ArrayList<>();
+        boolean valid = true;
+        for (RecordComponentElement element : record.getRecordComponents()) {
+            String name = element.getSimpleName().toString();
+            ArgType type = ArgType.of(element.asType().toString());
+            Arg arg = element.getAnnotation(Arg.class);
+            if (type == null) {
+                error(element, "Unsupported argument type " + element.asType() + " of " + name);
+                valid = false;
+            } else if (arg == null) {
+                error(element, "Argument " + name + " needs @Arg with a description");
+                valid = false;
+            } else if (arg.required() && !arg.defaultValue().isEmpty()) {
+                error(element, "Required argument " + name + " cannot have a default value");
+                valid = false;
+            } else if (type.primitive && !arg.required() && arg.defaultValue().isEmpty()) {
+                error(element, "Optional argument " + name + " of primitive type " + type.javaType
+                        + " needs a default value");
+                valid = false;
+            } else if (arg.allowed().length > 0 && type != ArgType.STRING) {
+                error(element, "Allowed values are only supported for string arguments: " + name);
+                valid = false;
+            } else {
+                String defaultLiteral = arg.defaultValue().isEmpty() ? null : literal(element, type, arg);
+                if (!arg.defaultValue().isEmpty() && defaultLiteral == null) {
+                    valid = false;
+                } else {
+                    components.add(new Component(name, type, arg, defaultLiteral));
+                }
+            }
+        }
+        return valid ? components : null;
+    }
+
+    /**
+     * Returns the Java literal of the default value, or null after reporting an error if it does not match
+     * the type.
+     */
+    private String literal(Element element, ArgType type, Arg arg) {
+        String value = arg.defaultValue();
+        try {
+            return switch (type) {
+                case STRING -> {
+                    if (arg.allowed().length > 0 && Arrays.stream(arg.allowed()).noneMatch(value::equals)) {
+                        error(element, "Default value " + value + " is not one of the allowed values");
+                        yield null;
+                    }
+                    yield quote(value);
+                }
+                case INT, INTEGER -> Integer.toString(Integer.parseInt(value));
+                case LONG_PRIMITIVE, LONG -> Long.parseLong(value) + "L";
+                case DOUBLE_PRIMITIVE, DOUBLE -> Double.toString(Double.parseDouble(value));
+                case BOOLEAN_PRIMITIVE, BOOLEAN -> {
+                    if (!value.equals("true") && !value.equals("false")) {
+                        throw new IllegalArgumentException();
+                    }
+                    yield value;
+                }
+                default -> {
+                    error(element, "Default values are not supported for " + type.javaType);
+                    yield null;
+                }
+            };
+        } catch (IllegalArgumentException e) {
+            error(element, "Default value " + value + " is not a valid " + type.jsonType);
+            return null;
+        }
+    }
+
+    private void generate(TypeElement record, List<Component> components) {
+        String packageName = packageOf(record).getQualifiedName().toString();
+        String binderName = binderName(record);
+        String recordType = record.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import io.modelcontextprotocol.spec.McpSchema.JsonSchema;\n")
+                .append("import io.seequick.mcp.tool.args.ArgumentBinder;\n")
+                .append("import io.seequick.mcp.tool.args.ArgumentValues;\n\n")
+                .append("import java.util.LinkedHashMap;\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n * Binds the arguments of {@link ").append(recordType).append("}.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(binderName).append(" implements ArgumentBinder<")
+                .append(recordType).append("> {\n\n")
+                .append("    public static final ").append(binderName).append(" INSTANCE = new ").append(binderName)
+                .append("();\n\n");
+
+        for (Component component : components) {
+            if (component.arg.allowed().length > 0) {
+                source.append("    private static final List<String> ").append(allowedConstant(component))
+                        .append(" = List.of(")
+                        .append(Arrays.stream(component.arg.allowed()).map(ToolArgumentsProcessor::quote)
+                                .collect(Collectors.joining(", ")))
+                        .append(");\n");
+            }
+        }
+
+        source.append("    private static final JsonSchema SCHEMA;\n\n")
+                .append("    static {\n")
+                .append("        Map<String, Object> properties = new LinkedHashMap<>();\n");
+        for (Component component : components) {
+            source.append("        properties.put(").append(quote(component.name)).append(", ArgumentValues.property(")
+                    .append(quote(component.type.jsonType)).append(", ")
+                    .append(component.type.itemType != null ? quote(component.type.itemType) : "null").append(", ")
+                    .append(quote(component.arg.value())).append(", ")
+                    .append(component.defaultLiteral != null ? component.defaultLiteral : "null").append(", ")
+                    .append(component.arg.allowed().length > 0 ? allowedConstant(component) : "null")
+                    .append("));\n");
+        }
+        source.append("        SCHEMA = ArgumentValues.schema(properties, List.of(")
+                .append(components.stream().filter(component -> component.arg.required())
+                        .map(component -> quote(component.name)).collect(Collectors.joining(", ")))
+                .append("));\n")
+                .append("    }\n\n")
+                .append("    private ").append(binderName).append("() {\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public JsonSchema schema() {\n")
+                .append("        return SCHEMA;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(recordType).append(" bind(Map<String, Object> arguments) {\n");
+        for (Component component : components) {
+            source.append("        Object ").append(component.name).append("$ = ");
+            if (component.arg.required()) {
+                source.append("ArgumentValues.require(arguments, ").append(quote(component.name)).append(");\n");
+            } else {
+                source.append("arguments.get(").append(quote(component.name)).append(");\n");
+            }
+        }
+        source.append("        return new ").append(recordType).append("(");
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            String variable = component.name + "$";
+            source.append(i == 0 ? "\n                " : ",\n                ");
+            if (!component.arg.required()) {
+                source.append(variable).append(" == null ? ")
+                        .append(component.defaultLiteral != null ? component.defaultLiteral : "null").append(" : ");
+            }
+            if (component.arg.allowed().length > 0) {
+                source.append("ArgumentValues.asOneOf(").append(variable).append(", ").append(quote(component.name))
+                        .append(", ").append(allowedConstant(component)).append(")");
+            } else {
+                source.append("ArgumentValues.").append(component.type.conversion).append("(").append(variable)
+                        .append(", ").append(quote(component.name)).append(")");
+            }
+        }
+        source.append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + qualifiedName, e);
+        }
+    }
+
+    /**
+     * Returns the name of the binder: the simple names of the record and its enclosing classes, followed by
+     * {@code Binder}.
+     */
+    static String binderName(TypeElement record) {
+        StringBuilder name = new StringBuilder(record.getSimpleName());
+        for (Element enclosing = record.getEnclosingElement(); enclosing instanceof TypeElement type;
+             enclosing = type.getEnclosingElement()) {
+            name.insert(0, type.getSimpleName());
+        }
+        return name.append("Binder").toString();
+    }
+
+    private static PackageElement packageOf(Element element) {
+        Element current = element;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+
+    private static String allowedConstant(Component component) {
+        return component.name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT) + "_VALUES";
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -1,13 +1,18 @@
 package io.seequick.mcp.tool.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.progress.ProgressReporter;
+import io.seequick.mcp.tool.progress.RebalanceTracker;
+import io.seequick.mcp.tool.progress.TrackingResult;
 
+import java.time.Duration;
 import java.util.HashMap;
 
 /**
@@ -26,6 +31,14 @@ public class ApproveRebalanceTool extends AbstractStrimziTool {
                     "namespace": {
                         "type": "string",
                         "description": "Kubernetes namespace of the rebalance"
+                    },
+                    "track": {
+                        "type": "boolean",
+                        "description": "Wait for the rebalance to finish, streaming progress notifications (state, data moved, partition movements). Default: false"
+                    },
+                    "timeoutSeconds": {
+                        "type": "integer",
+                        "description": "Maximum time to track the rebalance in seconds when track is true (default: 3600, max: 14400)"
                     }
                 },
                 "required": ["name", "namespace"]
@@ -33,6 +46,8 @@ public class ApproveRebalanceTool extends AbstractStrimziTool {
             """;
 
     private static final String APPROVE_ANNOTATION = "strimzi.io/rebalance";
+    private static final int DEFAULT_TRACK_TIMEOUT_SECONDS = 3600;
+    private static final int MAX_TRACK_TIMEOUT_SECONDS = 14400;
 
     public ApproveRebalanceTool(KubernetesClient kubernetesClient) {
         super(kubernetesClient);
@@ -48,6 +63,11 @@ public class ApproveRebalanceTool extends AbstractStrimziTool {
         return "Approve a KafkaRebalance proposal for execution by Cruise Control";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -55,9 +75,19 @@ public class ApproveRebalanceTool extends AbstractStrimziTool {
 
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
         try {
             String name = getStringArg(args, "name");
             String namespace = getStringArg(args, "namespace");
+            boolean track = getBooleanArg(args, "track", false);
+            int timeoutSeconds = getIntArg(args, "timeoutSeconds", DEFAULT_TRACK_TIMEOUT_SECONDS);
+            if (timeoutSeconds <= 0 || timeoutSeconds > MAX_TRACK_TIMEOUT_SECONDS) {
+                return error("timeoutSeconds must be between 1 and " + MAX_TRACK_TIMEOUT_SECONDS);
+            }
 
             KafkaRebalance rebalance = kubernetesClient.resources(KafkaRebalance.class, KafkaRebalanceList.class)
                     .inNamespace(namespace)
@@ -99,6 +129,14 @@ public class ApproveRebalanceTool extends AbstractStrimziTool {
 
             StringBuilder result = new StringBuilder();
             result.append("Approved KafkaRebalance: ").append(namespace).append("/").append(name).append("\n\n");
+
+            if (track) {
+                TrackingResult tracking = new RebalanceTracker(kubernetesClient, namespace, name)
+                        .track(ProgressReporter.of(exchange, args), Duration.ofSeconds(timeoutSeconds));
+                result.append(tracking.format());
+                return tracking.succeeded() ? success(result.toString()) : error(result.toString());
+            }
+
             result.append("Cruise Control will now execute the optimization proposal.\n");
             result.append("Use describe_rebalance to monitor progress.");
 
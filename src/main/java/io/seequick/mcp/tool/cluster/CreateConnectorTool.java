@@ -1,13 +1,13 @@
 package io.seequick.mcp.tool.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.connector.KafkaConnectorBuilder;
 import io.strimzi.api.kafka.model.connector.KafkaConnectorList;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -15,51 +15,26 @@ import java.util.Map;
 /**
  * Tool to create a new KafkaConnector resource.
  */
-public class CreateConnectorTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "name": {
-                        "type": "string",
-                        "description": "Name of the KafkaConnector resource to create"
-                    },
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace to create the connector in"
-                    },
-                    "connectCluster": {
-                        "type": "string",
-                        "description": "Name of the Kafka Connect cluster (strimzi.io/cluster label)"
-                    },
-                    "className": {
-                        "type": "string",
-                        "description": "Fully qualified connector class name (e.g., org.apache.kafka.connect.file.FileStreamSourceConnector)"
-                    },
-                    "tasksMax": {
-                        "type": "integer",
-                        "description": "Maximum number of tasks (default: 1)"
-                    },
-                    "config": {
-                        "type": "object",
-                        "description": "Connector configuration as key-value pairs"
-                    },
-                    "autoRestart": {
-                        "type": "boolean",
-                        "description": "Enable automatic restart on failure (default: false)"
-                    },
-                    "pause": {
-                        "type": "boolean",
-                        "description": "Create connector in paused state (default: false)"
-                    }
-                },
-                "required": ["name", "namespace", "connectCluster", "className"]
-            }
-            """;
+public class CreateConnectorTool extends TypedStrimziTool<CreateConnectorTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name of the KafkaConnector resource to create", required = true) String name,
+            @Arg(value = "Kubernetes namespace to create the connector in", required = true) String namespace,
+            @Arg(value = "Name of the Kafka Connect cluster (strimzi.io/cluster label)", required = true)
+            String connectCluster,
+            @Arg(value = "Fully qualified connector class name (e.g., org.apache.kafka.connect.file.FileStreamSourceConnector)",
+                    required = true)
+            String className,
+            @Arg(value = "Maximum number of tasks (default: 1)", defaultValue = "1") int tasksMax,
+            @Arg("Connector configuration as key-value pairs") Map<String, Object> config,
+            @Arg(value = "Enable automatic restart on failure (default: false)", defaultValue = "false")
+            boolean autoRestart,
+            @Arg(value = "Create connector in paused state (default: false)", defaultValue = "false") boolean pause) {
+    }
 
     public CreateConnectorTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, CreateConnectorToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -73,23 +48,21 @@ public class CreateConnectorTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return false;
     }
 
     @Override
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String name = getStringArg(args, "name");
-            String namespace = getStringArg(args, "namespace");
-            String connectCluster = getStringArg(args, "connectCluster");
-            String className = getStringArg(args, "className");
-            int tasksMax = getIntArg(args, "tasksMax", 1);
-            Map<String, Object> config = getMapArg(args, "config");
-            Boolean autoRestart = args.arguments().get("autoRestart") != null ?
-                    (Boolean) args.arguments().get("autoRestart") : false;
-            Boolean pause = args.arguments().get("pause") != null ?
-                    (Boolean) args.arguments().get("pause") : false;
+            String name = args.name();
+            String namespace = args.namespace();
+            String connectCluster = args.connectCluster();
+            String className = args.className();
+            int tasksMax = args.tasksMax();
+            Map<String, Object> config = args.config();
+            boolean autoRestart = args.autoRestart();
+            boolean pause = args.pause();
 
             // Check if connector already exists
             KafkaConnector existing = kubernetesClient.resources(KafkaConnector.class, KafkaConnectorList.class)
@@ -77,6 +77,11 @@ public class CreateMirrorMaker2Tool extends AbstractStrimziTool {
         return "Create a new KafkaMirrorMaker2 resource for cross-cluster replication";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -1,80 +1,40 @@
 package io.seequick.mcp.tool.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceBuilder;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceMode;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 import java.util.List;
 
 /**
  * Tool to create a new KafkaRebalance resource for Cruise Control.
  */
-public class CreateRebalanceTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "name": {
-                        "type": "string",
-                        "description": "Name of the KafkaRebalance resource to create"
-                    },
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace to create the rebalance in"
-                    },
-                    "kafkaCluster": {
-                        "type": "string",
-                        "description": "Name of the Kafka cluster (strimzi.io/cluster label)"
-                    },
-                    "mode": {
-                        "type": "string",
-                        "enum": ["full", "add-brokers", "remove-brokers"],
-                        "description": "Rebalance mode (default: full)"
-                    },
-                    "brokers": {
-                        "type": "array",
-                        "items": { "type": "integer" },
-                        "description": "Broker IDs for add-brokers or remove-brokers mode"
-                    },
-                    "goals": {
-                        "type": "array",
-                        "items": { "type": "string" },
-                        "description": "Optional: list of optimization goals"
-                    },
-                    "skipHardGoalCheck": {
-                        "type": "boolean",
-                        "description": "Skip hard goal check (default: false)"
-                    },
-                    "rebalanceDisk": {
-                        "type": "boolean",
-                        "description": "Rebalance disk usage (default: false)"
-                    },
-                    "concurrentPartitionMovementsPerBroker": {
-                        "type": "integer",
-                        "description": "Max concurrent partition movements per broker"
-                    },
-                    "concurrentIntraBrokerPartitionMovements": {
-                        "type": "integer",
-                        "description": "Max concurrent intra-broker partition movements"
-                    },
-                    "concurrentLeaderMovements": {
-                        "type": "integer",
-                        "description": "Max concurrent leader movements"
-                    }
-                },
-                "required": ["name", "namespace", "kafkaCluster"]
-            }
-            """;
+public class CreateRebalanceTool extends TypedStrimziTool<CreateRebalanceTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name of the KafkaRebalance resource to create", required = true) String name,
+            @Arg(value = "Kubernetes namespace to create the rebalance in", required = true) String namespace,
+            @Arg(value = "Name of the Kafka cluster (strimzi.io/cluster label)", required = true) String kafkaCluster,
+            @Arg(value = "Rebalance mode (default: full)", allowed = {"full", "add-brokers", "remove-brokers"})
+            String mode,
+            @Arg("Broker IDs for add-brokers or remove-brokers mode") List<Integer> brokers,
+            @Arg("Optional: list of optimization goals") List<String> goals,
+            @Arg(value = "Skip hard goal check (default: false)", defaultValue = "false") boolean skipHardGoalCheck,
+            @Arg(value = "Rebalance disk usage (default: false)", defaultValue = "false") boolean rebalanceDisk,
+            @Arg("Max concurrent partition movements per broker") Integer concurrentPartitionMovementsPerBroker,
+            @Arg("Max concurrent intra-broker partition movements") Integer concurrentIntraBrokerPartitionMovements,
+            @Arg("Max concurrent leader movements") Integer concurrentLeaderMovements) {
+    }
 
     public CreateRebalanceTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, CreateRebalanceToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -88,25 +48,22 @@ public class CreateRebalanceTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return false;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String name = getStringArg(args, "name");
-            String namespace = getStringArg(args, "namespace");
-            String kafkaCluster = getStringArg(args, "kafkaCluster");
-            String mode = getStringArg(args, "mode");
-            List<Integer> brokers = (List<Integer>) args.arguments().get("brokers");
-            List<String> goals = (List<String>) args.arguments().get("goals");
-            Boolean skipHardGoalCheck = (Boolean) args.arguments().get("skipHardGoalCheck");
-            Boolean rebalanceDisk = (Boolean) args.arguments().get("rebalanceDisk");
-            Integer concurrentPartition = getOptionalIntArg(args, "concurrentPartitionMovementsPerBroker");
-            Integer concurrentIntraBroker = getOptionalIntArg(args, "concurrentIntraBrokerPartitionMovements");
-            Integer concurrentLeader = getOptionalIntArg(args, "concurrentLeaderMovements");
+            String name = args.name();
+            String namespace = args.namespace();
+            String kafkaCluster = args.kafkaCluster();
+            String mode = args.mode();
+            List<Integer> brokers = args.brokers();
+            List<String> goals = args.goals();
+            Integer concurrentPartition = args.concurrentPartitionMovementsPerBroker();
+            Integer concurrentIntraBroker = args.concurrentIntraBrokerPartitionMovements();
+            Integer concurrentLeader = args.concurrentLeaderMovements();
 
             // Check if rebalance already exists
             KafkaRebalance existing = kubernetesClient.resources(KafkaRebalance.class, KafkaRebalanceList.class)
@@ -149,10 +106,10 @@ public class CreateRebalanceTool extends AbstractStrimziTool {
             }
 
             // Set options
-            if (Boolean.TRUE.equals(skipHardGoalCheck)) {
+            if (args.skipHardGoalCheck()) {
                 rebalanceBuilder.editSpec().withSkipHardGoalCheck(true).endSpec();
             }
-            if (Boolean.TRUE.equals(rebalanceDisk)) {
+            if (args.rebalanceDisk()) {
                 rebalanceBuilder.editSpec().withRebalanceDisk(true).endSpec();
             }
             if (concurrentPartition != null) {
@@ -183,7 +140,8 @@ public class CreateRebalanceTool extends AbstractStrimziTool {
                 result.append("  Goals: ").append(goals.size()).append(" custom goals\n");
             }
             result.append("\nCruise Control will generate an optimization proposal.\n");
-            result.append("Use describe_rebalance to check the proposal and approve_rebalance to execute it.");
+            result.append("Use wait_for with condition ProposalReady to wait for the proposal, describe_rebalance to check it ");
+            result.append("and approve_rebalance to execute it.");
 
             return success(result.toString());
         } catch (Exception e) {
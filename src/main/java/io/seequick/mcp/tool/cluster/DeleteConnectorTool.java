@@ -44,6 +44,11 @@ public class DeleteConnectorTool extends AbstractStrimziTool {
         return "Delete a KafkaConnector resource (Kafka Connect will remove the connector)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
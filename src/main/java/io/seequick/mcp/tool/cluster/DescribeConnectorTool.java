@@ -7,6 +7,8 @@ import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.connector.KafkaConnectorList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.ToolResultCache;
 
 import java.util.List;
 import java.util.Map;
@@ -47,11 +49,21 @@ public class DescribeConnectorTool extends AbstractStrimziTool {
         return "Get detailed information about a KafkaConnector including configuration, tasks, and status";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected ToolResultCache.Resource cachedResource(McpSchema.CallToolRequest args) {
+        return new ToolResultCache.Resource(StrimziKind.KAFKA_CONNECTOR, getStringArg(args, "namespace"), getStringArg(args, "name"));
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
         try {
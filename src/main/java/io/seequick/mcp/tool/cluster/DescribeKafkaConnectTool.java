@@ -7,6 +7,8 @@ import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.connect.KafkaConnect;
 import io.strimzi.api.kafka.model.connect.KafkaConnectList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.ToolResultCache;
 
 /**
  * Tool to get detailed information about a KafkaConnect cluster.
@@ -44,11 +46,21 @@ public class DescribeKafkaConnectTool extends AbstractStrimziTool {
         return "Get detailed information about a KafkaConnect cluster including plugins and configuration";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected ToolResultCache.Resource cachedResource(McpSchema.CallToolRequest args) {
+        return new ToolResultCache.Resource(StrimziKind.KAFKA_CONNECT, getStringArg(args, "namespace"), getStringArg(args, "name"));
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
         try {
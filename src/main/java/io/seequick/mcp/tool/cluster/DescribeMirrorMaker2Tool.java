@@ -7,6 +7,8 @@ import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.ToolResultCache;
 
 import java.util.Map;
 
@@ -46,11 +48,21 @@ public class DescribeMirrorMaker2Tool extends AbstractStrimziTool {
         return "Get detailed information about a KafkaMirrorMaker2 including clusters, mirrors, and connectors";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected ToolResultCache.Resource cachedResource(McpSchema.CallToolRequest args) {
+        return new ToolResultCache.Resource(StrimziKind.KAFKA_MIRROR_MAKER_2, getStringArg(args, "namespace"), getStringArg(args, "name"));
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
         try {
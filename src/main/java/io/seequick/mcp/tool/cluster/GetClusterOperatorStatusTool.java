@@ -37,6 +37,11 @@ public class GetClusterOperatorStatusTool extends AbstractStrimziTool {
         return "Get status of the Strimzi Cluster Operator deployment";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -39,6 +39,11 @@ public class ListBridgesTool extends AbstractStrimziTool {
         return "List Strimzi KafkaBridge resources for HTTP access to Kafka";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -52,6 +52,11 @@ public class ListConnectPluginsTool extends AbstractStrimziTool {
         return "List available connector plugins in a Kafka Connect cluster";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -1,12 +1,14 @@
 package io.seequick.mcp.tool.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.connector.KafkaConnectorList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.DeltaTracker;
 import io.seequick.mcp.tool.StrimziLabels;
 
 import java.util.Map;
@@ -46,13 +48,28 @@ public class ListConnectorsTool extends AbstractStrimziTool {
         return "List Strimzi KafkaConnector resources";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected boolean supportsDelta() {
+        return true;
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
         try {
             String namespace = getStringArg(args, "namespace");
             String connectCluster = getStringArg(args, "connectCluster");
@@ -60,10 +77,13 @@ public class ListConnectorsTool extends AbstractStrimziTool {
             KafkaConnectorList connectorList = repository(KafkaConnector.class, KafkaConnectorList.class)
                     .list(namespace, connectCluster);
 
+            DeltaTracker.Delta delta = delta(exchange, args);
             StringBuilder result = new StringBuilder();
-            result.append("Found ").append(connectorList.getItems().size()).append(" KafkaConnector(s):\n\n");
-
             for (KafkaConnector connector : connectorList.getItems()) {
+                var metadata = connector.getMetadata();
+                if (!delta.changed(metadata.getNamespace() + "/" + metadata.getName(), metadata.getResourceVersion())) {
+                    continue;
+                }
                 result.append("- ").append(connector.getMetadata().getNamespace())
                         .append("/").append(connector.getMetadata().getName());
 
@@ -105,7 +125,8 @@ public class ListConnectorsTool extends AbstractStrimziTool {
                 result.append("\n");
             }
 
-            return success(result.toString());
+            return success("Found " + delta.total() + " KafkaConnector(s)" + delta.describeChanges() + ":\n\n"
+                    + result + delta.footer());
         } catch (Exception e) {
             return error("Error listing connectors: " + e.getMessage());
         }
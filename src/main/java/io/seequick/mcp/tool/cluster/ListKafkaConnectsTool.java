@@ -39,6 +39,11 @@ public class ListKafkaConnectsTool extends AbstractStrimziTool {
         return "List Strimzi KafkaConnect clusters";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -39,6 +39,11 @@ public class ListMirrorMaker2sTool extends AbstractStrimziTool {
         return "List Strimzi KafkaMirrorMaker2 resources for cross-cluster replication";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -44,6 +44,11 @@ public class ListNodePoolsTool extends AbstractStrimziTool {
         return "List Strimzi KafkaNodePool resources";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -44,6 +44,11 @@ public class ListRebalancesTool extends AbstractStrimziTool {
         return "List Strimzi KafkaRebalance resources (Cruise Control rebalancing operations)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -44,6 +44,11 @@ public class PauseConnectorTool extends AbstractStrimziTool {
         return "Pause a running KafkaConnector (stops processing without deleting)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
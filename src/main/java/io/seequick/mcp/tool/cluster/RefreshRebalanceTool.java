@@ -48,6 +48,11 @@ public class RefreshRebalanceTool extends AbstractStrimziTool {
         return "Refresh a KafkaRebalance proposal to get updated optimization results from Cruise Control";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
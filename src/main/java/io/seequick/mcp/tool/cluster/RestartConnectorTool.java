@@ -54,6 +54,11 @@ public class RestartConnectorTool extends AbstractStrimziTool {
         return "Restart a KafkaConnector or a specific task via Strimzi annotation";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -44,6 +44,11 @@ public class ResumeConnectorTool extends AbstractStrimziTool {
         return "Resume a paused KafkaConnector";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
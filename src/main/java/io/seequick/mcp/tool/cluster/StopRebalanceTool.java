@@ -48,6 +48,11 @@ public class StopRebalanceTool extends AbstractStrimziTool {
         return "Stop an in-progress KafkaRebalance operation (Cruise Control will stop partition movements)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
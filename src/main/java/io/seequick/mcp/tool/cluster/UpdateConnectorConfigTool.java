@@ -1,12 +1,12 @@
 package io.seequick.mcp.tool.cluster;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.connector.KafkaConnectorList;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,39 +14,20 @@ import java.util.Map;
 /**
  * Tool to update configuration of an existing KafkaConnector.
  */
-public class UpdateConnectorConfigTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "name": {
-                        "type": "string",
-                        "description": "Name of the KafkaConnector resource"
-                    },
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace of the connector"
-                    },
-                    "config": {
-                        "type": "object",
-                        "description": "Configuration key-value pairs to update (merged with existing config)"
-                    },
-                    "tasksMax": {
-                        "type": "integer",
-                        "description": "Optional: update maximum number of tasks"
-                    },
-                    "replace": {
-                        "type": "boolean",
-                        "description": "If true, replace all config instead of merging (default: false)"
-                    }
-                },
-                "required": ["name", "namespace"]
-            }
-            """;
+public class UpdateConnectorConfigTool extends TypedStrimziTool<UpdateConnectorConfigTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name of the KafkaConnector resource", required = true) String name,
+            @Arg(value = "Kubernetes namespace of the connector", required = true) String namespace,
+            @Arg("Configuration key-value pairs to update (merged with existing config)") Map<String, Object> config,
+            @Arg("Optional: update maximum number of tasks") Integer tasksMax,
+            @Arg(value = "If true, replace all config instead of merging (default: false)", defaultValue = "false")
+            boolean replace) {
+    }
 
     public UpdateConnectorConfigTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, UpdateConnectorConfigToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -60,19 +41,18 @@ public class UpdateConnectorConfigTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return false;
     }
 
     @Override
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String name = getStringArg(args, "name");
-            String namespace = getStringArg(args, "namespace");
-            Map<String, Object> newConfig = getMapArg(args, "config");
-            Integer tasksMax = getOptionalIntArg(args, "tasksMax");
-            Boolean replace = args.arguments().get("replace") != null ?
-                    (Boolean) args.arguments().get("replace") : false;
+            String name = args.name();
+            String namespace = args.namespace();
+            Map<String, Object> newConfig = args.config();
+            Integer tasksMax = args.tasksMax();
+            boolean replace = args.replace();
 
             KafkaConnector connector = kubernetesClient.resources(KafkaConnector.class, KafkaConnectorList.class)
                     .inNamespace(namespace)
@@ -90,7 +70,7 @@ public class UpdateConnectorConfigTool extends AbstractStrimziTool {
 
             // Prepare final config
             Map<String, Object> finalConfig;
-            if (Boolean.TRUE.equals(replace) && newConfig != null) {
+            if (replace && newConfig != null) {
                 finalConfig = new HashMap<>(newConfig);
             } else if (newConfig != null) {
                 finalConfig = existingConfig != null ? new HashMap<>(existingConfig) : new HashMap<>();
@@ -0,0 +1,28 @@
+package io.seequick.mcp.tool.factory;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.seequick.mcp.tool.FleetTool;
+import io.seequick.mcp.tool.StrimziTool;
+import io.seequick.mcp.tool.kafka.ListKafkasTool;
+import io.seequick.mcp.tool.observability.HealthCheckTool;
+import io.seequick.mcp.tool.utility.GetStrimziVersionTool;
+
+import java.util.List;
+
+/**
+ * Factory for fleet-wide tools that query all Kubernetes contexts concurrently.
+ */
+public class FleetToolFactory implements ToolFactory {
+
+    @Override
+    public List<StrimziTool> createTools(KubernetesClient client) {
+        return List.of(
+                new FleetTool(client, new ListKafkasTool(client), "fleet_list_kafkas",
+                        "List Kafka clusters across all Kubernetes contexts concurrently"),
+                new FleetTool(client, new HealthCheckTool(client), "fleet_health_check",
+                        "Run the health check across all Kubernetes contexts concurrently"),
+                new FleetTool(client, new GetStrimziVersionTool(client), "fleet_get_strimzi_version",
+                        "Get Strimzi operator and Kafka versions across all Kubernetes contexts concurrently")
+        );
+    }
+}
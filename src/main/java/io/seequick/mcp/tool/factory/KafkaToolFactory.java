@@ -2,6 +2,7 @@ package io.seequick.mcp.tool.factory;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.seequick.mcp.tool.StrimziTool;
+import io.seequick.mcp.tool.kafka.AdviseKafkaTuningTool;
 import io.seequick.mcp.tool.kafka.GetKafkaListenersTool;
 import io.seequick.mcp.tool.kafka.GetKafkaStatusTool;
 import io.seequick.mcp.tool.kafka.ListKafkasTool;
@@ -22,7 +23,8 @@ public class KafkaToolFactory implements ToolFactory {
                 new GetKafkaStatusTool(client),
                 new GetKafkaListenersTool(client),
                 new RestartKafkaBrokerTool(client),
-                new ScaleNodePoolTool(client)
+                new ScaleNodePoolTool(client),
+                new AdviseKafkaTuningTool(client)
         );
     }
 }
@@ -2,12 +2,14 @@ package io.seequick.mcp.tool.factory;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.seequick.mcp.tool.StrimziTool;
+import io.seequick.mcp.tool.topic.AnalyzeTopicConfigDriftTool;
 import io.seequick.mcp.tool.topic.CompareTopicConfigTool;
 import io.seequick.mcp.tool.topic.CreateTopicTool;
 import io.seequick.mcp.tool.topic.DeleteTopicTool;
 import io.seequick.mcp.tool.topic.DescribeTopicTool;
 import io.seequick.mcp.tool.topic.GetTopicOperatorStatusTool;
 import io.seequick.mcp.tool.topic.GetUnreadyTopicsTool;
+import io.seequick.mcp.tool.topic.LintTopicConfigTool;
 import io.seequick.mcp.tool.topic.ListTopicsTool;
 import io.seequick.mcp.tool.topic.UpdateTopicConfigTool;
 
@@ -28,7 +30,9 @@ public class TopicToolFactory implements ToolFactory {
                 new UpdateTopicConfigTool(client),
                 new GetUnreadyTopicsTool(client),
                 new GetTopicOperatorStatusTool(client),
-                new CompareTopicConfigTool(client)
+                new CompareTopicConfigTool(client),
+                new AnalyzeTopicConfigDriftTool(client),
+                new LintTopicConfigTool(client)
         );
     }
 }
@@ -3,8 +3,12 @@ package io.seequick.mcp.tool.factory;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.seequick.mcp.tool.StrimziTool;
 import io.seequick.mcp.tool.utility.ExportResourceYamlTool;
+import io.seequick.mcp.tool.utility.GetServerMetricsTool;
 import io.seequick.mcp.tool.utility.GetStrimziVersionTool;
 import io.seequick.mcp.tool.utility.ListAllResourcesTool;
+import io.seequick.mcp.tool.utility.QueryResourcesTool;
+import io.seequick.mcp.tool.utility.SearchResourcesTool;
+import io.seequick.mcp.tool.utility.WaitForTool;
 
 import java.util.List;
 
@@ -17,8 +21,12 @@ public class UtilityToolFactory implements ToolFactory {
     public List<StrimziTool> createTools(KubernetesClient client) {
         return List.of(
                 new ExportResourceYamlTool(client),
+                new GetServerMetricsTool(client),
                 new GetStrimziVersionTool(client),
-                new ListAllResourcesTool(client)
+                new ListAllResourcesTool(client),
+                new QueryResourcesTool(client),
+                new SearchResourcesTool(client),
+                new WaitForTool(client)
         );
     }
 }
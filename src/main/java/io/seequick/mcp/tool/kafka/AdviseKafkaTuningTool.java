@@ -0,0 +1,216 @@
+package io.seequick.mcp.tool.kafka;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.seequick.mcp.tool.ResponseRenderer;
+import io.seequick.mcp.tool.Severity;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import io.seequick.mcp.tool.args.ToolArguments;
+import io.seequick.mcp.tool.kafka.KafkaTuningAdvisor.Advice;
+import io.seequick.mcp.tool.kafka.KafkaTuningAdvisor.Pool;
+import io.strimzi.api.kafka.model.kafka.JbodStorage;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaList;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorage;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
+/**
+ * Tool to review the broker configuration and sizing of a Kafka cluster with the {@link KafkaTuningAdvisor}.
+ */
+public class AdviseKafkaTuningTool extends TypedStrimziTool<AdviseKafkaTuningTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name of the Kafka cluster", required = true) String name,
+            @Arg(value = "Kubernetes namespace of the Kafka cluster", required = true) String namespace) {
+    }
+
+    public AdviseKafkaTuningTool(KubernetesClient kubernetesClient) {
+        super(kubernetesClient, AdviseKafkaTuningToolArgumentsBinder.INSTANCE);
+    }
+
+    @Override
+    protected String getName() {
+        return "advise_kafka_tuning";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Review the broker configuration and sizing of a Kafka cluster and its node pools (heap vs memory "
+                + "limit, I/O, network and replica fetcher threads vs CPU, socket buffers, missing CPU requests and "
+                + "limits, JBOD volume imbalance, KRaft controllers co-located with brokers) and suggest concrete "
+                + "values";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected CallToolResult execute(Arguments args) {
+        return execute(null, null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                     Arguments args) {
+        ResponseRenderer renderer;
+        try {
+            renderer = renderer(request);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+        String name = args.name();
+        String namespace = args.namespace();
+
+        try {
+            Kafka kafka = kubernetesClient.resources(Kafka.class, KafkaList.class)
+                    .inNamespace(namespace)
+                    .withName(name)
+                    .get();
+            if (kafka == null) {
+                return error("Kafka cluster not found: " + namespace + "/" + name);
+            }
+            List<KafkaNodePool> nodePools = repository(KafkaNodePool.class, KafkaNodePoolList.class)
+                    .list(namespace, name).getItems();
+            List<Pool> pools = KafkaTuningAdvisor.pools(kafka, nodePools);
+            if (pools.isEmpty()) {
+                return error("No KafkaNodePools found for Kafka cluster " + namespace + "/" + name);
+            }
+            List<Advice> advice = KafkaTuningAdvisor.advise(kafka, pools);
+
+            for (Advice finding : advice) {
+                renderer.item(text -> appendAdvice(text, finding), json -> writeAdvice(json, finding));
+            }
+            return renderer.result(() -> header(namespace, name, pools, advice) + poolsText(pools)
+                            + (advice.isEmpty() ? "" : "\nFINDINGS (worst first)\n" + renderer.render()),
+                    json -> {
+                        field(json, "namespace", namespace);
+                        field(json, "name", name);
+                        json.writeArrayFieldStart("pools");
+                        for (Pool pool : pools) {
+                            writePool(json, pool);
+                        }
+                        json.writeEndArray();
+                    });
+        } catch (Exception e) {
+            return error("Error advising on Kafka tuning: " + e.getMessage());
+        }
+    }
+
+    private static String header(String namespace, String name, List<Pool> pools, List<Advice> advice) {
+        int brokers = pools.stream().filter(Pool::isBroker).mapToInt(Pool::replicas).sum();
+        int controllers = pools.stream().filter(Pool::isController).mapToInt(Pool::replicas).sum();
+        List<String> bySeverity = new ArrayList<>();
+        for (Severity severity : Severity.values()) {
+            bySeverity.add(advice.stream().filter(finding -> finding.severity() == severity).count() + " "
+                    + severity.name().toLowerCase(Locale.ROOT));
+        }
+        return "Tuning advice for Kafka " + namespace + "/" + name + ": " + pools.size() + " node pool(s), "
+                + brokers + " broker(s), " + controllers + " controller(s); " + advice.size() + " finding(s) ("
+                + String.join(", ", bySeverity) + ")\n";
+    }
+
+    private static String poolsText(List<Pool> pools) {
+        StringBuilder text = new StringBuilder("\nNODE POOLS\n");
+        for (Pool pool : pools) {
+            text.append("- ").append(pool.name()).append(": ").append(pool.replicas()).append(" x ")
+                    .append(roles(pool))
+                    .append(", cpu ").append(cpu(pool, false)).append(" (limit ").append(cpu(pool, true)).append(")")
+                    .append(", memory ").append(memory(pool, false)).append(" (limit ").append(memory(pool, true))
+                    .append(")")
+                    .append(", -Xmx ").append(pool.jvmOptions() != null && pool.jvmOptions().getXmx() != null
+                            ? pool.jvmOptions().getXmx() : "default");
+            String storage = storage(pool);
+            if (storage != null) {
+                text.append(", storage ").append(storage);
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    private static void appendAdvice(StringBuilder text, Advice advice) {
+        text.append("- [").append(advice.severity()).append("] ").append(advice.scope()).append(": ")
+                .append(advice.setting()).append(" - ").append(advice.problem()).append("\n")
+                .append("  Suggested: ").append(advice.suggestion()).append("\n");
+    }
+
+    private static void writeAdvice(JsonGenerator json, Advice advice) throws IOException {
+        json.writeStartObject();
+        field(json, "severity", advice.severity().name());
+        field(json, "scope", advice.scope());
+        field(json, "setting", advice.setting());
+        field(json, "problem", advice.problem());
+        field(json, "suggestion", advice.suggestion());
+        json.writeEndObject();
+    }
+
+    private static void writePool(JsonGenerator json, Pool pool) throws IOException {
+        json.writeStartObject();
+        field(json, "name", pool.name());
+        json.writeNumberField("replicas", pool.replicas());
+        field(json, "roles", roles(pool));
+        field(json, "cpuRequest", cpu(pool, false));
+        field(json, "cpuLimit", cpu(pool, true));
+        field(json, "memoryRequest", memory(pool, false));
+        field(json, "memoryLimit", memory(pool, true));
+        field(json, "xmx", pool.jvmOptions() != null ? pool.jvmOptions().getXmx() : null);
+        field(json, "storage", storage(pool));
+        json.writeEndObject();
+    }
+
+    private static String roles(Pool pool) {
+        return pool.roles().stream()
+                .map(role -> role.name().toLowerCase(Locale.ROOT))
+                .sorted()
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String cpu(Pool pool, boolean limit) {
+        Double cores = KafkaTuningAdvisor.cpu(pool.resources(), limit);
+        return cores != null ? KafkaTuningAdvisor.formatCpu(cores) : "none";
+    }
+
+    private static String memory(Pool pool, boolean limit) {
+        Long bytes = KafkaTuningAdvisor.memory(pool.resources(), limit);
+        return bytes != null ? KafkaTuningAdvisor.formatQuantity(bytes) : "none";
+    }
+
+    private static String storage(Pool pool) {
+        if (pool.storage() instanceof JbodStorage jbod && jbod.getVolumes() != null) {
+            return "jbod " + jbod.getVolumes().stream()
+                    .map(volume -> volume instanceof PersistentClaimStorage claim ? claim.getSize() : volume.getType())
+                    .toList();
+        }
+        if (pool.storage() instanceof PersistentClaimStorage claim) {
+            return "persistent-claim " + claim.getSize();
+        }
+        return pool.storage() != null ? pool.storage().getType() : null;
+    }
+}
@@ -46,6 +46,11 @@ public class GetKafkaListenersTool extends AbstractStrimziTool {
         return "Get Kafka listener addresses for client connections, including bootstrap addresses and per-broker addresses";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
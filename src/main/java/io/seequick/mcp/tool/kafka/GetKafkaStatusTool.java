@@ -44,6 +44,11 @@ public class GetKafkaStatusTool extends AbstractStrimziTool {
         return "Get detailed status of a Strimzi Kafka cluster";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -0,0 +1,427 @@
+package io.seequick.mcp.tool.kafka;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.seequick.mcp.tool.Severity;
+import io.strimzi.api.kafka.model.common.JvmOptions;
+import io.strimzi.api.kafka.model.kafka.JbodStorage;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorage;
+import io.strimzi.api.kafka.model.kafka.SingleVolumeStorage;
+import io.strimzi.api.kafka.model.kafka.Storage;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the sizing and broker configuration of a Kafka cluster: the {@code spec.kafka.config} and JVM options of
+ * the Kafka resource and the replicas, resources and storage of its KafkaNodePools (a pool without its own JVM
+ * options inherits those of the Kafka resource, as the operator does).
+ * <p>
+ * The thresholds are rules of thumb rather than limits: a finding says why a value is unusual and suggests a
+ * concrete value to start from, derived from the CPU and memory of the pool.
+ */
+public final class KafkaTuningAdvisor {
+
+    static final long GI = 1024L * 1024L * 1024L;
+    static final long MI = 1024L * 1024L;
+
+    private static final Pattern JVM_SIZE = Pattern.compile("(\\d+)([kKmMgGtT]?)");
+
+    /**
+     * Kafka's defaults of the broker configs checked, which apply when {@code spec.kafka.config} does not set them.
+     */
+    static final Map<String, Long> BROKER_DEFAULTS = Map.of(
+            "num.io.threads", 8L,
+            "num.network.threads", 3L,
+            "num.replica.fetchers", 1L,
+            "socket.send.buffer.bytes", 102400L,
+            "socket.receive.buffer.bytes", 102400L,
+            "replica.socket.receive.buffer.bytes", 65536L);
+
+    private KafkaTuningAdvisor() {
+        // Utility class
+    }
+
+    /**
+     * Returns the node pools of the cluster with the JVM options that apply to them.
+     */
+    public static List<Pool> pools(Kafka kafka, List<KafkaNodePool> nodePools) {
+        KafkaClusterSpec spec = kafka.getSpec() != null ? kafka.getSpec().getKafka() : null;
+        JvmOptions clusterJvmOptions = spec != null ? spec.getJvmOptions() : null;
+        List<Pool> pools = new ArrayList<>();
+        for (KafkaNodePool nodePool : nodePools) {
+            var poolSpec = nodePool.getSpec();
+            if (poolSpec == null) {
+                continue;
+            }
+            Set<ProcessRoles> roles = poolSpec.getRoles() == null || poolSpec.getRoles().isEmpty()
+                    ? EnumSet.noneOf(ProcessRoles.class) : EnumSet.copyOf(poolSpec.getRoles());
+            pools.add(new Pool(nodePool.getMetadata().getName(), poolSpec.getReplicas(), roles,
+                    poolSpec.getResources(),
+                    poolSpec.getJvmOptions() != null ? poolSpec.getJvmOptions() : clusterJvmOptions,
+                    poolSpec.getStorage()));
+        }
+        pools.sort(Comparator.comparing(Pool::name));
+        return pools;
+    }
+
+    /**
+     * Returns the findings for the cluster, worst first.
+     */
+    public static List<Advice> advise(Kafka kafka, List<Pool> pools) {
+        Map<String, Object> config = kafka.getSpec() != null && kafka.getSpec().getKafka() != null
+                && kafka.getSpec().getKafka().getConfig() != null ? kafka.getSpec().getKafka().getConfig() : Map.of();
+        int brokers = pools.stream().filter(Pool::isBroker).mapToInt(Pool::replicas).sum();
+        List<Advice> advice = new ArrayList<>();
+
+        checkControllers(pools, brokers, advice);
+        checkSocketBuffers(config, advice);
+        for (Pool pool : pools) {
+            checkResources(pool, advice);
+            checkHeap(pool, advice);
+            if (pool.isBroker()) {
+                checkThreads(pool, config, brokers, advice);
+            }
+            checkJbod(pool, advice);
+        }
+        advice.sort(Comparator.comparing(Advice::severity));
+        return advice;
+    }
+
+    private static void checkControllers(List<Pool> pools, int brokers, List<Advice> advice) {
+        int controllers = pools.stream().filter(Pool::isController).mapToInt(Pool::replicas).sum();
+        if (controllers == 1) {
+            advice.add(new Advice(Severity.WARNING, "cluster", "controllers",
+                    "A single KRaft controller: the cluster cannot change leaders or metadata while it is down",
+                    "3 controller replicas"));
+        } else if (controllers > 0 && controllers % 2 == 0) {
+            advice.add(new Advice(Severity.WARNING, "cluster", "controllers",
+                    controllers + " KRaft controllers tolerate no more failures than " + (controllers - 1)
+                            + ", and every extra voter slows metadata commits",
+                    (controllers - 1) + " or " + (controllers + 1) + " controller replicas"));
+        }
+        for (Pool pool : pools) {
+            if (pool.isBroker() && pool.isController()) {
+                advice.add(new Advice(brokers > 3 ? Severity.WARNING : Severity.INFO, pool.scope(), "roles",
+                        "Controllers share the nodes of brokers: broker load (GC pauses, disk and network "
+                                + "saturation) delays metadata and can stall the quorum",
+                        "a dedicated KafkaNodePool with roles: [controller], replicas: 3, resources: "
+                                + "{requests: {cpu: \"1\", memory: 2Gi}, limits: {memory: 2Gi}}"));
+            }
+        }
+    }
+
+    private static void checkSocketBuffers(Map<String, Object> config, List<Advice> advice) {
+        for (String key : List.of("socket.send.buffer.bytes", "socket.receive.buffer.bytes",
+                "replica.socket.receive.buffer.bytes")) {
+            Long value = longConfig(config, key);
+            if (value == null || value == -1) {
+                continue;
+            }
+            long defaultValue = BROKER_DEFAULTS.get(key);
+            if (value < defaultValue) {
+                advice.add(new Advice(Severity.WARNING, "cluster", key,
+                        key + "=" + value + " is below the default " + defaultValue
+                                + ": small TCP buffers cap the throughput of each connection, most over high-latency "
+                                + "links",
+                        key + ": -1 (let the OS autotune) or at least " + defaultValue));
+            } else if (value > 16 * MI) {
+                advice.add(new Advice(Severity.INFO, "cluster", key,
+                        key + "=" + value + " is larger than the usual kernel maximum (net.core.rmem_max and "
+                                + "wmem_max), which silently caps it",
+                        key + ": -1, or raise the sysctls of the nodes to match"));
+            }
+        }
+    }
+
+    private static void checkResources(Pool pool, List<Advice> advice) {
+        Double cpuRequest = cpu(pool.resources(), false);
+        Double cpuLimit = cpu(pool.resources(), true);
+        Long memoryRequest = memory(pool.resources(), false);
+        Long memoryLimit = memory(pool.resources(), true);
+        Long heap = heap(pool.jvmOptions());
+        String defaultCpu = pool.isBroker() ? "2" : "1";
+        String defaultMemory = pool.isBroker() ? "8Gi" : "2Gi";
+
+        if (cpuRequest == null) {
+            advice.add(new Advice(Severity.WARNING, pool.scope(), "resources.requests.cpu",
+                    "No CPU request: the pods can be scheduled onto busy nodes and get the least CPU under "
+                            + "contention",
+                    "requests.cpu: \"" + (cpuLimit != null ? formatCpu(cpuLimit) : defaultCpu) + "\""));
+        }
+        if (cpuLimit == null) {
+            advice.add(new Advice(Severity.INFO, pool.scope(), "resources.limits.cpu",
+                    "No CPU limit: the pods are never throttled, but they are not in the Guaranteed QoS class and "
+                            + "a noisy neighbour can take the spare CPU",
+                    "limits.cpu: \"" + (cpuRequest != null ? formatCpu(cpuRequest) : defaultCpu)
+                            + "\" for Guaranteed QoS, or leave it unset on dedicated nodes"));
+        }
+        if (memoryLimit == null) {
+            String suggested = memoryRequest != null ? formatQuantity(memoryRequest)
+                    : heap != null ? formatQuantity(2 * heap) : defaultMemory;
+            advice.add(new Advice(Severity.WARNING, pool.scope(), "resources.limits.memory",
+                    "No memory limit: the heap cannot be sized from it and the pods are the first evicted under "
+                            + "node memory pressure",
+                    "limits.memory: " + suggested + " (and requests.memory the same)"));
+        } else if (memoryRequest != null && memoryRequest < memoryLimit) {
+            advice.add(new Advice(Severity.INFO, pool.scope(), "resources.requests.memory",
+                    "requests.memory " + formatQuantity(memoryRequest) + " is below the limit "
+                            + formatQuantity(memoryLimit) + ": the node may not have the page cache the limit allows",
+                    "requests.memory: " + formatQuantity(memoryLimit)));
+        }
+    }
+
+    private static void checkHeap(Pool pool, List<Advice> advice) {
+        Long heap = heap(pool.jvmOptions());
+        if (heap == null) {
+            return;
+        }
+        Long memory = memory(pool.resources(), true);
+        if (memory == null) {
+            memory = memory(pool.resources(), false);
+        }
+        if (memory != null && heap > memory * 0.75) {
+            long suggested = Math.min(memory / 2, 6 * GI);
+            advice.add(new Advice(heap >= memory ? Severity.CRITICAL : Severity.WARNING, pool.scope(),
+                    "jvmOptions.-Xmx",
+                    "-Xmx " + pool.jvmOptions().getXmx() + " is " + Math.round(100.0 * heap / memory) + "% of the "
+                            + formatQuantity(memory) + " memory " + (heap >= memory
+                            ? "limit: the container is OOM-killed as the heap grows"
+                            : "limit: too little is left for off-heap memory and the page cache Kafka reads from"),
+                    "-Xms: " + formatJvm(suggested) + ", -Xmx: " + formatJvm(suggested)));
+            return;
+        }
+        if (heap > 8 * GI) {
+            advice.add(new Advice(Severity.INFO, pool.scope(), "jvmOptions.-Xmx",
+                    "-Xmx " + pool.jvmOptions().getXmx() + " is a large heap: Kafka keeps data in the page cache, "
+                            + "and a large heap mostly lengthens GC pauses",
+                    "-Xms: 6g, -Xmx: 6g, leaving the rest of the memory to the page cache"));
+        }
+        Long initial = jvmSize(pool.jvmOptions().getXms());
+        if (!heap.equals(initial)) {
+            advice.add(new Advice(Severity.INFO, pool.scope(), "jvmOptions.-Xms",
+                    (initial == null ? "-Xms is not set" : "-Xms " + pool.jvmOptions().getXms() + " differs from -Xmx")
+                            + ": the heap is resized under load, with full GCs",
+                    "-Xms: " + pool.jvmOptions().getXmx()));
+        }
+    }
+
+    private static void checkThreads(Pool pool, Map<String, Object> config, int brokers, List<Advice> advice) {
+        Double cpu = cpu(pool.resources(), true);
+        if (cpu == null) {
+            cpu = cpu(pool.resources(), false);
+        }
+        if (cpu == null) {
+            // The missing CPU request is reported; the threads cannot be compared to it
+            return;
+        }
+        String cores = formatCpu(cpu) + " CPU(s)";
+
+        long ioThreads = longConfig(config, "num.io.threads", BROKER_DEFAULTS.get("num.io.threads"));
+        long suggestedIo = clamp(Math.round(2 * cpu), 4, 32);
+        if (ioThreads > 2 * suggestedIo || 2 * ioThreads < suggestedIo) {
+            advice.add(new Advice(ioThreads > suggestedIo ? Severity.WARNING : Severity.INFO, pool.scope(),
+                    "num.io.threads",
+                    "num.io.threads=" + ioThreads + " for " + cores + (ioThreads > suggestedIo
+                            ? ": the request handler threads contend for CPU and context switches add latency"
+                            : ": requests queue behind too few request handler threads"),
+                    "num.io.threads: " + suggestedIo + " (about 2 per CPU)"));
+        }
+
+        long networkThreads = longConfig(config, "num.network.threads", BROKER_DEFAULTS.get("num.network.threads"));
+        long suggestedNetwork = clamp(Math.round(cpu / 2), 3, 16);
+        if (networkThreads > 2 * suggestedNetwork || 2 * networkThreads < suggestedNetwork) {
+            advice.add(new Advice(networkThreads > suggestedNetwork ? Severity.WARNING : Severity.INFO,
+                    pool.scope(), "num.network.threads",
+                    "num.network.threads=" + networkThreads + " for " + cores + (networkThreads > suggestedNetwork
+                            ? ": more network threads than the CPUs can run"
+                            : ": the network threads saturate before the CPUs (watch NetworkProcessorAvgIdlePercent)"),
+                    "num.network.threads: " + suggestedNetwork + " (about 1 per 2 CPUs, at least 3)"));
+        }
+
+        long fetchers = longConfig(config, "num.replica.fetchers", BROKER_DEFAULTS.get("num.replica.fetchers"));
+        long suggestedFetchers = clamp(Math.round(cpu / 4), brokers >= 6 ? 2 : 1, 8);
+        if (fetchers > Math.max(cpu, 1)) {
+            advice.add(new Advice(Severity.WARNING, pool.scope(), "num.replica.fetchers",
+                    "num.replica.fetchers=" + fetchers + " for " + cores
+                            + ": replication threads compete with request handling",
+                    "num.replica.fetchers: " + suggestedFetchers));
+        } else if (fetchers < suggestedFetchers) {
+            advice.add(new Advice(Severity.INFO, pool.scope(), "num.replica.fetchers",
+                    "num.replica.fetchers=" + fetchers + " with " + brokers + " broker(s) and " + cores
+                            + ": one fetcher per source broker can leave followers lagging and shrink the ISR "
+                            + "under load",
+                    "num.replica.fetchers: " + suggestedFetchers));
+        }
+    }
+
+    private static void checkJbod(Pool pool, List<Advice> advice) {
+        if (!(pool.storage() instanceof JbodStorage jbod) || jbod.getVolumes() == null) {
+            return;
+        }
+        List<Long> sizes = new ArrayList<>();
+        for (SingleVolumeStorage volume : jbod.getVolumes()) {
+            if (volume instanceof PersistentClaimStorage claim && claim.getSize() != null) {
+                sizes.add(bytes(new Quantity(claim.getSize())));
+            }
+        }
+        if (sizes.size() < 2) {
+            return;
+        }
+        long smallest = sizes.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long largest = sizes.stream().mapToLong(Long::longValue).max().orElseThrow();
+        if (largest > smallest * 1.1) {
+            advice.add(new Advice(Severity.WARNING, pool.scope(), "storage.volumes",
+                    "JBOD volumes of " + sizes.stream().map(KafkaTuningAdvisor::formatQuantity).toList()
+                            + ": Kafka places new partitions on the log directory with the fewest partitions, not "
+                            + "the most free space, so the smaller volumes fill up first",
+                    "size: " + formatQuantity(largest) + " on all " + sizes.size() + " volumes"));
+        }
+    }
+
+    /**
+     * Returns the CPU request or limit in cores, or null if it is not set.
+     */
+    static Double cpu(ResourceRequirements resources, boolean limit) {
+        Quantity quantity = quantity(resources, "cpu", limit);
+        return quantity != null ? quantity.getNumericalAmount().doubleValue() : null;
+    }
+
+    /**
+     * Returns the memory request or limit in bytes, or null if it is not set.
+     */
+    static Long memory(ResourceRequirements resources, boolean limit) {
+        Quantity quantity = quantity(resources, "memory", limit);
+        return quantity != null ? bytes(quantity) : null;
+    }
+
+    /**
+     * Returns the -Xmx in bytes, or null if it is not set.
+     */
+    static Long heap(JvmOptions jvmOptions) {
+        return jvmOptions != null ? jvmSize(jvmOptions.getXmx()) : null;
+    }
+
+    /**
+     * Parses a JVM memory size such as {@code 4g} or {@code 512m}, returning null if it is not one.
+     */
+    static Long jvmSize(String size) {
+        if (size == null) {
+            return null;
+        }
+        Matcher matcher = JVM_SIZE.matcher(size.strip());
+        if (!matcher.matches()) {
+            return null;
+        }
+        long value = Long.parseLong(matcher.group(1));
+        return switch (matcher.group(2).toLowerCase(Locale.ROOT)) {
+            case "k" -> value * 1024L;
+            case "m" -> value * MI;
+            case "g" -> value * GI;
+            case "t" -> value * GI * 1024L;
+            default -> value;
+        };
+    }
+
+    static String formatQuantity(long bytes) {
+        if (bytes % GI == 0) {
+            return bytes / GI + "Gi";
+        }
+        if (bytes % MI == 0) {
+            return bytes / MI + "Mi";
+        }
+        return Long.toString(bytes);
+    }
+
+    static String formatJvm(long bytes) {
+        return bytes % GI == 0 ? bytes / GI + "g" : Math.max(1, bytes / MI) + "m";
+    }
+
+    static String formatCpu(double cores) {
+        return cores == Math.rint(cores) ? Long.toString((long) cores) : Math.round(cores * 1000) + "m";
+    }
+
+    private static Quantity quantity(ResourceRequirements resources, String resource, boolean limit) {
+        if (resources == null) {
+            return null;
+        }
+        Map<String, Quantity> quantities = limit ? resources.getLimits() : resources.getRequests();
+        return quantities != null ? quantities.get(resource) : null;
+    }
+
+    private static long bytes(Quantity quantity) {
+        return quantity.getNumericalAmount().setScale(0, RoundingMode.CEILING).longValue();
+    }
+
+    private static Long longConfig(Map<String, Object> config, String key) {
+        Object value = config.get(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString().strip()).longValue();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long longConfig(Map<String, Object> config, String key, long defaultValue) {
+        Long value = longConfig(config, key);
+        return value != null ? value : defaultValue;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
+    /**
+     * A node pool with the resources and JVM options that apply to it.
+     *
+     * @param name       The name of the KafkaNodePool
+     * @param replicas   The replicas
+     * @param roles      The roles
+     * @param resources  The resources, or null
+     * @param jvmOptions The JVM options, or null
+     * @param storage    The storage, or null
+     */
+    public record Pool(String name, int replicas, Set<ProcessRoles> roles, ResourceRequirements resources,
+                       JvmOptions jvmOptions, Storage storage) {
+
+        public boolean isBroker() {
+            return roles.contains(ProcessRoles.BROKER);
+        }
+
+        public boolean isController() {
+            return roles.contains(ProcessRoles.CONTROLLER);
+        }
+
+        String scope() {
+            return "pool " + name;
+        }
+    }
+
+    /**
+     * A finding.
+     *
+     * @param severity   The severity
+     * @param scope      "cluster" for {@code spec.kafka.config}, "pool NAME" for a node pool
+     * @param setting    The setting concerned, e.g. "num.io.threads" or "resources.limits.memory"
+     * @param problem    Why the current value is a problem
+     * @param suggestion The suggested value
+     */
+    public record Advice(Severity severity, String scope, String setting, String problem, String suggestion) {
+    }
+}
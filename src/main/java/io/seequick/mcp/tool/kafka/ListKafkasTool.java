@@ -39,6 +39,11 @@ public class ListKafkasTool extends AbstractStrimziTool {
         return "List Strimzi Kafka clusters in the Kubernetes cluster";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -2,6 +2,7 @@ package io.seequick.mcp.tool.kafka;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
@@ -10,9 +11,15 @@ import io.strimzi.api.kafka.model.kafka.KafkaList;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.seequick.mcp.tool.progress.ProgressReporter;
+import io.seequick.mcp.tool.progress.RollingRestartTracker;
+import io.seequick.mcp.tool.progress.TrackingResult;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Tool to trigger a rolling restart of Kafka brokers via annotation.
@@ -38,6 +45,14 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
                     "podName": {
                         "type": "string",
                         "description": "Optional: specific pod name to restart. If not specified, restarts all pods in the scope"
+                    },
+                    "track": {
+                        "type": "boolean",
+                        "description": "Wait for the restart to finish, streaming progress notifications (pods rolled N/M). Default: false"
+                    },
+                    "timeoutSeconds": {
+                        "type": "integer",
+                        "description": "Maximum time to track the restart in seconds when track is true (default: 1800, max: 7200)"
                     }
                 },
                 "required": ["name", "namespace"]
@@ -45,6 +60,8 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
             """;
 
     private static final String RESTART_ANNOTATION = "strimzi.io/manual-rolling-update";
+    private static final int DEFAULT_TRACK_TIMEOUT_SECONDS = 1800;
+    private static final int MAX_TRACK_TIMEOUT_SECONDS = 7200;
 
     public RestartKafkaBrokerTool(KubernetesClient kubernetesClient) {
         super(kubernetesClient);
@@ -60,6 +77,11 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
         return "Trigger a rolling restart of Kafka brokers via Strimzi annotation. Can restart all brokers, a specific node pool, or a single pod.";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -67,11 +89,21 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
 
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
         try {
             String name = getStringArg(args, "name");
             String namespace = getStringArg(args, "namespace");
             String nodePool = getStringArg(args, "nodePool");
             String podName = getStringArg(args, "podName");
+            boolean track = getBooleanArg(args, "track", false);
+            int timeoutSeconds = getIntArg(args, "timeoutSeconds", DEFAULT_TRACK_TIMEOUT_SECONDS);
+            if (timeoutSeconds <= 0 || timeoutSeconds > MAX_TRACK_TIMEOUT_SECONDS) {
+                return error("timeoutSeconds must be between 1 and " + MAX_TRACK_TIMEOUT_SECONDS);
+            }
 
             // Verify Kafka cluster exists
             Kafka kafka = kubernetesClient.resources(Kafka.class, KafkaList.class)
@@ -85,6 +117,7 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
 
             StringBuilder result = new StringBuilder();
             String timestamp = Instant.now().toString();
+            RollingRestartTracker tracker = null;
 
             if (podName != null) {
                 // Restart specific pod
@@ -97,6 +130,10 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
                     return error("Pod not found: " + namespace + "/" + podName);
                 }
 
+                if (track) {
+                    tracker = RollingRestartTracker.forPod(kubernetesClient, namespace, podName);
+                }
+
                 kubernetesClient.pods()
                         .inNamespace(namespace)
                         .withName(podName)
@@ -118,6 +155,11 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
                     return error("StrimziPodSet not found: " + namespace + "/" + podSetName);
                 }
 
+                if (track) {
+                    tracker = RollingRestartTracker.forPods(kubernetesClient, namespace,
+                            Map.of(StrimziLabels.CLUSTER, name, StrimziLabels.POOL_NAME, nodePool));
+                }
+
                 kubernetesClient.resources(StrimziPodSet.class, StrimziPodSetList.class)
                         .inNamespace(namespace)
                         .withName(podSetName)
@@ -131,6 +173,11 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
 
                 result.append("Triggered rolling restart for node pool: ").append(nodePool).append("\n");
             } else {
+                if (track) {
+                    tracker = RollingRestartTracker.forPods(kubernetesClient, namespace,
+                            Map.of(StrimziLabels.CLUSTER, name, StrimziLabels.NAME, name + "-kafka"));
+                }
+
                 // Restart all Kafka pods via Kafka resource annotation
                 kubernetesClient.resources(Kafka.class, KafkaList.class)
                         .inNamespace(namespace)
@@ -146,8 +193,15 @@ public class RestartKafkaBrokerTool extends AbstractStrimziTool {
                 result.append("Triggered rolling restart for all Kafka brokers in cluster: ").append(name).append("\n");
             }
 
+            if (tracker != null) {
+                TrackingResult tracking = tracker.track(ProgressReporter.of(exchange, args),
+                        Duration.ofSeconds(timeoutSeconds));
+                result.append(tracking.format());
+                return tracking.succeeded() ? success(result.toString()) : error(result.toString());
+            }
+
             result.append("\nThe Cluster Operator will perform the rolling restart. ");
-            result.append("Use get_kafka_status to monitor progress.");
+            result.append("Use wait_for on the Kafka resource to wait until it is Ready again, or get_kafka_status to inspect progress.");
 
             return success(result.toString());
         } catch (Exception e) {
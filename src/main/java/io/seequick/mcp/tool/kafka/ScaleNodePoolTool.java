@@ -1,12 +1,21 @@
 package io.seequick.mcp.tool.kafka;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.seequick.mcp.tool.progress.NodePoolScaleTracker;
+import io.seequick.mcp.tool.progress.ProgressReporter;
+import io.seequick.mcp.tool.progress.TrackingResult;
+
+import java.time.Duration;
 
 /**
  * Tool to scale a KafkaNodePool by adjusting the replica count.
@@ -28,12 +37,23 @@ public class ScaleNodePoolTool extends AbstractStrimziTool {
                     "replicas": {
                         "type": "integer",
                         "description": "Desired number of replicas"
+                    },
+                    "track": {
+                        "type": "boolean",
+                        "description": "Wait for the scaling to finish, streaming progress notifications (pods added/removed). Default: false"
+                    },
+                    "timeoutSeconds": {
+                        "type": "integer",
+                        "description": "Maximum time to track the scaling in seconds when track is true (default: 1800, max: 7200)"
                     }
                 },
                 "required": ["name", "namespace", "replicas"]
             }
             """;
 
+    private static final int DEFAULT_TRACK_TIMEOUT_SECONDS = 1800;
+    private static final int MAX_TRACK_TIMEOUT_SECONDS = 7200;
+
     public ScaleNodePoolTool(KubernetesClient kubernetesClient) {
         super(kubernetesClient);
     }
@@ -48,6 +68,11 @@ public class ScaleNodePoolTool extends AbstractStrimziTool {
         return "Scale a KafkaNodePool by adjusting the number of replicas";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -55,14 +80,24 @@ public class ScaleNodePoolTool extends AbstractStrimziTool {
 
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
         try {
             String name = getStringArg(args, "name");
             String namespace = getStringArg(args, "namespace");
             int replicas = getIntArg(args, "replicas", -1);
+            boolean track = getBooleanArg(args, "track", false);
+            int timeoutSeconds = getIntArg(args, "timeoutSeconds", DEFAULT_TRACK_TIMEOUT_SECONDS);
 
             if (replicas < 0) {
                 return error("replicas must be a non-negative integer");
             }
+            if (timeoutSeconds <= 0 || timeoutSeconds > MAX_TRACK_TIMEOUT_SECONDS) {
+                return error("timeoutSeconds must be between 1 and " + MAX_TRACK_TIMEOUT_SECONDS);
+            }
 
             KafkaNodePool nodePool = kubernetesClient.resources(KafkaNodePool.class, KafkaNodePoolList.class)
                     .inNamespace(namespace)
@@ -79,6 +114,26 @@ public class ScaleNodePoolTool extends AbstractStrimziTool {
                 return success("KafkaNodePool " + name + " already has " + replicas + " replicas. No change needed.");
             }
 
+            // The pods of a node pool are managed by the StrimziPodSet <cluster>-<pool>
+            String podSetName = null;
+            int currentPods = currentReplicas;
+            if (track) {
+                String kafkaCluster = nodePool.getMetadata().getLabels() != null
+                        ? nodePool.getMetadata().getLabels().get(StrimziLabels.CLUSTER) : null;
+                if (kafkaCluster == null) {
+                    return error("KafkaNodePool " + namespace + "/" + name + " has no " + StrimziLabels.CLUSTER
+                            + " label, cannot track scaling");
+                }
+                podSetName = kafkaCluster + "-" + name;
+                StrimziPodSet podSet = kubernetesClient.resources(StrimziPodSet.class, StrimziPodSetList.class)
+                        .inNamespace(namespace)
+                        .withName(podSetName)
+                        .get();
+                if (podSet != null && podSet.getStatus() != null) {
+                    currentPods = podSet.getStatus().getPods();
+                }
+            }
+
             // Scale the node pool
             kubernetesClient.resources(KafkaNodePool.class, KafkaNodePoolList.class)
                     .inNamespace(namespace)
@@ -100,7 +155,14 @@ public class ScaleNodePoolTool extends AbstractStrimziTool {
                 result.append("\nNote: Partition data will be migrated before removal.");
             }
 
-            result.append("\nUse describe_node_pool to monitor progress.");
+            if (track) {
+                TrackingResult tracking = new NodePoolScaleTracker(kubernetesClient, namespace, podSetName, currentPods, replicas)
+                        .track(ProgressReporter.of(exchange, args), Duration.ofSeconds(timeoutSeconds));
+                result.append(tracking.format());
+                return tracking.succeeded() ? success(result.toString()) : error(result.toString());
+            }
+
+            result.append("\nUse wait_for with condition ReplicasMatched to wait for completion, or describe_node_pool to inspect progress.");
 
             return success(result.toString());
         } catch (Exception e) {
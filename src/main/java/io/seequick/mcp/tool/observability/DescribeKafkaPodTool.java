@@ -1,17 +1,24 @@
 package io.seequick.mcp.tool.observability;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodStatus;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.ResponseRenderer;
 
+import java.io.IOException;
 import java.util.Map;
 
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
 /**
  * Tool to get detailed information about a Kafka/Strimzi pod.
  */
@@ -48,11 +55,26 @@ public class DescribeKafkaPodTool extends AbstractStrimziTool {
         return "Get detailed information about a Kafka/Strimzi pod including resources, status, and events";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
         try {
@@ -68,135 +90,223 @@ public class DescribeKafkaPodTool extends AbstractStrimziTool {
                 return error("Pod not found: " + namespace + "/" + name);
             }
 
-            StringBuilder result = new StringBuilder();
-            result.append("Pod: ").append(namespace).append("/").append(name).append("\n");
-            result.append("═".repeat(60)).append("\n\n");
+            // Containers, the largest part of the output, within the output budget
+            ResponseRenderer renderer = renderer(args);
+            for (Container container : pod.getSpec().getContainers()) {
+                ContainerStatus containerStatus = containerStatus(pod.getStatus(), container);
+                renderer.item(text -> appendContainer(text, container, containerStatus),
+                        json -> writeContainer(json, container, containerStatus));
+            }
+
+            return renderer.result(() -> describe(pod, renderer), json -> writePod(json, pod));
+        } catch (Exception e) {
+            return error("Error describing pod: " + e.getMessage());
+        }
+    }
+
+    private static ContainerStatus containerStatus(PodStatus status, Container container) {
+        if (status.getContainerStatuses() == null) {
+            return null;
+        }
+        return status.getContainerStatuses().stream()
+                .filter(cs -> cs.getName().equals(container.getName()))
+                .findFirst()
+                .orElse(null);
+    }
 
-            // Labels
-            result.append("Labels:\n");
-            Map<String, String> labels = pod.getMetadata().getLabels();
-            if (labels != null) {
-                labels.forEach((k, v) -> result.append("  ").append(k).append(": ").append(v).append("\n"));
+    private static String describe(Pod pod, ResponseRenderer containers) {
+        StringBuilder result = new StringBuilder();
+        result.append("Pod: ").append(pod.getMetadata().getNamespace()).append("/")
+                .append(pod.getMetadata().getName()).append("\n");
+        result.append("═".repeat(60)).append("\n\n");
+
+        // Labels
+        result.append("Labels:\n");
+        Map<String, String> labels = pod.getMetadata().getLabels();
+        if (labels != null) {
+            labels.forEach((k, v) -> result.append("  ").append(k).append(": ").append(v).append("\n"));
+        }
+        result.append("\n");
+
+        // Status
+        var status = pod.getStatus();
+        result.append("Status:\n");
+        result.append("  Phase: ").append(status.getPhase()).append("\n");
+        if (status.getReason() != null) {
+            result.append("  Reason: ").append(status.getReason()).append("\n");
+        }
+        if (status.getMessage() != null) {
+            result.append("  Message: ").append(status.getMessage()).append("\n");
+        }
+        result.append("  Pod IP: ").append(status.getPodIP()).append("\n");
+        result.append("  Node: ").append(pod.getSpec().getNodeName()).append("\n");
+        if (status.getStartTime() != null) {
+            result.append("  Started: ").append(status.getStartTime()).append("\n");
+        }
+        result.append("\n");
+
+        // Conditions
+        if (status.getConditions() != null && !status.getConditions().isEmpty()) {
+            result.append("Conditions:\n");
+            for (var condition : status.getConditions()) {
+                result.append("  ").append(condition.getType()).append(": ")
+                        .append(condition.getStatus());
+                if (condition.getReason() != null) {
+                    result.append(" (").append(condition.getReason()).append(")");
+                }
+                result.append("\n");
             }
             result.append("\n");
+        }
 
-            // Status
-            var status = pod.getStatus();
-            result.append("Status:\n");
-            result.append("  Phase: ").append(status.getPhase()).append("\n");
-            if (status.getReason() != null) {
-                result.append("  Reason: ").append(status.getReason()).append("\n");
-            }
-            if (status.getMessage() != null) {
-                result.append("  Message: ").append(status.getMessage()).append("\n");
-            }
-            result.append("  Pod IP: ").append(status.getPodIP()).append("\n");
-            result.append("  Node: ").append(pod.getSpec().getNodeName()).append("\n");
-            if (status.getStartTime() != null) {
-                result.append("  Started: ").append(status.getStartTime()).append("\n");
-            }
+        result.append("Containers:\n");
+        result.append(containers.render());
+        if (containers.omittedCount() > 0) {
             result.append("\n");
+        }
 
-            // Conditions
-            if (status.getConditions() != null && !status.getConditions().isEmpty()) {
-                result.append("Conditions:\n");
-                for (var condition : status.getConditions()) {
-                    result.append("  ").append(condition.getType()).append(": ")
-                            .append(condition.getStatus());
-                    if (condition.getReason() != null) {
-                        result.append(" (").append(condition.getReason()).append(")");
-                    }
-                    result.append("\n");
+        // Volumes summary
+        if (pod.getSpec().getVolumes() != null && !pod.getSpec().getVolumes().isEmpty()) {
+            result.append("Volumes:\n");
+            for (var volume : pod.getSpec().getVolumes()) {
+                result.append("  ").append(volume.getName());
+                String source = volumeSource(volume);
+                if (source != null) {
+                    result.append(" (").append(source).append(")");
                 }
                 result.append("\n");
             }
+        }
 
-            // Containers
-            result.append("Containers:\n");
-            for (Container container : pod.getSpec().getContainers()) {
-                result.append("  ").append(container.getName()).append(":\n");
-                result.append("    Image: ").append(container.getImage()).append("\n");
-
-                // Resources
-                if (container.getResources() != null) {
-                    var requests = container.getResources().getRequests();
-                    var limits = container.getResources().getLimits();
-
-                    if (requests != null && !requests.isEmpty()) {
-                        result.append("    Requests:\n");
-                        for (Map.Entry<String, Quantity> entry : requests.entrySet()) {
-                            result.append("      ").append(entry.getKey()).append(": ")
-                                    .append(entry.getValue().toString()).append("\n");
-                        }
-                    }
-                    if (limits != null && !limits.isEmpty()) {
-                        result.append("    Limits:\n");
-                        for (Map.Entry<String, Quantity> entry : limits.entrySet()) {
-                            result.append("      ").append(entry.getKey()).append(": ")
-                                    .append(entry.getValue().toString()).append("\n");
-                        }
-                    }
-                }
+        return result.toString();
+    }
+
+    private static void appendContainer(StringBuilder text, Container container, ContainerStatus containerStatus) {
+        text.append("  ").append(container.getName()).append(":\n");
+        text.append("    Image: ").append(container.getImage()).append("\n");
+
+        // Resources
+        if (container.getResources() != null) {
+            var requests = container.getResources().getRequests();
+            var limits = container.getResources().getLimits();
 
-                // Find container status
-                ContainerStatus containerStatus = null;
-                if (status.getContainerStatuses() != null) {
-                    containerStatus = status.getContainerStatuses().stream()
-                            .filter(cs -> cs.getName().equals(container.getName()))
-                            .findFirst()
-                            .orElse(null);
+            if (requests != null && !requests.isEmpty()) {
+                text.append("    Requests:\n");
+                for (Map.Entry<String, Quantity> entry : requests.entrySet()) {
+                    text.append("      ").append(entry.getKey()).append(": ")
+                            .append(entry.getValue().toString()).append("\n");
                 }
+            }
+            if (limits != null && !limits.isEmpty()) {
+                text.append("    Limits:\n");
+                for (Map.Entry<String, Quantity> entry : limits.entrySet()) {
+                    text.append("      ").append(entry.getKey()).append(": ")
+                            .append(entry.getValue().toString()).append("\n");
+                }
+            }
+        }
 
-                if (containerStatus != null) {
-                    result.append("    Status:\n");
-                    result.append("      Ready: ").append(containerStatus.getReady()).append("\n");
-                    result.append("      Restart Count: ").append(containerStatus.getRestartCount()).append("\n");
-
-                    if (containerStatus.getState() != null) {
-                        if (containerStatus.getState().getRunning() != null) {
-                            result.append("      State: Running since ")
-                                    .append(containerStatus.getState().getRunning().getStartedAt()).append("\n");
-                        } else if (containerStatus.getState().getWaiting() != null) {
-                            result.append("      State: Waiting - ")
-                                    .append(containerStatus.getState().getWaiting().getReason()).append("\n");
-                        } else if (containerStatus.getState().getTerminated() != null) {
-                            result.append("      State: Terminated - ")
-                                    .append(containerStatus.getState().getTerminated().getReason()).append("\n");
-                        }
-                    }
+        if (containerStatus != null) {
+            text.append("    Status:\n");
+            text.append("      Ready: ").append(containerStatus.getReady()).append("\n");
+            text.append("      Restart Count: ").append(containerStatus.getRestartCount()).append("\n");
 
-                    if (containerStatus.getLastState() != null && containerStatus.getLastState().getTerminated() != null) {
-                        var lastTerm = containerStatus.getLastState().getTerminated();
-                        result.append("      Last Termination:\n");
-                        result.append("        Reason: ").append(lastTerm.getReason()).append("\n");
-                        result.append("        Exit Code: ").append(lastTerm.getExitCode()).append("\n");
-                        if (lastTerm.getFinishedAt() != null) {
-                            result.append("        Finished: ").append(lastTerm.getFinishedAt()).append("\n");
-                        }
-                    }
+            if (containerStatus.getState() != null) {
+                if (containerStatus.getState().getRunning() != null) {
+                    text.append("      State: Running since ")
+                            .append(containerStatus.getState().getRunning().getStartedAt()).append("\n");
+                } else if (containerStatus.getState().getWaiting() != null) {
+                    text.append("      State: Waiting - ")
+                            .append(containerStatus.getState().getWaiting().getReason()).append("\n");
+                } else if (containerStatus.getState().getTerminated() != null) {
+                    text.append("      State: Terminated - ")
+                            .append(containerStatus.getState().getTerminated().getReason()).append("\n");
                 }
-                result.append("\n");
             }
 
-            // Volumes summary
-            if (pod.getSpec().getVolumes() != null && !pod.getSpec().getVolumes().isEmpty()) {
-                result.append("Volumes:\n");
-                for (var volume : pod.getSpec().getVolumes()) {
-                    result.append("  ").append(volume.getName());
-                    if (volume.getPersistentVolumeClaim() != null) {
-                        result.append(" (PVC: ").append(volume.getPersistentVolumeClaim().getClaimName()).append(")");
-                    } else if (volume.getConfigMap() != null) {
-                        result.append(" (ConfigMap: ").append(volume.getConfigMap().getName()).append(")");
-                    } else if (volume.getSecret() != null) {
-                        result.append(" (Secret: ").append(volume.getSecret().getSecretName()).append(")");
-                    }
-                    result.append("\n");
+            if (containerStatus.getLastState() != null && containerStatus.getLastState().getTerminated() != null) {
+                var lastTerm = containerStatus.getLastState().getTerminated();
+                text.append("      Last Termination:\n");
+                text.append("        Reason: ").append(lastTerm.getReason()).append("\n");
+                text.append("        Exit Code: ").append(lastTerm.getExitCode()).append("\n");
+                if (lastTerm.getFinishedAt() != null) {
+                    text.append("        Finished: ").append(lastTerm.getFinishedAt()).append("\n");
                 }
             }
+        }
+        text.append("\n");
+    }
 
-            return success(result.toString());
-        } catch (Exception e) {
-            return error("Error describing pod: " + e.getMessage());
+    private static void writeContainer(JsonGenerator json, Container container, ContainerStatus containerStatus)
+            throws IOException {
+        json.writeStartObject();
+        field(json, "name", container.getName());
+        field(json, "image", container.getImage());
+        if (container.getResources() != null) {
+            field(json, "requests", container.getResources().getRequests());
+            field(json, "limits", container.getResources().getLimits());
+        }
+        if (containerStatus != null) {
+            field(json, "ready", containerStatus.getReady());
+            field(json, "restarts", containerStatus.getRestartCount());
+            var state = containerStatus.getState();
+            if (state != null && state.getRunning() != null) {
+                field(json, "state", "Running");
+                field(json, "since", state.getRunning().getStartedAt());
+            } else if (state != null && state.getWaiting() != null) {
+                field(json, "state", "Waiting");
+                field(json, "reason", state.getWaiting().getReason());
+            } else if (state != null && state.getTerminated() != null) {
+                field(json, "state", "Terminated");
+                field(json, "reason", state.getTerminated().getReason());
+            }
+            if (containerStatus.getLastState() != null && containerStatus.getLastState().getTerminated() != null) {
+                var lastTerm = containerStatus.getLastState().getTerminated();
+                json.writeObjectFieldStart("lastTermination");
+                field(json, "reason", lastTerm.getReason());
+                field(json, "exitCode", lastTerm.getExitCode());
+                field(json, "finishedAt", lastTerm.getFinishedAt());
+                json.writeEndObject();
+            }
+        }
+        json.writeEndObject();
+    }
+
+    private static void writePod(JsonGenerator json, Pod pod) throws IOException {
+        var status = pod.getStatus();
+        field(json, "namespace", pod.getMetadata().getNamespace());
+        field(json, "name", pod.getMetadata().getName());
+        field(json, "labels", pod.getMetadata().getLabels());
+        field(json, "phase", status.getPhase());
+        field(json, "reason", status.getReason());
+        field(json, "message", status.getMessage());
+        field(json, "podIP", status.getPodIP());
+        field(json, "node", pod.getSpec().getNodeName());
+        field(json, "startTime", status.getStartTime());
+        if (status.getConditions() != null && !status.getConditions().isEmpty()) {
+            json.writeObjectFieldStart("conditions");
+            for (var condition : status.getConditions()) {
+                json.writeStringField(condition.getType(), condition.getStatus());
+            }
+            json.writeEndObject();
+        }
+        if (pod.getSpec().getVolumes() != null && !pod.getSpec().getVolumes().isEmpty()) {
+            json.writeObjectFieldStart("volumes");
+            for (var volume : pod.getSpec().getVolumes()) {
+                json.writeStringField(volume.getName(), volumeSource(volume));
+            }
+            json.writeEndObject();
+        }
+    }
+
+    private static String volumeSource(Volume volume) {
+        if (volume.getPersistentVolumeClaim() != null) {
+            return "PVC: " + volume.getPersistentVolumeClaim().getClaimName();
+        } else if (volume.getConfigMap() != null) {
+            return "ConfigMap: " + volume.getConfigMap().getName();
+        } else if (volume.getSecret() != null) {
+            return "Secret: " + volume.getSecret().getSecretName();
         }
+        return null;
     }
 }
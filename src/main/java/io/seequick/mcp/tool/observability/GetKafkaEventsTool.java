@@ -2,10 +2,10 @@ package io.seequick.mcp.tool.observability;
 
 import io.fabric8.kubernetes.api.model.Event;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 import java.util.Comparator;
 import java.util.List;
@@ -13,40 +13,21 @@ import java.util.List;
 /**
  * Tool to get Kubernetes events for Strimzi resources.
  */
-public class GetKafkaEventsTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace to get events from"
-                    },
-                    "kafkaCluster": {
-                        "type": "string",
-                        "description": "Optional: filter events by Kafka cluster name"
-                    },
-                    "resourceKind": {
-                        "type": "string",
-                        "enum": ["Kafka", "KafkaTopic", "KafkaUser", "KafkaConnect", "KafkaConnector", "Pod", "all"],
-                        "description": "Filter by resource kind (default: all)"
-                    },
-                    "limit": {
-                        "type": "integer",
-                        "description": "Maximum number of events to return (default: 50)"
-                    },
-                    "warnings": {
-                        "type": "boolean",
-                        "description": "Only show Warning events (default: false)"
-                    }
-                },
-                "required": ["namespace"]
-            }
-            """;
+public class GetKafkaEventsTool extends TypedStrimziTool<GetKafkaEventsTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Kubernetes namespace to get events from", required = true) String namespace,
+            @Arg("Optional: filter events by Kafka cluster name") String kafkaCluster,
+            @Arg(value = "Filter by resource kind (default: all)",
+                    allowed = {"Kafka", "KafkaTopic", "KafkaUser", "KafkaConnect", "KafkaConnector", "Pod", "all"})
+            String resourceKind,
+            @Arg(value = "Maximum number of events to return (default: 50)", defaultValue = "50") int limit,
+            @Arg(value = "Only show Warning events (default: false)", defaultValue = "false") boolean warnings) {
+    }
 
     public GetKafkaEventsTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, GetKafkaEventsToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -60,19 +41,18 @@ public class GetKafkaEventsTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String namespace = getStringArg(args, "namespace");
-            String kafkaCluster = getStringArg(args, "kafkaCluster");
-            String resourceKind = getStringArg(args, "resourceKind");
-            int limit = getIntArg(args, "limit", 50);
-            Boolean warningsOnly = args.arguments().get("warnings") != null ?
-                    (Boolean) args.arguments().get("warnings") : false;
+            String namespace = args.namespace();
+            String kafkaCluster = args.kafkaCluster();
+            String resourceKind = args.resourceKind();
+            int limit = args.limit();
+            boolean warningsOnly = args.warnings();
 
             // Get events from namespace
             List<Event> events = kubernetesClient.v1().events()
@@ -84,7 +64,7 @@ public class GetKafkaEventsTool extends AbstractStrimziTool {
             List<Event> filtered = events.stream()
                     .filter(e -> {
                         // Filter by type if warningsOnly
-                        if (Boolean.TRUE.equals(warningsOnly) && !"Warning".equals(e.getType())) {
+                        if (warningsOnly && !"Warning".equals(e.getType())) {
                             return false;
                         }
 
@@ -123,7 +103,7 @@ public class GetKafkaEventsTool extends AbstractStrimziTool {
             if (resourceKind != null && !"all".equalsIgnoreCase(resourceKind)) {
                 result.append("Filtered by kind: ").append(resourceKind).append("\n");
             }
-            if (Boolean.TRUE.equals(warningsOnly)) {
+            if (warningsOnly) {
                 result.append("Showing warnings only\n");
             }
             result.append("Found ").append(filtered.size()).append(" events\n");
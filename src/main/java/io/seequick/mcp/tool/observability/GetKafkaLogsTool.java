@@ -2,53 +2,31 @@ package io.seequick.mcp.tool.observability;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 import java.util.List;
 
 /**
  * Tool to fetch logs from Kafka broker pods.
  */
-public class GetKafkaLogsTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "name": {
-                        "type": "string",
-                        "description": "Name of the Kafka cluster"
-                    },
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace of the Kafka cluster"
-                    },
-                    "podName": {
-                        "type": "string",
-                        "description": "Optional: specific pod name. If not specified, gets logs from the first broker."
-                    },
-                    "lines": {
-                        "type": "integer",
-                        "description": "Number of log lines to retrieve (default: 100, max: 500)"
-                    },
-                    "container": {
-                        "type": "string",
-                        "description": "Container name (default: kafka)"
-                    },
-                    "previous": {
-                        "type": "boolean",
-                        "description": "Get logs from previous container instance (default: false)"
-                    }
-                },
-                "required": ["name", "namespace"]
-            }
-            """;
+public class GetKafkaLogsTool extends TypedStrimziTool<GetKafkaLogsTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name of the Kafka cluster", required = true) String name,
+            @Arg(value = "Kubernetes namespace of the Kafka cluster", required = true) String namespace,
+            @Arg("Optional: specific pod name. If not specified, gets logs from the first broker.") String podName,
+            @Arg(value = "Number of log lines to retrieve (default: 100, max: 500)", defaultValue = "100") int lines,
+            @Arg(value = "Container name (default: kafka)", defaultValue = "kafka") String container,
+            @Arg(value = "Get logs from previous container instance (default: false)", defaultValue = "false")
+            boolean previous) {
+    }
 
     public GetKafkaLogsTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, GetKafkaLogsToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -62,28 +40,20 @@ public class GetKafkaLogsTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String name = getStringArg(args, "name");
-            String namespace = getStringArg(args, "namespace");
-            String podName = getStringArg(args, "podName");
-            int lines = getIntArg(args, "lines", 100);
-            String container = getStringArg(args, "container");
-            if (container == null) {
-                container = "kafka";
-            }
-            Boolean previous = args.arguments().get("previous") != null ?
-                    (Boolean) args.arguments().get("previous") : false;
-
+            String name = args.name();
+            String namespace = args.namespace();
+            String podName = args.podName();
+            String container = args.container();
+            boolean previous = args.previous();
             // Limit lines to prevent excessive output
-            if (lines > 500) {
-                lines = 500;
-            }
+            int lines = Math.min(args.lines(), 500);
 
             String targetPod = podName;
 
@@ -115,7 +85,7 @@ public class GetKafkaLogsTool extends AbstractStrimziTool {
 
             // Get logs
             String logs;
-            if (Boolean.TRUE.equals(previous)) {
+            if (previous) {
                 logs = kubernetesClient.pods()
                         .inNamespace(namespace)
                         .withName(targetPod)
@@ -136,7 +106,7 @@ public class GetKafkaLogsTool extends AbstractStrimziTool {
             result.append("Logs from pod: ").append(namespace).append("/").append(targetPod).append("\n");
             result.append("Container: ").append(container).append("\n");
             result.append("Lines: ").append(lines);
-            if (Boolean.TRUE.equals(previous)) {
+            if (previous) {
                 result.append(" (previous instance)");
             }
             result.append("\n");
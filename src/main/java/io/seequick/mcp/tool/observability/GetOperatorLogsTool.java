@@ -54,6 +54,11 @@ public class GetOperatorLogsTool extends AbstractStrimziTool {
         return "Fetch logs from Strimzi operators (Cluster Operator, Topic Operator, User Operator)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -1,10 +1,13 @@
 package io.seequick.mcp.tool.observability;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.DeltaTracker;
+import io.seequick.mcp.tool.OutputFormat;
 import io.seequick.mcp.tool.observability.health.ConnectorHealthChecker;
 import io.seequick.mcp.tool.observability.health.HealthCheckContext;
 import io.seequick.mcp.tool.observability.health.HealthCheckResult;
@@ -13,7 +16,9 @@ import io.seequick.mcp.tool.observability.health.KafkaHealthChecker;
 import io.seequick.mcp.tool.observability.health.TopicHealthChecker;
 import io.seequick.mcp.tool.observability.health.UserHealthChecker;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Tool to perform a comprehensive health check of Strimzi resources.
@@ -57,14 +62,36 @@ public class HealthCheckTool extends AbstractStrimziTool {
         return "Perform a comprehensive health check of Strimzi resources and report any issues";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsDelta() {
+        return true;
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
         try {
+            OutputFormat format = outputFormat(args);
+            DeltaTracker.Delta delta = delta(exchange, args);
             HealthCheckContext context = new HealthCheckContext(
                     kubernetesClient,
                     getStringArg(args, "namespace"),
@@ -76,7 +103,26 @@ public class HealthCheckTool extends AbstractStrimziTool {
                 checker.check(context, result);
             }
 
-            return success(result.format());
+            Set<String> changed = new HashSet<>();
+            result.sectionTexts().forEach((title, text) -> {
+                if (delta.changed(title, Integer.toHexString(text.hashCode()))) {
+                    changed.add(title);
+                }
+            });
+
+            if (format.isStructured()) {
+                return structured(format, json -> {
+                    json.writeStartObject();
+                    result.writeFields(json, changed::contains);
+                    delta.write(json);
+                    json.writeEndObject();
+                });
+            }
+            String unchanged = delta.isDelta() && changed.size() < delta.total()
+                    ? "(" + (delta.total() - changed.size()) + " unchanged section(s) omitted"
+                            + delta.describeChanges() + ")\n\n"
+                    : "";
+            return success(unchanged + result.format(changed::contains) + delta.footer());
         } catch (Exception e) {
             return error("Error performing health check: " + e.getMessage());
         }
@@ -4,6 +4,7 @@ import io.strimzi.api.kafka.model.connect.KafkaConnect;
 import io.strimzi.api.kafka.model.connect.KafkaConnectList;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.connector.KafkaConnectorList;
+import io.seequick.mcp.tool.StrimziResourceRepository;
 
 import java.util.List;
 
@@ -40,31 +41,15 @@ public class ConnectorHealthChecker implements HealthChecker {
     }
 
     private List<KafkaConnect> listConnects(HealthCheckContext context) {
-        if (context.hasNamespaceFilter()) {
-            return context.getClient().resources(KafkaConnect.class, KafkaConnectList.class)
-                    .inNamespace(context.getNamespace())
-                    .list()
-                    .getItems();
-        } else {
-            return context.getClient().resources(KafkaConnect.class, KafkaConnectList.class)
-                    .inAnyNamespace()
-                    .list()
-                    .getItems();
-        }
+        return new StrimziResourceRepository<>(context.getClient(), KafkaConnect.class, KafkaConnectList.class)
+                .list(context.getNamespace(), null)
+                .getItems();
     }
 
     private List<KafkaConnector> listConnectors(HealthCheckContext context) {
-        if (context.hasNamespaceFilter()) {
-            return context.getClient().resources(KafkaConnector.class, KafkaConnectorList.class)
-                    .inNamespace(context.getNamespace())
-                    .list()
-                    .getItems();
-        } else {
-            return context.getClient().resources(KafkaConnector.class, KafkaConnectorList.class)
-                    .inAnyNamespace()
-                    .list()
-                    .getItems();
-        }
+        return new StrimziResourceRepository<>(context.getClient(), KafkaConnector.class, KafkaConnectorList.class)
+                .list(context.getNamespace(), null)
+                .getItems();
     }
 
     private boolean isUnready(KafkaConnector connector) {
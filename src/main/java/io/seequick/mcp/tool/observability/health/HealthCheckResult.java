@@ -1,7 +1,13 @@
 package io.seequick.mcp.tool.observability.health;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * Accumulator for health check results across multiple checkers.
@@ -9,7 +15,7 @@ import java.util.List;
 public class HealthCheckResult {
 
     private final StringBuilder output;
-    private final List<String> sections;
+    private final List<Section> sections;
     private int totalIssues;
     private int warnings;
 
@@ -24,7 +30,7 @@ public class HealthCheckResult {
      * Starts a new section in the output.
      */
     public HealthCheckResult startSection(String title) {
-        sections.add(title);
+        sections.add(new Section(title, output.length()));
         output.append(title).append("\n");
         output.append("\u2500".repeat(40)).append("\n");
         return this;
@@ -51,6 +57,9 @@ public class HealthCheckResult {
      */
     public void addIssue() {
         totalIssues++;
+        if (!sections.isEmpty()) {
+            sections.get(sections.size() - 1).issues++;
+        }
     }
 
     /**
@@ -58,6 +67,9 @@ public class HealthCheckResult {
      */
     public void addWarning() {
         warnings++;
+        if (!sections.isEmpty()) {
+            sections.get(sections.size() - 1).warnings++;
+        }
     }
 
     public int getTotalIssues() {
@@ -68,14 +80,38 @@ public class HealthCheckResult {
         return warnings;
     }
 
+    /**
+     * Returns the text of each section by title.
+     */
+    public Map<String, String> sectionTexts() {
+        Map<String, String> texts = new LinkedHashMap<>();
+        for (int i = 0; i < sections.size(); i++) {
+            int end = i + 1 < sections.size() ? sections.get(i + 1).start : output.length();
+            texts.put(sections.get(i).title, output.substring(sections.get(i).start, end));
+        }
+        return texts;
+    }
+
     /**
      * Formats the complete health check report.
      */
     public String format() {
+        return format(title -> true);
+    }
+
+    /**
+     * Formats the health check report with the included sections; the summary covers all sections.
+     */
+    public String format(Predicate<String> includeSection) {
         StringBuilder result = new StringBuilder();
         result.append("Strimzi Health Check Report\n");
         result.append("\u2550".repeat(60)).append("\n\n");
-        result.append(output);
+        result.append(output, 0, sections.isEmpty() ? output.length() : sections.get(0).start);
+        sectionTexts().forEach((title, text) -> {
+            if (includeSection.test(title)) {
+                result.append(text);
+            }
+        });
         result.append("\u2550".repeat(60)).append("\n");
         result.append("SUMMARY\n");
 
@@ -93,4 +129,38 @@ public class HealthCheckResult {
 
         return result.toString();
     }
+
+    /**
+     * Writes the fields with the issue and warning counts, in total and for the included sections.
+     */
+    public void writeFields(JsonGenerator json, Predicate<String> includeSection) throws IOException {
+        json.writeBooleanField("healthy", totalIssues == 0 && warnings == 0);
+        json.writeNumberField("issues", totalIssues);
+        json.writeNumberField("warnings", warnings);
+        json.writeArrayFieldStart("sections");
+        for (Section section : sections) {
+            if (!includeSection.test(section.title)) {
+                continue;
+            }
+            json.writeStartObject();
+            json.writeStringField("title", section.title);
+            json.writeNumberField("issues", section.issues);
+            json.writeNumberField("warnings", section.warnings);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
+    private static class Section {
+
+        private final String title;
+        private final int start;
+        private int issues;
+        private int warnings;
+
+        Section(String title, int start) {
+            this.title = title;
+            this.start = start;
+        }
+    }
 }
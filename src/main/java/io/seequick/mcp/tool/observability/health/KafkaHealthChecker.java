@@ -4,6 +4,7 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaList;
 import io.seequick.mcp.tool.StrimziLabels;
+import io.seequick.mcp.tool.StrimziResourceRepository;
 
 import java.util.List;
 
@@ -35,19 +36,9 @@ public class KafkaHealthChecker implements HealthChecker {
     }
 
     private List<Kafka> listKafkas(HealthCheckContext context) {
-        List<Kafka> kafkas;
-
-        if (context.hasNamespaceFilter()) {
-            kafkas = context.getClient().resources(Kafka.class, KafkaList.class)
-                    .inNamespace(context.getNamespace())
-                    .list()
-                    .getItems();
-        } else {
-            kafkas = context.getClient().resources(Kafka.class, KafkaList.class)
-                    .inAnyNamespace()
-                    .list()
-                    .getItems();
-        }
+        List<Kafka> kafkas = new StrimziResourceRepository<>(context.getClient(), Kafka.class, KafkaList.class)
+                .list(context.getNamespace(), null)
+                .getItems();
 
         if (context.hasClusterFilter()) {
             kafkas = kafkas.stream()
@@ -2,7 +2,7 @@ package io.seequick.mcp.tool.observability.health;
 
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicList;
-import io.seequick.mcp.tool.StrimziLabels;
+import io.seequick.mcp.tool.StrimziResourceRepository;
 
 import java.util.List;
 
@@ -38,31 +38,9 @@ public class TopicHealthChecker implements HealthChecker {
     }
 
     private List<KafkaTopic> listTopics(HealthCheckContext context) {
-        List<KafkaTopic> topics;
-
-        if (context.hasNamespaceFilter()) {
-            var topicsResource = context.getClient().resources(KafkaTopic.class, KafkaTopicList.class)
-                    .inNamespace(context.getNamespace());
-            if (context.hasClusterFilter()) {
-                topics = topicsResource.withLabel(StrimziLabels.CLUSTER, context.getKafkaCluster())
-                        .list().getItems();
-            } else {
-                topics = topicsResource.list().getItems();
-            }
-        } else {
-            topics = context.getClient().resources(KafkaTopic.class, KafkaTopicList.class)
-                    .inAnyNamespace()
-                    .list()
-                    .getItems();
-            if (context.hasClusterFilter()) {
-                topics = topics.stream()
-                        .filter(t -> t.getMetadata().getLabels() != null &&
-                                context.getKafkaCluster().equals(t.getMetadata().getLabels().get(StrimziLabels.CLUSTER)))
-                        .toList();
-            }
-        }
-
-        return topics;
+        return new StrimziResourceRepository<>(context.getClient(), KafkaTopic.class, KafkaTopicList.class)
+                .list(context.getNamespace(), context.getKafkaCluster())
+                .getItems();
     }
 
     private boolean isUnready(KafkaTopic topic) {
@@ -2,7 +2,7 @@ package io.seequick.mcp.tool.observability.health;
 
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
-import io.seequick.mcp.tool.StrimziLabels;
+import io.seequick.mcp.tool.StrimziResourceRepository;
 
 import java.util.List;
 
@@ -38,28 +38,9 @@ public class UserHealthChecker implements HealthChecker {
     }
 
     private List<KafkaUser> listUsers(HealthCheckContext context) {
-        List<KafkaUser> users;
-
-        if (context.hasNamespaceFilter()) {
-            users = context.getClient().resources(KafkaUser.class, KafkaUserList.class)
-                    .inNamespace(context.getNamespace())
-                    .list()
-                    .getItems();
-        } else {
-            users = context.getClient().resources(KafkaUser.class, KafkaUserList.class)
-                    .inAnyNamespace()
-                    .list()
-                    .getItems();
-        }
-
-        if (context.hasClusterFilter()) {
-            users = users.stream()
-                    .filter(u -> u.getMetadata().getLabels() != null &&
-                            context.getKafkaCluster().equals(u.getMetadata().getLabels().get(StrimziLabels.CLUSTER)))
-                    .toList();
-        }
-
-        return users;
+        return new StrimziResourceRepository<>(context.getClient(), KafkaUser.class, KafkaUserList.class)
+                .list(context.getNamespace(), context.getKafkaCluster())
+                .getItems();
     }
 
     private boolean isUnready(KafkaUser user) {
@@ -0,0 +1,59 @@
+package io.seequick.mcp.tool.progress;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetList;
+
+import java.util.List;
+
+/**
+ * Tracks the scaling of a KafkaNodePool by watching the StrimziPodSet that backs it until the
+ * number of pods and ready pods both match the desired replica count.
+ */
+public class NodePoolScaleTracker extends OperationTracker<StrimziPodSet> {
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String podSetName;
+    private final int initialPods;
+    private final int targetReplicas;
+
+    public NodePoolScaleTracker(KubernetesClient client, String namespace, String podSetName,
+                                int initialPods, int targetReplicas) {
+        this.client = client;
+        this.namespace = namespace;
+        this.podSetName = podSetName;
+        this.initialPods = initialPods;
+        this.targetReplicas = targetReplicas;
+    }
+
+    @Override
+    protected SharedIndexInformer<StrimziPodSet> inform(ResourceEventHandler<StrimziPodSet> handler) {
+        return client.resources(StrimziPodSet.class, StrimziPodSetList.class)
+                .inNamespace(namespace)
+                .withName(podSetName)
+                .inform(handler);
+    }
+
+    @Override
+    protected Progress evaluate(List<StrimziPodSet> podSets) {
+        double total = Math.abs(targetReplicas - initialPods);
+        if (podSets.isEmpty() || podSets.get(0).getStatus() == null) {
+            return Progress.running(0, total, "Waiting for StrimziPodSet " + namespace + "/" + podSetName);
+        }
+
+        var status = podSets.get(0).getStatus();
+        int pods = status.getPods();
+        int readyPods = status.getReadyPods();
+        double done = Math.min(Math.abs(pods - initialPods), total);
+
+        String message = "StrimziPodSet " + podSetName + ": " + pods + "/" + targetReplicas
+                + " pods, " + readyPods + " ready";
+        if (pods == targetReplicas && readyPods == targetReplicas) {
+            return Progress.completed(total, total, message);
+        }
+        return Progress.running(done, total, message);
+    }
+}
@@ -0,0 +1,93 @@
+package io.seequick.mcp.tool.progress;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks a long-running operation by watching the resources it affects.
+ * Each operation uses a single informer (one list plus one watch); progress is re-evaluated
+ * whenever the watched resources change, and at least every refresh interval.
+ *
+ * @param <T> The type of the watched resources
+ */
+public abstract class OperationTracker<T extends HasMetadata> {
+
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * Starts the informer watching the resources affected by the operation.
+     */
+    protected abstract SharedIndexInformer<T> inform(ResourceEventHandler<T> handler);
+
+    /**
+     * Evaluates the progress of the operation from the current state of the watched resources.
+     */
+    protected abstract Progress evaluate(List<T> resources);
+
+    /**
+     * Returns how often progress is re-evaluated when no watch events arrive.
+     */
+    protected Duration refreshInterval() {
+        return DEFAULT_REFRESH_INTERVAL;
+    }
+
+    /**
+     * Blocks until the operation finishes or the timeout expires, reporting progress along the way.
+     *
+     * @param reporter Reporter for MCP progress notifications
+     * @param timeout  Maximum time to track the operation
+     * @return The tracking outcome
+     */
+    public TrackingResult track(ProgressReporter reporter, Duration timeout) {
+        Semaphore changed = new Semaphore(0);
+        ResourceEventHandler<T> handler = new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(T obj) {
+                changed.release();
+            }
+
+            @Override
+            public void onUpdate(T oldObj, T newObj) {
+                changed.release();
+            }
+
+            @Override
+            public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                changed.release();
+            }
+        };
+
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        List<String> timeline = new ArrayList<>();
+
+        try (SharedIndexInformer<T> informer = inform(handler)) {
+            while (true) {
+                changed.drainPermits();
+                Progress progress = evaluate(informer.getStore().list());
+                if (timeline.isEmpty() || !timeline.get(timeline.size() - 1).equals(progress.message())) {
+                    timeline.add(progress.message());
+                    reporter.report(progress.done(), progress.total(), progress.message());
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (progress.finished() || remaining <= 0) {
+                    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+                    return new TrackingResult(progress, !progress.finished(), elapsed, timeline);
+                }
+
+                changed.tryAcquire(Math.min(remaining, refreshInterval().toNanos()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while tracking operation", e);
+        }
+    }
+}
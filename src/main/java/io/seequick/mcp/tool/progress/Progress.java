@@ -0,0 +1,25 @@
+package io.seequick.mcp.tool.progress;
+
+/**
+ * Snapshot of the progress of a tracked operation.
+ *
+ * @param done     Units of work completed
+ * @param total    Total units of work, or null if unknown
+ * @param message  Human readable description of the current state
+ * @param finished Whether the operation reached a terminal state
+ * @param failed   Whether the terminal state is a failure
+ */
+public record Progress(double done, Double total, String message, boolean finished, boolean failed) {
+
+    public static Progress running(double done, Double total, String message) {
+        return new Progress(done, total, message, false, false);
+    }
+
+    public static Progress completed(double done, Double total, String message) {
+        return new Progress(done, total, message, true, false);
+    }
+
+    public static Progress failed(double done, Double total, String message) {
+        return new Progress(done, total, message, true, true);
+    }
+}
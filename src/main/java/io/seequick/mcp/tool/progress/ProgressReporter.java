@@ -0,0 +1,54 @@
+package io.seequick.mcp.tool.progress;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.ProgressNotification;
+
+/**
+ * Sends MCP progress notifications for a single tool call.
+ * Reporting is a no-op when the client did not supply a progress token.
+ */
+public class ProgressReporter {
+
+    private final McpSyncServerExchange exchange;
+    private final Object progressToken;
+    private double lastProgress;
+
+    public ProgressReporter(McpSyncServerExchange exchange, Object progressToken) {
+        this.exchange = exchange;
+        this.progressToken = progressToken;
+    }
+
+    /**
+     * Creates a reporter for the given tool call.
+     */
+    public static ProgressReporter of(McpSyncServerExchange exchange, McpSchema.CallToolRequest request) {
+        return new ProgressReporter(exchange, request != null ? request.progressToken() : null);
+    }
+
+    /**
+     * Checks if progress notifications will be delivered to the client.
+     */
+    public boolean isEnabled() {
+        return exchange != null && progressToken != null;
+    }
+
+    /**
+     * Reports progress to the client. Progress values never decrease, as required by MCP.
+     *
+     * @param progress The amount of work done so far
+     * @param total    The total amount of work, or null if unknown
+     * @param message  A human readable description of the current state
+     */
+    public void report(double progress, Double total, String message) {
+        if (!isEnabled()) {
+            return;
+        }
+        lastProgress = Math.max(lastProgress, progress);
+        try {
+            exchange.progressNotification(new ProgressNotification(progressToken, lastProgress, total, message));
+        } catch (Exception ignored) {
+            // Progress is best effort - a disconnected client must not fail the operation
+        }
+    }
+}
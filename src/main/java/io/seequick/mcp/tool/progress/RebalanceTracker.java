@@ -0,0 +1,134 @@
+package io.seequick.mcp.tool.progress;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList;
+import io.seequick.mcp.tool.StrimziConditions;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the execution of an approved KafkaRebalance by watching the resource until it reaches
+ * Ready (completed), NotReady or Stopped. While rebalancing, progress is read from the progress
+ * ConfigMap maintained by the Cluster Operator, once per change of the KafkaRebalance rather than on every
+ * refresh: the operator updates both in the same reconciliation.
+ */
+public class RebalanceTracker extends OperationTracker<KafkaRebalance> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static final String COMPLETED_PERCENTAGE_KEY = "completedByteMovementPercentage";
+    static final String ESTIMATED_MINUTES_KEY = "estimatedTimeToCompletionInMinutes";
+    static final String EXECUTOR_STATE_KEY = "executorState.json";
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String name;
+    private String progressVersion;
+    private Map<String, String> progressData = Map.of();
+
+    public RebalanceTracker(KubernetesClient client, String namespace, String name) {
+        this.client = client;
+        this.namespace = namespace;
+        this.name = name;
+    }
+
+    @Override
+    protected SharedIndexInformer<KafkaRebalance> inform(ResourceEventHandler<KafkaRebalance> handler) {
+        return client.resources(KafkaRebalance.class, KafkaRebalanceList.class)
+                .inNamespace(namespace)
+                .withName(name)
+                .inform(handler);
+    }
+
+    @Override
+    protected Progress evaluate(List<KafkaRebalance> rebalances) {
+        if (rebalances.isEmpty()) {
+            return Progress.failed(0, 100.0, "KafkaRebalance " + namespace + "/" + name + " was deleted");
+        }
+
+        KafkaRebalance rebalance = rebalances.get(0);
+        String state = StrimziConditions.activeState(rebalance);
+        return switch (state) {
+            case "Ready" -> Progress.completed(100, 100.0, "State: Ready - rebalance completed");
+            case "NotReady" -> Progress.failed(0, 100.0, "State: NotReady" + reason(rebalance, "NotReady"));
+            case "Stopped" -> Progress.failed(0, 100.0, "State: Stopped - rebalance was stopped");
+            case "Rebalancing" -> rebalancingProgress(rebalance);
+            default -> Progress.running(0, 100.0, "State: " + state + " - waiting for Cruise Control to start");
+        };
+    }
+
+    private Progress rebalancingProgress(KafkaRebalance rebalance) {
+        Map<String, String> data = progressData(rebalance);
+        StringBuilder message = new StringBuilder("State: Rebalancing");
+        double percentage = 0;
+
+        String completed = data.get(COMPLETED_PERCENTAGE_KEY);
+        if (completed != null) {
+            percentage = parseDouble(completed);
+            message.append(", ").append(completed).append("% of data moved");
+        }
+
+        String executorState = data.get(EXECUTOR_STATE_KEY);
+        if (executorState != null) {
+            try {
+                Map<String, Object> executor = OBJECT_MAPPER.readValue(executorState, new TypeReference<>() {});
+                Object finished = executor.get("numFinishedPartitionMovements");
+                Object total = executor.get("numTotalPartitionMovements");
+                if (finished != null && total != null) {
+                    message.append(", ").append(finished).append("/").append(total).append(" partition movements finished");
+                }
+            } catch (Exception ignored) {
+                // Executor state is informational only
+            }
+        }
+
+        String estimated = data.get(ESTIMATED_MINUTES_KEY);
+        if (estimated != null) {
+            message.append(", ~").append(estimated).append(" min remaining");
+        }
+
+        return Progress.running(percentage, 100.0, message.toString());
+    }
+
+    private Map<String, String> progressData(KafkaRebalance rebalance) {
+        if (rebalance.getStatus() == null || rebalance.getStatus().getProgress() == null
+                || rebalance.getStatus().getProgress().getRebalanceProgressConfigMap() == null) {
+            return Map.of();
+        }
+        String version = rebalance.getMetadata().getResourceVersion();
+        if (version != null && version.equals(progressVersion)) {
+            return progressData;
+        }
+        ConfigMap configMap = client.configMaps()
+                .inNamespace(namespace)
+                .withName(rebalance.getStatus().getProgress().getRebalanceProgressConfigMap())
+                .get();
+        progressVersion = version;
+        progressData = configMap != null && configMap.getData() != null ? configMap.getData() : Map.of();
+        return progressData;
+    }
+
+    private static String reason(KafkaRebalance rebalance, String type) {
+        Condition condition = StrimziConditions.findCondition(rebalance, type);
+        if (condition == null || condition.getMessage() == null) {
+            return "";
+        }
+        return " - " + condition.getMessage();
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
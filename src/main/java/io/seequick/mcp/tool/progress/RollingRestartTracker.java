@@ -0,0 +1,113 @@
+package io.seequick.mcp.tool.progress;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks a rolling restart by watching the affected pods until every pod that existed when the
+ * restart was triggered has been replaced by a new, ready pod.
+ */
+public class RollingRestartTracker extends OperationTracker<Pod> {
+
+    private static final int MAX_PENDING_NAMES = 3;
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final Map<String, String> labels;
+    private final String podName;
+    private final Map<String, String> initialUids;
+
+    private RollingRestartTracker(KubernetesClient client, String namespace, Map<String, String> labels,
+                                  String podName, Map<String, String> initialUids) {
+        this.client = client;
+        this.namespace = namespace;
+        this.labels = labels;
+        this.podName = podName;
+        this.initialUids = initialUids;
+    }
+
+    /**
+     * Records the pods matching the labels. Must be called before the restart is triggered.
+     */
+    public static RollingRestartTracker forPods(KubernetesClient client, String namespace, Map<String, String> labels) {
+        List<Pod> pods = client.pods().inNamespace(namespace).withLabels(labels).list().getItems();
+        return new RollingRestartTracker(client, namespace, labels, null, uidsByName(pods));
+    }
+
+    /**
+     * Records a single pod. Must be called before the restart is triggered.
+     */
+    public static RollingRestartTracker forPod(KubernetesClient client, String namespace, String podName) {
+        Pod pod = client.pods().inNamespace(namespace).withName(podName).get();
+        return new RollingRestartTracker(client, namespace, null, podName,
+                uidsByName(pod != null ? List.of(pod) : List.of()));
+    }
+
+    private static Map<String, String> uidsByName(List<Pod> pods) {
+        Map<String, String> uids = new LinkedHashMap<>();
+        pods.stream()
+                .sorted((a, b) -> a.getMetadata().getName().compareTo(b.getMetadata().getName()))
+                .forEach(p -> uids.put(p.getMetadata().getName(), p.getMetadata().getUid()));
+        return uids;
+    }
+
+    @Override
+    protected SharedIndexInformer<Pod> inform(ResourceEventHandler<Pod> handler) {
+        if (podName != null) {
+            return client.pods().inNamespace(namespace).withName(podName).inform(handler);
+        }
+        return client.pods().inNamespace(namespace).withLabels(labels).inform(handler);
+    }
+
+    @Override
+    protected Progress evaluate(List<Pod> pods) {
+        Map<String, Pod> current = new HashMap<>();
+        for (Pod pod : pods) {
+            current.put(pod.getMetadata().getName(), pod);
+        }
+
+        int total = initialUids.size();
+        List<String> pending = new ArrayList<>();
+        for (var entry : initialUids.entrySet()) {
+            Pod pod = current.get(entry.getKey());
+            boolean rolled = pod != null
+                    && !entry.getValue().equals(pod.getMetadata().getUid())
+                    && isReady(pod);
+            if (!rolled) {
+                pending.add(entry.getKey());
+            }
+        }
+
+        int rolled = total - pending.size();
+        StringBuilder message = new StringBuilder();
+        message.append("Pods rolled ").append(rolled).append("/").append(total);
+        if (pending.isEmpty()) {
+            return Progress.completed(rolled, (double) total, message.toString());
+        }
+
+        message.append(" (waiting for ")
+                .append(String.join(", ", pending.subList(0, Math.min(MAX_PENDING_NAMES, pending.size()))));
+        if (pending.size() > MAX_PENDING_NAMES) {
+            message.append(", +").append(pending.size() - MAX_PENDING_NAMES).append(" more");
+        }
+        message.append(")");
+        return Progress.running(rolled, (double) total, message.toString());
+    }
+
+    private static boolean isReady(Pod pod) {
+        if (pod.getMetadata().getDeletionTimestamp() != null
+                || pod.getStatus() == null || pod.getStatus().getConditions() == null) {
+            return false;
+        }
+        return pod.getStatus().getConditions().stream()
+                .anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()));
+    }
+}
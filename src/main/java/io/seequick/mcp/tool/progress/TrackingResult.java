@@ -0,0 +1,40 @@
+package io.seequick.mcp.tool.progress;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of tracking an operation until completion or timeout.
+ *
+ * @param last     The last observed progress
+ * @param timedOut Whether tracking stopped because the timeout expired
+ * @param elapsed  How long the operation was tracked
+ * @param timeline Distinct progress messages in the order they were observed
+ */
+public record TrackingResult(Progress last, boolean timedOut, Duration elapsed, List<String> timeline) {
+
+    public boolean succeeded() {
+        return !timedOut && last.finished() && !last.failed();
+    }
+
+    /**
+     * Formats the result as a report section appended to the tool output.
+     */
+    public String format() {
+        StringBuilder result = new StringBuilder();
+        result.append("\nTracking:\n");
+        for (String entry : timeline) {
+            result.append("  - ").append(entry).append("\n");
+        }
+        String seconds = String.format(Locale.ROOT, "%.1fs", elapsed.toMillis() / 1000.0);
+        if (timedOut) {
+            result.append("Timed out after ").append(seconds).append(" - the operation is still in progress.\n");
+        } else if (last.failed()) {
+            result.append("Operation failed after ").append(seconds).append(".\n");
+        } else {
+            result.append("Operation completed in ").append(seconds).append(".\n");
+        }
+        return result.toString();
+    }
+}
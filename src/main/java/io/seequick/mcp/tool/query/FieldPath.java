@@ -0,0 +1,102 @@
+package io.seequick.mcp.tool.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.seequick.mcp.tool.StrimziLabels;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled path to fields of a resource, e.g. {@code spec.partitions}, {@code spec.config."retention.ms"} or
+ * {@code status.conditions.type}.
+ * <p>
+ * Segments are separated by dots; segments containing dots or other special characters are quoted. A path
+ * steps into every element of the arrays it crosses, so it can resolve to several values, unless the segment
+ * is a number, which selects a single element. {@code name}, {@code namespace} and {@code cluster} are
+ * shorthands for the name, the namespace and the cluster label of the resource.
+ */
+public final class FieldPath {
+
+    private static final Map<String, List<String>> ALIASES = Map.of(
+            "name", List.of("metadata", "name"),
+            "namespace", List.of("metadata", "namespace"),
+            "cluster", List.of("metadata", "labels", StrimziLabels.CLUSTER));
+
+    private final String text;
+    private final List<String> segments;
+
+    FieldPath(String text, List<String> segments) {
+        this.text = text;
+        this.segments = segments.size() == 1 && ALIASES.containsKey(segments.get(0))
+                ? ALIASES.get(segments.get(0)) : List.copyOf(segments);
+    }
+
+    /**
+     * Compiles a path.
+     *
+     * @param text     The path
+     * @param argument The argument the path was passed in, for error messages
+     * @return The compiled path
+     * @throws io.seequick.mcp.tool.args.InvalidArgumentException if the path is not valid
+     */
+    public static FieldPath parse(String text, String argument) {
+        QueryParser parser = new QueryParser(text, argument);
+        FieldPath path = parser.path();
+        parser.end();
+        return path;
+    }
+
+    /**
+     * Returns the values the path resolves to. Arrays at the end of the path are returned as they are.
+     */
+    public List<JsonNode> values(JsonNode resource) {
+        List<JsonNode> current = List.of(resource);
+        for (String segment : segments) {
+            List<JsonNode> next = new ArrayList<>();
+            for (JsonNode node : current) {
+                step(node, segment, next);
+            }
+            if (next.isEmpty()) {
+                return next;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the first value the path resolves to, or null if it resolves to none.
+     */
+    public JsonNode first(JsonNode resource) {
+        List<JsonNode> values = values(resource);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static void step(JsonNode node, String segment, List<JsonNode> next) {
+        if (node.isArray()) {
+            if (isIndex(segment)) {
+                add(node.get(Integer.parseInt(segment)), next);
+            } else {
+                node.forEach(element -> add(element.get(segment), next));
+            }
+        } else if (node.isObject()) {
+            add(node.get(segment), next);
+        }
+    }
+
+    private static void add(JsonNode value, List<JsonNode> next) {
+        if (value != null && !value.isNull() && !value.isMissingNode()) {
+            next.add(value);
+        }
+    }
+
+    private static boolean isIndex(String segment) {
+        return !segment.isEmpty() && segment.length() < 10 && segment.chars().allMatch(Character::isDigit);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,60 @@
+package io.seequick.mcp.tool.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * A compiled sort order, {@code path}, {@code path asc} or {@code path desc}. Values compare as in
+ * {@link Values#compare(JsonNode, JsonNode)}; resources without a value come last in both directions.
+ *
+ * @param path       The path of the sort key
+ * @param descending Whether the largest values come first
+ */
+public record Ordering(FieldPath path, boolean descending) {
+
+    /**
+     * Compiles a sort order.
+     *
+     * @param text     The sort order
+     * @param argument The argument the sort order was passed in, for error messages
+     * @return The compiled sort order
+     * @throws io.seequick.mcp.tool.args.InvalidArgumentException if the sort order is not valid
+     */
+    public static Ordering parse(String text, String argument) {
+        String trimmed = text.strip();
+        boolean descending = false;
+        int space = trimmed.lastIndexOf(' ');
+        if (space > 0) {
+            String direction = trimmed.substring(space + 1);
+            if (direction.equalsIgnoreCase("desc") || direction.equalsIgnoreCase("asc")) {
+                descending = direction.equalsIgnoreCase("desc");
+                trimmed = trimmed.substring(0, space);
+            }
+        }
+        return new Ordering(FieldPath.parse(trimmed, argument), descending);
+    }
+
+    /**
+     * Returns a comparator of items by their sort key.
+     *
+     * @param sortKey Returns the sort key of an item, the first value of {@link #path()} or null
+     */
+    public <T> Comparator<T> comparator(Function<T, JsonNode> sortKey) {
+        return (a, b) -> {
+            JsonNode left = sortKey.apply(a);
+            JsonNode right = sortKey.apply(b);
+            if (left == null || right == null) {
+                return Values.compare(left, right);
+            }
+            int order = Values.compare(left, right);
+            return descending ? -order : order;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return path + (descending ? " desc" : "");
+    }
+}
@@ -0,0 +1,65 @@
+package io.seequick.mcp.tool.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.function.Predicate;
+
+/**
+ * A compiled filter of resources, e.g.
+ * {@code spec.partitions > 50 and spec.config."retention.ms" < 1d} or
+ * {@code spec.authentication.type == "tls" and not spec.quotas}.
+ * <p>
+ * The expression is parsed once into a tree of predicates, which is then evaluated against each resource as
+ * a JSON tree. The language:
+ * <ul>
+ *     <li>{@code path op value} with {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >} and {@code >=};
+ *     the values are quoted strings, numbers (with an optional unit, see {@link Values}), {@code true},
+ *     {@code false} and {@code null}</li>
+ *     <li>{@code path matches "regex"}, true if the regex is found in the value</li>
+ *     <li>{@code path} alone, true if the field is set and is not false or empty</li>
+ *     <li>{@code and}, {@code or}, {@code not} (or {@code &&}, {@code ||}, {@code !}) and parentheses</li>
+ * </ul>
+ * A path resolving to several values (see {@link FieldPath}) matches if any of them matches, except for
+ * {@code !=}, which matches if none of them is equal. Missing fields only match {@code == null} and
+ * {@code !=}.
+ */
+public final class Query implements Predicate<JsonNode> {
+
+    private static final Query ALL = new Query("", resource -> true);
+
+    private final String text;
+    private final Predicate<JsonNode> predicate;
+
+    private Query(String text, Predicate<JsonNode> predicate) {
+        this.text = text;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @param expression The expression; null or blank matches every resource
+     * @param argument   The argument the expression was passed in, for error messages
+     * @return The compiled query
+     * @throws io.seequick.mcp.tool.args.InvalidArgumentException if the expression is not valid
+     */
+    public static Query compile(String expression, String argument) {
+        if (expression == null || expression.isBlank()) {
+            return ALL;
+        }
+        QueryParser parser = new QueryParser(expression, argument);
+        Predicate<JsonNode> predicate = parser.expression();
+        parser.end();
+        return new Query(expression.strip(), predicate);
+    }
+
+    @Override
+    public boolean test(JsonNode resource) {
+        return predicate.test(resource);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
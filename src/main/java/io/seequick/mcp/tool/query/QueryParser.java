@@ -0,0 +1,303 @@
+package io.seequick.mcp.tool.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Recursive descent parser of the query language, compiling an expression into predicates.
+ *
+ * <pre>
+ * or         = and { ("or" | "||") and }
+ * and        = unary { ("and" | "&amp;&amp;") unary }
+ * unary      = ("not" | "!") unary | "(" or ")" | comparison
+ * comparison = path [ operator value | "matches" string ]
+ * path       = segment { "." segment }
+ * segment    = identifier | string
+ * </pre>
+ */
+final class QueryParser {
+
+    private final String text;
+    private final String argument;
+    private int pos;
+
+    QueryParser(String text, String argument) {
+        this.text = text;
+        this.argument = argument;
+    }
+
+    Predicate<JsonNode> expression() {
+        return or();
+    }
+
+    /**
+     * Fails unless the whole text has been parsed.
+     */
+    void end() {
+        skipSpace();
+        if (pos < text.length()) {
+            throw error("unexpected '" + text.substring(pos, Math.min(text.length(), pos + 20)) + "'");
+        }
+    }
+
+    FieldPath path() {
+        skipSpace();
+        int start = pos;
+        List<String> segments = new ArrayList<>();
+        segments.add(segment());
+        while (pos < text.length() && text.charAt(pos) == '.') {
+            pos++;
+            segments.add(segment());
+        }
+        return new FieldPath(text.substring(start, pos), segments);
+    }
+
+    private Predicate<JsonNode> or() {
+        Predicate<JsonNode> left = and();
+        while (keyword("or") || symbol("||")) {
+            left = left.or(and());
+        }
+        return left;
+    }
+
+    private Predicate<JsonNode> and() {
+        Predicate<JsonNode> left = unary();
+        while (keyword("and") || symbol("&&")) {
+            left = left.and(unary());
+        }
+        return left;
+    }
+
+    private Predicate<JsonNode> unary() {
+        if (keyword("not") || (!lookingAt("!=") && symbol("!"))) {
+            return unary().negate();
+        }
+        if (symbol("(")) {
+            Predicate<JsonNode> inner = or();
+            if (!symbol(")")) {
+                throw error("expected ')'");
+            }
+            return inner;
+        }
+        return comparison();
+    }
+
+    private Predicate<JsonNode> comparison() {
+        FieldPath path = path();
+        if (keyword("matches")) {
+            skipSpace();
+            int start = pos;
+            if (pos >= text.length() || !isQuote(text.charAt(pos))) {
+                throw error("expected a quoted regular expression");
+            }
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(string());
+            } catch (PatternSyntaxException e) {
+                pos = start;
+                throw error("invalid regular expression (" + e.getDescription() + ")");
+            }
+            return resource -> scalars(path, resource).anyMatch(value -> pattern.matcher(value.asText()).find());
+        }
+
+        int operatorStart = pos;
+        String operator = operator();
+        if (operator == null) {
+            return resource -> path.values(resource).stream().anyMatch(QueryParser::isTruthy);
+        }
+        Object value = value();
+        boolean equality = operator.equals("==") || operator.equals("!=");
+
+        if ((value == null || value instanceof Boolean) && !equality) {
+            pos = operatorStart;
+            throw error("only == and != apply to " + value);
+        }
+        if (value == null) {
+            return operator.equals("==")
+                    ? resource -> path.values(resource).isEmpty()
+                    : resource -> !path.values(resource).isEmpty();
+        }
+
+        if (equality) {
+            Predicate<JsonNode> equal = equalTo(value);
+            return operator.equals("==")
+                    ? resource -> scalars(path, resource).anyMatch(equal)
+                    : resource -> scalars(path, resource).noneMatch(equal);
+        }
+        IntPredicate order = switch (operator) {
+            case "<" -> c -> c < 0;
+            case "<=" -> c -> c <= 0;
+            case ">" -> c -> c > 0;
+            default -> c -> c >= 0;
+        };
+        if (value instanceof Double number) {
+            return resource -> scalars(path, resource).anyMatch(node -> {
+                Double actual = Values.number(node);
+                return actual != null && order.test(Double.compare(actual, number));
+            });
+        }
+        JsonNode bound = TextNode.valueOf((String) value);
+        return resource -> scalars(path, resource).anyMatch(node -> order.test(Values.compare(node, bound)));
+    }
+
+    private static Predicate<JsonNode> equalTo(Object value) {
+        if (value instanceof Boolean bool) {
+            return node -> node.isBoolean() ? node.booleanValue() == bool
+                    : node.isTextual() && node.textValue().equalsIgnoreCase(bool.toString());
+        }
+        if (value instanceof Double number) {
+            return node -> {
+                Double actual = Values.number(node);
+                return actual != null && actual.doubleValue() == number;
+            };
+        }
+        return node -> node.asText().equals(value);
+    }
+
+    /**
+     * Returns the scalar values of the path, stepping into arrays at the end of the path.
+     */
+    private static Stream<JsonNode> scalars(FieldPath path, JsonNode resource) {
+        return path.values(resource).stream()
+                .flatMap(value -> value.isArray() ? StreamSupport.stream(value.spliterator(), false) : Stream.of(value))
+                .filter(JsonNode::isValueNode);
+    }
+
+    private static boolean isTruthy(JsonNode value) {
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        if (value.isTextual()) {
+            return !value.textValue().isEmpty();
+        }
+        return !value.isContainerNode() || !value.isEmpty();
+    }
+
+    private String operator() {
+        for (String operator : List.of("==", "!=", "<=", ">=", "<", ">", "=")) {
+            if (symbol(operator)) {
+                return operator.equals("=") ? "==" : operator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a value: a quoted string, a number with an optional unit, true, false or null (returned as
+     * String, Double, Boolean or null).
+     */
+    private Object value() {
+        skipSpace();
+        if (pos < text.length() && isQuote(text.charAt(pos))) {
+            return string();
+        }
+        int start = pos;
+        while (pos < text.length() && isValueChar(text.charAt(pos))) {
+            pos++;
+        }
+        String word = text.substring(start, pos);
+        return switch (word) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            case "null" -> null;
+            default -> {
+                Double number = word.isEmpty() ? null : Values.number(word);
+                if (number == null) {
+                    pos = start;
+                    throw error("expected a quoted string, a number, true, false or null");
+                }
+                yield number;
+            }
+        };
+    }
+
+    private String segment() {
+        if (pos < text.length() && isQuote(text.charAt(pos))) {
+            return string();
+        }
+        int start = pos;
+        while (pos < text.length() && isIdentifierChar(text.charAt(pos))) {
+            pos++;
+        }
+        if (pos == start) {
+            throw error("expected a field");
+        }
+        return text.substring(start, pos);
+    }
+
+    private String string() {
+        int start = pos;
+        char quote = text.charAt(pos++);
+        StringBuilder result = new StringBuilder();
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == quote) {
+                return result.toString();
+            }
+            if (c == '\\' && pos < text.length()) {
+                c = text.charAt(pos++);
+            }
+            result.append(c);
+        }
+        pos = start;
+        throw error("unterminated string");
+    }
+
+    private boolean keyword(String word) {
+        skipSpace();
+        int end = pos + word.length();
+        if (text.regionMatches(true, pos, word, 0, word.length())
+                && (end == text.length() || !isIdentifierChar(text.charAt(end)))) {
+            pos = end;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean symbol(String symbol) {
+        skipSpace();
+        if (text.startsWith(symbol, pos)) {
+            pos += symbol.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean lookingAt(String symbol) {
+        skipSpace();
+        return text.startsWith(symbol, pos);
+    }
+
+    private void skipSpace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '\'';
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    private static boolean isValueChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '-';
+    }
+
+    private InvalidArgumentException error(String message) {
+        return new InvalidArgumentException("Invalid argument " + argument + ": " + message + " at position "
+                + (pos + 1) + " of \"" + text + "\"");
+    }
+}
@@ -0,0 +1,99 @@
+package io.seequick.mcp.tool.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.Quantity;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Conversions and comparisons of the values of a query.
+ * <p>
+ * Numbers may carry a duration unit ({@code ms}, {@code s}, {@code min}, {@code h}, {@code d}, {@code w},
+ * converted to milliseconds) or the suffix of a Kubernetes quantity ({@code m}, {@code k}, {@code M}, {@code G},
+ * {@code Ki}, {@code Mi}, {@code Gi} and so on, parsed as fabric8 {@link Quantity} does), so that
+ * {@code retention.ms < 1d}, {@code spec.resources.requests.cpu < 1} against {@code 500m} and sizes such as
+ * {@code 100Gi} or {@code 2G} compare as expected. As in Kubernetes, {@code m} is milli, not minutes.
+ */
+public final class Values {
+
+    private static final Pattern NUMBER = Pattern.compile("\\s*(-?\\d+(?:\\.\\d+)?(?:[eE]-?\\d+)?)\\s*([A-Za-z]*)\\s*");
+
+    private static final Map<String, Double> DURATIONS = Map.of(
+            "ms", 1d,
+            "s", 1_000d,
+            "min", 60_000d,
+            "h", 3_600_000d,
+            "d", 86_400_000d,
+            "w", 604_800_000d);
+
+    private static final Set<String> QUANTITY_SUFFIXES = Set.of(
+            "n", "u", "m", "k", "M", "G", "T", "P", "E", "Ki", "Mi", "Gi", "Ti", "Pi", "Ei");
+
+    private Values() {
+    }
+
+    /**
+     * Parses a number with an optional unit.
+     *
+     * @return The number, or null if the text is not a number or has an unknown unit
+     */
+    public static Double number(String text) {
+        Matcher matcher = NUMBER.matcher(text);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String unit = matcher.group(2);
+        if (unit.isEmpty()) {
+            return Double.parseDouble(matcher.group(1));
+        }
+        Double duration = DURATIONS.get(unit);
+        if (duration != null) {
+            return Double.parseDouble(matcher.group(1)) * duration;
+        }
+        if (QUANTITY_SUFFIXES.contains(unit)) {
+            return new Quantity(matcher.group(1), unit).getNumericalAmount().doubleValue();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of a JSON number or of a text holding a number, otherwise null.
+     */
+    public static Double number(JsonNode value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.isNumber()) {
+            return value.doubleValue();
+        }
+        return value.isTextual() ? number(value.textValue()) : null;
+    }
+
+    /**
+     * Compares two values, as numbers if both are numbers and as text otherwise. Missing values come last.
+     */
+    public static int compare(JsonNode a, JsonNode b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : 1) : -1;
+        }
+        Double left = number(a);
+        Double right = number(b);
+        if (left != null && right != null) {
+            return Double.compare(left, right);
+        }
+        return text(a).compareTo(text(b));
+    }
+
+    /**
+     * Returns the text of a scalar, or the JSON of an object or array.
+     */
+    public static String text(JsonNode value) {
+        if (value == null) {
+            return "null";
+        }
+        return value.isValueNode() ? value.asText() : value.toString();
+    }
+}
@@ -57,6 +57,11 @@ public class GetCertificateExpiryTool extends AbstractStrimziTool {
         return "Check certificate expiry dates for a Kafka cluster's CA and listener certificates";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -48,6 +48,11 @@ public class ListCertificatesTool extends AbstractStrimziTool {
         return "List TLS certificates for a Kafka cluster (CA certificates, listener certificates)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -49,6 +49,11 @@ public class RotateUserCredentialsTool extends AbstractStrimziTool {
         return "Trigger credential rotation for a KafkaUser (forces new password/certificate generation)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
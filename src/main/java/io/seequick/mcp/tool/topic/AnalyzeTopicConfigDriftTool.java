@@ -0,0 +1,394 @@
+package io.seequick.mcp.tool.topic;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.seequick.mcp.tool.ResponseRenderer;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
+/**
+ * Tool to find how the KafkaTopics of a namespace or cluster group by configuration.
+ * <p>
+ * Each topic's {@code spec.config}, partitions and replicas are canonicalized by {@link TopicConfigs} and
+ * fingerprinted, and topics with the same fingerprint form a config family. The topics are streamed from the
+ * API server in one pass: a family keeps its configuration once and a few sample names, and each key keeps the
+ * counts of its most common values, so memory grows with the number of distinct configurations rather than
+ * with the number of topics, and is capped by {@link #MAX_FAMILIES} and {@link #MAX_VALUES_PER_KEY}.
+ */
+public class AnalyzeTopicConfigDriftTool extends TypedStrimziTool<AnalyzeTopicConfigDriftTool.Arguments> {
+
+    static final int MAX_FAMILIES = 10_000;
+    static final int MAX_VALUES_PER_KEY = 50;
+    private static final int MAX_SAMPLES = 5;
+    private static final int MAX_TOP_FAMILIES = 100;
+    private static final int SHOWN_VALUES = 5;
+
+    @ToolArguments
+    record Arguments(
+            @Arg("Kubernetes namespace of the topics. If not specified, analyzes all namespaces.") String namespace,
+            @Arg("Only analyze topics of this Kafka cluster (matches strimzi.io/cluster label)") String kafkaCluster,
+            @Arg(value = "Number of largest config families to report (default: 10, max: 100)", defaultValue = "10")
+            int families,
+            @Arg(value = "Families of at most this many topics are outliers (default: 1, max: 5)", defaultValue = "1")
+            int outlierMaxTopics,
+            @Arg(value = "Maximum number of outlier topics to report (default: 20)", defaultValue = "20")
+            int outliers) {
+    }
+
+    public AnalyzeTopicConfigDriftTool(KubernetesClient kubernetesClient) {
+        super(kubernetesClient, AnalyzeTopicConfigDriftToolArgumentsBinder.INSTANCE);
+    }
+
+    @Override
+    protected String getName() {
+        return "analyze_topic_config_drift";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Group all KafkaTopics by configuration fingerprint (spec.config, partitions, replicas): the largest "
+                + "config families, outlier topics and how they differ from the most common family, and the value "
+                + "distribution of each config key";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected CallToolResult execute(Arguments args) {
+        return execute(null, null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                     Arguments args) {
+        try {
+            String namespace = args.namespace();
+            String kafkaCluster = args.kafkaCluster();
+            int topFamilies = Math.max(1, Math.min(args.families(), MAX_TOP_FAMILIES));
+            int outlierMaxTopics = Math.max(1, Math.min(args.outlierMaxTopics(), MAX_SAMPLES));
+            int maxOutliers = Math.max(0, args.outliers());
+
+            ResponseRenderer renderer = renderer(request);
+            Analysis analysis = new Analysis();
+            repository(KafkaTopic.class, KafkaTopicList.class).forEach(namespace, kafkaCluster, topic ->
+                    analysis.add(topic.getMetadata().getNamespace() + "/" + topic.getMetadata().getName(),
+                            TopicConfigs.canonical(topic.getSpec())));
+
+            List<Family> families = analysis.families();
+            Family dominant = families.isEmpty() ? null : families.get(0);
+            for (Family family : families.subList(0, Math.min(topFamilies, families.size()))) {
+                renderer.item(text -> appendFamily(text, family, analysis.topics),
+                        json -> writeFamily(json, family, analysis.topics));
+            }
+            List<Outlier> outliers = outliers(families, dominant, outlierMaxTopics, maxOutliers);
+
+            return renderer.result(() -> header(analysis, families.size(), namespace, kafkaCluster)
+                    + (families.isEmpty() ? "" : "TOP CONFIG FAMILIES\n" + renderer.render())
+                    + outliersText(outliers, outlierMaxTopics) + keysText(analysis), json -> {
+                        json.writeNumberField("topics", analysis.topics);
+                        json.writeNumberField("families", families.size());
+                        json.writeNumberField("untrackedTopics", analysis.untracked);
+                        json.writeArrayFieldStart("outliers");
+                        for (Outlier outlier : outliers) {
+                            writeOutlier(json, outlier);
+                        }
+                        json.writeEndArray();
+                        json.writeArrayFieldStart("keys");
+                        for (KeyStats key : analysis.keys.values()) {
+                            writeKey(json, key, analysis.topics);
+                        }
+                        json.writeEndArray();
+                    });
+        } catch (Exception e) {
+            return error("Error analyzing topic configuration drift: " + e.getMessage());
+        }
+    }
+
+    private static List<Outlier> outliers(List<Family> families, Family dominant, int outlierMaxTopics,
+                                          int maxOutliers) {
+        List<Outlier> outliers = new ArrayList<>();
+        // The dominant family is never an outlier, even when every family is small
+        for (int i = families.size() - 1; i > 0 && outliers.size() < maxOutliers; i--) {
+            Family family = families.get(i);
+            if (family.count > outlierMaxTopics) {
+                break;
+            }
+            Map<String, String[]> differences = differences(family.config, dominant.config);
+            for (String topic : family.samples) {
+                if (outliers.size() == maxOutliers) {
+                    break;
+                }
+                outliers.add(new Outlier(topic, family.fingerprint, differences));
+            }
+        }
+        return outliers;
+    }
+
+    /**
+     * Returns the keys whose values differ, with the value of the family and of the dominant family (null when
+     * unset).
+     */
+    private static Map<String, String[]> differences(Map<String, String> config, Map<String, String> dominant) {
+        Map<String, String[]> differences = new LinkedHashMap<>();
+        TreeSet<String> keys = new TreeSet<>(config.keySet());
+        keys.addAll(dominant.keySet());
+        for (String key : keys) {
+            if (!Objects.equals(config.get(key), dominant.get(key))) {
+                differences.put(key, new String[]{config.get(key), dominant.get(key)});
+            }
+        }
+        return differences;
+    }
+
+    private static String header(Analysis analysis, int families, String namespace, String kafkaCluster) {
+        StringBuilder header = new StringBuilder("Analyzed ").append(analysis.topics).append(" KafkaTopic(s)");
+        if (namespace != null) {
+            header.append(" in namespace ").append(namespace);
+        }
+        if (kafkaCluster != null) {
+            header.append(" of cluster ").append(kafkaCluster);
+        }
+        header.append(": ").append(families).append(" config family(ies)");
+        if (analysis.untracked > 0) {
+            header.append(", plus ").append(analysis.untracked).append(" topic(s) with further configurations ")
+                    .append("not tracked beyond ").append(MAX_FAMILIES).append(" families");
+        }
+        return header.append("\n\n").toString();
+    }
+
+    private static void appendFamily(StringBuilder text, Family family, long topics) {
+        text.append("- ").append(family.fingerprint).append(": ").append(family.count).append(" topic(s) (")
+                .append(percent(family.count, topics)).append(")");
+        if (!family.samples.isEmpty()) {
+            text.append(", e.g. ").append(String.join(", ", family.samples));
+        }
+        text.append("\n  ");
+        if (family.config.isEmpty()) {
+            text.append("(all defaults)");
+        } else {
+            List<String> entries = new ArrayList<>();
+            family.config.forEach((key, value) -> entries.add(key + "=" + value));
+            text.append(String.join(", ", entries));
+        }
+        text.append("\n");
+    }
+
+    private static void writeFamily(JsonGenerator json, Family family, long topics) throws IOException {
+        json.writeStartObject();
+        field(json, "fingerprint", family.fingerprint);
+        json.writeNumberField("topics", family.count);
+        json.writeNumberField("share", topics == 0 ? 0 : (double) family.count / topics);
+        json.writeArrayFieldStart("samples");
+        for (String sample : family.samples) {
+            json.writeString(sample);
+        }
+        json.writeEndArray();
+        json.writeObjectFieldStart("config");
+        for (Map.Entry<String, String> entry : family.config.entrySet()) {
+            json.writeStringField(entry.getKey(), entry.getValue());
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String outliersText(List<Outlier> outliers, int outlierMaxTopics) {
+        if (outliers.isEmpty()) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder("\nOUTLIERS (families of at most ").append(outlierMaxTopics)
+                .append(" topic(s), compared to the largest family)\n");
+        for (Outlier outlier : outliers) {
+            text.append("- ").append(outlier.topic()).append(" [").append(outlier.fingerprint()).append("]: ");
+            List<String> differences = new ArrayList<>();
+            outlier.differences().forEach((key, values) -> differences.add(key + "=" + display(values[0])
+                    + " (usually " + display(values[1]) + ")"));
+            text.append(String.join(", ", differences)).append("\n");
+        }
+        return text.toString();
+    }
+
+    private static void writeOutlier(JsonGenerator json, Outlier outlier) throws IOException {
+        String[] name = outlier.topic().split("/", 2);
+        json.writeStartObject();
+        field(json, "namespace", name[0]);
+        field(json, "name", name[1]);
+        field(json, "fingerprint", outlier.fingerprint());
+        json.writeObjectFieldStart("differences");
+        for (Map.Entry<String, String[]> difference : outlier.differences().entrySet()) {
+            json.writeObjectFieldStart(difference.getKey());
+            field(json, "value", difference.getValue()[0]);
+            field(json, "usual", difference.getValue()[1]);
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String keysText(Analysis analysis) {
+        if (analysis.keys.isEmpty()) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder("\nKEY DISTRIBUTIONS\n");
+        for (KeyStats key : analysis.keys.values()) {
+            text.append("- ").append(key.key).append(": set on ").append(key.set).append(" of ")
+                    .append(analysis.topics).append(";");
+            List<Map.Entry<String, Long>> values = key.sortedValues();
+            long more = key.otherValues;
+            for (int i = 0; i < values.size(); i++) {
+                if (i < SHOWN_VALUES) {
+                    text.append(" ").append(values.get(i).getKey()).append(" (").append(values.get(i).getValue())
+                            .append(")");
+                } else {
+                    more += values.get(i).getValue();
+                }
+            }
+            if (more > 0) {
+                text.append(" and ").append(more).append(" with other values");
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    private static void writeKey(JsonGenerator json, KeyStats key, long topics) throws IOException {
+        json.writeStartObject();
+        field(json, "key", key.key);
+        json.writeNumberField("set", key.set);
+        json.writeNumberField("unset", topics - key.set);
+        json.writeObjectFieldStart("values");
+        for (Map.Entry<String, Long> value : key.sortedValues()) {
+            json.writeNumberField(value.getKey(), value.getValue());
+        }
+        json.writeEndObject();
+        json.writeNumberField("otherValues", key.otherValues);
+        json.writeEndObject();
+    }
+
+    private static String percent(long count, long total) {
+        return String.format(Locale.ROOT, "%.1f%%", total == 0 ? 0.0 : 100.0 * count / total);
+    }
+
+    private static String display(String value) {
+        return value != null ? value : "(unset)";
+    }
+
+    /**
+     * The state of one pass over the topics.
+     */
+    private static final class Analysis {
+
+        private final Map<String, Family> byFingerprint = new HashMap<>();
+        private final SortedMap<String, KeyStats> keys = new TreeMap<>();
+        private long topics;
+        private long untracked;
+
+        void add(String topic, SortedMap<String, String> config) {
+            topics++;
+            for (Map.Entry<String, String> entry : config.entrySet()) {
+                keys.computeIfAbsent(entry.getKey(), KeyStats::new).add(entry.getValue());
+            }
+            String fingerprint = TopicConfigs.fingerprint(config);
+            Family family = byFingerprint.get(fingerprint);
+            if (family == null) {
+                if (byFingerprint.size() == MAX_FAMILIES) {
+                    untracked++;
+                    return;
+                }
+                family = new Family(fingerprint, config);
+                byFingerprint.put(fingerprint, family);
+            }
+            family.count++;
+            if (family.samples.size() < MAX_SAMPLES) {
+                family.samples.add(topic);
+            }
+        }
+
+        /**
+         * Returns the families, largest first.
+         */
+        List<Family> families() {
+            return byFingerprint.values().stream()
+                    .sorted(Comparator.comparingLong((Family family) -> family.count).reversed()
+                            .thenComparing(family -> family.fingerprint))
+                    .toList();
+        }
+    }
+
+    private static final class Family {
+
+        private final String fingerprint;
+        private final SortedMap<String, String> config;
+        private final List<String> samples = new ArrayList<>();
+        private long count;
+
+        Family(String fingerprint, SortedMap<String, String> config) {
+            this.fingerprint = fingerprint;
+            this.config = config;
+        }
+    }
+
+    private static final class KeyStats {
+
+        private final String key;
+        private final Map<String, Long> values = new HashMap<>();
+        private long set;
+        private long otherValues;
+
+        KeyStats(String key) {
+            this.key = key;
+        }
+
+        void add(String value) {
+            set++;
+            if (values.containsKey(value) || values.size() < MAX_VALUES_PER_KEY) {
+                values.merge(value, 1L, Long::sum);
+            } else {
+                otherValues++;
+            }
+        }
+
+        List<Map.Entry<String, Long>> sortedValues() {
+            return values.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                    .toList();
+        }
+    }
+
+    private record Outlier(String topic, String fingerprint, Map<String, String[]> differences) {
+    }
+}
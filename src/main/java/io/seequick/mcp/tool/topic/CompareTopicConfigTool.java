@@ -39,16 +39,6 @@ public class CompareTopicConfigTool extends AbstractStrimziTool {
             }
             """;
 
-    // Common Kafka topic default values
-    private static final Map<String, String> DEFAULT_TOPIC_CONFIG = Map.of(
-            "cleanup.policy", "delete",
-            "compression.type", "producer",
-            "retention.ms", "604800000",
-            "segment.bytes", "1073741824",
-            "min.insync.replicas", "1",
-            "max.message.bytes", "1048588"
-    );
-
     public CompareTopicConfigTool(KubernetesClient kubernetesClient) {
         super(kubernetesClient);
     }
@@ -63,6 +53,11 @@ public class CompareTopicConfigTool extends AbstractStrimziTool {
         return "Compare configuration between two topics or show how a topic differs from Kafka defaults";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -171,7 +166,7 @@ public class CompareTopicConfigTool extends AbstractStrimziTool {
                     for (Map.Entry<String, Object> entry : config.entrySet()) {
                         String key = entry.getKey();
                         String currentVal = String.valueOf(entry.getValue());
-                        String defaultVal = DEFAULT_TOPIC_CONFIG.getOrDefault(key, "(Kafka default)");
+                        String defaultVal = TopicConfigs.DEFAULTS.getOrDefault(key, "(Kafka default)");
                         result.append(String.format("  %-30s %-20s %-20s%n", key, truncate(currentVal, 18), truncate(defaultVal, 18)));
                     }
                 }
@@ -65,6 +65,11 @@ public class CreateTopicTool extends AbstractStrimziTool {
         return "Create a new KafkaTopic resource managed by the Topic Operator";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -112,6 +117,7 @@ public class CreateTopicTool extends AbstractStrimziTool {
                 result.append("  Config: ").append(config).append("\n");
             }
             result.append("\nThe Topic Operator will create the topic in Kafka shortly.");
+            result.append("\nUse wait_for on the KafkaTopic to wait until it is Ready.");
 
             return success(result.toString());
         } catch (ResourceExistsException e) {
@@ -44,6 +44,11 @@ public class DeleteTopicTool extends AbstractStrimziTool {
         return "Delete a KafkaTopic resource (Topic Operator will delete the topic from Kafka)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
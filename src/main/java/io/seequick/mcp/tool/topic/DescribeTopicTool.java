@@ -1,5 +1,6 @@
 package io.seequick.mcp.tool.topic;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
@@ -7,6 +8,13 @@ import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicList;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.OutputFormat;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.ToolResultCache;
+
+import java.io.IOException;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
 
 /**
  * Tool to get detailed information about a KafkaTopic.
@@ -44,16 +52,32 @@ public class DescribeTopicTool extends AbstractStrimziTool {
         return "Get detailed information about a KafkaTopic including spec, status, and configuration";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected ToolResultCache.Resource cachedResource(McpSchema.CallToolRequest args) {
+        return new ToolResultCache.Resource(StrimziKind.KAFKA_TOPIC, getStringArg(args, "namespace"), getStringArg(args, "name"));
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
         try {
             String name = getStringArg(args, "name");
             String namespace = getStringArg(args, "namespace");
+            OutputFormat format = outputFormat(args);
 
             KafkaTopic topic = kubernetesClient.resources(KafkaTopic.class, KafkaTopicList.class)
                     .inNamespace(namespace)
@@ -64,6 +88,10 @@ public class DescribeTopicTool extends AbstractStrimziTool {
                 return error("KafkaTopic not found: " + namespace + "/" + name);
             }
 
+            if (format.isStructured()) {
+                return structured(format, json -> writeTopic(json, topic));
+            }
+
             StringBuilder result = new StringBuilder();
             result.append("KafkaTopic: ").append(namespace).append("/").append(name).append("\n\n");
 
@@ -120,4 +148,38 @@ public class DescribeTopicTool extends AbstractStrimziTool {
             return error("Error describing topic: " + e.getMessage());
         }
     }
+
+    private static void writeTopic(JsonGenerator json, KafkaTopic topic) throws IOException {
+        json.writeStartObject();
+        field(json, "namespace", topic.getMetadata().getNamespace());
+        field(json, "name", topic.getMetadata().getName());
+        var labels = topic.getMetadata().getLabels();
+        field(json, "cluster", labels != null ? labels.get("strimzi.io/cluster") : null);
+
+        var spec = topic.getSpec();
+        if (spec != null) {
+            field(json, "partitions", spec.getPartitions());
+            field(json, "replicas", spec.getReplicas());
+            field(json, "config", spec.getConfig());
+        }
+
+        var status = topic.getStatus();
+        if (status != null) {
+            field(json, "topicName", status.getTopicName());
+            if (status.getConditions() != null && !status.getConditions().isEmpty()) {
+                json.writeArrayFieldStart("conditions");
+                for (var condition : status.getConditions()) {
+                    json.writeStartObject();
+                    field(json, "type", condition.getType());
+                    field(json, "status", condition.getStatus());
+                    field(json, "reason", condition.getReason());
+                    field(json, "message", condition.getMessage());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+            }
+            field(json, "observedGeneration", status.getObservedGeneration());
+        }
+        json.writeEndObject();
+    }
 }
@@ -45,6 +45,11 @@ public class GetUnreadyTopicsTool extends AbstractStrimziTool {
         return "List KafkaTopics that are not in Ready state (useful for troubleshooting)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -107,20 +112,6 @@ public class GetUnreadyTopicsTool extends AbstractStrimziTool {
     }
 
     private KafkaTopicList listTopics(String namespace, String kafkaCluster) {
-        if (namespace != null && !namespace.isEmpty()) {
-            var resource = kubernetesClient.resources(KafkaTopic.class, KafkaTopicList.class)
-                    .inNamespace(namespace);
-            if (kafkaCluster != null && !kafkaCluster.isEmpty()) {
-                return resource.withLabel("strimzi.io/cluster", kafkaCluster).list();
-            }
-            return resource.list();
-        } else {
-            var resource = kubernetesClient.resources(KafkaTopic.class, KafkaTopicList.class)
-                    .inAnyNamespace();
-            if (kafkaCluster != null && !kafkaCluster.isEmpty()) {
-                return resource.withLabel("strimzi.io/cluster", kafkaCluster).list();
-            }
-            return resource.list();
-        }
+        return repository(KafkaTopic.class, KafkaTopicList.class).list(namespace, kafkaCluster);
     }
 }
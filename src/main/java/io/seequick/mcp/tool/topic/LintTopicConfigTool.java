@@ -0,0 +1,414 @@
+package io.seequick.mcp.tool.topic;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.seequick.mcp.tool.ResponseRenderer;
+import io.seequick.mcp.tool.Severity;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import io.seequick.mcp.tool.args.ToolArguments;
+import io.seequick.mcp.tool.topic.TopicConfigRules.Rule;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaList;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
+/**
+ * Tool to lint the configuration of all KafkaTopics against the {@link TopicConfigRules}.
+ * <p>
+ * Topics are streamed from the API server and evaluated in batches on the common fork-join pool while the
+ * listing continues, with a bounded number of batches in flight. Only the counts per rule and the worst
+ * findings up to the limit are kept, so memory does not grow with the number of topics.
+ * <p>
+ * The configs a topic does not set are taken from the {@code spec.kafka.config} of the Kafka cluster when
+ * {@code kafkaCluster} is given and its Kafka resource is found, and from Kafka's defaults otherwise.
+ */
+public class LintTopicConfigTool extends TypedStrimziTool<LintTopicConfigTool.Arguments> {
+
+    private static final int BATCH_SIZE = 256;
+    private static final int MAX_LIMIT = 500;
+
+    private static final Comparator<Finding> RANKING = Comparator.comparing(Finding::severity)
+            .thenComparingInt(Finding::rank)
+            .thenComparing(Finding::topic);
+
+    @ToolArguments
+    record Arguments(
+            @Arg("Kubernetes namespace of the topics. If not specified, lints all namespaces.") String namespace,
+            @Arg("Only lint topics of this Kafka cluster (matches strimzi.io/cluster label); its spec.kafka.config "
+                    + "provides the defaults of the configs the topics do not set") String kafkaCluster,
+            @Arg("Rules to run (default: all): unclean-leader-election, min-isr-not-below-replicas, "
+                    + "unbounded-retention, small-segment-bytes, huge-max-message-bytes, uncompressed")
+            List<String> rules,
+            @Arg("Thresholds by rule, e.g. {\"small-segment-bytes\": 52428800, \"uncompressed\": 6} (bytes for the "
+                    + "byte rules, partitions for uncompressed)") Map<String, Object> thresholds,
+            @Arg("Severities by rule overriding the defaults, e.g. {\"uncompressed\": \"INFO\"}")
+            Map<String, Object> severities,
+            @Arg(value = "Only report findings at least this severe (default: INFO)",
+                    allowed = {"CRITICAL", "WARNING", "INFO"}) String minSeverity,
+            @Arg(value = "Maximum number of findings to report, worst first (default: 50, max: 500)",
+                    defaultValue = "50") int limit) {
+    }
+
+    private final Executor executor;
+
+    public LintTopicConfigTool(KubernetesClient kubernetesClient) {
+        this(kubernetesClient, ForkJoinPool.commonPool());
+    }
+
+    public LintTopicConfigTool(KubernetesClient kubernetesClient, Executor executor) {
+        super(kubernetesClient, LintTopicConfigToolArgumentsBinder.INSTANCE);
+        this.executor = executor;
+    }
+
+    @Override
+    protected String getName() {
+        return "lint_topic_config";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Lint the configuration of all KafkaTopics for known performance and durability problems (tiny "
+                + "segment.bytes, min.insync.replicas equal to replicas, uncompressed high-partition topics, unclean "
+                + "leader election, huge max.message.bytes, unbounded retention) and rank the findings by severity";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected CallToolResult execute(Arguments args) {
+        return execute(null, null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                     Arguments args) {
+        List<ActiveRule> rules;
+        ResponseRenderer renderer;
+        try {
+            rules = rules(args);
+            renderer = renderer(request);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+        String namespace = args.namespace();
+        String kafkaCluster = args.kafkaCluster();
+        int limit = Math.max(1, Math.min(args.limit(), MAX_LIMIT));
+
+        try {
+            TopicConfigs.Defaults defaults = defaults(namespace, kafkaCluster);
+            Linter linter = new Linter(rules, limit, executor);
+            repository(KafkaTopic.class, KafkaTopicList.class).forEach(namespace, kafkaCluster, topic ->
+                    linter.add(topic.getMetadata().getNamespace() + "/" + topic.getMetadata().getName(),
+                            new TopicConfigs.Effective(TopicConfigs.canonical(topic.getSpec()), defaults)));
+            linter.finish();
+
+            List<Finding> findings = linter.worst();
+            for (Finding finding : findings) {
+                renderer.item(text -> appendFinding(text, finding), json -> writeFinding(json, finding));
+            }
+            return renderer.result(() -> header(linter, rules.size(), namespace, kafkaCluster)
+                    + "Defaults of unset configs: " + defaults.description() + "\n" + byRule(linter, rules)
+                    + findingsText(renderer, findings.size(), linter.findings),
+                    json -> {
+                        field(json, "defaults", defaults.description());
+                        json.writeNumberField("topics", linter.topics);
+                        json.writeNumberField("flaggedTopics", linter.flaggedTopics);
+                        json.writeNumberField("findings", linter.findings);
+                        json.writeArrayFieldStart("rules");
+                        for (ActiveRule rule : rules) {
+                            json.writeStartObject();
+                            field(json, "rule", rule.rule().id());
+                            field(json, "severity", rule.severity().name());
+                            json.writeNumberField("threshold", rule.threshold());
+                            json.writeNumberField("topics", linter.counts[rule.rank()]);
+                            json.writeEndObject();
+                        }
+                        json.writeEndArray();
+                    });
+        } catch (Exception e) {
+            return error("Error linting topic configuration: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the defaults of the Kafka cluster the topics belong to, looked up in the namespace when one is
+     * given and in all namespaces otherwise, or Kafka's defaults when there is no single such cluster.
+     */
+    private TopicConfigs.Defaults defaults(String namespace, String kafkaCluster) {
+        if (kafkaCluster == null) {
+            return TopicConfigs.Defaults.KAFKA;
+        }
+        if (namespace != null) {
+            Kafka kafka = kubernetesClient.resources(Kafka.class, KafkaList.class)
+                    .inNamespace(namespace)
+                    .withName(kafkaCluster)
+                    .get();
+            return kafka != null ? TopicConfigs.Defaults.of(kafka) : TopicConfigs.Defaults.KAFKA;
+        }
+        List<Kafka> kafkas = kubernetesClient.resources(Kafka.class, KafkaList.class).inAnyNamespace().list()
+                .getItems().stream()
+                .filter(kafka -> kafkaCluster.equals(kafka.getMetadata().getName()))
+                .toList();
+        return kafkas.size() == 1 ? TopicConfigs.Defaults.of(kafkas.get(0)) : TopicConfigs.Defaults.KAFKA;
+    }
+
+    private static List<ActiveRule> rules(Arguments args) {
+        List<String> ids = args.rules() != null ? args.rules().stream().map(String::strip).toList() : List.of();
+        Map<String, Object> thresholds = args.thresholds() != null ? args.thresholds() : Map.of();
+        Map<String, Object> severities = args.severities() != null ? args.severities() : Map.of();
+        for (String id : thresholds.keySet()) {
+            requireRule(id, "thresholds");
+        }
+        for (String id : severities.keySet()) {
+            requireRule(id, "severities");
+        }
+        for (String id : ids) {
+            requireRule(id, "rules");
+        }
+        Severity minSeverity = args.minSeverity() != null ? Severity.fromName(args.minSeverity()) : Severity.INFO;
+
+        List<ActiveRule> rules = new ArrayList<>();
+        for (Rule rule : TopicConfigRules.DEFAULTS) {
+            if (!ids.isEmpty() && ids.stream().noneMatch(rule.id()::equalsIgnoreCase)) {
+                continue;
+            }
+            Object severity = lookup(severities, rule.id());
+            Object threshold = lookup(thresholds, rule.id());
+            ActiveRule active = new ActiveRule(rule,
+                    severity != null ? severity(severity, "severities") : rule.severity(),
+                    threshold != null ? threshold(threshold, rule.id()) : rule.threshold(), rules.size());
+            if (active.severity().compareTo(minSeverity) <= 0) {
+                rules.add(active);
+            }
+        }
+        return rules;
+    }
+
+    private static void requireRule(String id, String argument) {
+        if (TopicConfigRules.find(id) == null) {
+            throw new InvalidArgumentException("Invalid argument " + argument + ": unknown rule " + id
+                    + ". Rules: " + TopicConfigRules.ids());
+        }
+    }
+
+    private static Object lookup(Map<String, Object> values, String id) {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (id.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Severity severity(Object value, String argument) {
+        Severity severity = Severity.fromName(String.valueOf(value));
+        if (severity == null) {
+            throw new InvalidArgumentException("Invalid argument " + argument + ": unknown severity " + value
+                    + ". Severities: " + List.of(Severity.values()));
+        }
+        return severity;
+    }
+
+    private static double threshold(Object value, String id) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid argument thresholds: expected a number for " + id
+                    + ", got " + value);
+        }
+    }
+
+    private static String header(Linter linter, int rules, String namespace, String kafkaCluster) {
+        StringBuilder header = new StringBuilder("Linted ").append(linter.topics).append(" KafkaTopic(s)");
+        if (namespace != null) {
+            header.append(" in namespace ").append(namespace);
+        }
+        if (kafkaCluster != null) {
+            header.append(" of cluster ").append(kafkaCluster);
+        }
+        header.append(" against ").append(rules).append(" rule(s): ").append(linter.findings)
+                .append(" finding(s) on ").append(linter.flaggedTopics).append(" topic(s)");
+        List<String> bySeverity = new ArrayList<>();
+        for (Severity severity : Severity.values()) {
+            bySeverity.add(linter.bySeverity.getOrDefault(severity, 0L) + " "
+                    + severity.name().toLowerCase(Locale.ROOT));
+        }
+        return header.append(" (").append(String.join(", ", bySeverity)).append(")\n").toString();
+    }
+
+    private static String byRule(Linter linter, List<ActiveRule> rules) {
+        StringBuilder text = new StringBuilder("\nBY RULE\n");
+        rules.stream()
+                .sorted(Comparator.comparing(ActiveRule::severity).thenComparingInt(ActiveRule::rank))
+                .forEach(rule -> text.append("- [").append(rule.severity()).append("] ").append(rule.rule().id())
+                        .append(": ").append(linter.counts[rule.rank()]).append(" topic(s) - ")
+                        .append(rule.rule().description()).append("\n"));
+        return text.toString();
+    }
+
+    private static String findingsText(ResponseRenderer renderer, int shown, long total) {
+        if (total == 0) {
+            return "";
+        }
+        String text = "\nFINDINGS (worst first)\n" + renderer.render();
+        if (total > shown) {
+            text += "\nShowing the worst " + shown + " of " + total + " finding(s); raise limit for more.\n";
+        }
+        return text;
+    }
+
+    private static void appendFinding(StringBuilder text, Finding finding) {
+        text.append("- [").append(finding.severity()).append("] ").append(finding.topic()).append(": ")
+                .append(finding.rule()).append(" - ").append(finding.message()).append("\n");
+    }
+
+    private static void writeFinding(JsonGenerator json, Finding finding) throws IOException {
+        String[] name = finding.topic().split("/", 2);
+        json.writeStartObject();
+        field(json, "severity", finding.severity().name());
+        field(json, "rule", finding.rule());
+        field(json, "namespace", name[0]);
+        field(json, "name", name[1]);
+        field(json, "message", finding.message());
+        json.writeEndObject();
+    }
+
+    /**
+     * Evaluates the rules over batches of topics on the executor and keeps the counts and the worst findings.
+     */
+    private static final class Linter {
+
+        private final List<ActiveRule> rules;
+        private final int limit;
+        private final Executor executor;
+        private final Semaphore slots = new Semaphore(2 * Runtime.getRuntime().availableProcessors());
+        private final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        private List<TopicConfig> batch = new ArrayList<>(BATCH_SIZE);
+        private long topics;
+
+        // Guarded by this
+        private final PriorityQueue<Finding> worst = new PriorityQueue<>(RANKING.reversed());
+        private final long[] counts;
+        private final Map<Severity, Long> bySeverity = new EnumMap<>(Severity.class);
+        private long findings;
+        private long flaggedTopics;
+
+        Linter(List<ActiveRule> rules, int limit, Executor executor) {
+            this.rules = rules;
+            this.limit = limit;
+            this.executor = executor;
+            this.counts = new long[rules.size()];
+        }
+
+        /**
+         * Adds a topic; called by the thread listing the topics.
+         */
+        void add(String topic, TopicConfigs.Effective config) {
+            topics++;
+            batch.add(new TopicConfig(topic, config));
+            if (batch.size() == BATCH_SIZE) {
+                submit();
+            }
+        }
+
+        /**
+         * Waits until every topic added has been evaluated.
+         */
+        void finish() {
+            if (!batch.isEmpty()) {
+                submit();
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        }
+
+        synchronized List<Finding> worst() {
+            return worst.stream().sorted(RANKING).toList();
+        }
+
+        private void submit() {
+            List<TopicConfig> topicConfigs = batch;
+            batch = new ArrayList<>(BATCH_SIZE);
+            // Bounds the batches in flight, so a fast listing does not queue every topic
+            slots.acquireUninterruptibly();
+            tasks.add(CompletableFuture.runAsync(() -> evaluate(topicConfigs), executor)
+                    .whenComplete((result, error) -> slots.release()));
+        }
+
+        private void evaluate(List<TopicConfig> topicConfigs) {
+            List<Finding> found = new ArrayList<>();
+            int flagged = 0;
+            for (TopicConfig topicConfig : topicConfigs) {
+                int before = found.size();
+                for (ActiveRule rule : rules) {
+                    String message = rule.rule().check().evaluate(topicConfig.config(), rule.threshold());
+                    if (message != null) {
+                        found.add(new Finding(rule.severity(), rule.rank(), rule.rule().id(), topicConfig.topic(),
+                                message));
+                    }
+                }
+                if (found.size() > before) {
+                    flagged++;
+                }
+            }
+            merge(found, flagged);
+        }
+
+        private synchronized void merge(List<Finding> found, int flagged) {
+            flaggedTopics += flagged;
+            findings += found.size();
+            for (Finding finding : found) {
+                counts[finding.rank()]++;
+                bySeverity.merge(finding.severity(), 1L, Long::sum);
+                worst.add(finding);
+                if (worst.size() > limit) {
+                    worst.poll();
+                }
+            }
+        }
+    }
+
+    private record ActiveRule(Rule rule, Severity severity, double threshold, int rank) {
+    }
+
+    private record TopicConfig(String topic, TopicConfigs.Effective config) {
+    }
+
+    private record Finding(Severity severity, int rank, String rule, String topic, String message) {
+    }
+}
@@ -1,14 +1,26 @@
 package io.seequick.mcp.tool.topic;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.seequick.mcp.store.ProjectionStore;
+import io.seequick.mcp.store.ResourceCache;
+import io.seequick.mcp.store.TopicProjection;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.DeltaTracker;
+import io.seequick.mcp.tool.ResponseRenderer;
 import io.seequick.mcp.tool.StrimziLabels;
 
+import java.io.IOException;
+import java.util.Optional;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
 /**
  * Tool to list Strimzi KafkaTopic resources.
  */
@@ -30,8 +42,15 @@ public class ListTopicsTool extends AbstractStrimziTool {
             }
             """;
 
+    private final ResourceCache cache;
+
     public ListTopicsTool(KubernetesClient kubernetesClient) {
+        this(kubernetesClient, ResourceCache.shared());
+    }
+
+    public ListTopicsTool(KubernetesClient kubernetesClient, ResourceCache cache) {
         super(kubernetesClient);
+        this.cache = cache;
     }
 
     @Override
@@ -44,44 +63,103 @@ public class ListTopicsTool extends AbstractStrimziTool {
         return "List Strimzi KafkaTopic resources";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsDelta() {
+        return true;
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        return execute(null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest args) {
         try {
             String namespace = getStringArg(args, "namespace");
             String kafkaCluster = getStringArg(args, "kafkaCluster");
 
-            KafkaTopicList topicList = repository(KafkaTopic.class, KafkaTopicList.class)
-                    .list(namespace, kafkaCluster);
-
-            StringBuilder result = new StringBuilder();
-            result.append("Found ").append(topicList.getItems().size()).append(" KafkaTopic(s):\n\n");
-
-            for (KafkaTopic topic : topicList.getItems()) {
-                result.append("- ").append(topic.getMetadata().getNamespace())
-                        .append("/").append(topic.getMetadata().getName());
-
-                var spec = topic.getSpec();
-                if (spec != null) {
-                    result.append(" [partitions: ").append(spec.getPartitions())
-                            .append(", replicas: ").append(spec.getReplicas()).append("]");
+            ResponseRenderer renderer = renderer(args);
+            DeltaTracker.Delta delta = delta(exchange, args);
+            Optional<ProjectionStore<KafkaTopic, TopicProjection>> store = cache.topics(kubernetesClient);
+            if (store.isPresent()) {
+                for (TopicProjection topic : store.get().list(namespace, kafkaCluster)) {
+                    if (!delta.changed(topic.namespace() + "/" + topic.name(), topic.resourceVersion())) {
+                        continue;
+                    }
+                    renderer.item(result -> appendTopic(result, topic.namespace(), topic.name(), topic.partitions(),
+                            topic.replicas(), topic.cluster()),
+                            json -> writeTopic(json, topic.namespace(), topic.name(), topic.partitions(),
+                                    topic.replicas(), topic.cluster()));
                 }
+                return renderer.result(() -> "Found " + delta.total() + " KafkaTopic(s)" + delta.describeChanges()
+                        + ":\n\n" + renderer.render() + delta.footer() + cache.freshnessNote(), delta::write);
+            }
 
-                var labels = topic.getMetadata().getLabels();
-                if (labels != null && labels.containsKey(StrimziLabels.CLUSTER)) {
-                    result.append(" -> ").append(labels.get(StrimziLabels.CLUSTER));
+            // Streamed, so that large topic lists are formatted without holding every KafkaTopic in memory
+            repository(KafkaTopic.class, KafkaTopicList.class).forEach(namespace, kafkaCluster, topic -> {
+                var metadata = topic.getMetadata();
+                if (!delta.changed(metadata.getNamespace() + "/" + metadata.getName(), metadata.getResourceVersion())) {
+                    return;
                 }
+                var spec = topic.getSpec();
+                var labels = metadata.getLabels();
+                Integer partitions = spec != null ? spec.getPartitions() : null;
+                Integer replicas = spec != null ? spec.getReplicas() : null;
+                String cluster = labels != null ? labels.get(StrimziLabels.CLUSTER) : null;
+                renderer.item(result -> appendTopic(result, metadata.getNamespace(), metadata.getName(), partitions,
+                                replicas, cluster),
+                        json -> writeTopic(json, metadata.getNamespace(), metadata.getName(), partitions, replicas,
+                                cluster));
+            });
 
-                result.append("\n");
-            }
-
-            return success(result.toString());
+            return renderer.result(() -> "Found " + delta.total() + " KafkaTopic(s)" + delta.describeChanges()
+                    + ":\n\n" + renderer.render() + delta.footer(), delta::write);
         } catch (Exception e) {
             return error("Error listing topics: " + e.getMessage());
         }
     }
+
+    private static void appendTopic(StringBuilder result, String namespace, String name, Integer partitions,
+                                    Integer replicas, String cluster) {
+        result.append("- ").append(namespace).append("/").append(name);
+        if (partitions != null || replicas != null) {
+            result.append(" [partitions: ").append(partitions).append(", replicas: ").append(replicas).append("]");
+        }
+        if (cluster != null) {
+            result.append(" -> ").append(cluster);
+        }
+        result.append("\n");
+    }
+
+    private static void writeTopic(JsonGenerator json, String namespace, String name, Integer partitions,
+                                   Integer replicas, String cluster) throws IOException {
+        json.writeStartObject();
+        field(json, "namespace", namespace);
+        field(json, "name", name);
+        field(json, "partitions", partitions);
+        field(json, "replicas", replicas);
+        field(json, "cluster", cluster);
+        json.writeEndObject();
+    }
 }
@@ -0,0 +1,156 @@
+package io.seequick.mcp.tool.topic;
+
+import io.seequick.mcp.tool.Severity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Rules flagging KafkaTopic configurations known to hurt performance or durability. Each rule reads the
+ * configuration in effect for a topic (see {@link TopicConfigs.Effective}): its own canonical configuration, and
+ * for the keys it does not set the defaults of its Kafka cluster or of Kafka. Findings name the source of the
+ * values they rely on. Each rule has a severity and a threshold that can be overridden per call.
+ */
+public final class TopicConfigRules {
+
+    private static final long MI = 1024L * 1024L;
+
+    /**
+     * The rules, in the order findings of the same severity are ranked.
+     */
+    public static final List<Rule> DEFAULTS = List.of(
+            new Rule("unclean-leader-election", Severity.CRITICAL, 0,
+                    "Unclean leader election lets an out-of-sync replica become leader and lose acknowledged messages",
+                    (config, threshold) -> "true".equals(config.value("unclean.leader.election.enable"))
+                            ? config.describe("unclean.leader.election.enable") + "; set it to false" : null),
+            new Rule("min-isr-not-below-replicas", Severity.CRITICAL, 0,
+                    "min.insync.replicas equal to the replicas blocks acks=all producers whenever one replica is "
+                            + "down, e.g. during every rolling update",
+                    TopicConfigRules::minIsrNotBelowReplicas),
+            new Rule("unbounded-retention", Severity.WARNING, 0,
+                    "retention.ms=-1 without retention.bytes keeps every segment forever until the disks fill up",
+                    TopicConfigRules::unboundedRetention),
+            new Rule("small-segment-bytes", Severity.WARNING, 100 * MI,
+                    "A small segment.bytes rolls segments often: many files, open handles and index memory per "
+                            + "partition (threshold in bytes)",
+                    (config, threshold) -> {
+                        BigDecimal segmentBytes = number(config.value("segment.bytes"));
+                        return segmentBytes != null && segmentBytes.doubleValue() < threshold
+                                ? config.describe("segment.bytes") + " is below " + bytes(threshold)
+                                + "; use at least " + bytes(threshold) + " (default 1Gi)" : null;
+                    }),
+            new Rule("huge-max-message-bytes", Severity.WARNING, 10 * MI,
+                    "A huge max.message.bytes lets single records stall fetches and replication and needs matching "
+                            + "fetch sizes on brokers and consumers (threshold in bytes)",
+                    (config, threshold) -> {
+                        BigDecimal maxMessageBytes = number(config.value("max.message.bytes"));
+                        return maxMessageBytes != null && maxMessageBytes.doubleValue() > threshold
+                                ? config.describe("max.message.bytes") + " is above " + bytes(threshold)
+                                + "; keep large payloads out of Kafka or chunk them" : null;
+                    }),
+            new Rule("uncompressed", Severity.WARNING, 12,
+                    "compression.type=uncompressed on a topic with many partitions (a proxy for volume) costs "
+                            + "network, disk and page cache (threshold in partitions)",
+                    (config, threshold) -> {
+                        if (!"uncompressed".equals(config.value("compression.type"))) {
+                            return null;
+                        }
+                        BigDecimal partitions = number(config.value(TopicConfigs.PARTITIONS));
+                        return partitions != null && partitions.doubleValue() >= threshold
+                                ? config.describe("compression.type") + " with " + partitions + " partitions; use "
+                                + "producer, lz4 or zstd" : null;
+                    }));
+
+    private TopicConfigRules() {
+        // Utility class
+    }
+
+    /**
+     * Returns the rule with the id, or null.
+     */
+    public static Rule find(String id) {
+        for (Rule rule : DEFAULTS) {
+            if (rule.id().equalsIgnoreCase(id)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the ids of all rules.
+     */
+    public static List<String> ids() {
+        return DEFAULTS.stream().map(Rule::id).toList();
+    }
+
+    private static String minIsrNotBelowReplicas(TopicConfigs.Effective config, double threshold) {
+        // Topics without spec.replicas get the default.replication.factor of the brokers
+        BigDecimal replicas = number(config.value(TopicConfigs.REPLICAS));
+        BigDecimal minIsr = number(config.value("min.insync.replicas"));
+        if (replicas == null || minIsr == null || minIsr.compareTo(replicas) < 0) {
+            return null;
+        }
+        String suggestion = replicas.intValue() > 1
+                ? "; set min.insync.replicas=" + (replicas.intValue() - 1) + " or replicas=" + (minIsr.intValue() + 1)
+                : "; use replicas=3 with min.insync.replicas=2";
+        return config.describe("min.insync.replicas")
+                + (minIsr.compareTo(replicas) > 0 ? " is above " : " equals ") + config.describe(TopicConfigs.REPLICAS)
+                + (minIsr.compareTo(replicas) > 0 ? ": acks=all writes always fail" : "") + suggestion;
+    }
+
+    private static String unboundedRetention(TopicConfigs.Effective config, double threshold) {
+        if (!"-1".equals(config.value("retention.ms")) || !"-1".equals(config.value("retention.bytes"))) {
+            return null;
+        }
+        // A compacted topic keeps the latest value of each key whatever its retention
+        String cleanupPolicy = config.value("cleanup.policy");
+        if (cleanupPolicy == null || !cleanupPolicy.contains("delete")) {
+            return null;
+        }
+        return config.describe("retention.ms") + " and " + config.describe("retention.bytes")
+                + "; set retention.bytes per partition or a finite retention.ms";
+    }
+
+    private static BigDecimal number(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String bytes(double bytes) {
+        return bytes >= MI && bytes % MI == 0
+                ? (long) (bytes / MI) + "Mi"
+                : String.format(Locale.ROOT, "%.0f bytes", bytes);
+    }
+
+    /**
+     * Checks a canonical configuration.
+     */
+    @FunctionalInterface
+    public interface Check {
+
+        /**
+         * Returns the finding of the rule for the configuration in effect for a topic, or null if it passes.
+         */
+        String evaluate(TopicConfigs.Effective config, double threshold);
+    }
+
+    /**
+     * A rule.
+     *
+     * @param id          The id, e.g. "small-segment-bytes"
+     * @param severity    The default severity of its findings
+     * @param threshold   The default threshold (0 for rules without one)
+     * @param description Why the configuration is a problem
+     * @param check       The check
+     */
+    public record Rule(String id, Severity severity, double threshold, String description, Check check) {
+    }
+}
@@ -0,0 +1,246 @@
+package io.seequick.mcp.tool.topic;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.topic.KafkaTopicSpec;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Canonical form and fingerprint of the configuration of a KafkaTopic, so that topics configured the same way
+ * compare equal however their {@code spec.config} was written: keys are sorted, values are trimmed, integers
+ * are written without quotes or leading zeros ({@code "1000"}, {@code 1000} and {@code "01000"} are the same)
+ * and booleans are lower case. Other numbers are kept as written, since a value such as {@code 3.0} may be a
+ * version rather than a number.
+ */
+public final class TopicConfigs {
+
+    /**
+     * Key of the partitions in a canonical configuration.
+     */
+    public static final String PARTITIONS = "spec.partitions";
+
+    /**
+     * Key of the replicas in a canonical configuration.
+     */
+    public static final String REPLICAS = "spec.replicas";
+
+    /**
+     * Kafka's default values of common topic configs and of the replicas, which apply when neither the topic nor
+     * the broker configuration sets them.
+     */
+    public static final Map<String, String> DEFAULTS = Map.of(
+            "cleanup.policy", "delete",
+            "compression.type", "producer",
+            "retention.ms", "604800000",
+            "retention.bytes", "-1",
+            "segment.bytes", "1073741824",
+            "min.insync.replicas", "1",
+            "max.message.bytes", "1048588",
+            "unclean.leader.election.enable", "false",
+            REPLICAS, "1"
+    );
+
+    /**
+     * The broker configs setting the default of each key of {@link #DEFAULTS}, the first one set winning (e.g.
+     * log.retention.ms over log.retention.hours).
+     */
+    static final Map<String, List<String>> BROKER_KEYS = Map.of(
+            "cleanup.policy", List.of("log.cleanup.policy"),
+            "compression.type", List.of("compression.type"),
+            "retention.ms", List.of("log.retention.ms", "log.retention.minutes", "log.retention.hours"),
+            "retention.bytes", List.of("log.retention.bytes"),
+            "segment.bytes", List.of("log.segment.bytes"),
+            "min.insync.replicas", List.of("min.insync.replicas"),
+            "max.message.bytes", List.of("message.max.bytes"),
+            "unclean.leader.election.enable", List.of("unclean.leader.election.enable"),
+            REPLICAS, List.of("default.replication.factor")
+    );
+
+    private static final Pattern INTEGER = Pattern.compile("-?\\d+");
+
+    private static final Map<String, Long> MILLIS_PER_UNIT = Map.of(
+            "log.retention.minutes", 60_000L,
+            "log.retention.hours", 3_600_000L);
+
+    private TopicConfigs() {
+        // Utility class
+    }
+
+    /**
+     * Returns the canonical configuration of a topic: its {@code spec.config} plus {@link #PARTITIONS} and
+     * {@link #REPLICAS} when they are set.
+     */
+    public static SortedMap<String, String> canonical(KafkaTopicSpec spec) {
+        SortedMap<String, String> config = new TreeMap<>();
+        if (spec == null) {
+            return config;
+        }
+        if (spec.getPartitions() != null) {
+            config.put(PARTITIONS, spec.getPartitions().toString());
+        }
+        if (spec.getReplicas() != null) {
+            config.put(REPLICAS, spec.getReplicas().toString());
+        }
+        if (spec.getConfig() != null) {
+            for (Map.Entry<String, Object> entry : spec.getConfig().entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    config.put(entry.getKey().strip(), canonicalValue(entry.getValue()));
+                }
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Returns the canonical form of a configuration value.
+     */
+    public static String canonicalValue(Object value) {
+        if (value instanceof Collection<?> values) {
+            return values.stream().map(TopicConfigs::canonicalValue).collect(Collectors.joining(","));
+        }
+        String text = value.toString().strip();
+        if (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false")) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        if (INTEGER.matcher(text).matches()) {
+            return new BigInteger(text).toString();
+        }
+        return text;
+    }
+
+    /**
+     * Returns the fingerprint of a canonical configuration: the first 64 bits of its SHA-256, in hex.
+     */
+    public static String fingerprint(SortedMap<String, String> canonical) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (Map.Entry<String, String> entry : canonical.entrySet()) {
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '=');
+            digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    /**
+     * A value with where it comes from: the topic, the broker configuration of its Kafka cluster, or Kafka.
+     *
+     * @param value  The canonical value
+     * @param source Where the value comes from, e.g. "log.retention.hours of Kafka kafka/my-cluster", or null
+     *               when the topic sets it
+     */
+    public record Value(String value, String source) {
+    }
+
+    /**
+     * The defaults of the keys a topic does not set.
+     *
+     * @param description Where the defaults come from, e.g. "spec.kafka.config of Kafka kafka/my-cluster"
+     * @param values      The defaults by key of {@link #DEFAULTS}
+     */
+    public record Defaults(String description, Map<String, Value> values) {
+
+        /**
+         * Kafka's own defaults.
+         */
+        public static final Defaults KAFKA = new Defaults("Kafka defaults", kafkaDefaults());
+
+        /**
+         * Returns the defaults of the topics of a Kafka cluster: the broker configs of its {@code spec.kafka.config}
+         * mapped to their topic configs, and Kafka's defaults for the others.
+         */
+        public static Defaults of(Kafka kafka) {
+            Map<String, Object> config = kafka.getSpec() != null && kafka.getSpec().getKafka() != null
+                    && kafka.getSpec().getKafka().getConfig() != null ? kafka.getSpec().getKafka().getConfig() : Map.of();
+            String cluster = "Kafka " + kafka.getMetadata().getNamespace() + "/" + kafka.getMetadata().getName();
+            Map<String, Value> values = kafkaDefaults();
+            BROKER_KEYS.forEach((key, brokerKeys) -> {
+                for (String brokerKey : brokerKeys) {
+                    Object value = config.get(brokerKey);
+                    if (value != null) {
+                        values.put(key, new Value(brokerValue(brokerKey, canonicalValue(value)),
+                                brokerKey + " of " + cluster));
+                        return;
+                    }
+                }
+            });
+            return new Defaults("spec.kafka.config of " + cluster, Map.copyOf(values));
+        }
+
+        private static Map<String, Value> kafkaDefaults() {
+            Map<String, Value> values = new HashMap<>();
+            DEFAULTS.forEach((key, value) -> values.put(key, new Value(value, "Kafka default")));
+            return values;
+        }
+
+        private static String brokerValue(String brokerKey, String value) {
+            Long millis = MILLIS_PER_UNIT.get(brokerKey);
+            if (millis == null) {
+                return value;
+            }
+            try {
+                return String.valueOf(Long.parseLong(value) * millis);
+            } catch (NumberFormatException e) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * The configuration in effect for a topic: its canonical configuration, and the defaults for the keys it
+     * does not set.
+     *
+     * @param canonical The canonical configuration of the topic
+     * @param defaults  The defaults
+     */
+    public record Effective(SortedMap<String, String> canonical, Defaults defaults) {
+
+        /**
+         * Returns the value in effect for a key with its source, or null when neither the topic nor the defaults
+         * have one.
+         */
+        public Value get(String key) {
+            String value = canonical.get(key);
+            return value != null ? new Value(value, null) : defaults.values().get(key);
+        }
+
+        /**
+         * Returns the value in effect for a key, or null.
+         */
+        public String value(String key) {
+            Value value = get(key);
+            return value != null ? value.value() : null;
+        }
+
+        /**
+         * Describes the value in effect for a key, e.g. "segment.bytes=1048576" when the topic sets it or
+         * "replicas=1 (Kafka default)" when it does not.
+         */
+        public String describe(String key) {
+            Value value = get(key);
+            String name = REPLICAS.equals(key) ? "replicas" : key;
+            if (value == null) {
+                return name + " unset";
+            }
+            return name + "=" + value.value() + (value.source() != null ? " (" + value.source() + ")" : "");
+        }
+    }
+}
@@ -56,6 +56,11 @@ public class UpdateTopicConfigTool extends AbstractStrimziTool {
         return "Update configuration of an existing KafkaTopic (partitions can only be increased)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -65,6 +65,11 @@ public class CreateUserTool extends AbstractStrimziTool {
         return "Create a new KafkaUser resource managed by the User Operator";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -44,6 +44,11 @@ public class DeleteUserTool extends AbstractStrimziTool {
         return "Delete a KafkaUser resource (User Operator will remove the user from Kafka)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
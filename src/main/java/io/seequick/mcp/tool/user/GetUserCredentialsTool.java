@@ -46,6 +46,11 @@ public class GetUserCredentialsTool extends AbstractStrimziTool {
         return "Get credentials for a KafkaUser from the generated Kubernetes Secret";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
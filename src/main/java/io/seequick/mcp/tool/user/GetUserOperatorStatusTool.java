@@ -42,6 +42,11 @@ public class GetUserOperatorStatusTool extends AbstractStrimziTool {
         return "Get status of the User Operator (entity-operator pod) for a Kafka cluster";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
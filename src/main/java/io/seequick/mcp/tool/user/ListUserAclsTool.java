@@ -48,6 +48,11 @@ public class ListUserAclsTool extends AbstractStrimziTool {
         return "List all ACL rules for a KafkaUser in a detailed, readable format";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
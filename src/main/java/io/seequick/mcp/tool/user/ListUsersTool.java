@@ -1,14 +1,24 @@
 package io.seequick.mcp.tool.user;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
+import io.seequick.mcp.store.ProjectionStore;
+import io.seequick.mcp.store.ResourceCache;
+import io.seequick.mcp.store.UserProjection;
 import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.ResponseRenderer;
 import io.seequick.mcp.tool.StrimziLabels;
 
+import java.io.IOException;
+import java.util.Optional;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
 /**
  * Tool to list Strimzi KafkaUser resources.
  */
@@ -30,8 +40,15 @@ public class ListUsersTool extends AbstractStrimziTool {
             }
             """;
 
+    private final ResourceCache cache;
+
     public ListUsersTool(KubernetesClient kubernetesClient) {
+        this(kubernetesClient, ResourceCache.shared());
+    }
+
+    public ListUsersTool(KubernetesClient kubernetesClient, ResourceCache cache) {
         super(kubernetesClient);
+        this.cache = cache;
     }
 
     @Override
@@ -44,60 +61,108 @@ public class ListUsersTool extends AbstractStrimziTool {
         return "List Strimzi KafkaUser resources";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
     }
 
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
     @Override
     protected CallToolResult execute(McpSchema.CallToolRequest args) {
         try {
             String namespace = getStringArg(args, "namespace");
             String kafkaCluster = getStringArg(args, "kafkaCluster");
 
-            KafkaUserList userList = repository(KafkaUser.class, KafkaUserList.class)
-                    .list(namespace, kafkaCluster);
-
-            StringBuilder result = new StringBuilder();
-            result.append("Found ").append(userList.getItems().size()).append(" KafkaUser(s):\n\n");
-
-            for (KafkaUser user : userList.getItems()) {
-                result.append("- ").append(user.getMetadata().getNamespace())
-                        .append("/").append(user.getMetadata().getName());
-
-                // Authentication type
-                var spec = user.getSpec();
-                if (spec != null && spec.getAuthentication() != null) {
-                    result.append(" [auth: ").append(spec.getAuthentication().getType()).append("]");
-                }
-
-                // Authorization
-                if (spec != null && spec.getAuthorization() != null) {
-                    result.append(" [authz: ").append(spec.getAuthorization().getType()).append("]");
+            ResponseRenderer renderer = renderer(args);
+            Optional<ProjectionStore<KafkaUser, UserProjection>> store = cache.users(kubernetesClient);
+            if (store.isPresent()) {
+                for (UserProjection user : store.get().list(namespace, kafkaCluster)) {
+                    renderer.item(result -> appendUser(result, user.namespace(), user.name(), user.authentication(),
+                            user.authorization(), user.readiness().status(), user.cluster()),
+                            json -> writeUser(json, user.namespace(), user.name(), user.authentication(),
+                                    user.authorization(), user.readiness().status(), user.cluster()));
                 }
+                return renderer.result(() -> "Found " + renderer.itemCount() + " KafkaUser(s):\n\n"
+                        + renderer.render() + cache.freshnessNote(), null);
+            }
 
-                // Ready status
-                if (user.getStatus() != null && user.getStatus().getConditions() != null) {
-                    var readyCondition = user.getStatus().getConditions().stream()
-                            .filter(c -> "Ready".equals(c.getType()))
-                            .findFirst();
-                    readyCondition.ifPresent(c ->
-                            result.append(" [Ready: ").append(c.getStatus()).append("]")
-                    );
-                }
+            // Streamed, so that large user lists are formatted without holding every KafkaUser in memory
+            repository(KafkaUser.class, KafkaUserList.class).forEach(namespace, kafkaCluster, user -> {
+                var spec = user.getSpec();
+                String authentication = spec != null && spec.getAuthentication() != null
+                        ? spec.getAuthentication().getType() : null;
+                String authorization = spec != null && spec.getAuthorization() != null
+                        ? spec.getAuthorization().getType() : null;
 
-                // Cluster label
+                String ready = readyStatus(user);
                 var labels = user.getMetadata().getLabels();
-                if (labels != null && labels.containsKey(StrimziLabels.CLUSTER)) {
-                    result.append(" -> ").append(labels.get(StrimziLabels.CLUSTER));
-                }
-
-                result.append("\n");
-            }
-
-            return success(result.toString());
+                String userNamespace = user.getMetadata().getNamespace();
+                String name = user.getMetadata().getName();
+                String cluster = labels != null ? labels.get(StrimziLabels.CLUSTER) : null;
+                renderer.item(result -> appendUser(result, userNamespace, name, authentication, authorization, ready,
+                                cluster),
+                        json -> writeUser(json, userNamespace, name, authentication, authorization, ready, cluster));
+            });
+
+            return renderer.result(() -> "Found " + renderer.itemCount() + " KafkaUser(s):\n\n" + renderer.render(),
+                    null);
         } catch (Exception e) {
             return error("Error listing users: " + e.getMessage());
         }
     }
+
+    private static String readyStatus(KafkaUser user) {
+        if (user.getStatus() == null || user.getStatus().getConditions() == null) {
+            return null;
+        }
+        return user.getStatus().getConditions().stream()
+                .filter(c -> "Ready".equals(c.getType()))
+                .findFirst()
+                .map(c -> c.getStatus())
+                .orElse(null);
+    }
+
+    private static void appendUser(StringBuilder result, String namespace, String name, String authentication,
+                                   String authorization, String ready, String cluster) {
+        result.append("- ").append(namespace).append("/").append(name);
+        if (authentication != null) {
+            result.append(" [auth: ").append(authentication).append("]");
+        }
+        if (authorization != null) {
+            result.append(" [authz: ").append(authorization).append("]");
+        }
+        if (ready != null) {
+            result.append(" [Ready: ").append(ready).append("]");
+        }
+        if (cluster != null) {
+            result.append(" -> ").append(cluster);
+        }
+        result.append("\n");
+    }
+
+    private static void writeUser(JsonGenerator json, String namespace, String name, String authentication,
+                                  String authorization, String ready, String cluster) throws IOException {
+        json.writeStartObject();
+        field(json, "namespace", namespace);
+        field(json, "name", name);
+        field(json, "authentication", authentication);
+        field(json, "authorization", authorization);
+        field(json, "ready", ready);
+        field(json, "cluster", cluster);
+        json.writeEndObject();
+    }
 }
@@ -51,6 +51,11 @@ public class UpdateUserAclsTool extends AbstractStrimziTool {
         return "Show or clear ACL rules for a KafkaUser. Use 'show' to view current ACLs, 'clear' to remove all ACLs.";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -1,54 +1,31 @@
 package io.seequick.mcp.tool.user;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserList;
 import io.strimzi.api.kafka.model.user.KafkaUserQuotas;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 /**
  * Tool to update quotas for a KafkaUser.
  */
-public class UpdateUserQuotasTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "name": {
-                        "type": "string",
-                        "description": "Name of the KafkaUser resource"
-                    },
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace of the user"
-                    },
-                    "producerByteRate": {
-                        "type": "integer",
-                        "description": "Producer quota in bytes per second. Set to 0 to remove quota."
-                    },
-                    "consumerByteRate": {
-                        "type": "integer",
-                        "description": "Consumer quota in bytes per second. Set to 0 to remove quota."
-                    },
-                    "requestPercentage": {
-                        "type": "integer",
-                        "description": "Request percentage quota (0-100). Set to 0 to remove quota."
-                    },
-                    "controllerMutationRate": {
-                        "type": "number",
-                        "description": "Controller mutation rate quota. Set to 0 to remove quota."
-                    }
-                },
-                "required": ["name", "namespace"]
-            }
-            """;
+public class UpdateUserQuotasTool extends TypedStrimziTool<UpdateUserQuotasTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name of the KafkaUser resource", required = true) String name,
+            @Arg(value = "Kubernetes namespace of the user", required = true) String namespace,
+            @Arg("Producer quota in bytes per second. Set to 0 to remove quota.") Integer producerByteRate,
+            @Arg("Consumer quota in bytes per second. Set to 0 to remove quota.") Integer consumerByteRate,
+            @Arg("Request percentage quota (0-100). Set to 0 to remove quota.") Integer requestPercentage,
+            @Arg("Controller mutation rate quota. Set to 0 to remove quota.") Double controllerMutationRate) {
+    }
 
     public UpdateUserQuotasTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, UpdateUserQuotasToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -62,20 +39,19 @@ public class UpdateUserQuotasTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return false;
     }
 
     @Override
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String name = getStringArg(args, "name");
-            String namespace = getStringArg(args, "namespace");
-            Integer producerByteRate = getOptionalIntArg(args, "producerByteRate");
-            Integer consumerByteRate = getOptionalIntArg(args, "consumerByteRate");
-            Integer requestPercentage = getOptionalIntArg(args, "requestPercentage");
-            Double controllerMutationRate = args.arguments().get("controllerMutationRate") != null ?
-                    ((Number) args.arguments().get("controllerMutationRate")).doubleValue() : null;
+            String name = args.name();
+            String namespace = args.namespace();
+            Integer producerByteRate = args.producerByteRate();
+            Integer consumerByteRate = args.consumerByteRate();
+            Integer requestPercentage = args.requestPercentage();
+            Double controllerMutationRate = args.controllerMutationRate();
 
             KafkaUser user = kubernetesClient.resources(KafkaUser.class, KafkaUserList.class)
                     .inNamespace(namespace)
@@ -5,9 +5,7 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.strimzi.api.kafka.model.kafka.Kafka;
 import io.strimzi.api.kafka.model.kafka.KafkaList;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
@@ -24,38 +22,26 @@ import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
 import io.strimzi.api.kafka.model.bridge.KafkaBridge;
 import io.strimzi.api.kafka.model.bridge.KafkaBridgeList;
-import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.ToolResultCache;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ToolArguments;
 
 /**
  * Tool to export a Strimzi resource as YAML.
  */
-public class ExportResourceYamlTool extends AbstractStrimziTool {
-
-    private static final String SCHEMA = """
-            {
-                "type": "object",
-                "properties": {
-                    "kind": {
-                        "type": "string",
-                        "enum": ["Kafka", "KafkaTopic", "KafkaUser", "KafkaConnect", "KafkaConnector", "KafkaNodePool", "KafkaMirrorMaker2", "KafkaBridge"],
-                        "description": "Kind of the resource to export"
-                    },
-                    "name": {
-                        "type": "string",
-                        "description": "Name of the resource"
-                    },
-                    "namespace": {
-                        "type": "string",
-                        "description": "Kubernetes namespace of the resource"
-                    },
-                    "includeStatus": {
-                        "type": "boolean",
-                        "description": "Include status in output (default: false)"
-                    }
-                },
-                "required": ["kind", "name", "namespace"]
-            }
-            """;
+public class ExportResourceYamlTool extends TypedStrimziTool<ExportResourceYamlTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Kind of the resource to export", required = true, allowed = {"Kafka", "KafkaTopic",
+                    "KafkaUser", "KafkaConnect", "KafkaConnector", "KafkaNodePool", "KafkaMirrorMaker2", "KafkaBridge"})
+            String kind,
+            @Arg(value = "Name of the resource", required = true) String name,
+            @Arg(value = "Kubernetes namespace of the resource", required = true) String namespace,
+            @Arg(value = "Include status in output (default: false)", defaultValue = "false") boolean includeStatus) {
+    }
 
     private static final ObjectMapper YAML_MAPPER;
 
@@ -67,7 +53,7 @@ public class ExportResourceYamlTool extends AbstractStrimziTool {
     }
 
     public ExportResourceYamlTool(KubernetesClient kubernetesClient) {
-        super(kubernetesClient);
+        super(kubernetesClient, ExportResourceYamlToolArgumentsBinder.INSTANCE);
     }
 
     @Override
@@ -81,18 +67,22 @@ public class ExportResourceYamlTool extends AbstractStrimziTool {
     }
 
     @Override
-    protected JsonSchema getInputSchema() {
-        return parseSchema(SCHEMA);
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected ToolResultCache.Resource cachedResource(Arguments args) {
+        StrimziKind kind = StrimziKind.fromKind(args.kind());
+        return kind != null ? new ToolResultCache.Resource(kind, args.namespace(), args.name()) : null;
     }
 
     @Override
-    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+    protected CallToolResult execute(Arguments args) {
         try {
-            String kind = getStringArg(args, "kind");
-            String name = getStringArg(args, "name");
-            String namespace = getStringArg(args, "namespace");
-            Boolean includeStatus = args.arguments().get("includeStatus") != null ?
-                    (Boolean) args.arguments().get("includeStatus") : false;
+            String kind = args.kind();
+            String name = args.name();
+            String namespace = args.namespace();
 
             HasMetadata resource = getResource(kind, name, namespace);
 
@@ -101,7 +91,7 @@ public class ExportResourceYamlTool extends AbstractStrimziTool {
             }
 
             // Clean up metadata for export
-            if (!Boolean.TRUE.equals(includeStatus)) {
+            if (!args.includeStatus()) {
                 // Remove status by converting to map and removing status key
                 var resourceMap = YAML_MAPPER.convertValue(resource, java.util.Map.class);
                 resourceMap.remove("status");
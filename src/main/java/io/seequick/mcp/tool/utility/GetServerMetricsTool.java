@@ -0,0 +1,191 @@
+package io.seequick.mcp.tool.utility;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.seequick.mcp.client.ApiRequestScheduler;
+import io.seequick.mcp.client.ConcurrencyLimiter;
+import io.seequick.mcp.store.ResourceCache;
+import io.seequick.mcp.store.StoreSynchronizer;
+import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.RequestCoalescer;
+import io.seequick.mcp.tool.ToolResultCache;
+
+import java.util.Locale;
+
+/**
+ * Tool to report internal metrics of the MCP server, such as how many Kubernetes reads were coalesced
+ * how long API requests waited for the rate limiter and how many requests were in flight.
+ */
+public class GetServerMetricsTool extends AbstractStrimziTool {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {}
+            }
+            """;
+
+    private final RequestCoalescer coalescer;
+    private final ApiRequestScheduler scheduler;
+    private final ConcurrencyLimiter limiter;
+    private final ResourceCache cache;
+    private final ToolResultCache resultCache;
+
+    public GetServerMetricsTool(KubernetesClient kubernetesClient) {
+        this(kubernetesClient, RequestCoalescer.shared(), ApiRequestScheduler.shared(), ConcurrencyLimiter.shared(),
+                ResourceCache.shared(), ToolResultCache.shared());
+    }
+
+    public GetServerMetricsTool(KubernetesClient kubernetesClient, RequestCoalescer coalescer,
+                                ApiRequestScheduler scheduler, ConcurrencyLimiter limiter, ResourceCache cache,
+                                ToolResultCache resultCache) {
+        super(kubernetesClient);
+        this.coalescer = coalescer;
+        this.scheduler = scheduler;
+        this.limiter = limiter;
+        this.cache = cache;
+        this.resultCache = resultCache;
+    }
+
+    @Override
+    protected String getName() {
+        return "get_server_metrics";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Get internal metrics of the MCP server (Kubernetes API calls, coalesced reads, cache hits, tool result cache hits, rate limiter queues, HTTP requests in flight, resource snapshot)";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected JsonSchema getInputSchema() {
+        return parseSchema(SCHEMA);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        RequestCoalescer.Stats stats = coalescer.stats();
+
+        StringBuilder result = new StringBuilder();
+        result.append("Server Metrics\n");
+        result.append("═".repeat(60)).append("\n\n");
+
+        result.append("KUBERNETES READS\n");
+        result.append("─".repeat(40)).append("\n");
+        result.append("  Requested: ").append(stats.requests()).append("\n");
+        result.append("  API calls: ").append(stats.apiCalls()).append("\n");
+        result.append("  Coalesced (joined in-flight call): ").append(stats.coalesced()).append("\n");
+        result.append("  Served from cache: ").append(stats.cacheHits()).append("\n");
+        result.append("  Saved: ").append(percentage(stats.coalesced() + stats.cacheHits(), stats.requests())).append("\n");
+        result.append("\n");
+
+        result.append("READ CACHE\n");
+        result.append("─".repeat(40)).append("\n");
+        long ttlMillis = coalescer.getCacheTtl().toMillis();
+        result.append("  TTL: ").append(ttlMillis > 0 ? ttlMillis + "ms" : "disabled").append("\n");
+        result.append("  Entries: ").append(stats.cacheEntries()).append("\n");
+        result.append("\n");
+
+        appendToolResultCache(result, resultCache.stats());
+        result.append("\n");
+
+        appendScheduler(result, scheduler.stats());
+        result.append("\n");
+        appendLimiter(result, limiter.stats());
+        result.append("\n");
+        appendResourceCache(result, cache.stats());
+
+        return success(result.toString());
+    }
+
+    private static void appendToolResultCache(StringBuilder result, ToolResultCache.Stats stats) {
+        result.append("TOOL RESULT CACHE\n");
+        result.append("─".repeat(40)).append("\n");
+        if (stats.maxEntries() <= 0) {
+            result.append("  Status: disabled\n");
+            return;
+        }
+        result.append("  Entries: ").append(stats.entries()).append(" (max ").append(stats.maxEntries()).append(")\n");
+        result.append("  Lookups: ").append(stats.lookups()).append("\n");
+        result.append("  Hits: ").append(stats.hits()).append(" (").append(percentage(stats.hits(), stats.lookups()))
+                .append(")\n");
+        result.append("  Dropped: ").append(stats.changed()).append(" changed, ").append(stats.invalidated())
+                .append(" written, ").append(stats.evicted()).append(" evicted\n");
+    }
+
+    private static void appendScheduler(StringBuilder result, ApiRequestScheduler.Stats stats) {
+        result.append("API RATE LIMITER\n");
+        result.append("─".repeat(40)).append("\n");
+        if (stats.qps() <= 0) {
+            result.append("  Limit: disabled\n");
+        } else {
+            result.append("  Limit: ").append(String.format(Locale.ROOT, "%.1f", stats.qps())).append(" req/s, burst ")
+                    .append(stats.burst()).append("\n");
+            result.append("  Available tokens: ").append(String.format(Locale.ROOT, "%.1f", stats.availableTokens())).append("\n");
+        }
+        result.append("  Exempt (watches): ").append(stats.exempt()).append("\n");
+        for (ApiRequestScheduler.LaneStats lane : stats.lanes()) {
+            result.append("  ").append(lane.lane()).append(" lane:\n");
+            result.append("    Admitted: ").append(lane.admitted()).append("\n");
+            result.append("    Queue depth: ").append(lane.queued())
+                    .append(" (max ").append(lane.maxQueued()).append(")\n");
+            result.append("    Wait: avg ").append(String.format(Locale.ROOT, "%.1f", lane.averageWaitMs())).append("ms, max ")
+                    .append(lane.maxWaitMs()).append("ms\n");
+        }
+    }
+
+    private static void appendLimiter(StringBuilder result, ConcurrencyLimiter.Stats stats) {
+        result.append("HTTP CONNECTIONS\n");
+        result.append("─".repeat(40)).append("\n");
+        if (stats.maxTotal() <= 0 && stats.maxPerHost() <= 0) {
+            result.append("  Limit: disabled\n");
+            return;
+        }
+        result.append("  Limit: ").append(stats.maxTotal() > 0 ? String.valueOf(stats.maxTotal()) : "unlimited")
+                .append(" total, ").append(stats.maxPerHost() > 0 ? String.valueOf(stats.maxPerHost()) : "unlimited")
+                .append(" per host\n");
+        result.append("  In flight: ").append(stats.inFlight()).append(" (max ").append(stats.maxInFlight()).append(")\n");
+        result.append("  Queue depth: ").append(stats.queued()).append(" (max ").append(stats.maxQueued()).append(")\n");
+        result.append("  Admitted: ").append(stats.granted()).append("\n");
+    }
+
+    private static void appendResourceCache(StringBuilder result, ResourceCache.Stats stats) {
+        result.append("RESOURCE CACHE\n");
+        result.append("─".repeat(40)).append("\n");
+        if (!stats.started()) {
+            result.append("  Status: disabled\n");
+            return;
+        }
+        result.append("  Context: ").append(stats.context()).append("\n");
+        result.append("  Snapshot file: ").append(stats.snapshotFile() != null ? stats.snapshotFile() : "none").append("\n");
+        result.append("  Restored from snapshot: ")
+                .append(stats.restoredFrom() != null ? stats.restoredFrom().toString() : "no").append("\n");
+        result.append("  Last snapshot written: ")
+                .append(stats.savedAt() != null ? stats.savedAt().toString() : "never").append("\n");
+        for (StoreSynchronizer.Stats store : stats.stores()) {
+            result.append("  ").append(store.kind()).append(":\n");
+            result.append("    Items: ").append(store.items()).append("\n");
+            result.append("    Revalidated: ").append(store.synced() ? "yes"
+                    : store.unavailable() ? "no (not installed or not readable, not retried)" : "no").append("\n");
+            result.append("    Watches resumed: ").append(store.resumes()).append(", relists: ").append(store.relists())
+                    .append(", events: ").append(store.events()).append("\n");
+            if (store.lastError() != null) {
+                result.append("    Last error: ").append(store.lastError()).append("\n");
+            }
+        }
+    }
+
+    private static String percentage(long part, long total) {
+        if (total == 0) {
+            return "0%";
+        }
+        return String.format(Locale.ROOT, "%.1f%%", part * 100.0 / total);
+    }
+}
@@ -45,6 +45,11 @@ public class GetStrimziVersionTool extends AbstractStrimziTool {
         return "Get installed Strimzi operator version and Kafka versions in use";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -57,6 +57,11 @@ public class ListAllResourcesTool extends AbstractStrimziTool {
         return "List all Strimzi resources in the cluster (Kafka, Topics, Users, Connect, Connectors, etc.)";
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     protected JsonSchema getInputSchema() {
         return parseSchema(SCHEMA);
@@ -0,0 +1,238 @@
+package io.seequick.mcp.tool.utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.seequick.mcp.tool.ResponseRenderer;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import io.seequick.mcp.tool.args.ToolArguments;
+import io.seequick.mcp.tool.query.FieldPath;
+import io.seequick.mcp.tool.query.Ordering;
+import io.seequick.mcp.tool.query.Query;
+import io.seequick.mcp.tool.query.Values;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Tool to filter, sort and project Strimzi resources on the server, so that questions such as "topics with more
+ * than 50 partitions and a retention below one day" are answered without listing every resource.
+ * <p>
+ * The filter is compiled once (see {@link Query}) and evaluated against each resource as it is streamed from the
+ * API server; only the selected fields of the matching resources are kept. With a sort order and a limit, only
+ * the top rows are kept.
+ */
+public class QueryResourcesTool extends TypedStrimziTool<QueryResourcesTool.Arguments> {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Kind of the resources to query", required = true, allowed = {"Kafka", "KafkaNodePool",
+                    "KafkaTopic", "KafkaUser", "KafkaConnect", "KafkaConnector", "KafkaMirrorMaker2", "KafkaBridge",
+                    "KafkaRebalance"}) String kind,
+            @Arg("Kubernetes namespace. If not specified, queries all namespaces.") String namespace,
+            @Arg("Only query resources of this Kafka cluster (strimzi.io/cluster label)") String kafkaCluster,
+            @Arg("Filter, e.g. spec.partitions > 50 and spec.config.\"retention.ms\" < 1d, or "
+                    + "spec.authentication.type == \"tls\" and not spec.quotas. Fields are dotted paths into the "
+                    + "resource (quote segments containing dots; name, namespace and cluster are shorthands); "
+                    + "operators ==, !=, <, <=, >, >=, matches \"regex\"; combine with and, or, not and parentheses. "
+                    + "A field alone tests that it is set. Numbers may have a duration unit: ms, s, min, h, d, w "
+                    + "(milliseconds), or a Kubernetes quantity suffix: m (milli), k, M, G, T, Ki, Mi, Gi, Ti.")
+            String where,
+            @Arg("Fields to return for each resource, e.g. [\"spec.partitions\", \"status.conditions.type\"]")
+            List<String> select,
+            @Arg("Field to sort by, optionally followed by asc or desc, e.g. spec.partitions desc") String orderBy,
+            @Arg(value = "Return at most this many resources, the first ones of the sort order (top-k)",
+                    defaultValue = "0") int limit) {
+    }
+
+    public QueryResourcesTool(KubernetesClient kubernetesClient) {
+        super(kubernetesClient, QueryResourcesToolArgumentsBinder.INSTANCE);
+    }
+
+    @Override
+    protected String getName() {
+        return "query_resources";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Filter, sort and project Strimzi resources of a kind on the server with a small expression language, "
+                + "e.g. topics with more than 50 partitions and retention.ms below 1d, or users with TLS authentication "
+                + "and no quotas. Returns only the matching resources and the selected fields.";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected CallToolResult execute(Arguments args) {
+        return execute(null, null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                     Arguments args) {
+        StrimziKind kind = StrimziKind.fromKind(args.kind());
+
+        Query query;
+        List<FieldPath> select;
+        Ordering ordering;
+        ResponseRenderer renderer;
+        try {
+            query = Query.compile(args.where(), "where");
+            select = select(args.select());
+            String orderBy = args.orderBy();
+            ordering = orderBy != null && !orderBy.isBlank() ? Ordering.parse(orderBy, "orderBy") : null;
+            renderer = renderer(request);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+        int limit = Math.max(0, args.limit());
+        if (ordering != null && select.stream().noneMatch(path -> path.toString().equals(ordering.path().toString()))) {
+            // Shows the values the rows are sorted by
+            select = new ArrayList<>(select);
+            select.add(0, ordering.path());
+        }
+
+        try {
+            List<FieldPath> fields = List.copyOf(select);
+            long[] scanned = {0};
+            long[] matched = {0};
+            Comparator<Row> order = ordering != null
+                    ? ordering.<Row>comparator(Row::sortKey).thenComparing(Row::namespace).thenComparing(Row::name)
+                    : null;
+            // With a limit, the heap holds the top rows with the last of them at its head
+            PriorityQueue<Row> rows = order != null ? new PriorityQueue<>(order.reversed()) : null;
+
+            kind.repository(kubernetesClient).forEachTree(args.namespace(), args.kafkaCluster(), resource -> {
+                scanned[0]++;
+                if (!query.test(resource)) {
+                    return;
+                }
+                matched[0]++;
+                if (order == null) {
+                    if (limit == 0 || matched[0] <= limit) {
+                        Row row = Row.of(resource, fields, null);
+                        renderer.item(text -> appendRow(text, row, fields), json -> writeRow(json, row, fields));
+                    }
+                    return;
+                }
+                rows.add(Row.of(resource, fields, ordering));
+                if (limit > 0 && rows.size() > limit) {
+                    rows.poll();
+                }
+            });
+
+            if (order != null) {
+                List<Row> sorted = new ArrayList<>(rows);
+                sorted.sort(order);
+                sorted.forEach(row -> renderer.item(text -> appendRow(text, row, fields),
+                        json -> writeRow(json, row, fields)));
+            }
+
+            return renderer.result(() -> header(kind, query, ordering, limit, matched[0], scanned[0])
+                    + renderer.render(), json -> {
+                        json.writeNumberField("matched", matched[0]);
+                        json.writeNumberField("scanned", scanned[0]);
+                    });
+        } catch (Exception e) {
+            return error("Error querying " + kind.getKind() + " resources: " + e.getMessage());
+        }
+    }
+
+    private static List<FieldPath> select(List<String> paths) {
+        List<FieldPath> select = new ArrayList<>();
+        if (paths != null) {
+            for (String path : paths) {
+                select.add(FieldPath.parse(path, "select"));
+            }
+        }
+        return select;
+    }
+
+    private static String header(StrimziKind kind, Query query, Ordering ordering, int limit, long matched,
+                                 long scanned) {
+        StringBuilder result = new StringBuilder();
+        result.append("Matched ").append(matched).append(" of ").append(scanned).append(" ")
+                .append(kind.getKind()).append("(s)");
+        if (!query.toString().isEmpty()) {
+            result.append(" where ").append(query);
+        }
+        if (ordering != null) {
+            result.append(", ordered by ").append(ordering);
+        }
+        if (limit > 0 && matched > limit) {
+            result.append(", first ").append(limit);
+        }
+        return result.append(":\n\n").toString();
+    }
+
+    private static void appendRow(StringBuilder result, Row row, List<FieldPath> fields) {
+        result.append("- ").append(row.namespace()).append("/").append(row.name());
+        for (int i = 0; i < fields.size(); i++) {
+            result.append("  ").append(fields.get(i)).append("=").append(Values.text(row.values().get(i)));
+        }
+        result.append("\n");
+    }
+
+    private static void writeRow(JsonGenerator json, Row row, List<FieldPath> fields) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("namespace", row.namespace());
+        json.writeStringField("name", row.name());
+        if (!fields.isEmpty()) {
+            json.writeObjectFieldStart("fields");
+            for (int i = 0; i < fields.size(); i++) {
+                JsonNode value = row.values().get(i);
+                if (value != null) {
+                    json.writeFieldName(fields.get(i).toString());
+                    // The generator has no codec, the tree is written as it is serialized
+                    json.writeRawValue(value.toString());
+                }
+            }
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+
+    /**
+     * The selected fields of a matching resource; the resource itself is not kept.
+     */
+    private record Row(String namespace, String name, JsonNode sortKey, List<JsonNode> values) {
+
+        static Row of(JsonNode resource, List<FieldPath> fields, Ordering ordering) {
+            JsonNode[] values = new JsonNode[fields.size()];
+            for (int i = 0; i < values.length; i++) {
+                List<JsonNode> resolved = fields.get(i).values(resource);
+                values[i] = resolved.isEmpty() ? null
+                        : resolved.size() == 1 ? resolved.get(0)
+                        : JsonNodeFactory.instance.arrayNode().addAll(resolved);
+            }
+            JsonNode metadata = resource.path("metadata");
+            return new Row(metadata.path("namespace").asText(), metadata.path("name").asText(),
+                    ordering != null ? ordering.path().first(resource) : null, Arrays.asList(values));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package io.seequick.mcp.tool.utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.seequick.mcp.store.NameIndex;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.ResponseRenderer;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.TypedStrimziTool;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import io.seequick.mcp.tool.args.ToolArguments;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static io.seequick.mcp.tool.StructuredOutput.field;
+
+/**
+ * Tool to find Strimzi resources by name when the exact name is not known: prefixes, substrings and names with
+ * typos, across all kinds. Answered from the {@link ResourceIndex}, which is started on the first search and
+ * then kept current by watches.
+ */
+public class SearchResourcesTool extends TypedStrimziTool<SearchResourcesTool.Arguments> {
+
+    private static final int MAX_LIMIT = 200;
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Name or part of a name to search for (case-insensitive); resource names, KafkaTopic topic "
+                    + "names and label values are searched, allowing one or two typos", required = true) String query,
+            @Arg(value = "Only search resources of this kind", allowed = {"Kafka", "KafkaNodePool", "KafkaTopic",
+                    "KafkaUser", "KafkaConnect", "KafkaConnector", "KafkaMirrorMaker2", "KafkaBridge", "KafkaRebalance"})
+            String kind,
+            @Arg("Only search resources of this namespace") String namespace,
+            @Arg(value = "Maximum number of results (default: 20, max: 200)", defaultValue = "20") int limit) {
+    }
+
+    private final ResourceIndex resourceIndex;
+
+    public SearchResourcesTool(KubernetesClient kubernetesClient) {
+        this(kubernetesClient, ResourceIndex.shared());
+    }
+
+    public SearchResourcesTool(KubernetesClient kubernetesClient, ResourceIndex resourceIndex) {
+        super(kubernetesClient, SearchResourcesToolArgumentsBinder.INSTANCE);
+        this.resourceIndex = resourceIndex;
+    }
+
+    @Override
+    protected String getName() {
+        return "search_resources";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Search Strimzi resources of all kinds by name, prefix, substring or a name with typos. "
+                + "Use it to find the exact name before describe_* tools instead of listing all resources.";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputBudget() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsOutputFormat() {
+        return true;
+    }
+
+    @Override
+    protected CallToolResult execute(Arguments args) {
+        return execute(null, null, args);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                     Arguments args) {
+        String query = args.query();
+        if (query.isBlank()) {
+            return error("Invalid argument query: expected a non-empty name");
+        }
+        StrimziKind kind = StrimziKind.fromKind(args.kind());
+        int limit = Math.max(1, Math.min(args.limit(), MAX_LIMIT));
+
+        ResponseRenderer renderer;
+        try {
+            renderer = renderer(request);
+        } catch (InvalidArgumentException e) {
+            return error(e.getMessage());
+        }
+
+        try {
+            ResourceIndex.View view = resourceIndex.index(kubernetesClient);
+            long start = System.nanoTime();
+            List<NameIndex.Match> matches = view.index().search(query, kind, args.namespace(), limit);
+            long elapsedNanos = System.nanoTime() - start;
+
+            for (NameIndex.Match match : matches) {
+                renderer.item(text -> appendMatch(text, match), json -> writeMatch(json, match));
+            }
+            return renderer.result(() -> header(query, matches.size(), view, elapsedNanos) + renderer.render()
+                    + pendingNote(view), json -> {
+                        json.writeNumberField("indexed", view.index().size());
+                        if (!view.pendingKinds().isEmpty()) {
+                            json.writeArrayFieldStart("pendingKinds");
+                            for (StrimziKind pending : view.pendingKinds()) {
+                                json.writeString(pending.getKind());
+                            }
+                            json.writeEndArray();
+                        }
+                        if (!view.unavailableKinds().isEmpty()) {
+                            json.writeArrayFieldStart("unavailableKinds");
+                            for (StrimziKind unavailable : view.unavailableKinds()) {
+                                json.writeString(unavailable.getKind());
+                            }
+                            json.writeEndArray();
+                        }
+                    });
+        } catch (Exception e) {
+            return error("Error searching resources: " + e.getMessage());
+        }
+    }
+
+    private static String header(String query, int matches, ResourceIndex.View view, long elapsedNanos) {
+        return "Found " + matches + " match(es) for \"" + query.strip() + "\" among " + view.index().size()
+                + " indexed resource(s) (" + String.format(Locale.ROOT, "%.2f", elapsedNanos / 1_000_000.0)
+                + " ms):\n\n";
+    }
+
+    private static String pendingNote(ResourceIndex.View view) {
+        String note = "";
+        if (!view.pendingKinds().isEmpty()) {
+            note += "\nNot indexed yet (still listing, or retrying after a failure): "
+                    + view.pendingKinds().stream().map(StrimziKind::getKind).toList() + "\n";
+        }
+        if (!view.unavailableKinds().isEmpty()) {
+            note += "\nNot indexed (not installed or not readable): "
+                    + view.unavailableKinds().stream().map(StrimziKind::getKind).toList() + "\n";
+        }
+        return note;
+    }
+
+    private static void appendMatch(StringBuilder result, NameIndex.Match match) {
+        NameIndex.Ref ref = match.ref();
+        result.append("- ").append(ref.kind().getKind()).append(" ").append(ref.namespace()).append("/")
+                .append(ref.name());
+        if (match.field() == NameIndex.Field.TOPIC_NAME) {
+            result.append(" (topicName: ").append(match.projection().topicName()).append(")");
+        } else if (match.field() == NameIndex.Field.LABEL) {
+            result.append(" (label value: ").append(match.term()).append(")");
+        }
+        if (match.projection() != null && match.projection().cluster() != null) {
+            result.append(" -> ").append(match.projection().cluster());
+        }
+        result.append(" [").append(describe(match)).append("]\n");
+    }
+
+    private static void writeMatch(JsonGenerator json, NameIndex.Match match) throws IOException {
+        NameIndex.Ref ref = match.ref();
+        json.writeStartObject();
+        field(json, "kind", ref.kind().getKind());
+        field(json, "namespace", ref.namespace());
+        field(json, "name", ref.name());
+        field(json, "cluster", match.projection() != null ? match.projection().cluster() : null);
+        field(json, "match", match.type().name().toLowerCase(Locale.ROOT));
+        field(json, "field", match.field().name().toLowerCase(Locale.ROOT));
+        field(json, "term", match.term());
+        if (match.type() == NameIndex.MatchType.FUZZY) {
+            field(json, "typos", match.distance());
+        }
+        json.writeEndObject();
+    }
+
+    private static String describe(NameIndex.Match match) {
+        return switch (match.type()) {
+            case EXACT -> "exact";
+            case PREFIX -> "prefix";
+            case SUBSTRING -> "substring";
+            case FUZZY -> match.distance() + " typo(s)";
+        };
+    }
+}
@@ -0,0 +1,239 @@
+package io.seequick.mcp.tool.utility;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.strimzi.api.kafka.model.bridge.KafkaBridge;
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.api.kafka.model.kafka.Status;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.seequick.mcp.tool.AbstractStrimziTool;
+import io.seequick.mcp.tool.StrimziConditions;
+import io.seequick.mcp.tool.StrimziKind;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Tool to block until a Strimzi resource reaches a condition, using a Kubernetes watch
+ * instead of repeated polling.
+ */
+public class WaitForTool extends AbstractStrimziTool {
+
+    private static final String SCHEMA = """
+            {
+                "type": "object",
+                "properties": {
+                    "kind": {
+                        "type": "string",
+                        "enum": ["Kafka", "KafkaNodePool", "KafkaTopic", "KafkaUser", "KafkaConnect", "KafkaConnector", "KafkaMirrorMaker2", "KafkaBridge", "KafkaRebalance"],
+                        "description": "Kind of the resource to wait for"
+                    },
+                    "name": {
+                        "type": "string",
+                        "description": "Name of the resource"
+                    },
+                    "namespace": {
+                        "type": "string",
+                        "description": "Kubernetes namespace of the resource"
+                    },
+                    "condition": {
+                        "type": "string",
+                        "description": "Condition to wait for (default: Ready). A status condition type such as Ready or ProposalReady (Ready also requires status.observedGeneration >= metadata.generation), optionally with a status (e.g. Ready=False), or one of: ObservedGeneration (status.observedGeneration >= metadata.generation), ReplicasMatched (status replicas equal spec replicas), Deleted"
+                    },
+                    "timeoutSeconds": {
+                        "type": "integer",
+                        "description": "Maximum time to wait in seconds (default: 300, max: 3600)"
+                    }
+                },
+                "required": ["kind", "name", "namespace"]
+            }
+            """;
+
+    static final int DEFAULT_TIMEOUT_SECONDS = 300;
+    static final int MAX_TIMEOUT_SECONDS = 3600;
+
+    public WaitForTool(KubernetesClient kubernetesClient) {
+        super(kubernetesClient);
+    }
+
+    @Override
+    protected String getName() {
+        return "wait_for";
+    }
+
+    @Override
+    protected String getDescription() {
+        return "Wait until a Strimzi resource reaches a condition (e.g. Ready, ProposalReady, ObservedGeneration, ReplicasMatched) "
+                + "or a timeout expires. Uses a Kubernetes watch, so prefer it over repeatedly calling status tools.";
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected JsonSchema getInputSchema() {
+        return parseSchema(SCHEMA);
+    }
+
+    @Override
+    protected CallToolResult execute(McpSchema.CallToolRequest args) {
+        try {
+            String kindName = getStringArg(args, "kind");
+            String name = getStringArg(args, "name");
+            String namespace = getStringArg(args, "namespace");
+            String conditionArg = getStringArg(args, "condition");
+            int timeoutSeconds = getIntArg(args, "timeoutSeconds", DEFAULT_TIMEOUT_SECONDS);
+
+            StrimziKind kind = StrimziKind.fromKind(kindName);
+            if (kind == null) {
+                return error("Unsupported kind: " + kindName + ". Supported kinds: " + StrimziKind.kindNames());
+            }
+            if (timeoutSeconds <= 0 || timeoutSeconds > MAX_TIMEOUT_SECONDS) {
+                return error("timeoutSeconds must be between 1 and " + MAX_TIMEOUT_SECONDS);
+            }
+
+            WaitCondition condition = WaitCondition.parse(conditionArg != null ? conditionArg : "Ready");
+            if (condition.replicasMatched() && !supportsReplicas(kind)) {
+                return error("ReplicasMatched is only supported for KafkaNodePool, KafkaConnect, KafkaMirrorMaker2 and KafkaBridge");
+            }
+
+            Resource<HasMetadata> resource = kind.operation(kubernetesClient).inNamespace(namespace).withName(name);
+            HasMetadata current = resource.get();
+            String target = kind.getKind() + " " + namespace + "/" + name;
+
+            if (current == null && !condition.deleted()) {
+                return error(kind.getKind() + " not found: " + namespace + "/" + name);
+            }
+
+            long start = System.nanoTime();
+            AtomicReference<HasMetadata> lastSeen = new AtomicReference<>(current);
+
+            if (!condition.test(current)) {
+                try {
+                    resource.waitUntilCondition(r -> {
+                        lastSeen.set(r);
+                        return condition.test(r);
+                    }, timeoutSeconds, TimeUnit.SECONDS);
+                } catch (KubernetesClientTimeoutException e) {
+                    return error("Timed out after " + timeoutSeconds + "s waiting for " + condition.describe()
+                            + " on " + target + "\n  Current state: " + describeState(lastSeen.get()));
+                }
+            }
+
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            StringBuilder result = new StringBuilder();
+            result.append("Condition met: ").append(condition.describe()).append("\n");
+            result.append("  Resource: ").append(target).append("\n");
+            result.append("  Elapsed: ").append(String.format(Locale.ROOT, "%.1fs", elapsedSeconds)).append("\n");
+            if (!condition.deleted()) {
+                result.append("  Current state: ").append(describeState(lastSeen.get())).append("\n");
+            }
+
+            return success(result.toString());
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        } catch (Exception e) {
+            return error("Error waiting for resource: " + e.getMessage());
+        }
+    }
+
+    private static boolean supportsReplicas(StrimziKind kind) {
+        return kind == StrimziKind.KAFKA_NODE_POOL
+                || kind == StrimziKind.KAFKA_CONNECT
+                || kind == StrimziKind.KAFKA_MIRROR_MAKER_2
+                || kind == StrimziKind.KAFKA_BRIDGE;
+    }
+
+    private static String describeState(HasMetadata resource) {
+        if (resource == null) {
+            return "resource does not exist";
+        }
+        return StrimziConditions.summarize(resource);
+    }
+
+    /**
+     * Checks whether the observed replica count matches the desired replica count.
+     */
+    static boolean isReplicasMatched(HasMetadata resource) {
+        Status status = StrimziConditions.getStatus(resource);
+        if (status == null || !StrimziConditions.isGenerationObserved(resource)) {
+            return false;
+        }
+        // A resource without a spec has no desired replica count to match
+        if (resource instanceof KafkaNodePool nodePool && nodePool.getSpec() != null) {
+            var nodeIds = nodePool.getStatus().getNodeIds();
+            int desired = nodePool.getSpec().getReplicas();
+            return nodePool.getStatus().getReplicas() == desired && (nodeIds == null || nodeIds.size() == desired);
+        } else if (resource instanceof KafkaMirrorMaker2 mm2 && mm2.getSpec() != null) {
+            return mm2.getStatus().getReplicas() == mm2.getSpec().getReplicas();
+        } else if (resource instanceof KafkaConnect connect && connect.getSpec() != null) {
+            return connect.getStatus().getReplicas() == connect.getSpec().getReplicas();
+        } else if (resource instanceof KafkaBridge bridge && bridge.getSpec() != null) {
+            return bridge.getStatus().getReplicas() == bridge.getSpec().getReplicas();
+        }
+        return false;
+    }
+
+    /**
+     * Parsed wait condition.
+     */
+    record WaitCondition(String type, String status, Predicate<HasMetadata> predicate) {
+
+        static WaitCondition parse(String value) {
+            String trimmed = value.trim();
+            return switch (trimmed.toLowerCase(Locale.ROOT)) {
+                case "deleted" -> new WaitCondition("Deleted", null, r -> r == null);
+                case "observedgeneration" -> new WaitCondition("ObservedGeneration", null,
+                        r -> r != null && StrimziConditions.isGenerationObserved(r));
+                case "replicasmatched" -> new WaitCondition("ReplicasMatched", null,
+                        r -> r != null && isReplicasMatched(r));
+                default -> {
+                    String type = trimmed;
+                    String status = "True";
+                    int eq = trimmed.indexOf('=');
+                    if (eq >= 0) {
+                        type = trimmed.substring(0, eq).trim();
+                        status = trimmed.substring(eq + 1).trim();
+                    }
+                    if (type.isEmpty() || status.isEmpty()) {
+                        throw new IllegalArgumentException("Invalid condition: " + value);
+                    }
+                    String conditionType = type;
+                    String conditionStatus = status;
+                    // A Ready condition left over from the previous generation says nothing about the latest spec
+                    boolean current = "Ready".equals(conditionType);
+                    yield new WaitCondition(conditionType, conditionStatus,
+                            r -> r != null && StrimziConditions.hasCondition(r, conditionType, conditionStatus)
+                                    && (!current || StrimziConditions.isGenerationObserved(r)));
+                }
+            };
+        }
+
+        boolean test(HasMetadata resource) {
+            return predicate.test(resource);
+        }
+
+        boolean deleted() {
+            return "Deleted".equals(type);
+        }
+
+        boolean replicasMatched() {
+            return "ReplicasMatched".equals(type);
+        }
+
+        String describe() {
+            return status != null ? type + "=" + status : type;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.seequick.mcp;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native executable against the mock API server over stdio. Run with {@code mvn package -Pnative}.
+ */
+@Tag("native")
+@EnableKubernetesMockClient(crud = true)
+class NativeImageSmokeTest {
+
+    private static final Path EXECUTABLE = Path.of("target", "strimzi-mcp-server");
+
+    KubernetesClient client;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void nativeExecutableShouldAnswerToolCalls() throws Exception {
+        assertThat(EXECUTABLE).isExecutable();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("orders")
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(2)
+                .endSpec()
+                .build()).create();
+
+        ProcessBuilder builder = new ProcessBuilder(EXECUTABLE.toString()).redirectError(ProcessBuilder.Redirect.INHERIT);
+        builder.environment().put("KUBECONFIG", kubeconfig().toString());
+        Process process = builder.start();
+        try (OutputStream in = process.getOutputStream();
+             BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                     StandardCharsets.UTF_8))) {
+            send(in, "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{"
+                    + "\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+                    + "\"clientInfo\":{\"name\":\"test\",\"version\":\"1\"}}}");
+            assertThat(out.readLine()).contains("\"id\":1").contains("strimzi-mcp-server");
+
+            send(in, "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+            send(in, "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}");
+            assertThat(out.readLine()).contains("\"id\":2").contains("\"list_topics\"");
+
+            send(in, "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"tools/call\",\"params\":{"
+                    + "\"name\":\"list_topics\",\"arguments\":{\"namespace\":\"kafka\"}}}");
+            assertThat(out.readLine()).contains("\"id\":3").contains("Found 1 KafkaTopic(s)").contains("orders");
+
+            send(in, "{\"jsonrpc\":\"2.0\",\"id\":4,\"method\":\"tools/call\",\"params\":{"
+                    + "\"name\":\"describe_topic\",\"arguments\":{\"namespace\":\"kafka\",\"name\":\"orders\"}}}");
+            assertThat(out.readLine()).contains("\"id\":4").contains("orders").doesNotContain("\"isError\":true");
+
+            // Closing stdin ends the session
+            in.close();
+            assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(process.exitValue()).isZero();
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private Path kubeconfig() throws IOException {
+        return Files.writeString(directory.resolve("kubeconfig"), """
+                apiVersion: v1
+                kind: Config
+                clusters:
+                - name: mock
+                  cluster:
+                    server: %s
+                    insecure-skip-tls-verify: true
+                users:
+                - name: mock
+                  user:
+                    token: secret
+                contexts:
+                - name: mock
+                  context:
+                    cluster: mock
+                    user: mock
+                    namespace: kafka
+                current-context: mock
+                """.formatted(client.getConfiguration().getMasterUrl()));
+    }
+
+    private static void send(OutputStream out, String message) throws IOException {
+        out.write((message + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -0,0 +1,121 @@
+package io.seequick.mcp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServerConfigTest {
+
+    @Test
+    void shouldReadCommandLineOptions() {
+        ServerConfig config = new ServerConfig(ServerConfig.parseArgs(new String[]{"--read-cache-ttl-ms=500", "--verbose"}), Map.of());
+
+        assertThat(config.getLong(ServerConfig.READ_CACHE_TTL_MS, 0)).isEqualTo(500);
+        assertThat(config.getBoolean("verbose", false)).isTrue();
+    }
+
+    @Test
+    void shouldFallBackToEnvironment() {
+        ServerConfig config = new ServerConfig(Map.of(), Map.of("STRIMZI_MCP_READ_CACHE_TTL_MS", "250"));
+
+        assertThat(config.getLong(ServerConfig.READ_CACHE_TTL_MS, 0)).isEqualTo(250);
+    }
+
+    @Test
+    void commandLineShouldTakePrecedenceOverEnvironment() {
+        ServerConfig config = new ServerConfig(Map.of(ServerConfig.READ_CACHE_TTL_MS, "100"),
+                Map.of("STRIMZI_MCP_READ_CACHE_TTL_MS", "250"));
+
+        assertThat(config.getLong(ServerConfig.READ_CACHE_TTL_MS, 0)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReturnDefaultWhenUnsetOrBlank() {
+        ServerConfig config = new ServerConfig(Map.of(), Map.of("STRIMZI_MCP_READ_CACHE_TTL_MS", " "));
+
+        assertThat(config.getLong(ServerConfig.READ_CACHE_TTL_MS, 7)).isEqualTo(7);
+        assertThat(config.get("missing", "fallback")).isEqualTo("fallback");
+    }
+
+    @Test
+    void shouldReadDoubleOptions() {
+        ServerConfig config = new ServerConfig(Map.of(ServerConfig.API_QPS, "2.5"), Map.of());
+
+        assertThat(config.getDouble(ServerConfig.API_QPS, 50)).isEqualTo(2.5);
+        assertThat(config.getDouble("missing", 50)).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        ServerConfig config = new ServerConfig(Map.of(ServerConfig.READ_CACHE_TTL_MS, "soon"), Map.of());
+
+        assertThatThrownBy(() -> config.getLong(ServerConfig.READ_CACHE_TTL_MS, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ServerConfig.READ_CACHE_TTL_MS);
+    }
+
+    @Test
+    void shouldRejectPositionalArguments() {
+        assertThatThrownBy(() -> ServerConfig.parseArgs(new String[]{"ttl"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fingerprintShouldIgnoreTheDaemonOptionsAndTheOrder() {
+        Map<String, String> environment = Map.of("KUBECONFIG", "/home/me/.kube/prod", "HOME", "/home/me");
+        String fingerprint = ServerConfig.fingerprint(new String[]{"--contexts=prod", "--api-qps=5"}, environment);
+
+        assertThat(fingerprint).hasSize(16);
+        assertThat(ServerConfig.fingerprint(new String[]{"--daemon", "--relay=false", "--socket=/tmp/d.sock",
+                "--api-qps=5", "--idle-timeout-ms=0", "--contexts=prod"},
+                Map.of("KUBECONFIG", "/home/me/.kube/prod", "STRIMZI_MCP_SOCKET", "/tmp/d.sock",
+                        "STRIMZI_MCP_VERSION", "0.3.0", "PATH", "/usr/bin")))
+                .isEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintShouldChangeWithTheClustersAndOptions() {
+        String[] args = {"--contexts=prod"};
+        String fingerprint = ServerConfig.fingerprint(args, Map.of("KUBECONFIG", "/home/me/.kube/prod"));
+
+        assertThat(ServerConfig.fingerprint(args, Map.of("KUBECONFIG", "/home/me/.kube/dev")))
+                .isNotEqualTo(fingerprint);
+        assertThat(ServerConfig.fingerprint(new String[]{"--contexts=dev"},
+                Map.of("KUBECONFIG", "/home/me/.kube/prod"))).isNotEqualTo(fingerprint);
+        assertThat(ServerConfig.fingerprint(args, Map.of("KUBECONFIG", "/home/me/.kube/prod",
+                "STRIMZI_MCP_SNAPSHOT_FILE", "/tmp/snapshot.json"))).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintShouldChangeWithTheKubeconfigContents(@TempDir Path directory) throws IOException {
+        Path kubeconfig = directory.resolve("config");
+        Files.writeString(kubeconfig, "apiVersion: v1\ncurrent-context: prod\n");
+        Map<String, String> environment = Map.of("KUBECONFIG", kubeconfig.toString());
+        String fingerprint = ServerConfig.fingerprint(new String[0], environment);
+
+        Files.writeString(kubeconfig, "apiVersion: v1\ncurrent-context: dev\n");
+
+        assertThat(ServerConfig.fingerprint(new String[0], environment)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void currentContextShouldComeFromTheFirstKubeconfigSettingOne(@TempDir Path directory) throws IOException {
+        Path first = Files.writeString(directory.resolve("first"), "apiVersion: v1\nkind: Config\n");
+        Path second = Files.writeString(directory.resolve("second"), "kind: Config\ncurrent-context: \"prod\"\n");
+        Path third = Files.writeString(directory.resolve("third"), "current-context: dev\n");
+
+        assertThat(ServerConfig.currentContext(List.of(first, directory.resolve("missing"), second, third)))
+                .isEqualTo("prod");
+        assertThat(ServerConfig.kubeconfigFiles(Map.of("KUBECONFIG",
+                first + File.pathSeparator + second))).containsExactly(first, second);
+    }
+}
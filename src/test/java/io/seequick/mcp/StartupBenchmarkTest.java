@@ -0,0 +1,160 @@
+package io.seequick.mcp;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the time from launching the shaded jar to the tools/list answer, and the resident memory at that
+ * point: a plain JVM, a JVM with an AppCDS archive from a training session, the stdio relay to a running daemon
+ * and, when it has been built with {@code -Pnative}, the native executable.
+ * Run with {@code mvn package -DskipTests && mvn test -Pbenchmark -Dtest=StartupBenchmarkTest}; tune with
+ * {@code -Dbenchmark.launches}.
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final int LAUNCHES = Integer.getInteger("benchmark.launches", 5);
+    private static final String JAVA = ProcessHandle.current().info().command().orElse("java");
+    private static final Path NATIVE_EXECUTABLE = Path.of("target", "strimzi-mcp-server");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareTimeToToolsList() throws Exception {
+        Path jar = shadedJar();
+        assumeTrue(jar != null, "Run mvn package first");
+        // Keeps the developer's kubeconfig out of the measurement; clients are only created on first use
+        Path kubeconfig = Files.writeString(directory.resolve("kubeconfig"), "apiVersion: v1\nkind: Config\n");
+
+        Path archive = directory.resolve("strimzi-mcp-server.jsa");
+        launch(kubeconfig, java("-XX:ArchiveClassesAtExit=" + archive, "-jar", jar.toString()));
+        assertThat(archive).exists();
+
+        Path socket = directory.resolve("daemon.sock");
+        Process daemon = new ProcessBuilder(JAVA, "-jar", jar.toString(), "--daemon", "--socket=" + socket)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            Map<String, Launch> launches = new LinkedHashMap<>();
+            launches.put("java -jar", median(kubeconfig, java("-jar", jar.toString())));
+            launches.put("java -jar with AppCDS archive",
+                    median(kubeconfig, java("-XX:SharedArchiveFile=" + archive, "-jar", jar.toString())));
+            launches.put("relay to running daemon",
+                    median(kubeconfig, java("-jar", jar.toString(), "--relay", "--socket=" + socket)));
+            if (Files.isExecutable(NATIVE_EXECUTABLE)) {
+                launches.put("native executable", median(kubeconfig, List.of(NATIVE_EXECUTABLE.toString())));
+            }
+
+            System.out.printf(Locale.ROOT, "%nTime from launch to the tools/list answer and RSS at that point "
+                    + "(median of %d launches)%n", LAUNCHES);
+            System.out.printf(Locale.ROOT, "%-32s %10s %10s%n", "launch", "ms", "RSS MiB");
+            launches.forEach((name, launch) -> System.out.printf(Locale.ROOT, "%-32s %10.1f %10.1f%n",
+                    name, launch.elapsedMs(), launch.rssKb() / 1024.0));
+        } finally {
+            daemon.destroy();
+            daemon.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private Launch median(Path kubeconfig, List<String> command) throws Exception {
+        List<Launch> launches = new ArrayList<>();
+        for (int i = 0; i < LAUNCHES; i++) {
+            launches.add(launch(kubeconfig, command));
+        }
+        launches.sort(Comparator.comparingDouble(Launch::elapsedMs));
+        return launches.get(launches.size() / 2);
+    }
+
+    private Launch launch(Path kubeconfig, List<String> command) throws Exception {
+        ProcessBuilder builder = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().put("KUBECONFIG", kubeconfig.toString());
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try (OutputStream in = process.getOutputStream();
+             BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                     StandardCharsets.UTF_8))) {
+            send(in, "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{"
+                    + "\"protocolVersion\":\"2024-11-05\",\"capabilities\":{},"
+                    + "\"clientInfo\":{\"name\":\"benchmark\",\"version\":\"1\"}}}");
+            assertThat(out.readLine()).contains("\"id\":1");
+            send(in, "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+            send(in, "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}");
+            String tools = out.readLine();
+            double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+            assertThat(tools).contains("\"id\":2").contains("\"list_topics\"");
+            long rssKb = rssKb(process.pid());
+            // Closing stdin ends the session; the server exits and writes the archive, if asked to
+            in.close();
+            assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+            return new Launch(elapsedMs, rssKb);
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private static List<String> java(String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(JAVA);
+        command.addAll(List.of(arguments));
+        return command;
+    }
+
+    /**
+     * Returns the resident set size of a process in KiB, or zero where /proc is not available.
+     */
+    private static long rssKb(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElse(0);
+    }
+
+    private static void send(OutputStream out, String message) throws IOException {
+        out.write((message + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static Path shadedJar() throws IOException {
+        Path target = Path.of("target");
+        if (!Files.isDirectory(target)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith("strimzi-mcp-server-") && name.endsWith(".jar");
+            }).findFirst().orElse(null);
+        }
+    }
+
+    private record Launch(double elapsedMs, long rssKb) {
+    }
+}
@@ -0,0 +1,112 @@
+package io.seequick.mcp;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.seequick.mcp.daemon.DaemonServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class StrimziMcpServerTest {
+
+    KubernetesClient client;
+    KubernetesMockServer server;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void daemonSessionsShouldListTheTools() throws Exception {
+        StrimziMcpServer server = new StrimziMcpServer(client);
+        Path socket = directory.resolve("daemon.sock");
+
+        try (DaemonServer daemon = new DaemonServer(socket, Duration.ZERO,
+                (in, out) -> server.openSession(in, out)::close)) {
+            daemon.start();
+
+            // Two consecutive clients reuse the same server
+            for (int session = 0; session < 2; session++) {
+                try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+                    OutputStream out = Channels.newOutputStream(channel);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+
+                    send(out, "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{"
+                            + "\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+                            + "\"clientInfo\":{\"name\":\"test\",\"version\":\"1\"}}}");
+                    assertThat(in.readLine()).contains("\"id\":1").contains("strimzi-mcp-server");
+
+                    send(out, "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+                    send(out, "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}");
+                    assertThat(in.readLine()).contains("\"id\":2").contains("\"list_topics\"");
+                }
+            }
+        }
+    }
+
+    /**
+     * The cheap, always-run counterpart of {@link StartupBenchmarkTest}: a new session must answer tools/list
+     * without a single API request, and well within the bound however slow the build machine.
+     */
+    @Test
+    void sessionShouldListTheToolsWithoutCallingTheApiServer() throws Exception {
+        int requests = server.getRequestCount();
+        PipedOutputStream clientOut = new PipedOutputStream();
+        PipedInputStream serverIn = new PipedInputStream(clientOut, 1 << 16);
+        PipedOutputStream serverOut = new PipedOutputStream();
+        BufferedReader in = new BufferedReader(new InputStreamReader(new PipedInputStream(serverOut, 1 << 20),
+                StandardCharsets.UTF_8));
+
+        long start = System.nanoTime();
+        McpSyncServer session = new StrimziMcpServer(client).openSession(serverIn, serverOut);
+        try {
+            send(clientOut, "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{"
+                    + "\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+                    + "\"clientInfo\":{\"name\":\"test\",\"version\":\"1\"}}}");
+            assertThat(in.readLine()).contains("\"id\":1");
+            send(clientOut, "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+            send(clientOut, "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}");
+            assertThat(in.readLine()).contains("\"id\":2").contains("\"list_topics\"");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(server.getRequestCount()).isEqualTo(requests);
+            assertThat(elapsedMs).isLessThan(10_000);
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    void daemonCommandShouldPassTheOptionsExceptRelay() {
+        List<String> command = StrimziMcpServer.daemonCommand(
+                new String[]{"--relay", "--contexts=dev", "--relay=true", "--socket=/tmp/s.sock"});
+
+        assertThat(command).contains(StrimziMcpServer.class.getName(), "--daemon", "--relay=false",
+                "--contexts=dev", "--socket=/tmp/s.sock");
+        assertThat(command).doesNotContain("--relay", "--relay=true");
+        assertThat(command.subList(command.indexOf("--relay=false"), command.size()))
+                .containsExactly("--relay=false", "--contexts=dev", "--socket=/tmp/s.sock");
+    }
+
+    private static void send(OutputStream out, String message) throws Exception {
+        out.write((message + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -0,0 +1,119 @@
+package io.seequick.mcp.client;
+
+import io.seequick.mcp.client.ApiRequestScheduler.Lane;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiRequestSchedulerTest {
+
+    @Test
+    void burstShouldBeAdmittedWithoutWaiting() throws InterruptedException {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(1, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            scheduler.acquire(Lane.BULK);
+        }
+
+        assertThat(elapsedMillis(start)).isLessThan(500);
+        assertThat(laneStats(scheduler, Lane.BULK).admitted()).isEqualTo(5);
+    }
+
+    @Test
+    void requestsAboveBurstShouldWaitForTokens() throws InterruptedException {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(20, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            scheduler.acquire(Lane.INTERACTIVE);
+        }
+
+        // First request uses the burst token, the remaining three wait ~50ms each
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(120);
+        assertThat(laneStats(scheduler, Lane.INTERACTIVE).maxWaitMs()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    void interactiveRequestsShouldBeAdmittedBeforeQueuedBulkRequests() throws Exception {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(5, 1);
+        scheduler.acquire(Lane.BULK);
+        List<Lane> order = new CopyOnWriteArrayList<>();
+
+        Thread bulk = Thread.ofPlatform().start(() -> acquire(scheduler, Lane.BULK, order));
+        awaitQueued(scheduler, Lane.BULK);
+        Thread interactive = Thread.ofPlatform().start(() -> acquire(scheduler, Lane.INTERACTIVE, order));
+        awaitQueued(scheduler, Lane.INTERACTIVE);
+
+        bulk.join(TimeUnit.SECONDS.toMillis(5));
+        interactive.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(order).containsExactly(Lane.INTERACTIVE, Lane.BULK);
+        assertThat(laneStats(scheduler, Lane.BULK).maxQueued()).isEqualTo(1);
+        assertThat(laneStats(scheduler, Lane.BULK).queued()).isZero();
+    }
+
+    @Test
+    void nonBlockingAdmissionsShouldDelayLaterRequests() throws InterruptedException {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(10, 1);
+        scheduler.acquireNow(Lane.BULK);
+        scheduler.acquireNow(Lane.BULK);
+
+        long start = System.nanoTime();
+        scheduler.acquire(Lane.INTERACTIVE);
+
+        // One token of debt plus one token for this request at 10 req/s
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    void disabledSchedulerShouldNotWait() throws InterruptedException {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(0, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            scheduler.acquire(Lane.BULK);
+        }
+
+        assertThat(scheduler.isEnabled()).isFalse();
+        assertThat(elapsedMillis(start)).isLessThan(500);
+        assertThat(laneStats(scheduler, Lane.BULK).admitted()).isEqualTo(100);
+    }
+
+    @Test
+    void exemptRequestsShouldBeCounted() {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(10, 1);
+
+        scheduler.recordExempt();
+
+        assertThat(scheduler.stats().exempt()).isEqualTo(1);
+    }
+
+    private static void acquire(ApiRequestScheduler scheduler, Lane lane, List<Lane> order) {
+        try {
+            scheduler.acquire(lane);
+            order.add(lane);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQueued(ApiRequestScheduler scheduler, Lane lane) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (laneStats(scheduler, lane).queued() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static ApiRequestScheduler.LaneStats laneStats(ApiRequestScheduler scheduler, Lane lane) {
+        return scheduler.stats().lanes().stream().filter(s -> s.lane() == lane).findFirst().orElseThrow();
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,96 @@
+package io.seequick.mcp.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void unlimitedLimiterShouldGrantImmediately() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(0, 0);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.acquire("api:6443")).isDone();
+        }
+        assertThat(limiter.isEnabled()).isFalse();
+        assertThat(limiter.stats().inFlight()).isEqualTo(100);
+    }
+
+    @Test
+    void totalLimitShouldQueueUntilReleased() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 0);
+
+        var first = limiter.acquire("a:443");
+        var second = limiter.acquire("b:443");
+        var third = limiter.acquire("c:443");
+
+        assertThat(first).isDone();
+        assertThat(second).isDone();
+        assertThat(third).isNotDone();
+        assertThat(limiter.stats().queued()).isEqualTo(1);
+
+        first.join().release();
+
+        assertThat(third).isDone();
+        assertThat(limiter.stats().inFlight()).isEqualTo(2);
+        assertThat(limiter.stats().maxQueued()).isEqualTo(1);
+    }
+
+    @Test
+    void perHostLimitShouldNotBlockOtherHosts() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(0, 1);
+
+        var first = limiter.acquire("a:443");
+        var sameHost = limiter.acquire("a:443");
+        var otherHost = limiter.acquire("b:443");
+
+        assertThat(first).isDone();
+        assertThat(sameHost).isNotDone();
+        assertThat(otherHost).isDone();
+
+        first.join().release();
+        assertThat(sameHost).isDone();
+    }
+
+    @Test
+    void waitingRequestsShouldBeGrantedInArrivalOrder() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 0);
+        var held = limiter.acquire("a:443");
+        CompletableFuture<ConcurrencyLimiter.Permit> second = limiter.acquire("a:443");
+        CompletableFuture<ConcurrencyLimiter.Permit> third = limiter.acquire("b:443");
+
+        held.join().release();
+
+        assertThat(second).isDone();
+        assertThat(third).isNotDone();
+    }
+
+    @Test
+    void releasingTwiceShouldHaveNoEffect() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 0);
+        var permit = limiter.acquire("a:443").join();
+        var waiting = limiter.acquire("a:443");
+
+        permit.release();
+        permit.release();
+
+        assertThat(waiting).isDone();
+        assertThat(limiter.stats().inFlight()).isEqualTo(1);
+        assertThat(limiter.stats().granted()).isEqualTo(2);
+    }
+
+    @Test
+    void raisingLimitsShouldGrantWaitingRequests() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 0);
+        limiter.acquire("a:443");
+        var waiting = limiter.acquire("a:443");
+
+        limiter.setLimits(2, 0);
+
+        assertThat(waiting).isDone();
+        assertThat(limiter.stats().maxInFlight()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,51 @@
+package io.seequick.mcp.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpClientBackendTest {
+
+    @Test
+    void fromNameShouldIgnoreCase() {
+        assertThat(HttpClientBackend.fromName("jdk")).isEqualTo(HttpClientBackend.JDK);
+        assertThat(HttpClientBackend.fromName("Vertx")).isEqualTo(HttpClientBackend.VERTX);
+        assertThat(HttpClientBackend.fromName("OKHTTP")).isEqualTo(HttpClientBackend.OKHTTP);
+    }
+
+    @Test
+    void fromNameShouldRejectUnknownBackends() {
+        assertThatThrownBy(() -> HttpClientBackend.fromName("jetty"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Supported: jdk, vertx, okhttp");
+    }
+
+    @Test
+    void createFactoryShouldInstantiateBundledBackends() {
+        assertThat(HttpClientBackend.VERTX.isAvailable()).isTrue();
+        assertThat(HttpClientBackend.VERTX.createFactory().getClass().getSimpleName()).isEqualTo("VertxHttpClientFactory");
+    }
+
+    @Test
+    void createFactoryShouldInstantiateTheJdkBackendOfTheJdkProfile() {
+        if (!HttpClientBackend.JDK.isAvailable()) {
+            return;
+        }
+        assertThat(HttpClientBackend.JDK.createFactory().getClass().getSimpleName()).isEqualTo("JdkHttpClientFactory");
+    }
+
+    @Test
+    void createFactoryShouldExplainMissingBackends() {
+        if (!HttpClientBackend.JDK.isAvailable()) {
+            assertThatThrownBy(HttpClientBackend.JDK::createFactory)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("io.fabric8:kubernetes-httpclient-jdk");
+        }
+        if (!HttpClientBackend.OKHTTP.isAvailable()) {
+            assertThatThrownBy(HttpClientBackend.OKHTTP::createFactory)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("io.fabric8:kubernetes-httpclient-okhttp");
+        }
+    }
+}
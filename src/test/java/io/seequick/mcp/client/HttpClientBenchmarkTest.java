@@ -0,0 +1,131 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures list throughput of each available HTTP client backend against the mock API server.
+ * Run with {@code mvn test -Pbenchmark}; tune with {@code -Dbenchmark.topics}, {@code -Dbenchmark.requests}
+ * and {@code -Dbenchmark.concurrency}.
+ */
+@Tag("benchmark")
+class HttpClientBenchmarkTest {
+
+    private static final int TOPICS = Integer.getInteger("benchmark.topics", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 400);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 16);
+    private static final int WARMUP_REQUESTS = 50;
+
+    private KubernetesMockServer server;
+    private KubernetesClient seedClient;
+
+    @BeforeEach
+    void setUp() {
+        server = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(),
+                new KubernetesCrudDispatcher(), false);
+        server.init();
+        seedClient = server.createClient();
+        for (int i = 0; i < TOPICS; i++) {
+            seedClient.resource(new KafkaTopicBuilder()
+                    .withMetadata(new ObjectMetaBuilder().withName("topic-" + i).withNamespace("kafka").build())
+                    .withNewSpec().withPartitions(12).withReplicas(3)
+                    .addToConfig("retention.ms", 604800000).addToConfig("cleanup.policy", "delete").endSpec()
+                    .build()).create();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        seedClient.close();
+        server.destroy();
+    }
+
+    @Test
+    void listThroughputPerBackend() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (HttpClientBackend backend : HttpClientBackend.values()) {
+            if (!backend.isAvailable()) {
+                rows.add(String.format(Locale.ROOT, "%-8s %-8s %s", backend, "-", "not on classpath"));
+                continue;
+            }
+            for (boolean http2 : new boolean[]{false, true}) {
+                HttpClientOptions options = new HttpClientOptions(backend, 0, 0, 0, 0, 0, http2);
+                try (KubernetesClient client = KubernetesClients.create(seedClient.getConfiguration(),
+                        new ApiRequestScheduler(0, 0), options, new ConcurrencyLimiter(0, 0))) {
+                    run(client, WARMUP_REQUESTS);
+                    Result result = run(client, REQUESTS);
+                    rows.add(String.format(Locale.ROOT, "%-8s %-8s %10.1f %10.1f %10.1f",
+                            backend, http2 ? "h2" : "http/1.1", result.requestsPerSecond(),
+                            result.percentileMs(50), result.percentileMs(99)));
+                }
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%nList throughput: %d topics, %d requests, concurrency %d%n",
+                TOPICS, REQUESTS, CONCURRENCY);
+        System.out.printf(Locale.ROOT, "%-8s %-8s %10s %10s %10s%n", "backend", "protocol", "req/s", "p50 ms", "p99 ms");
+        rows.forEach(System.out::println);
+        assertThat(rows).isNotEmpty();
+    }
+
+    private static Result run(KubernetesClient client, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    KafkaTopicList list = client.resources(KafkaTopic.class, KafkaTopicList.class)
+                            .inNamespace("kafka").list();
+                    latencies[index] = System.nanoTime() - requestStart;
+                    assertThat(list.getItems()).hasSize(TOPICS);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return new Result(requests, System.nanoTime() - start, latencies);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Result(int requests, long elapsedNanos, long[] latencies) {
+
+        double requestsPerSecond() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        double percentileMs(int percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientOptionsTest {
+
+    @Test
+    void applyToShouldOverrideConfiguredSettings() {
+        Config config = new ConfigBuilder().withMasterUrl("https://api:6443").build();
+        HttpClientOptions options = new HttpClientOptions(HttpClientBackend.JDK, 32, 8, 2000, 15000, 500, false);
+
+        Config applied = options.applyTo(config);
+
+        assertThat(applied.getConnectionTimeout()).isEqualTo(2000);
+        assertThat(applied.getRequestTimeout()).isEqualTo(15000);
+        assertThat(applied.getWatchReconnectInterval()).isEqualTo(500);
+        assertThat(applied.getMaxConcurrentRequests()).isEqualTo(32);
+        assertThat(applied.getMaxConcurrentRequestsPerHost()).isEqualTo(8);
+        assertThat(applied.isHttp2Disable()).isTrue();
+        assertThat(options.hasConnectionLimits()).isTrue();
+    }
+
+    @Test
+    void defaultsShouldKeepConfiguredSettings() {
+        Config config = new ConfigBuilder().withMasterUrl("https://api:6443")
+                .withConnectionTimeout(1234)
+                .withRequestTimeout(5678)
+                .build();
+
+        Config applied = HttpClientOptions.DEFAULTS.applyTo(config);
+
+        assertThat(applied).isNotSameAs(config);
+        assertThat(applied.getConnectionTimeout()).isEqualTo(1234);
+        assertThat(applied.getRequestTimeout()).isEqualTo(5678);
+        assertThat(applied.isHttp2Disable()).isFalse();
+        assertThat(HttpClientOptions.DEFAULTS.hasConnectionLimits()).isFalse();
+    }
+}
@@ -0,0 +1,134 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUserList;
+import io.strimzi.api.kafka.model.user.acl.AclOperation;
+import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares deserialization of large Strimzi lists with reflection based binding, Blackbird binding and
+ * item by item streaming.
+ * Run with {@code mvn test -Pbenchmark}; tune with {@code -Dbenchmark.items} and {@code -Dbenchmark.iterations}.
+ */
+@Tag("benchmark")
+class JsonDeserializationBenchmarkTest {
+
+    private static final int ITEMS = Integer.getInteger("benchmark.items", 20_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+    private static final int WARMUP_ITERATIONS = 5;
+
+    @Test
+    void deserializeLargeLists() {
+        KubernetesSerialization reference = new ModelSerialization(false).kubernetesSerialization();
+        byte[] topics = reference.asJson(topicList()).getBytes(StandardCharsets.UTF_8);
+        byte[] users = reference.asJson(userList()).getBytes(StandardCharsets.UTF_8);
+
+        System.out.printf(Locale.ROOT, "%nDeserialization of %d items (%d iterations)%n", ITEMS, ITERATIONS);
+        System.out.printf(Locale.ROOT, "%-16s %-12s %10s %12s %12s%n", "list", "binding", "ms/list", "items/s", "retained MB");
+        for (boolean optimized : new boolean[]{false, true}) {
+            ModelSerialization serialization = new ModelSerialization(optimized);
+            String binding = optimized ? "blackbird" : "reflection";
+            print("KafkaTopicList", binding, measure(() -> serialization.kubernetesSerialization()
+                    .unmarshal(new ByteArrayInputStream(topics), KafkaTopicList.class)));
+            print("KafkaUserList", binding, measure(() -> serialization.kubernetesSerialization()
+                    .unmarshal(new ByteArrayInputStream(users), KafkaUserList.class)));
+        }
+        ModelSerialization streaming = ModelSerialization.shared();
+        print("KafkaTopicList", "streaming", measure(() -> stream(streaming, topics, KafkaTopic.class)));
+        print("KafkaUserList", "streaming", measure(() -> stream(streaming, users, KafkaUser.class)));
+    }
+
+    private static Object stream(ModelSerialization serialization, byte[] json, Class<?> itemType) {
+        int[] count = {0};
+        try {
+            serialization.forEachItem(new ByteArrayInputStream(json), itemType, item -> count[0]++);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        assertThat(count[0]).isEqualTo(ITEMS);
+        return count[0];
+    }
+
+    private static Result measure(Supplier<Object> read) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            read.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(read.get()).isNotNull();
+        }
+        double millisPerList = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+
+        // Heap still referenced by the result of a read
+        long before = usedHeapAfterGc();
+        Object result = read.get();
+        long retained = usedHeapAfterGc() - before;
+        assertThat(result).isNotNull();
+        return new Result(millisPerList, Math.max(0, retained) / 1024.0 / 1024.0);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void print(String list, String binding, Result result) {
+        System.out.printf(Locale.ROOT, "%-16s %-12s %10.1f %12.0f %12.1f%n", list, binding,
+                result.millisPerList(), ITEMS / result.millisPerList() * 1000, result.retainedMb());
+    }
+
+    private static KafkaTopicList topicList() {
+        KafkaTopicList list = new KafkaTopicList();
+        list.setItems(IntStream.range(0, ITEMS).mapToObj(i -> new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName("topic-" + i).withNamespace("kafka")
+                        .addToLabels("strimzi.io/cluster", "my-cluster").withResourceVersion(String.valueOf(i)).build())
+                .withNewSpec().withPartitions(12).withReplicas(3)
+                .addToConfig("retention.ms", 604800000).addToConfig("cleanup.policy", "delete")
+                .addToConfig("min.insync.replicas", 2).endSpec()
+                .withNewStatus().withTopicName("topic-" + i).withObservedGeneration(1L)
+                .addNewCondition().withType("Ready").withStatus("True").endCondition().endStatus()
+                .build()).toList());
+        return list;
+    }
+
+    private static KafkaUserList userList() {
+        KafkaUserList list = new KafkaUserList();
+        list.setItems(IntStream.range(0, ITEMS).mapToObj(i -> new KafkaUserBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName("user-" + i).withNamespace("kafka")
+                        .addToLabels("strimzi.io/cluster", "my-cluster").build())
+                .withNewSpec()
+                .withNewKafkaUserScramSha512ClientAuthentication().endKafkaUserScramSha512ClientAuthentication()
+                .withNewKafkaUserAuthorizationSimple()
+                .addNewAcl().withNewAclRuleTopicResource().withName("topic-" + i)
+                .withPatternType(AclResourcePatternType.LITERAL).endAclRuleTopicResource()
+                .withOperations(AclOperation.READ, AclOperation.DESCRIBE).endAcl()
+                .endKafkaUserAuthorizationSimple()
+                .endSpec()
+                .withNewStatus().withUsername("user-" + i)
+                .addNewCondition().withType("Ready").withStatus("True").endCondition().endStatus()
+                .build()).toList());
+        return list;
+    }
+
+    private record Result(double millisPerList, double retainedMb) {
+    }
+}
@@ -0,0 +1,116 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableKubernetesMockClient(crud = true)
+class KubernetesClientPoolTest {
+
+    KubernetesClient client;
+
+    private KubernetesMockServer otherServer;
+    private KubernetesClient otherClient;
+    private AtomicInteger created;
+    private KubernetesClientPool pool;
+
+    @BeforeEach
+    void setUp() {
+        otherServer = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(),
+                new KubernetesCrudDispatcher(), false);
+        otherServer.init();
+        otherClient = otherServer.createClient();
+        created = new AtomicInteger();
+        pool = new KubernetesClientPool("east", List.of("east", "west"), context -> {
+            created.incrementAndGet();
+            return context.equals("east") ? client : otherClient;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherClient.close();
+        otherServer.destroy();
+    }
+
+    @Test
+    void routingClientShouldUseDefaultContext() {
+        createTopic(pool.routingClient(), "orders");
+
+        assertThat(topics(client)).containsExactly("orders");
+        assertThat(topics(otherClient)).isEmpty();
+        assertThat(pool.currentContext()).isEqualTo("east");
+    }
+
+    @Test
+    void callShouldRouteToSelectedContext() {
+        pool.call("west", () -> {
+            createTopic(pool.routingClient(), "payments");
+            return null;
+        });
+
+        assertThat(topics(otherClient)).containsExactly("payments");
+        assertThat(topics(client)).isEmpty();
+        assertThat(pool.currentContext()).isEqualTo("east");
+    }
+
+    @Test
+    void clientsShouldBeCreatedLazilyOncePerContext() {
+        assertThat(created.get()).isZero();
+
+        pool.client("west");
+        pool.client("west");
+        pool.call("west", () -> topics(pool.routingClient()));
+
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownContextShouldBeRejected() {
+        assertThatThrownBy(() -> pool.call("north", () -> null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown context: north");
+        assertThatThrownBy(() -> new KubernetesClientPool("north", List.of("east"), context -> client))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resolveShouldReturnClientOfCurrentContext() {
+        KubernetesClient routing = pool.routingClient();
+
+        assertThat(KubernetesClientPool.resolve(routing)).isSameAs(client);
+        assertThat(pool.call("west", () -> KubernetesClientPool.resolve(routing))).isSameAs(otherClient);
+        assertThat(KubernetesClientPool.resolve(client)).isSameAs(client);
+        assertThat(KubernetesClientPool.of(routing)).contains(pool);
+        assertThat(KubernetesClientPool.of(client)).isEmpty();
+    }
+
+    private static void createTopic(KubernetesClient target, String name) {
+        target.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka").resource(new KafkaTopicBuilder()
+                .withNewMetadata().withName(name).withNamespace("kafka").endMetadata()
+                .withNewSpec().withPartitions(1).withReplicas(1).endSpec()
+                .build()).create();
+    }
+
+    private static List<String> topics(KubernetesClient target) {
+        return target.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka").list().getItems().stream()
+                .map(t -> t.getMetadata().getName())
+                .toList();
+    }
+}
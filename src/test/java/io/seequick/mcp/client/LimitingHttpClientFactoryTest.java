@@ -0,0 +1,103 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class LimitingHttpClientFactoryTest {
+
+    KubernetesClient client;
+
+    @Test
+    void watchesAndFollowedLogsShouldBeLongRunning() {
+        assertThat(LimitingHttpClientFactory.isLongRunning(
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics?watch=true"))).isTrue();
+        assertThat(LimitingHttpClientFactory.isLongRunning(
+                URI.create("https://k8s/api/v1/namespaces/kafka/pods/broker-0/log?follow=true"))).isTrue();
+        assertThat(LimitingHttpClientFactory.isLongRunning(
+                URI.create("https://k8s/api/v1/namespaces/kafka/pods/broker-0/log?tailLines=10"))).isFalse();
+    }
+
+    @Test
+    void jdkRequestsShouldStayWithinLimit() {
+        // The JDK backend is only on the classpath with the jdk profile
+        if (!HttpClientBackend.JDK.isAvailable()) {
+            return;
+        }
+        assertRequestsStayWithinLimit(HttpClientBackend.JDK);
+    }
+
+    @Test
+    void vertxRequestsShouldStayWithinLimit() {
+        assertRequestsStayWithinLimit(HttpClientBackend.VERTX);
+    }
+
+    private void assertRequestsStayWithinLimit(HttpClientBackend backend) {
+        for (int i = 0; i < 5; i++) {
+            client.resource(topic("topic-" + i)).create();
+        }
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1);
+        HttpClientOptions options = new HttpClientOptions(backend, 2, 1, 0, 0, 0, true);
+
+        try (KubernetesClient limited = KubernetesClients.create(client.getConfiguration(),
+                new ApiRequestScheduler(0, 0), options, limiter)) {
+            List<CompletableFuture<KafkaTopicList>> lists = IntStream.range(0, 20)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> limited
+                            .resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka").list()))
+                    .toList();
+
+            assertThat(lists).allSatisfy(list -> assertThat(list.join().getItems()).hasSize(5));
+        }
+
+        ConcurrencyLimiter.Stats stats = limiter.stats();
+        assertThat(stats.granted()).isGreaterThanOrEqualTo(20);
+        assertThat(stats.maxInFlight()).isEqualTo(1);
+        assertThat(stats.inFlight()).isZero();
+    }
+
+    @Test
+    void watchesShouldNotHoldPermits() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1);
+        HttpClientOptions options = new HttpClientOptions(HttpClientBackend.VERTX, 1, 1, 0, 0, 0, true);
+
+        try (KubernetesClient limited = KubernetesClients.create(client.getConfiguration(),
+                new ApiRequestScheduler(0, 0), options, limiter);
+             var watch = limited.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka")
+                     .watch(new Watcher<>() {
+                         @Override
+                         public void eventReceived(Action action, KafkaTopic resource) {
+                         }
+
+                         @Override
+                         public void onClose(WatcherException cause) {
+                         }
+                     })) {
+            limited.resource(topic("orders")).create();
+
+            assertThat(limited.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka")
+                    .withName("orders").get()).isNotNull();
+        }
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+
+    private static KafkaTopic topic(String name) {
+        return new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(name).withNamespace("kafka").build())
+                .withNewSpec().withPartitions(1).withReplicas(1).endSpec()
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableKubernetesMockClient
+class ListStreamerTest {
+
+    private static final String PATH = "/apis/kafka.strimzi.io/v1/namespaces/kafka/kafkatopics";
+
+    KubernetesMockServer server;
+    KubernetesClient client;
+
+    @Test
+    void shouldStreamItemsOfLargeLists() {
+        server.expect().get().withPath(PATH).andReturn(200, topicList(2000)).always();
+
+        // The JDK backend is only on the classpath with the jdk profile
+        for (HttpClientBackend backend : List.of(HttpClientBackend.VERTX, HttpClientBackend.JDK)) {
+            if (!backend.isAvailable()) {
+                continue;
+            }
+            HttpClientOptions options = new HttpClientOptions(backend, 0, 0, 0, 0, 0, true);
+            try (KubernetesClient streaming = KubernetesClients.create(client.getConfiguration(),
+                    new ApiRequestScheduler(0, 0), options, new ConcurrencyLimiter(0, 0))) {
+                // Repeated to make sure the connection is left reusable
+                for (int i = 0; i < 3; i++) {
+                    List<String> names = new ArrayList<>();
+                    ListMeta metadata = stream(streaming, topic -> names.add(topic.getMetadata().getName()));
+
+                    assertThat(names).hasSize(2000).startsWith("topic-0", "topic-1").endsWith("topic-1999");
+                    assertThat(metadata.getResourceVersion()).isEqualTo("1234");
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldReportErrorResponses() {
+        server.expect().get().withPath(PATH).andReturn(403, "kafkatopics is forbidden").once();
+
+        assertThatThrownBy(() -> stream(client, topic -> { }))
+                .isInstanceOf(KubernetesClientException.class)
+                .hasMessageContaining("kafkatopics is forbidden")
+                .satisfies(e -> assertThat(((KubernetesClientException) e).getCode()).isEqualTo(403));
+    }
+
+    @Test
+    void shouldPropagateActionFailures() {
+        server.expect().get().withPath(PATH).andReturn(200, topicList(10)).once();
+
+        assertThatThrownBy(() -> stream(client, topic -> {
+            throw new IllegalStateException("stop");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("stop");
+    }
+
+    private static ListMeta stream(KubernetesClient client, Consumer<KafkaTopic> action) {
+        var httpClient = client.getHttpClient();
+        var request = httpClient.newHttpRequestBuilder().uri(client.getMasterUrl() + PATH.substring(1)).build();
+        return ListStreamer.stream(httpClient, request,
+                ModelSerialization.shared().newListReader(KafkaTopic.class, action));
+    }
+
+    private static KafkaTopicList topicList(int size) {
+        KafkaTopicList list = new KafkaTopicList();
+        list.setMetadata(new ListMetaBuilder().withResourceVersion("1234").build());
+        list.setItems(IntStream.range(0, size).mapToObj(i -> new KafkaTopicBuilder()
+                .withNewMetadata().withName("topic-" + i).withNamespace("kafka").endMetadata()
+                .withNewSpec().withPartitions(3).withReplicas(3).addToConfig("retention.ms", 86400000).endSpec()
+                .build()).toList());
+        return list;
+    }
+}
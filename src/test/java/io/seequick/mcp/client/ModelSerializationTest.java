@@ -0,0 +1,67 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelSerializationTest {
+
+    private static final String LIST = """
+            {
+              "apiVersion": "kafka.strimzi.io/v1beta2",
+              "kind": "KafkaTopicList",
+              "metadata": {"resourceVersion": "42", "continue": "next-page"},
+              "items": [
+                {"apiVersion": "kafka.strimzi.io/v1beta2", "kind": "KafkaTopic",
+                 "metadata": {"name": "orders", "namespace": "kafka", "labels": {"strimzi.io/cluster": "my-cluster"}},
+                 "spec": {"partitions": 12, "replicas": 3, "config": {"retention.ms": 604800000}},
+                 "status": {"conditions": [{"type": "Ready", "status": "True"}], "unknownField": {"nested": [1, 2]}}},
+                {"apiVersion": "kafka.strimzi.io/v1beta2", "kind": "KafkaTopic",
+                 "metadata": {"name": "payments", "namespace": "kafka"},
+                 "spec": {"partitions": 1, "replicas": 1}}
+              ]
+            }
+            """;
+
+    @Test
+    void forEachItemShouldStreamItemsAndReturnListMetadata() throws IOException {
+        List<KafkaTopic> topics = new ArrayList<>();
+
+        ListMeta metadata = ModelSerialization.shared().forEachItem(
+                new ByteArrayInputStream(LIST.getBytes(StandardCharsets.UTF_8)), KafkaTopic.class, topics::add);
+
+        assertThat(metadata.getResourceVersion()).isEqualTo("42");
+        assertThat(metadata.getContinue()).isEqualTo("next-page");
+        assertThat(topics).extracting(t -> t.getMetadata().getName()).containsExactly("orders", "payments");
+        assertThat(topics.get(0).getSpec().getConfig()).containsEntry("retention.ms", 604800000);
+    }
+
+    @Test
+    void optimizedBindingShouldMatchReflectionBinding() {
+        KafkaTopicList reflection = new ModelSerialization(false).kubernetesSerialization()
+                .unmarshal(LIST, KafkaTopicList.class);
+        KafkaTopicList optimized = new ModelSerialization(true).kubernetesSerialization()
+                .unmarshal(LIST, KafkaTopicList.class);
+
+        assertThat(optimized.getItems()).isEqualTo(reflection.getItems());
+        assertThat(optimized.getItems().get(0).getStatus().getAdditionalProperties()).containsKey("unknownField");
+    }
+
+    @Test
+    void forEachItemShouldRejectNonListInput() {
+        assertThatThrownBy(() -> ModelSerialization.shared().forEachItem(
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), KafkaTopic.class, t -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Expected a Kubernetes list object");
+    }
+}
@@ -0,0 +1,90 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.client.ApiRequestScheduler.Lane;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class RateLimitingInterceptorTest {
+
+    KubernetesClient client;
+
+    @Test
+    void singleResourceRequestsShouldBeInteractive() {
+        assertThat(RateLimitingInterceptor.classify("GET",
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics/orders")))
+                .isEqualTo(Lane.INTERACTIVE);
+        assertThat(RateLimitingInterceptor.classify("GET",
+                URI.create("https://k8s/api/v1/namespaces/kafka/pods/my-cluster-kafka-0/log?tailLines=100")))
+                .isEqualTo(Lane.INTERACTIVE);
+        assertThat(RateLimitingInterceptor.classify("GET", URI.create("https://k8s/api/v1/namespaces/kafka")))
+                .isEqualTo(Lane.INTERACTIVE);
+        assertThat(RateLimitingInterceptor.classify("GET", URI.create("https://k8s/version")))
+                .isEqualTo(Lane.INTERACTIVE);
+    }
+
+    @Test
+    void writesShouldBeInteractive() {
+        assertThat(RateLimitingInterceptor.classify("DELETE",
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics")))
+                .isEqualTo(Lane.INTERACTIVE);
+        assertThat(RateLimitingInterceptor.classify("POST",
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics")))
+                .isEqualTo(Lane.INTERACTIVE);
+    }
+
+    @Test
+    void collectionListsShouldBeBulk() {
+        assertThat(RateLimitingInterceptor.classify("GET",
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics?labelSelector=a%3Db")))
+                .isEqualTo(Lane.BULK);
+        assertThat(RateLimitingInterceptor.classify("GET", URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/kafkas")))
+                .isEqualTo(Lane.BULK);
+        assertThat(RateLimitingInterceptor.classify("GET", URI.create("https://k8s/api/v1/pods")))
+                .isEqualTo(Lane.BULK);
+        assertThat(RateLimitingInterceptor.classify("GET", URI.create("https://k8s/api/v1/namespaces")))
+                .isEqualTo(Lane.BULK);
+    }
+
+    @Test
+    void watchesShouldBeDetected() {
+        assertThat(RateLimitingInterceptor.isWatch(
+                URI.create("https://k8s/api/v1/namespaces/kafka/pods?watch=true&resourceVersion=1"))).isTrue();
+        assertThat(RateLimitingInterceptor.isWatch(
+                URI.create("https://k8s/api/v1/namespaces/kafka/pods?labelSelector=watch%3Dtrue"))).isFalse();
+        assertThat(RateLimitingInterceptor.isWatch(URI.create("https://k8s/api/v1/namespaces/kafka/pods"))).isFalse();
+    }
+
+    @Test
+    void httpClientThreadsShouldBeNonBlocking() {
+        assertThat(RateLimitingInterceptor.isNonBlockingThread(new Thread("vert.x-eventloop-thread-0"))).isTrue();
+        assertThat(RateLimitingInterceptor.isNonBlockingThread(new Thread("main"))).isFalse();
+    }
+
+    @Test
+    void clientRequestsShouldPassThroughScheduler() {
+        ApiRequestScheduler scheduler = new ApiRequestScheduler(100, 100);
+
+        try (KubernetesClient limited = KubernetesClients.create(client.getConfiguration(), scheduler)) {
+            limited.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka").list();
+            limited.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka").withName("orders").get();
+        }
+
+        var lanes = scheduler.stats().lanes();
+        assertThat(lanes).anySatisfy(lane -> {
+            assertThat(lane.lane()).isEqualTo(Lane.BULK);
+            assertThat(lane.admitted()).isEqualTo(1);
+        });
+        assertThat(lanes).anySatisfy(lane -> {
+            assertThat(lane.lane()).isEqualTo(Lane.INTERACTIVE);
+            assertThat(lane.admitted()).isEqualTo(1);
+        });
+    }
+}
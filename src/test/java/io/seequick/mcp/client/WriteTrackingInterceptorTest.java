@@ -0,0 +1,68 @@
+package io.seequick.mcp.client;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.client.WriteTrackingInterceptor.ResourcePath;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class WriteTrackingInterceptorTest {
+
+    KubernetesClient client;
+
+    @Test
+    void namespacedPathsShouldBeParsed() {
+        assertThat(WriteTrackingInterceptor.parse(
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics/orders")))
+                .isEqualTo(new ResourcePath("kafkatopics", "kafka", "orders"));
+        assertThat(WriteTrackingInterceptor.parse(
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics/orders/status")))
+                .isEqualTo(new ResourcePath("kafkatopics", "kafka", "orders"));
+        assertThat(WriteTrackingInterceptor.parse(
+                URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2/namespaces/kafka/kafkatopics")))
+                .isEqualTo(new ResourcePath("kafkatopics", "kafka", null));
+        assertThat(WriteTrackingInterceptor.parse(URI.create("https://k8s/api/v1/namespaces/kafka/pods/broker-0")))
+                .isEqualTo(new ResourcePath("pods", "kafka", "broker-0"));
+    }
+
+    @Test
+    void clusterScopedAndNonResourcePathsShouldBeParsed() {
+        assertThat(WriteTrackingInterceptor.parse(URI.create("https://k8s/api/v1/namespaces/kafka")))
+                .isEqualTo(new ResourcePath("namespaces", null, "kafka"));
+        assertThat(WriteTrackingInterceptor.parse(URI.create("https://k8s/apis/rbac.authorization.k8s.io/v1/clusterroles")))
+                .isEqualTo(new ResourcePath("clusterroles", null, null));
+        assertThat(WriteTrackingInterceptor.parse(URI.create("https://k8s/version"))).isNull();
+        assertThat(WriteTrackingInterceptor.parse(URI.create("https://k8s/apis/kafka.strimzi.io/v1beta2"))).isNull();
+    }
+
+    @Test
+    void writesOfCreatedClientsShouldBeReported() {
+        List<ResourcePath> writes = new CopyOnWriteArrayList<>();
+        KubernetesClients.addWriteListener((resource, namespace, name) -> {
+            if ("write-tracking".equals(namespace)) {
+                writes.add(new ResourcePath(resource, namespace, name));
+            }
+        });
+
+        try (KubernetesClient tracked = KubernetesClients.create(client.getConfiguration(),
+                new ApiRequestScheduler(0, 0))) {
+            var topics = tracked.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("write-tracking");
+            topics.resource(new KafkaTopicBuilder().withNewMetadata().withName("orders").endMetadata().build()).create();
+            topics.withName("orders").get();
+            topics.withName("orders").delete();
+        }
+
+        assertThat(writes).containsExactly(
+                new ResourcePath("kafkatopics", "write-tracking", null),
+                new ResourcePath("kafkatopics", "write-tracking", "orders"));
+    }
+}
@@ -0,0 +1,171 @@
+package io.seequick.mcp.daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DaemonServerTest {
+
+    @TempDir
+    Path directory;
+
+    private DaemonServer daemon;
+
+    @AfterEach
+    void tearDown() {
+        if (daemon != null) {
+            daemon.close();
+        }
+    }
+
+    @Test
+    void connectionsShouldGetSessionsOfTheirOwn() throws Exception {
+        daemon = new DaemonServer(directory.resolve("daemon.sock"), Duration.ZERO, DaemonServerTest::echo);
+        daemon.start();
+
+        try (SocketChannel first = connect(); SocketChannel second = connect()) {
+            assertThat(roundTrip(first, "first")).isEqualTo("first");
+            assertThat(roundTrip(second, "second")).isEqualTo("second");
+            assertThat(daemon.getActiveSessions()).isEqualTo(2);
+        }
+
+        awaitCondition(() -> daemon.getActiveSessions() == 0);
+        assertThat(daemon.getTotalSessions()).isEqualTo(2);
+        assertThat(daemon.isRunning()).isTrue();
+    }
+
+    @Test
+    void daemonShouldStopAfterTheIdleTimeout() throws Exception {
+        Path socket = directory.resolve("daemon.sock");
+        daemon = new DaemonServer(socket, Duration.ofMillis(200), DaemonServerTest::echo);
+        daemon.start();
+
+        try (SocketChannel channel = connect()) {
+            Thread.sleep(400);
+            // A connected session keeps the daemon running
+            assertThat(roundTrip(channel, "ping")).isEqualTo("ping");
+        }
+
+        awaitCondition(() -> !daemon.isRunning());
+        assertThat(socket).doesNotExist();
+    }
+
+    @Test
+    void startShouldReplaceAStaleSocketFile() throws Exception {
+        Path socket = directory.resolve("daemon.sock");
+        Files.createFile(socket);
+
+        daemon = new DaemonServer(socket, Duration.ZERO, DaemonServerTest::echo);
+        daemon.start();
+
+        try (SocketChannel channel = connect()) {
+            assertThat(roundTrip(channel, "ping")).isEqualTo("ping");
+        }
+    }
+
+    @Test
+    void startShouldFailWhenAnotherDaemonIsListening() throws Exception {
+        Path socket = directory.resolve("daemon.sock");
+        daemon = new DaemonServer(socket, Duration.ZERO, DaemonServerTest::echo);
+        daemon.start();
+
+        try (DaemonServer second = new DaemonServer(socket, Duration.ZERO, DaemonServerTest::echo)) {
+            assertThatThrownBy(second::start)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already listening");
+        }
+        assertThat(DaemonServer.isListening(socket)).isTrue();
+    }
+
+    @Test
+    void relaysWithAnotherConfigurationShouldBeRefused() throws Exception {
+        Path socket = directory.resolve("daemon.sock");
+        daemon = new DaemonServer(socket, "0123456789abcdef", Duration.ZERO, DaemonServerTest::echo);
+        daemon.start();
+
+        DaemonServer.checkConfig(socket, "0123456789abcdef");
+        try (SocketChannel channel = StdioRelay.connect(socket, "0123456789abcdef", List.of("false"),
+                Duration.ofSeconds(1))) {
+            assertThat(roundTrip(channel, "ping")).isEqualTo("ping");
+        }
+        assertThatThrownBy(() -> StdioRelay.connect(socket, "fedcba9876543210", List.of("false"),
+                Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("different configuration");
+
+        daemon.close();
+        assertThat(DaemonServer.configFile(socket)).doesNotExist();
+    }
+
+    @Test
+    void socketShouldOnlyBeAccessibleToTheOwner() throws Exception {
+        Path socket = directory.resolve("sessions").resolve("daemon.sock");
+        daemon = new DaemonServer(socket, Duration.ZERO, DaemonServerTest::echo);
+        daemon.start();
+
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(socket))).isEqualTo("rw-------");
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(socket.getParent())))
+                .isEqualTo("rwx------");
+    }
+
+    static AutoCloseable echo(InputStream in, OutputStream out) {
+        Thread.ofPlatform().daemon().start(() -> {
+            try {
+                byte[] buffer = new byte[1024];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    out.write(buffer, 0, read);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // Connection closed
+            }
+        });
+        return () -> { };
+    }
+
+    private SocketChannel connect() throws IOException {
+        return SocketChannel.open(UnixDomainSocketAddress.of(daemon.getSocketPath()));
+    }
+
+    private static String roundTrip(SocketChannel channel, String line) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        // Reads byte by byte so that nothing past the line is consumed
+        InputStream in = Channels.newInputStream(channel);
+        StringBuilder answer = new StringBuilder();
+        int b;
+        while ((b = in.read()) >= 0 && b != '\n') {
+            answer.append((char) b);
+        }
+        return answer.toString();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
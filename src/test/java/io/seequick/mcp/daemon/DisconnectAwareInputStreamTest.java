@@ -0,0 +1,49 @@
+package io.seequick.mcp.daemon;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DisconnectAwareInputStreamTest {
+
+    @Test
+    void awaitDisconnectShouldReturnOnceTheEndOfStreamWasRead() throws Exception {
+        DisconnectAwareInputStream in = new DisconnectAwareInputStream(
+                new ByteArrayInputStream("{}\n".getBytes(StandardCharsets.UTF_8)));
+        CompletableFuture<Void> disconnected = CompletableFuture.runAsync(() -> {
+            try {
+                in.awaitDisconnect();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(in.read(new byte[3])).isEqualTo(3);
+        Thread.sleep(50);
+        assertThat(disconnected).isNotDone();
+
+        assertThat(in.read()).isEqualTo(-1);
+        disconnected.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void readFailuresShouldCountAsDisconnect() throws Exception {
+        DisconnectAwareInputStream in = new DisconnectAwareInputStream(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+
+        assertThatThrownBy(in::read).isInstanceOf(IOException.class);
+        in.awaitDisconnect();
+    }
+}
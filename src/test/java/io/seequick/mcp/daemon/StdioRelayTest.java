@@ -0,0 +1,96 @@
+package io.seequick.mcp.daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StdioRelayTest {
+
+    @TempDir
+    Path directory;
+
+    private DaemonServer daemon;
+
+    @AfterEach
+    void tearDown() {
+        if (daemon != null) {
+            daemon.close();
+        }
+    }
+
+    @Test
+    void relayShouldCopyBothDirectionsUntilTheDaemonCloses() throws Exception {
+        Path socket = directory.resolve("daemon.sock");
+        daemon = new DaemonServer(socket, Duration.ZERO, DaemonServerTest::echo);
+        daemon.start();
+
+        String messages = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"ping\"}\n"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"ping\"}\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // The command would fail; it is not run while a daemon is listening
+        try (SocketChannel channel = StdioRelay.connect(socket, List.of("false"), Duration.ofSeconds(1))) {
+            StdioRelay.relay(new ByteArrayInputStream(messages.getBytes(StandardCharsets.UTF_8)), out, channel);
+        }
+
+        // The end of input ended the session, which closed the connection and the relay
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(messages);
+    }
+
+    @Test
+    void connectShouldStartTheDaemonWhenNoneIsListening() throws Exception {
+        Path socket = directory.resolve("daemon.sock");
+        daemon = new DaemonServer(socket, Duration.ZERO, DaemonServerTest::echo);
+        // Stands in for the daemon process, which keeps running and binds the socket shortly after being started
+        Path marker = directory.resolve("started");
+        List<String> command = List.of("sh", "-c", "touch '" + marker + "' && sleep 2");
+        Thread.ofVirtual().start(() -> {
+            try {
+                while (!marker.toFile().exists()) {
+                    Thread.sleep(20);
+                }
+                daemon.start();
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        try (SocketChannel channel = StdioRelay.connect(socket, command, Duration.ofSeconds(5))) {
+            assertThat(channel.isConnected()).isTrue();
+        }
+        assertThat(directory.resolve("daemon.log")).exists();
+    }
+
+    @Test
+    void connectShouldFailWhenTheDaemonDoesNotListen() {
+        Path socket = directory.resolve("daemon.sock");
+
+        assertThatThrownBy(() -> StdioRelay.connect(socket, List.of("sleep", "1"), Duration.ofMillis(300)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Daemon did not start listening on " + socket)
+                .hasMessageContaining("daemon.log");
+    }
+
+    @Test
+    void connectShouldReportWhyTheDaemonExited() {
+        Path socket = directory.resolve("daemon.sock");
+        List<String> command = List.of("sh", "-c", "echo 'Unknown kubeconfig context: prod' >&2; exit 3");
+
+        // Reported as the failure it is, before any configuration check
+        assertThatThrownBy(() -> StdioRelay.connect(socket, "0123456789abcdef", command, Duration.ofSeconds(5)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Daemon exited with code 3 before listening on " + socket)
+                .hasMessageContaining("Unknown kubeconfig context: prod");
+    }
+}
@@ -0,0 +1,60 @@
+package io.seequick.mcp.nativeimage;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.seequick.mcp.store.SnapshotFile;
+import io.seequick.mcp.store.TopicProjection;
+import io.seequick.mcp.store.UserProjection;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaSpec;
+import io.strimzi.api.kafka.model.kafka.KafkaStatus;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.user.KafkaUserSpec;
+import io.strimzi.api.kafka.model.user.KafkaUserTlsClientAuthentication;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReflectionFeatureTest {
+
+    @Test
+    void rootsShouldExist() throws ClassNotFoundException {
+        for (String name : ReflectionFeature.ROOTS) {
+            Class.forName(name, false, getClass().getClassLoader());
+        }
+    }
+
+    @Test
+    void reachableShouldFollowSpecStatusAndFields() {
+        Set<Class<?>> reachable = ReflectionFeature.reachable(List.of(Kafka.class));
+
+        assertThat(reachable).contains(Kafka.class, KafkaSpec.class, KafkaStatus.class, ObjectMeta.class,
+                GenericKafkaListener.class);
+    }
+
+    @Test
+    void reachableShouldFollowJacksonSubtypes() {
+        Set<Class<?>> reachable = ReflectionFeature.reachable(List.of(KafkaUserSpec.class));
+
+        assertThat(reachable).contains(KafkaUserTlsClientAuthentication.class);
+    }
+
+    @Test
+    void reachableShouldFollowTypeArgumentsAndNestedClasses() {
+        assertThat(ReflectionFeature.reachable(List.of(SnapshotFile.Snapshot.class)))
+                .contains(SnapshotFile.Section.class, TopicProjection.class, UserProjection.class);
+        assertThat(ReflectionFeature.reachable(List.of(McpSchema.class)))
+                .contains(McpSchema.CallToolRequest.class, McpSchema.TextContent.class);
+    }
+
+    @Test
+    void reachableShouldLeaveOutModelsTheServerDoesNotRead() {
+        Set<Class<?>> reachable = ReflectionFeature.reachable(List.of(Kafka.class));
+
+        assertThat(reachable).doesNotContain(Job.class, String.class);
+    }
+}
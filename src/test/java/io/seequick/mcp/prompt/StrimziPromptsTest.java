@@ -0,0 +1,126 @@
+package io.seequick.mcp.prompt;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncCompletionSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncPromptSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CompleteRequest;
+import io.modelcontextprotocol.spec.McpSchema.CompleteResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableKubernetesMockClient(crud = true)
+class StrimziPromptsTest {
+
+    KubernetesClient client;
+
+    private ResourceIndex resourceIndex;
+    private List<SyncCompletionSpecification> completions;
+
+    @BeforeEach
+    void setUp() {
+        resourceIndex = new ResourceIndex();
+        completions = StrimziPrompts.completions(new ArgumentCompleter(client, resourceIndex));
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceIndex.close();
+    }
+
+    @Test
+    void promptsShouldHaveACompletionEach() {
+        assertThat(StrimziPrompts.prompts()).extracting(prompt -> prompt.prompt().name())
+                .containsExactlyElementsOf(completions.stream()
+                        .map(completion -> ((McpSchema.PromptReference) completion.referenceKey()).name())
+                        .toList());
+    }
+
+    @Test
+    void getPromptShouldFillTheArguments() {
+        McpSchema.GetPromptResult result = prompt("compare_topics").promptHandler().apply(null,
+                new McpSchema.GetPromptRequest("compare_topics",
+                        Map.of("namespace", "kafka", "topic1", "orders", "topic2", "payments")));
+
+        assertThat(((TextContent) result.messages().get(0).content()).text())
+                .startsWith("Compare the KafkaTopics orders and payments in namespace kafka");
+    }
+
+    @Test
+    void getPromptShouldRejectMissingArguments() {
+        assertThatThrownBy(() -> prompt("investigate_topic").promptHandler().apply(null,
+                new McpSchema.GetPromptRequest("investigate_topic", Map.of("namespace", "kafka"))))
+                .hasMessageContaining("Missing argument name");
+    }
+
+    @Test
+    void completeShouldScopeNamesByTheGivenArguments() throws InterruptedException {
+        createTopic("orders", "kafka", "my-cluster");
+        createTopic("orders-dlq", "kafka", "other-cluster");
+        createTopic("payments", "kafka", "my-cluster");
+
+        CompleteResult all = awaitCompletion("investigate_topic", "name", "ord", Map.of("namespace", "kafka"), 2);
+        assertThat(all.completion().values()).containsExactly("orders", "orders-dlq");
+        assertThat(all.completion().hasMore()).isFalse();
+
+        CompleteResult scoped = complete("compare_topics", "topic2", "",
+                Map.of("namespace", "kafka", "kafkaCluster", "my-cluster"));
+        assertThat(scoped.completion().values()).containsExactly("orders", "payments");
+
+        assertThat(complete("investigate_topic", "namespace", "ka", Map.of()).completion().values())
+                .containsExactly("kafka");
+    }
+
+    private SyncPromptSpecification prompt(String name) {
+        return StrimziPrompts.prompts().stream().filter(prompt -> prompt.prompt().name().equals(name)).findFirst()
+                .orElseThrow();
+    }
+
+    private CompleteResult complete(String prompt, String argument, String value, Map<String, String> context) {
+        SyncCompletionSpecification completion = completions.stream()
+                .filter(spec -> ((McpSchema.PromptReference) spec.referenceKey()).name().equals(prompt))
+                .findFirst().orElseThrow();
+        return completion.completionHandler().apply(null, new CompleteRequest(new McpSchema.PromptReference(prompt),
+                new CompleteRequest.CompleteArgument(argument, value), new CompleteRequest.CompleteContext(context)));
+    }
+
+    private CompleteResult awaitCompletion(String prompt, String argument, String value, Map<String, String> context,
+                                           int expected) throws InterruptedException {
+        // The index is started by the first completion, which does not wait for it
+        long deadline = System.currentTimeMillis() + 5000;
+        CompleteResult result = complete(prompt, argument, value, context);
+        while (result.completion().values().size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            result = complete(prompt, argument, value, context);
+        }
+        return result;
+    }
+
+    private void createTopic(String name, String namespace, String cluster) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToLabels(StrimziLabels.CLUSTER, cluster)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace(namespace).resource(topic).create();
+    }
+}
@@ -0,0 +1,59 @@
+package io.seequick.mcp.resource;
+
+import io.seequick.mcp.store.NameProjection;
+import io.seequick.mcp.store.Readiness;
+import io.seequick.mcp.tool.StrimziKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceNotifierTest {
+
+    private final List<String> updated = new ArrayList<>();
+    private ResourceNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new ResourceNotifier(uri -> updated.add(uri.toString()));
+    }
+
+    @Test
+    void changedShouldNotifyWhenAKafkaBecomesNotReady() {
+        notifier.changed(StrimziKind.KAFKA, kafka("True", "1"), kafka("True", "2"));
+        notifier.changed(StrimziKind.KAFKA, kafka("False", "2"), kafka("True", "3"));
+        assertThat(updated).isEmpty();
+
+        notifier.changed(StrimziKind.KAFKA, kafka("True", "3"), kafka("False", "4"));
+        assertThat(updated).containsExactly("strimzi://kafka/kafka/my-cluster/status",
+                "strimzi://kafka/kafka/my-cluster");
+    }
+
+    @Test
+    void changedShouldNotifyWhenARebalanceReachesProposalReady() {
+        notifier.changed(StrimziKind.KAFKA_REBALANCE, null, rebalance("PendingProposal", "1"));
+        notifier.changed(StrimziKind.KAFKA_REBALANCE, rebalance("PendingProposal", "1"),
+                rebalance("ProposalReady", "2"));
+        notifier.changed(StrimziKind.KAFKA_REBALANCE, rebalance("ProposalReady", "2"),
+                rebalance("ProposalReady", "3"));
+        notifier.changed(StrimziKind.KAFKA_REBALANCE, rebalance("ProposalReady", "3"), rebalance("Rebalancing", "4"));
+        notifier.changed(StrimziKind.KAFKA_REBALANCE, rebalance("Rebalancing", "4"), null);
+
+        assertThat(updated).containsExactly("strimzi://kafka/kafkarebalance/full/status",
+                "strimzi://kafka/kafkarebalance/full");
+    }
+
+    private static NameProjection kafka(String ready, String resourceVersion) {
+        return new NameProjection("kafka", "my-cluster", "my-cluster", null, Map.of(),
+                new Readiness(ready, null, null, 1), null, resourceVersion);
+    }
+
+    private static NameProjection rebalance(String state, String resourceVersion) {
+        return new NameProjection("kafka", "full", "my-cluster", null, Map.of(),
+                new Readiness(null, null, null, 1), state, resourceVersion);
+    }
+}
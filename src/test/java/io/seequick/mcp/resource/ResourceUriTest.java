@@ -0,0 +1,34 @@
+package io.seequick.mcp.resource;
+
+import io.seequick.mcp.tool.StrimziKind;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceUriTest {
+
+    @Test
+    void parseShouldReadResourceAndStatusUris() {
+        assertThat(ResourceUri.parse("strimzi://kafka/kafkatopic/orders"))
+                .isEqualTo(ResourceUri.of(StrimziKind.KAFKA_TOPIC, "kafka", "orders"));
+        assertThat(ResourceUri.parse("strimzi://kafka/KafkaRebalance/full/status"))
+                .isEqualTo(ResourceUri.statusOf(StrimziKind.KAFKA_REBALANCE, "kafka", "full"));
+    }
+
+    @Test
+    void toStringShouldUseTheLowerCaseKind() {
+        assertThat(ResourceUri.statusOf(StrimziKind.KAFKA, "kafka", "my-cluster"))
+                .hasToString("strimzi://kafka/kafka/my-cluster/status");
+    }
+
+    @Test
+    void parseShouldRejectInvalidUris() {
+        assertThatThrownBy(() -> ResourceUri.parse("file:///etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResourceUri.parse("strimzi://kafka/kafkatopic/orders/spec"))
+                .hasMessageContaining("Invalid resource URI");
+        assertThatThrownBy(() -> ResourceUri.parse("strimzi://kafka/configmap/orders"))
+                .hasMessageContaining("Unsupported kind: configmap");
+    }
+}
@@ -0,0 +1,114 @@
+package io.seequick.mcp.resource;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableKubernetesMockClient(crud = true)
+class StrimziResourcesTest {
+
+    KubernetesClient client;
+    KubernetesMockServer server;
+
+    private final List<ResourceUri> reads = new ArrayList<>();
+    private ResourceIndex resourceIndex;
+
+    @BeforeEach
+    void setUp() {
+        resourceIndex = new ResourceIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceIndex.close();
+    }
+
+    @Test
+    void templatesShouldCoverResourcesAndStatuses() {
+        assertThat(StrimziResources.templates(client, resourceIndex, reads::add)).extracting(spec -> spec.resourceTemplate().uriTemplate())
+                .containsExactly("strimzi://{namespace}/{kind}/{name}", "strimzi://{namespace}/{kind}/{name}/status");
+    }
+
+    @Test
+    void readShouldReturnTheResourceOrItsStatus() {
+        createTopic();
+
+        String resource = text("strimzi://kafka/kafkatopic/orders");
+        assertThat(resource).contains("\"partitions\" : 3").contains("\"conditions\"");
+
+        String status = text("strimzi://kafka/kafkatopic/orders/status");
+        assertThat(status).contains("\"conditions\"").doesNotContain("\"partitions\"");
+        assertThat(reads).containsExactly(ResourceUri.of(StrimziKind.KAFKA_TOPIC, "kafka", "orders"),
+                ResourceUri.statusOf(StrimziKind.KAFKA_TOPIC, "kafka", "orders"));
+    }
+
+    @Test
+    void readShouldFetchAResourceAgainOnlyOnceItChanged() throws InterruptedException {
+        createTopic();
+        assertThat(text("strimzi://kafka/kafkatopic/orders")).contains("\"partitions\" : 3");
+
+        int requests = server.getRequestCount();
+        assertThat(text("strimzi://kafka/kafkatopic/orders")).contains("\"partitions\" : 3");
+        assertThat(text("strimzi://kafka/kafkatopic/orders/status")).contains("\"conditions\"");
+        assertThat(server.getRequestCount()).isEqualTo(requests);
+
+        client.resources(KafkaTopic.class).inNamespace("kafka").withName("orders")
+                .edit(topic -> new KafkaTopicBuilder(topic).editSpec().withPartitions(6).endSpec().build());
+        long deadline = System.currentTimeMillis() + 5000;
+        String resource = text("strimzi://kafka/kafkatopic/orders");
+        while (!resource.contains("\"partitions\" : 6") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            resource = text("strimzi://kafka/kafkatopic/orders");
+        }
+
+        assertThat(resource).contains("\"partitions\" : 6");
+    }
+
+    @Test
+    void readShouldRejectMissingResources() {
+        assertThatThrownBy(() -> StrimziResources.read(client, resourceIndex, "strimzi://kafka/kafkatopic/missing",
+                reads::add))
+                .hasMessage("KafkaTopic not found: kafka/missing");
+    }
+
+    private String text(String uri) {
+        return ((TextResourceContents) StrimziResources.read(client, resourceIndex, uri, reads::add).contents().get(0))
+                .text();
+    }
+
+    private void createTopic() {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("orders")
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(topic).create();
+    }
+}
@@ -0,0 +1,40 @@
+package io.seequick.mcp.store;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaProjectionTest {
+
+    @Test
+    void ofShouldKeepVersionListenersAndReadiness() {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata().withName("my-cluster").withNamespace("kafka").withResourceVersion("5").endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withVersion("4.1.0")
+                        .addNewListener().withName("plain").withPort(9092).withType(KafkaListenerType.INTERNAL)
+                            .withTls(false).endListener()
+                        .addNewListener().withName("tls").withPort(9093).withType(KafkaListenerType.INTERNAL)
+                            .withTls(true).endListener()
+                    .endKafka()
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .addNewCondition().withType("Ready").withStatus("True").endCondition()
+                .endStatus()
+                .build();
+
+        KafkaProjection projection = KafkaProjection.of(kafka, new StringInterner());
+
+        assertThat(projection.cluster()).isEqualTo("my-cluster");
+        assertThat(projection.version()).isEqualTo("4.1.0");
+        assertThat(projection.listeners()).containsExactly("plain", "tls");
+        assertThat(projection.readiness().isReady()).isTrue();
+        assertThat(projection.readiness().observedGeneration()).isEqualTo(2L);
+        assertThat(projection.resourceVersion()).isEqualTo("5");
+    }
+}
@@ -0,0 +1,112 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.tool.StrimziKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameIndexTest {
+
+    private NameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NameIndex();
+        add(StrimziKind.KAFKA_TOPIC, "orders", null, Map.of());
+        add(StrimziKind.KAFKA_TOPIC, "orders-dlq", null, Map.of());
+        add(StrimziKind.KAFKA_TOPIC, "eu-payments", "payments.v2", Map.of());
+        add(StrimziKind.KAFKA_USER, "billing-app", null, Map.of("team", "checkout"));
+        add(StrimziKind.KAFKA, "my-cluster", null, Map.of());
+    }
+
+    @Test
+    void searchShouldRankExactBeforePrefixAndSubstringMatches() {
+        List<NameIndex.Match> matches = index.search("ORDERS", null, null, 10);
+
+        assertThat(matches).extracting(match -> match.ref().name()).containsExactly("orders", "orders-dlq");
+        assertThat(matches).extracting(NameIndex.Match::type)
+                .containsExactly(NameIndex.MatchType.EXACT, NameIndex.MatchType.PREFIX);
+
+        assertThat(index.search("dlq", null, null, 10)).singleElement()
+                .satisfies(match -> assertThat(match.type()).isEqualTo(NameIndex.MatchType.SUBSTRING));
+    }
+
+    @Test
+    void searchShouldFindNamesWithTypos() {
+        List<NameIndex.Match> matches = index.search("ordres", StrimziKind.KAFKA_TOPIC, null, 10);
+
+        assertThat(matches).extracting(match -> match.ref().name()).contains("orders");
+        assertThat(matches.get(0).type()).isEqualTo(NameIndex.MatchType.FUZZY);
+        assertThat(matches.get(0).distance()).isEqualTo(2);
+    }
+
+    @Test
+    void searchShouldMatchTopicNamesAndLabelValues() {
+        assertThat(index.search("payments.v", null, null, 10)).singleElement().satisfies(match -> {
+            assertThat(match.ref().name()).isEqualTo("eu-payments");
+            assertThat(match.field()).isEqualTo(NameIndex.Field.TOPIC_NAME);
+        });
+        assertThat(index.search("checkout", StrimziKind.KAFKA_USER, "kafka", 10)).singleElement()
+                .satisfies(match -> assertThat(match.field()).isEqualTo(NameIndex.Field.LABEL));
+        assertThat(index.search("checkout", StrimziKind.KAFKA_TOPIC, null, 10)).isEmpty();
+        assertThat(index.search("checkout", null, "other", 10)).isEmpty();
+    }
+
+    @Test
+    void updateShouldReplaceAndRemoveTerms() {
+        NameProjection orders = index.get(StrimziKind.KAFKA_TOPIC, "kafka", "orders");
+        NameProjection renamed = new NameProjection("kafka", "orders", null, "orders.v3", Map.of(), Readiness.UNKNOWN,
+                null, "2");
+        index.update(StrimziKind.KAFKA_TOPIC, orders, renamed);
+
+        assertThat(index.search("orders.v3", null, null, 10)).extracting(match -> match.ref().name())
+                .containsExactly("orders");
+
+        index.update(StrimziKind.KAFKA_TOPIC, renamed, null);
+
+        assertThat(index.search("orders.v3", null, null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void completeShouldReturnNamesStartingWithThePrefixInOrder() {
+        index.update(StrimziKind.KAFKA_TOPIC, null,
+                new NameProjection("other", "orders", "other-cluster", null, Map.of(), Readiness.UNKNOWN, null, "1"));
+
+        assertThat(index.complete(StrimziKind.KAFKA_TOPIC, null, null, "ord", 10).values())
+                .containsExactly("orders", "orders-dlq");
+        assertThat(index.complete(StrimziKind.KAFKA_TOPIC, "other", null, "", 10).values()).containsExactly("orders");
+        assertThat(index.complete(StrimziKind.KAFKA_TOPIC, null, "other-cluster", "", 10).values())
+                .containsExactly("orders");
+
+        NameIndex.Completion limited = index.complete(StrimziKind.KAFKA_TOPIC, "kafka", null, "", 2);
+        assertThat(limited.values()).containsExactly("eu-payments", "orders");
+        assertThat(limited.hasMore()).isTrue();
+    }
+
+    @Test
+    void completeNamespaceShouldForgetEmptyNamespaces() {
+        NameProjection other = new NameProjection("other", "orders", null, null, Map.of(), Readiness.UNKNOWN, null, "1");
+        index.update(StrimziKind.KAFKA_TOPIC, null, other);
+        assertThat(index.completeNamespace("", 10).values()).containsExactly("kafka", "other");
+
+        index.update(StrimziKind.KAFKA_TOPIC, other, null);
+        assertThat(index.completeNamespace("o", 10).values()).isEmpty();
+    }
+
+    @Test
+    void distanceShouldStopBeyondTheMaximum() {
+        assertThat(NameIndex.distance("orders", "ordres", 2)).isEqualTo(2);
+        assertThat(NameIndex.distance("orders", "orders", 2)).isZero();
+        assertThat(NameIndex.distance("orders", "payments", 2)).isEqualTo(3);
+    }
+
+    private void add(StrimziKind kind, String name, String topicName, Map<String, String> labels) {
+        index.update(kind, null,
+                new NameProjection("kafka", name, "my-cluster", topicName, labels, Readiness.UNKNOWN, null, "1"));
+    }
+}
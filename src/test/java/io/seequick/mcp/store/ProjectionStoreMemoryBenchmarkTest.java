@@ -0,0 +1,179 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.FieldsV1;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.seequick.mcp.client.ModelSerialization;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUserList;
+import io.strimzi.api.kafka.model.user.acl.AclOperation;
+import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the heap retained by full Strimzi resources with the heap retained by a {@link ProjectionStore}
+ * holding the same resources. The resources carry managed fields, annotations and status like the ones
+ * returned by a real API server, and are parsed from JSON so that repeated strings are distinct instances.
+ * Run with {@code mvn test -Pbenchmark}; tune with {@code -Dbenchmark.topics} and {@code -Dbenchmark.users}.
+ */
+@Tag("benchmark")
+class ProjectionStoreMemoryBenchmarkTest {
+
+    private static final int TOPICS = Integer.getInteger("benchmark.topics", 30_000);
+    private static final int USERS = Integer.getInteger("benchmark.users", 15_000);
+
+    @Test
+    void compareRetainedHeap() {
+        KubernetesSerialization serialization = ModelSerialization.shared().kubernetesSerialization();
+        byte[] topics = serialization.asJson(topicList()).getBytes(StandardCharsets.UTF_8);
+        byte[] users = serialization.asJson(userList()).getBytes(StandardCharsets.UTF_8);
+
+        System.out.printf(Locale.ROOT, "%nRetained heap of %d topics and %d users%n", TOPICS, USERS);
+        System.out.printf(Locale.ROOT, "%-12s %-12s %12s %14s%n", "kind", "holder", "retained MB", "bytes/item");
+
+        double fullTopics = print("KafkaTopic", "full", TOPICS, retained(() -> full(topics, KafkaTopic.class)));
+        double storedTopics = print("KafkaTopic", "projection", TOPICS, retained(() -> {
+            ProjectionStore<KafkaTopic, TopicProjection> store = ProjectionStore.topics();
+            read(topics, KafkaTopic.class, store::put);
+            assertThat(store.size()).isEqualTo(TOPICS);
+            return store;
+        }));
+        double fullUsers = print("KafkaUser", "full", USERS, retained(() -> full(users, KafkaUser.class)));
+        double storedUsers = print("KafkaUser", "projection", USERS, retained(() -> {
+            ProjectionStore<KafkaUser, UserProjection> store = ProjectionStore.users();
+            read(users, KafkaUser.class, store::put);
+            assertThat(store.size()).isEqualTo(USERS);
+            return store;
+        }));
+
+        System.out.printf(Locale.ROOT, "Reduction: %.1fx%n", (fullTopics + fullUsers) / Math.max(0.1, storedTopics + storedUsers));
+    }
+
+    private static <T extends HasMetadata> List<T> full(byte[] json, Class<T> type) {
+        List<T> items = new ArrayList<>();
+        read(json, type, items::add);
+        return items;
+    }
+
+    private static <T extends HasMetadata> void read(byte[] json, Class<T> type, Consumer<T> consumer) {
+        try {
+            ModelSerialization.shared().forEachItem(new ByteArrayInputStream(json), type, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long retained(Supplier<Object> holder) {
+        long before = usedHeapAfterGc();
+        Object result = holder.get();
+        long retained = usedHeapAfterGc() - before;
+        assertThat(result).isNotNull();
+        return Math.max(0, retained);
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static double print(String kind, String holder, int items, long retained) {
+        double megabytes = retained / 1024.0 / 1024.0;
+        System.out.printf(Locale.ROOT, "%-12s %-12s %12.1f %14d%n", kind, holder, megabytes, retained / items);
+        return megabytes;
+    }
+
+    private static ObjectMeta metadata(String name, int index) {
+        return new ObjectMetaBuilder()
+                .withName(name)
+                .withNamespace("kafka")
+                .withUid(String.format(Locale.ROOT, "6f1c2b4e-%04x-4a7d-9c1e-%012x", index % 0x10000, index))
+                .withResourceVersion(String.valueOf(1_000_000 + index))
+                .withGeneration(1L)
+                .withCreationTimestamp("2026-01-15T10:21:33Z")
+                .addToLabels("strimzi.io/cluster", "my-cluster")
+                .addToLabels("app.kubernetes.io/part-of", "payments")
+                .addToAnnotations("kubectl.kubernetes.io/last-applied-configuration",
+                        "{\"apiVersion\":\"kafka.strimzi.io/v1beta2\",\"metadata\":{\"name\":\"" + name
+                                + "\",\"namespace\":\"kafka\"},\"spec\":{\"partitions\":12,\"replicas\":3}}")
+                .withManagedFields(
+                        new ManagedFieldsEntryBuilder().withManager("kubectl-client-side-apply").withOperation("Update")
+                                .withApiVersion("kafka.strimzi.io/v1beta2").withTime("2026-01-15T10:21:33Z")
+                                .withFieldsType("FieldsV1").withFieldsV1(fields(Map.of(
+                                        "f:metadata", Map.of("f:annotations", Map.of(".", Map.of(),
+                                                "f:kubectl.kubernetes.io/last-applied-configuration", Map.of())),
+                                        "f:spec", Map.of(".", Map.of(), "f:partitions", Map.of(), "f:replicas", Map.of()))))
+                                .build(),
+                        new ManagedFieldsEntryBuilder().withManager("strimzi-entity-operator").withOperation("Update")
+                                .withApiVersion("kafka.strimzi.io/v1beta2").withTime("2026-01-15T10:21:35Z")
+                                .withFieldsType("FieldsV1").withSubresource("status").withFieldsV1(fields(Map.of(
+                                        "f:status", Map.of(".", Map.of(), "f:conditions", Map.of(),
+                                                "f:observedGeneration", Map.of()))))
+                                .build())
+                .build();
+    }
+
+    private static FieldsV1 fields(Map<String, Object> fields) {
+        FieldsV1 result = new FieldsV1();
+        fields.forEach(result::setAdditionalProperty);
+        return result;
+    }
+
+    private static KafkaTopicList topicList() {
+        KafkaTopicList list = new KafkaTopicList();
+        list.setItems(IntStream.range(0, TOPICS).mapToObj(i -> new KafkaTopicBuilder()
+                .withMetadata(metadata("topic-" + i, i))
+                .withNewSpec().withPartitions(12).withReplicas(3)
+                .addToConfig("retention.ms", 604800000).addToConfig("cleanup.policy", "delete")
+                .addToConfig("min.insync.replicas", 2).endSpec()
+                .withNewStatus().withTopicName("topic-" + i).withTopicId("Zx3mJ0rTRvqn4bEQ9Zf" + i).withObservedGeneration(1L)
+                .addNewCondition().withType("Ready").withStatus("True")
+                .withLastTransitionTime("2026-01-15T10:21:35.123456789Z").endCondition().endStatus()
+                .build()).toList());
+        return list;
+    }
+
+    private static KafkaUserList userList() {
+        KafkaUserList list = new KafkaUserList();
+        list.setItems(IntStream.range(0, USERS).mapToObj(i -> new KafkaUserBuilder()
+                .withMetadata(metadata("user-" + i, i))
+                .withNewSpec()
+                .withNewKafkaUserScramSha512ClientAuthentication().endKafkaUserScramSha512ClientAuthentication()
+                .withNewKafkaUserAuthorizationSimple()
+                .addNewAcl().withNewAclRuleTopicResource().withName("topic-" + i)
+                .withPatternType(AclResourcePatternType.LITERAL).endAclRuleTopicResource()
+                .withOperations(AclOperation.READ, AclOperation.DESCRIBE).endAcl()
+                .addNewAcl().withNewAclRuleGroupResource().withName("group-" + i)
+                .withPatternType(AclResourcePatternType.LITERAL).endAclRuleGroupResource()
+                .withOperations(AclOperation.READ).endAcl()
+                .endKafkaUserAuthorizationSimple()
+                .endSpec()
+                .withNewStatus().withUsername("user-" + i).withSecret("user-" + i).withObservedGeneration(1L)
+                .addNewCondition().withType("Ready").withStatus("True")
+                .withLastTransitionTime("2026-01-15T10:21:35.123456789Z").endCondition().endStatus()
+                .build()).toList());
+        return list;
+    }
+}
@@ -0,0 +1,119 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class ProjectionStoreTest {
+
+    KubernetesClient client;
+
+    private StrimziResourceRepository<KafkaTopic, KafkaTopicList> repository;
+    private ProjectionStore<KafkaTopic, TopicProjection> store;
+
+    @BeforeEach
+    void setUp() {
+        repository = new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class);
+        store = ProjectionStore.topics();
+    }
+
+    @Test
+    void loadShouldProjectAllListedResources() {
+        client.resource(topic("orders", "kafka", "cluster-a")).create();
+        client.resource(topic("payments", "kafka", "cluster-b")).create();
+        client.resource(topic("audit", "other", "cluster-a")).create();
+
+        store.load(repository, null);
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.list(null, null)).extracting(TopicProjection::name)
+                .containsExactly("orders", "payments", "audit");
+        assertThat(store.list(null, "cluster-a")).extracting(TopicProjection::name).containsExactly("orders", "audit");
+        assertThat(store.list("kafka", null)).hasSize(2);
+        assertThat(store.get("kafka", "orders").partitions()).isEqualTo(3);
+    }
+
+    @Test
+    void loadShouldDropResourcesThatNoLongerExist() {
+        client.resource(topic("orders", "kafka", "cluster-a")).create();
+        store.put(topic("stale", "kafka", "cluster-a"));
+        store.put(topic("other-ns", "other", "cluster-a"));
+
+        store.load(repository, "kafka");
+
+        assertThat(store.get("kafka", "stale")).isNull();
+        assertThat(store.get("kafka", "orders")).isNotNull();
+        assertThat(store.get("other", "other-ns")).isNotNull();
+
+        store.load(repository, null);
+        assertThat(store.get("other", "other-ns")).isNull();
+    }
+
+    @Test
+    void putAndRemoveShouldUpdateTheStore() {
+        store.put(topic("orders", "kafka", "cluster-a"));
+        TopicProjection updated = store.put(new KafkaTopicBuilder(topic("orders", "kafka", "cluster-a"))
+                .editSpec().withPartitions(6).endSpec().build());
+
+        assertThat(store.get("kafka", "orders")).isEqualTo(updated);
+        assertThat(updated.partitions()).isEqualTo(6);
+
+        store.remove("kafka", "orders");
+        store.remove("missing", "orders");
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void repeatedStringsShouldBeShared() {
+        TopicProjection first = store.put(topic("orders", new String("kafka"), new String("cluster-a")));
+        TopicProjection second = store.put(topic("payments", new String("kafka"), new String("cluster-a")));
+
+        assertThat(first.namespace()).isSameAs(second.namespace());
+        assertThat(first.cluster()).isSameAs(second.cluster());
+        assertThat(first.config().keySet().iterator().next())
+                .isSameAs(second.config().keySet().iterator().next());
+        assertThat(store.internedStrings()).isLessThan(10);
+    }
+
+    @Test
+    void listenersShouldReceiveEveryChange() {
+        List<String> changes = new ArrayList<>();
+        store.addListener((previous, current) -> changes.add(
+                (previous != null ? previous.name() : "-") + ">" + (current != null ? current.name() : "-")));
+        client.resource(topic("orders", "kafka", "cluster-a")).create();
+        store.put(topic("stale", "kafka", "cluster-a"));
+        store.put(topic("stale", "kafka", "cluster-a"));
+
+        store.load(repository, null);
+        store.remove("kafka", "orders");
+
+        assertThat(changes).containsExactly("->stale", "stale>stale", "stale>-", "->orders", "orders>-");
+    }
+
+    private static KafkaTopic topic(String name, String namespace, String cluster) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToLabels(StrimziLabels.CLUSTER, cluster)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(3)
+                    .addToConfig(new String("retention.ms"), 86400000)
+                .endSpec()
+                .build();
+    }
+}
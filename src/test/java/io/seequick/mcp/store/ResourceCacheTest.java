@@ -0,0 +1,114 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class ResourceCacheTest {
+
+    KubernetesClient client;
+
+    @TempDir
+    Path directory;
+
+    private final ResourceCache cache = new ResourceCache();
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void startShouldLoadAndFollowTheCluster() throws InterruptedException {
+        client.resource(topic("orders")).create();
+        client.resource(new KafkaUserBuilder()
+                .withNewMetadata().withName("app").withNamespace("kafka").endMetadata().build()).create();
+
+        cache.start(client, "ctx", null, Duration.ZERO);
+        awaitCondition(cache::isRevalidated);
+
+        assertThat(cache.topics(client)).hasValueSatisfying(store ->
+                assertThat(store.get("kafka", "orders")).isNotNull());
+        assertThat(cache.users(client)).hasValueSatisfying(store ->
+                assertThat(store.get("kafka", "app")).isNotNull());
+        assertThat(cache.getRestoredFrom()).isNull();
+
+        client.resource(topic("payments")).create();
+        awaitCondition(() -> cache.topics(client).orElseThrow().get("kafka", "payments") != null);
+    }
+
+    @Test
+    void storesShouldBeUnavailableBeforeStartAndForOtherClients() {
+        assertThat(cache.topics(client)).isEmpty();
+        assertThat(cache.stats().started()).isFalse();
+
+        cache.start(client, "ctx", null, Duration.ZERO);
+
+        assertThat(cache.users(null)).isEmpty();
+    }
+
+    @Test
+    void closeShouldWriteASnapshotThatTheNextStartRestores() throws InterruptedException, IOException {
+        client.resource(topic("orders")).create();
+        SnapshotFile file = new SnapshotFile(directory.resolve("snapshot.smile"));
+        cache.start(client, "ctx", file, Duration.ZERO);
+        awaitCondition(cache::isRevalidated);
+        cache.close();
+
+        client.resource(topic("orders")).delete();
+        ResourceCache restarted = new ResourceCache();
+        try {
+            restarted.start(client, "ctx", file, Duration.ZERO);
+
+            // Served from the snapshot until the watches catch up
+            assertThat(restarted.getRestoredFrom()).isNotNull();
+            assertThat(restarted.topics(client)).isPresent();
+            assertThat(restarted.stats().stores()).extracting(StoreSynchronizer.Stats::kind)
+                    .containsExactly("KafkaTopic", "KafkaUser");
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    void startShouldIgnoreSnapshotsOfOtherContexts() throws IOException {
+        SnapshotFile file = new SnapshotFile(directory.resolve("snapshot.smile"));
+        file.write(new SnapshotFile.Snapshot(SnapshotFile.FORMAT_VERSION, "other", String.valueOf(client.getMasterUrl()),
+                0, new SnapshotFile.Section<>("1", List.of()), new SnapshotFile.Section<>("1", List.of())));
+
+        cache.start(client, "ctx", file, Duration.ZERO);
+
+        assertThat(cache.getRestoredFrom()).isNull();
+    }
+
+    private static KafkaTopic topic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata().withName(name).withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster").endMetadata()
+                .withNewSpec().withPartitions(3).withReplicas(3).endSpec()
+                .build();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,83 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.store.SnapshotFile.Section;
+import io.seequick.mcp.store.SnapshotFile.Snapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeAndReadShouldRoundTrip() throws IOException {
+        SnapshotFile file = new SnapshotFile(directory.resolve("nested").resolve("snapshot.smile"));
+        Snapshot snapshot = snapshot(SnapshotFile.FORMAT_VERSION);
+
+        file.write(snapshot);
+
+        assertThat(file.read()).contains(snapshot);
+        assertThat(directory.resolve("nested")).isDirectoryContaining(path -> path.endsWith("snapshot.smile"));
+        try (var files = Files.list(directory.resolve("nested"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void readShouldShareRepeatedStrings() throws IOException {
+        SnapshotFile file = new SnapshotFile(directory.resolve("snapshot.smile"));
+        file.write(snapshot(SnapshotFile.FORMAT_VERSION));
+
+        List<TopicProjection> topics = file.read().orElseThrow().topics().items();
+
+        assertThat(topics.get(0).namespace()).isSameAs(topics.get(1).namespace());
+        assertThat(topics.get(0).cluster()).isSameAs(topics.get(1).cluster());
+    }
+
+    @Test
+    void writeShouldReplaceThePreviousSnapshot() throws IOException {
+        SnapshotFile file = new SnapshotFile(directory.resolve("snapshot.smile"));
+        file.write(snapshot(SnapshotFile.FORMAT_VERSION));
+        Snapshot empty = new Snapshot(SnapshotFile.FORMAT_VERSION, "ctx", "https://api:6443/", 2,
+                new Section<>("20", List.of()), new Section<>(null, List.of()));
+
+        file.write(empty);
+
+        assertThat(file.read()).contains(empty);
+    }
+
+    @Test
+    void readShouldIgnoreMissingCorruptAndIncompatibleSnapshots() throws IOException {
+        SnapshotFile file = new SnapshotFile(directory.resolve("snapshot.smile"));
+        assertThat(file.read()).isEmpty();
+
+        Files.writeString(file.getPath(), "not a snapshot");
+        assertThat(file.read()).isEmpty();
+
+        file.write(snapshot(SnapshotFile.FORMAT_VERSION + 1));
+        assertThat(file.read()).isEmpty();
+    }
+
+    private static Snapshot snapshot(int formatVersion) {
+        Readiness ready = new Readiness("True", null, null, 2);
+        List<TopicProjection> topics = List.of(
+                new TopicProjection("kafka", "orders", "my-cluster", "orders", 12, 3,
+                        Map.of("retention.ms", 604800000, "cleanup.policy", "delete"), ready, "7"),
+                new TopicProjection("kafka", "payments", "my-cluster", "payments", null, null, Map.of(),
+                        Readiness.UNKNOWN, "8"));
+        List<UserProjection> users = List.of(new UserProjection("kafka", "app", "my-cluster", "tls", "simple",
+                List.of(new UserProjection.Acl("ALLOW", "topic", "orders", "literal", List.of("READ"), "*")),
+                ready, "9"));
+        return new Snapshot(formatVersion, "ctx", "https://api:6443/", 1_700_000_000_000L,
+                new Section<>("10", topics), new Section<>("11", users));
+    }
+}
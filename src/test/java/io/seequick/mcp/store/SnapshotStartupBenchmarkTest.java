@@ -0,0 +1,117 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.client.ModelSerialization;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+import io.seequick.mcp.tool.topic.ListTopicsTool;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the time from server start to the first list_topics answer when the topics are listed from the API
+ * server and when they are restored from a snapshot file. The mock API server is local, so the listing time
+ * is a lower bound of what a real cluster takes.
+ * Run with {@code mvn test -Pbenchmark}; tune with {@code -Dbenchmark.topics}.
+ */
+@Tag("benchmark")
+@EnableKubernetesMockClient
+class SnapshotStartupBenchmarkTest {
+
+    private static final int TOPICS = Integer.getInteger("benchmark.topics", 30_000);
+    private static final String PATH = "/apis/kafka.strimzi.io/v1/kafkatopics";
+
+    KubernetesMockServer server;
+    KubernetesClient client;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareTimeToFirstAnswer() throws IOException {
+        server.expect().get().withPath(PATH).andReturn(200, topicList()).always();
+        server.expect().withPath(PATH + "?allowWatchBookmarks=true&resourceVersion=1000&watch=true")
+                .andUpgradeToWebSocket().open().done().always();
+        SnapshotFile file = new SnapshotFile(directory.resolve("snapshot.smile"));
+        ProjectionStore<KafkaTopic, TopicProjection> store = ProjectionStore.topics();
+        store.load(new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class), null);
+        file.write(new SnapshotFile.Snapshot(SnapshotFile.FORMAT_VERSION, "ctx", String.valueOf(client.getMasterUrl()),
+                System.currentTimeMillis(), SnapshotFile.Section.of(store), new SnapshotFile.Section<>(null, List.of())));
+
+        // Each path is warmed up (class loading, JIT) right before it is measured
+        for (int i = 0; i < 3; i++) {
+            listFromApiServer();
+        }
+        long start = System.nanoTime();
+        String listed = listFromApiServer();
+        double listedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        for (int i = 0; i < 3; i++) {
+            listFromSnapshot(file);
+        }
+        start = System.nanoTime();
+        String restored = listFromSnapshot(file);
+        double restoredMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        assertThat(restored).startsWith(listed.substring(0, listed.indexOf('\n')));
+        System.out.printf(Locale.ROOT, "%nTime to first list_topics answer with %d topics (snapshot %.1f MB)%n", TOPICS,
+                Files.size(file.getPath()) / 1024.0 / 1024.0);
+        System.out.printf(Locale.ROOT, "%-24s %10s%n", "source", "ms");
+        System.out.printf(Locale.ROOT, "%-24s %10.1f%n", "API server list", listedMs);
+        System.out.printf(Locale.ROOT, "%-24s %10.1f%n", "snapshot restore", restoredMs);
+    }
+
+    private String listFromApiServer() {
+        return text(new ListTopicsTool(client, new ResourceCache()).getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("list_topics", Map.of())));
+    }
+
+    private String listFromSnapshot(SnapshotFile file) {
+        try (ResourceCache cache = new ResourceCache()) {
+            cache.start(client, "ctx", file, Duration.ZERO);
+            assertThat(cache.getRestoredFrom()).isNotNull();
+            return text(new ListTopicsTool(client, cache).getSpecification().callHandler()
+                    .apply(null, new McpSchema.CallToolRequest("list_topics", Map.of())));
+        }
+    }
+
+    private static String text(CallToolResult result) {
+        String text = ((TextContent) result.content().get(0)).text();
+        assertThat(result.isError()).as(text).isFalse();
+        return text;
+    }
+
+    private static String topicList() {
+        KafkaTopicList list = new KafkaTopicList();
+        list.setMetadata(new ListMetaBuilder().withResourceVersion("1000").build());
+        list.setItems(IntStream.range(0, TOPICS).mapToObj(i -> new KafkaTopicBuilder()
+                .withNewMetadata().withName("topic-" + i).withNamespace("kafka").withResourceVersion(String.valueOf(i))
+                    .addToLabels("strimzi.io/cluster", "my-cluster").endMetadata()
+                .withNewSpec().withPartitions(12).withReplicas(3)
+                    .addToConfig("retention.ms", 604800000).addToConfig("cleanup.policy", "delete").endSpec()
+                .withNewStatus().withObservedGeneration(1L)
+                    .addNewCondition().withType("Ready").withStatus("True").endCondition().endStatus()
+                .build()).toList());
+        return ModelSerialization.shared().kubernetesSerialization().asJson(list);
+    }
+}
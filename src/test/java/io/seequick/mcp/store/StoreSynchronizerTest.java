@@ -0,0 +1,188 @@
+package io.seequick.mcp.store;
+
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient
+class StoreSynchronizerTest {
+
+    private static final String PATH = "/apis/kafka.strimzi.io/v1/kafkatopics";
+
+    KubernetesMockServer server;
+    KubernetesClient client;
+
+    private ScheduledThreadPoolExecutor executor;
+    private ProjectionStore<KafkaTopic, TopicProjection> store;
+    private StoreSynchronizer<KafkaTopic, TopicProjection> synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ScheduledThreadPoolExecutor(1);
+        store = ProjectionStore.topics();
+        synchronizer = new StoreSynchronizer<>(client,
+                new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class), store, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        synchronizer.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void startShouldResumeFromTheStoredResourceVersion() throws InterruptedException {
+        store.put(topic("orders", "4"));
+        store.put(topic("stale", "4"));
+        store.setResourceVersion("5");
+        server.expect().withPath(watchPath("5")).andUpgradeToWebSocket().open()
+                .waitFor(50).andEmit(new WatchEvent(topic("payments", "6"), "ADDED"))
+                .waitFor(50).andEmit(new WatchEvent(topic("stale", "7"), "DELETED"))
+                .waitFor(300).andEmit(new WatchEvent(bookmark("8"), "BOOKMARK"))
+                .done().always();
+
+        synchronizer.start();
+
+        awaitCondition(() -> store.get("kafka", "payments") != null && store.get("kafka", "stale") == null);
+        // The replayed changes may not be complete before the bookmark
+        assertThat(synchronizer.isSynced()).isFalse();
+        awaitCondition(synchronizer::isSynced);
+        assertThat(store.get("kafka", "orders")).isNotNull();
+        assertThat(store.getResourceVersion()).isEqualTo("8");
+        assertThat(synchronizer.stats().resumes()).isEqualTo(1);
+        assertThat(synchronizer.stats().relists()).isZero();
+    }
+
+    @Test
+    void startShouldRelistWhenTheResourceVersionIsGone() throws InterruptedException {
+        store.put(topic("deleted-meanwhile", "4"));
+        store.setResourceVersion("5");
+        server.expect().withPath(watchPath("5")).andUpgradeToWebSocket().open()
+                .waitFor(50).andEmit(new WatchEvent(new StatusBuilder().withCode(410).withReason("Expired")
+                        .withMessage("too old resource version: 5 (10)").build(), "ERROR"))
+                .done().once();
+        server.expect().get().withPath(PATH).andReturn(200, topicList("10", topic("orders", "9"))).once();
+        server.expect().withPath(watchPath("10")).andUpgradeToWebSocket().open().done().always();
+
+        synchronizer.start();
+
+        awaitCondition(() -> synchronizer.stats().relists() == 1 && "10".equals(store.getResourceVersion()));
+        assertThat(store.list(null, null)).extracting(TopicProjection::name).containsExactly("orders");
+        assertThat(synchronizer.stats().resumes()).isEqualTo(1);
+    }
+
+    @Test
+    void watchGoneAfterResumingShouldClearSyncedUntilTheRelistCompletes() throws InterruptedException {
+        store.put(topic("orders", "4"));
+        store.setResourceVersion("5");
+        server.expect().withPath(watchPath("5")).andUpgradeToWebSocket().open()
+                .waitFor(50).andEmit(new WatchEvent(bookmark("6"), "BOOKMARK"))
+                .waitFor(300).andEmit(new WatchEvent(new StatusBuilder().withCode(410).withReason("Expired")
+                        .withMessage("too old resource version: 6 (10)").build(), "ERROR"))
+                .done().once();
+        server.expect().get().withPath(PATH).andReturn(500, "etcd unavailable").once();
+
+        synchronizer.start();
+
+        awaitCondition(synchronizer::isSynced);
+        awaitCondition(() -> synchronizer.stats().relists() == 1);
+        awaitCondition(() -> synchronizer.stats().lastError() != null);
+        // The relist failed: the store is stale and nothing watches it
+        assertThat(synchronizer.isSynced()).isFalse();
+        assertThat(store.getResourceVersion()).isNull();
+    }
+
+    @Test
+    void startShouldListWhenTheStoreHasNoResourceVersion() throws InterruptedException {
+        server.expect().get().withPath(PATH).andReturn(200, topicList("3", topic("orders", "2"))).once();
+        server.expect().withPath(watchPath("3")).andUpgradeToWebSocket().open().done().always();
+
+        synchronizer.start();
+
+        assertThat(synchronizer.isSynced()).isTrue();
+        assertThat(store.get("kafka", "orders")).isNotNull();
+        assertThat(synchronizer.stats().relists()).isEqualTo(1);
+        assertThat(synchronizer.stats().resumes()).isZero();
+    }
+
+    @Test
+    void startShouldRetryFailures() {
+        server.expect().get().withPath(PATH).andReturn(500, "etcd unavailable").always();
+
+        synchronizer.start();
+
+        assertThat(synchronizer.isSynced()).isFalse();
+        assertThat(synchronizer.isUnavailable()).isFalse();
+        assertThat(synchronizer.stats().lastError()).contains("etcd unavailable");
+        assertThat(executor.getQueue()).hasSize(1);
+    }
+
+    @Test
+    void startShouldNotRetryAForbiddenKind() {
+        server.expect().get().withPath(PATH).andReturn(403, "kafkatopics is forbidden").always();
+
+        synchronizer.start();
+
+        assertThat(synchronizer.isSynced()).isFalse();
+        assertThat(synchronizer.stats().unavailable()).isTrue();
+        assertThat(synchronizer.stats().lastError()).contains("kafkatopics is forbidden");
+        assertThat(executor.getQueue()).isEmpty();
+    }
+
+    @Test
+    void startShouldNotRetryAKindThatIsNotInstalled() {
+        server.expect().get().withPath(PATH).andReturn(404, "the server could not find the requested resource")
+                .always();
+
+        synchronizer.start();
+
+        assertThat(synchronizer.isUnavailable()).isTrue();
+        assertThat(executor.getQueue()).isEmpty();
+    }
+
+    private static String watchPath(String resourceVersion) {
+        return PATH + "?allowWatchBookmarks=true&resourceVersion=" + resourceVersion + "&watch=true";
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static KafkaTopic topic(String name, String resourceVersion) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata().withName(name).withNamespace("kafka").withResourceVersion(resourceVersion).endMetadata()
+                .withNewSpec().withPartitions(3).withReplicas(3).endSpec()
+                .build();
+    }
+
+    private static KafkaTopic bookmark(String resourceVersion) {
+        return new KafkaTopicBuilder().withNewMetadata().withResourceVersion(resourceVersion).endMetadata().build();
+    }
+
+    private static KafkaTopicList topicList(String resourceVersion, KafkaTopic... topics) {
+        KafkaTopicList list = new KafkaTopicList();
+        list.setMetadata(new ListMetaBuilder().withResourceVersion(resourceVersion).build());
+        list.setItems(List.of(topics));
+        return list;
+    }
+}
@@ -0,0 +1,67 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TopicProjectionTest {
+
+    @Test
+    void ofShouldKeepFieldsReadByTools() {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("orders")
+                    .withNamespace("kafka")
+                    .withResourceVersion("17")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                    .addToAnnotations("kubectl.kubernetes.io/last-applied-configuration", "{...}")
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName("orders.v1")
+                    .withPartitions(12)
+                    .withReplicas(3)
+                    .addToConfig("retention.ms", 604800000)
+                    .addToConfig("cleanup.policy", "delete")
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(4L)
+                    .addNewCondition().withType("Ready").withStatus("False").withReason("KafkaError")
+                        .withMessage("Replication factor: 3 larger than available brokers: 1").endCondition()
+                .endStatus()
+                .build();
+
+        TopicProjection projection = TopicProjection.of(topic, new StringInterner());
+
+        assertThat(projection.namespace()).isEqualTo("kafka");
+        assertThat(projection.name()).isEqualTo("orders");
+        assertThat(projection.cluster()).isEqualTo("my-cluster");
+        assertThat(projection.topicName()).isEqualTo("orders.v1");
+        assertThat(projection.partitions()).isEqualTo(12);
+        assertThat(projection.replicas()).isEqualTo(3);
+        assertThat(projection.config()).containsEntry("retention.ms", 604800000).containsEntry("cleanup.policy", "delete");
+        assertThat(projection.readiness().isReady()).isFalse();
+        assertThat(projection.readiness().reason()).isEqualTo("KafkaError");
+        assertThat(projection.readiness().observedGeneration()).isEqualTo(4L);
+        assertThat(projection.resourceVersion()).isEqualTo("17");
+        assertThatThrownBy(() -> projection.config().put("x", "y")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void ofShouldHandleMinimalTopics() {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata().withName("bare").withNamespace("kafka").endMetadata()
+                .build();
+
+        TopicProjection projection = TopicProjection.of(topic, new StringInterner());
+
+        assertThat(projection.topicName()).isEqualTo("bare");
+        assertThat(projection.cluster()).isNull();
+        assertThat(projection.partitions()).isNull();
+        assertThat(projection.config()).isEmpty();
+        assertThat(projection.readiness().status()).isNull();
+    }
+}
@@ -0,0 +1,66 @@
+package io.seequick.mcp.store;
+
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.user.acl.AclOperation;
+import io.strimzi.api.kafka.model.user.acl.AclResourcePatternType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserProjectionTest {
+
+    @Test
+    void ofShouldKeepAuthenticationAndAclRules() {
+        KafkaUser user = new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName("app")
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafkaUserTlsClientAuthentication().endKafkaUserTlsClientAuthentication()
+                    .withNewKafkaUserAuthorizationSimple()
+                        .addNewAcl()
+                            .withNewAclRuleTopicResource().withName("orders").withPatternType(AclResourcePatternType.PREFIX)
+                            .endAclRuleTopicResource()
+                            .withOperations(AclOperation.READ, AclOperation.DESCRIBE)
+                        .endAcl()
+                        .addNewAcl()
+                            .withNewAclRuleClusterResource().endAclRuleClusterResource()
+                            .withOperations(AclOperation.DESCRIBE)
+                            .withHost("10.0.0.1")
+                        .endAcl()
+                    .endKafkaUserAuthorizationSimple()
+                .endSpec()
+                .withNewStatus()
+                    .addNewCondition().withType("Ready").withStatus("True").endCondition()
+                .endStatus()
+                .build();
+
+        UserProjection projection = UserProjection.of(user, new StringInterner());
+
+        assertThat(projection.cluster()).isEqualTo("my-cluster");
+        assertThat(projection.authentication()).isEqualTo("tls");
+        assertThat(projection.authorization()).isEqualTo("simple");
+        assertThat(projection.readiness().isReady()).isTrue();
+        assertThat(projection.acls()).containsExactly(
+                new UserProjection.Acl("ALLOW", "topic", "orders", "prefix", List.of("READ", "DESCRIBE"), "*"),
+                new UserProjection.Acl("ALLOW", "cluster", null, null, List.of("DESCRIBE"), "10.0.0.1"));
+    }
+
+    @Test
+    void ofShouldHandleUsersWithoutSpec() {
+        KafkaUser user = new KafkaUserBuilder()
+                .withNewMetadata().withName("bare").withNamespace("kafka").endMetadata()
+                .build();
+
+        UserProjection projection = UserProjection.of(user, new StringInterner());
+
+        assertThat(projection.authentication()).isNull();
+        assertThat(projection.acls()).isEmpty();
+    }
+}
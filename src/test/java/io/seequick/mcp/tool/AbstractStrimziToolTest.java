@@ -226,6 +226,7 @@ class AbstractStrimziToolTest {
 
         assertThat(spec.tool().name()).isEqualTo("test_tool");
         assertThat(spec.tool().description()).isEqualTo("Test tool for unit testing");
+        assertThat(spec.tool().annotations().readOnlyHint()).isTrue();
     }
 
     /**
@@ -247,6 +248,11 @@ class AbstractStrimziToolTest {
             return "Test tool for unit testing";
         }
 
+        @Override
+        public boolean isReadOnly() {
+            return true;
+        }
+
         @Override
         protected JsonSchema getInputSchema() {
             return parseSchema("""
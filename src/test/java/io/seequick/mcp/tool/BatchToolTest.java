@@ -0,0 +1,140 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.topic.DeleteTopicTool;
+import io.seequick.mcp.tool.topic.DescribeTopicTool;
+import io.seequick.mcp.tool.topic.LintTopicConfigTool;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class BatchToolTest {
+
+    KubernetesClient client;
+
+    private BatchTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new BatchTool(client, List.of(new DescribeTopicTool(client), new DeleteTopicTool(client),
+                new LintTopicConfigTool(client)));
+    }
+
+    @Test
+    void callsShouldBeReportedInOrder() {
+        for (int i = 0; i < 5; i++) {
+            createTopic("topic-" + i);
+        }
+        List<Map<String, Object>> calls = new ArrayList<>();
+        for (int i = 4; i >= 0; i--) {
+            calls.add(Map.of("tool", "describe_topic", "arguments", Map.of("name", "topic-" + i, "namespace", "kafka")));
+        }
+
+        CallToolResult result = call(Map.of("calls", calls, "concurrency", 2));
+
+        assertThat(result.isError()).isFalse();
+        String content = text(result);
+        assertThat(content).startsWith("Batch of 5 call(s): 5 succeeded, 0 failed, 0 timed out");
+        assertThat(content).contains("[1] describe_topic {name=topic-4, namespace=kafka} [OK]");
+        assertThat(content.indexOf("KafkaTopic: kafka/topic-4")).isLessThan(content.indexOf("KafkaTopic: kafka/topic-3"));
+        assertThat(content.indexOf("KafkaTopic: kafka/topic-1")).isLessThan(content.indexOf("KafkaTopic: kafka/topic-0"));
+    }
+
+    @Test
+    void failedUnknownAndWritingCallsShouldBeReportedPerCall() {
+        createTopic("orders");
+
+        CallToolResult result = call(Map.of("calls", List.of(
+                Map.of("tool", "describe_topic", "arguments", Map.of("name", "orders", "namespace", "kafka")),
+                Map.of("tool", "describe_topic", "arguments", Map.of("name", "missing", "namespace", "kafka")),
+                Map.of("tool", "list_everything"),
+                Map.of("tool", "delete_topic", "arguments", Map.of("name", "orders", "namespace", "kafka")))));
+
+        assertThat(result.isError()).isFalse();
+        String content = text(result);
+        assertThat(content).contains("1 succeeded, 3 failed");
+        assertThat(content).contains("[2] describe_topic {name=missing, namespace=kafka} [FAILED]");
+        assertThat(content).contains("KafkaTopic not found: kafka/missing");
+        assertThat(content).contains("Unknown tool: list_everything");
+        assertThat(content).contains("Tool delete_topic is not read-only and cannot be batched");
+        assertThat(client.resources(KafkaTopic.class).inNamespace("kafka").withName("orders").get()).isNotNull();
+    }
+
+    @Test
+    void malformedArgumentsShouldBeReportedAsInvalidCalls() {
+        createTopic("orders");
+
+        CallToolResult result = call(Map.of("calls", List.of(
+                Map.of("tool", "describe_topic", "arguments", Map.of("name", "orders", "namespace", "kafka")),
+                Map.of("tool", "describe_topic", "arguments", "orders"),
+                Map.of("tool", "describe_topic", "arguments", Map.of(1, "orders")))));
+
+        String content = text(result);
+        assertThat(content).contains("1 succeeded, 2 failed");
+        assertThat(content).contains("Invalid call: arguments must be an object");
+        assertThat(content).contains("Invalid call: argument names must be strings");
+    }
+
+    @Test
+    void readOnlyToolsShouldBeBatchedWhateverTheirName() {
+        createTopic("orders");
+
+        CallToolResult result = call(Map.of("calls", List.of(
+                Map.of("tool", "lint_topic_config", "arguments", Map.of("namespace", "kafka")))));
+
+        assertThat(text(result)).contains("1 succeeded, 0 failed").contains("Linted 1 KafkaTopic(s)");
+        assertThat(new LintTopicConfigTool(client).getSpecification().tool().annotations().readOnlyHint()).isTrue();
+        assertThat(new DeleteTopicTool(client).getSpecification().tool().annotations().readOnlyHint()).isFalse();
+    }
+
+    @Test
+    void jsonFormatShouldReturnTheResultsAsStructuredContent() {
+        createTopic("orders");
+
+        CallToolResult result = call(Map.of("format", "json", "calls", List.of(
+                Map.of("tool", "describe_topic", "arguments", Map.of("name", "orders", "namespace", "kafka")))));
+
+        Map<?, ?> content = (Map<?, ?>) result.structuredContent();
+        assertThat(content.get("succeeded")).isEqualTo(1);
+        List<?> results = (List<?>) content.get("results");
+        assertThat(results).hasSize(1);
+        assertThat(((Map<?, ?>) results.get(0)).get("status")).isEqualTo("ok");
+        assertThat((String) ((Map<?, ?>) results.get(0)).get("text")).contains("KafkaTopic: kafka/orders");
+    }
+
+    @Test
+    void missingCallsShouldReturnError() {
+        CallToolResult result = call(Map.of("calls", List.of()));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("Invalid argument calls");
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest("batch", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private void createTopic(String name) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata().withName(name).withNamespace("kafka").endMetadata()
+                .withNewSpec().withPartitions(1).withReplicas(1).endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(topic).create();
+    }
+}
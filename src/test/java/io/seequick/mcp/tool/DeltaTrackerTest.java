@@ -0,0 +1,145 @@
+package io.seequick.mcp.tool;
+
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaTrackerTest {
+
+    @Test
+    void fullListingShouldReportEveryItem() {
+        DeltaTracker tracker = new DeltaTracker(8, 4);
+
+        DeltaTracker.Delta delta = tracker.start("", null, "list{}", null);
+
+        assertThat(delta.changed("ns/a", "1")).isTrue();
+        assertThat(delta.changed("ns/b", "1")).isTrue();
+        assertThat(delta.isDelta()).isFalse();
+        assertThat(delta.total()).isEqualTo(2);
+        assertThat(delta.removed()).isEmpty();
+        assertThat(delta.describeChanges()).isEmpty();
+    }
+
+    @Test
+    void deltaShouldReportAddedChangedAndRemovedItems() {
+        DeltaTracker tracker = new DeltaTracker(8, 4);
+        DeltaTracker.Delta first = tracker.start("", null, "list{}", null);
+        first.changed("ns/a", "1");
+        first.changed("ns/b", "1");
+        first.changed("ns/c", "1");
+        String token = first.token();
+
+        DeltaTracker.Delta second = tracker.start("", null, "list{}", token);
+
+        assertThat(second.changed("ns/a", "1")).isFalse();
+        assertThat(second.changed("ns/b", "2")).isTrue();
+        assertThat(second.changed("ns/d", "1")).isTrue();
+        assertThat(second.isDelta()).isTrue();
+        assertThat(second.removed()).containsExactly("ns/c");
+        assertThat(second.describeChanges()).isEqualTo(", 2 added or changed and 1 removed since " + token);
+        assertThat(second.token()).isNotEqualTo(token);
+    }
+
+    @Test
+    void identicalListingsShouldShareTheirToken() {
+        DeltaTracker tracker = new DeltaTracker(8, 4);
+        DeltaTracker.Delta first = tracker.start("", null, "list{}", null);
+        first.changed("ns/a", "1");
+        first.changed("ns/b", "1");
+
+        DeltaTracker.Delta second = tracker.start("", null, "list{}", first.token());
+        second.changed("ns/b", "1");
+        second.changed("ns/a", "1");
+
+        assertThat(second.token()).isEqualTo(first.token());
+        assertThat(tracker.size("")).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenShouldGetTheFullListing() {
+        DeltaTracker tracker = new DeltaTracker(1, 4);
+        DeltaTracker.Delta first = tracker.start("", null, "list{}", null);
+        first.changed("ns/a", "1");
+        String token = first.token();
+        DeltaTracker.Delta other = tracker.start("", null, "list{}", null);
+        other.changed("ns/a", "2");
+        other.token();
+
+        DeltaTracker.Delta delta = tracker.start("", null, "list{}", token);
+
+        assertThat(delta.isExpired()).isTrue();
+        assertThat(delta.changed("ns/a", "2")).isTrue();
+        assertThat(delta.describeChanges()).isEqualTo(" (token " + token + " expired, full listing)");
+    }
+
+    @Test
+    void tokenOfAnotherCallShouldBeRejected() {
+        DeltaTracker tracker = new DeltaTracker(8, 4);
+        DeltaTracker.Delta first = tracker.start("", null, "list{namespace=a}", null);
+        first.changed("a/x", "1");
+
+        assertThatThrownBy(() -> tracker.start("", null, "list{namespace=b}", first.token()))
+                .isInstanceOf(InvalidArgumentException.class)
+                .hasMessageContaining("other arguments");
+    }
+
+    @Test
+    void tokenOfAnotherSessionShouldGetTheFullListing() {
+        DeltaTracker tracker = new DeltaTracker(8, 4);
+        DeltaTracker.Delta first = tracker.start("session-a", null, "list{}", null);
+        first.changed("ns/a", "1");
+        String token = first.token();
+
+        DeltaTracker.Delta delta = tracker.start("session-b", null, "list{}", token);
+
+        assertThat(delta.isExpired()).isTrue();
+        assertThat(delta.changed("ns/a", "1")).isTrue();
+    }
+
+    @Test
+    void tokenOfAnotherContextShouldGetTheFullListing() {
+        DeltaTracker tracker = new DeltaTracker(8, 4);
+        DeltaTracker.Delta first = tracker.start("", "prod", "list{}", null);
+        first.changed("ns/a", "1");
+        String token = first.token();
+
+        DeltaTracker.Delta same = tracker.start("", "prod", "list{}", token);
+        DeltaTracker.Delta other = tracker.start("", "staging", "list{}", token);
+
+        assertThat(same.isDelta()).isTrue();
+        assertThat(same.changed("ns/a", "1")).isFalse();
+        assertThat(other.isExpired()).isTrue();
+        assertThat(other.changed("ns/a", "1")).isTrue();
+    }
+
+    @Test
+    void fingerprintsShouldBeLimitedPerSession() {
+        DeltaTracker tracker = new DeltaTracker(1, 4);
+        DeltaTracker.Delta first = tracker.start("session-a", null, "list{}", null);
+        first.changed("ns/a", "1");
+        String token = first.token();
+        for (int i = 0; i < 3; i++) {
+            DeltaTracker.Delta other = tracker.start("session-b", null, "list{}", null);
+            other.changed("ns/a", String.valueOf(i));
+            other.token();
+        }
+
+        assertThat(tracker.size("session-b")).isEqualTo(1);
+        assertThat(tracker.start("session-a", null, "list{}", token).isDelta()).isTrue();
+    }
+
+    @Test
+    void leastRecentlyActiveSessionsShouldBeDropped() {
+        DeltaTracker tracker = new DeltaTracker(8, 2);
+        DeltaTracker.Delta first = tracker.start("session-a", null, "list{}", null);
+        first.changed("ns/a", "1");
+        String token = first.token();
+        tracker.start("session-b", null, "list{}", null).token();
+        tracker.start("session-c", null, "list{}", null).token();
+
+        assertThat(tracker.sessions()).isEqualTo(2);
+        assertThat(tracker.start("session-a", null, "list{}", token).isExpired()).isTrue();
+    }
+}
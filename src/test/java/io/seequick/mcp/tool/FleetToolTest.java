@@ -0,0 +1,210 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.client.KubernetesClientPool;
+import io.seequick.mcp.tool.kafka.ListKafkasTool;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.KafkaList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class FleetToolTest {
+
+    KubernetesClient client;
+
+    private KubernetesMockServer otherServer;
+    private KubernetesClient otherClient;
+    private KubernetesClientPool pool;
+
+    @BeforeEach
+    void setUp() {
+        otherServer = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(),
+                new KubernetesCrudDispatcher(), false);
+        otherServer.init();
+        otherClient = otherServer.createClient();
+        pool = new KubernetesClientPool("east", List.of("east", "west", "slow"),
+                context -> context.equals("west") ? otherClient : client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherClient.close();
+        otherServer.destroy();
+    }
+
+    @Test
+    void shouldMergeResultsOfAllContexts() {
+        createKafka(client, "east-cluster");
+        createKafka(otherClient, "west-cluster");
+        KubernetesClient routing = pool.routingClient();
+        FleetTool tool = new FleetTool(routing, new ListKafkasTool(routing), "fleet_list_kafkas", "List Kafkas");
+
+        CallToolResult result = call(tool, Map.of("contexts", List.of("east", "west")));
+
+        assertThat(result.isError()).isFalse();
+        String content = text(result);
+        assertThat(content).contains("CONTEXT: east [OK]");
+        assertThat(content).contains("kafka/east-cluster");
+        assertThat(content).contains("CONTEXT: west [OK]");
+        assertThat(content).contains("kafka/west-cluster");
+        assertThat(content).contains("Succeeded: 2/2");
+    }
+
+    @Test
+    void slowContextShouldTimeOutWithoutDelayingOthers() {
+        KubernetesClient routing = pool.routingClient();
+        FleetTool tool = new FleetTool(routing, new ContextEchoTool(routing), "fleet_echo", "Echo");
+
+        long start = System.nanoTime();
+        CallToolResult result = call(tool, Map.of("timeoutSeconds", 1));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(result.isError()).isFalse();
+        String content = text(result);
+        assertThat(content).contains("CONTEXT: east [OK]");
+        assertThat(content).contains("context=east");
+        assertThat(content).contains("CONTEXT: west [OK]");
+        assertThat(content).contains("CONTEXT: slow [TIMED OUT]");
+        assertThat(content).contains("Timed out: 1");
+        assertThat(elapsedMillis).isLessThan(5_000);
+    }
+
+    @Test
+    void failedContextShouldBeReported() {
+        KubernetesClient routing = pool.routingClient();
+        FleetTool tool = new FleetTool(routing, new ContextEchoTool(routing), "fleet_echo", "Echo");
+
+        CallToolResult result = call(tool, Map.of("contexts", List.of("east", "west"), "fail", "west"));
+
+        String content = text(result);
+        assertThat(content).contains("CONTEXT: west [FAILED]");
+        assertThat(content).contains("Succeeded: 1/2");
+    }
+
+    @Test
+    void unknownContextShouldReturnError() {
+        KubernetesClient routing = pool.routingClient();
+        FleetTool tool = new FleetTool(routing, new ContextEchoTool(routing), "fleet_echo", "Echo");
+
+        CallToolResult result = call(tool, Map.of("contexts", List.of("north")));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("Unknown context(s): north");
+    }
+
+    @Test
+    void schemaShouldExtendDelegateSchemaWithoutContextArgument() {
+        KubernetesClient routing = pool.routingClient();
+        FleetTool tool = new FleetTool(routing, new ListKafkasTool(routing), "fleet_list_kafkas", "List Kafkas");
+
+        JsonSchema schema = tool.getSpecification().tool().inputSchema();
+
+        assertThat(schema.properties()).containsKeys("namespace", "contexts", "timeoutSeconds");
+        assertThat(schema.properties()).doesNotContainKey(AbstractStrimziTool.CONTEXT_ARG);
+    }
+
+    @Test
+    void toolsShouldAcceptContextArgumentWithMultipleContexts() {
+        createKafka(otherClient, "west-cluster");
+        ListKafkasTool tool = new ListKafkasTool(pool.routingClient());
+        var spec = tool.getSpecification();
+
+        assertThat(spec.tool().inputSchema().properties()).containsKey(AbstractStrimziTool.CONTEXT_ARG);
+        CallToolResult west = spec.callHandler().apply(null,
+                new McpSchema.CallToolRequest("list_kafkas", Map.of("context", "west")));
+        assertThat(text(west)).contains("west-cluster");
+        CallToolResult east = spec.callHandler().apply(null, new McpSchema.CallToolRequest("list_kafkas", Map.of()));
+        assertThat(text(east)).doesNotContain("west-cluster");
+        CallToolResult unknown = spec.callHandler().apply(null,
+                new McpSchema.CallToolRequest("list_kafkas", Map.of("context", "north")));
+        assertThat(unknown.isError()).isTrue();
+    }
+
+    @Test
+    void toolsShouldNotExposeContextArgumentWithoutPool() {
+        ListKafkasTool tool = new ListKafkasTool(client);
+
+        assertThat(tool.getSpecification().tool().inputSchema().properties())
+                .doesNotContainKey(AbstractStrimziTool.CONTEXT_ARG);
+    }
+
+    private static CallToolResult call(FleetTool tool, Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest("fleet", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private static void createKafka(KubernetesClient target, String name) {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata().withName(name).withNamespace("kafka").endMetadata()
+                .withNewSpec().withNewKafka().withVersion("3.9.0").endKafka().endSpec()
+                .build();
+        target.resources(Kafka.class, KafkaList.class).inNamespace("kafka").resource(kafka).create();
+    }
+
+    /**
+     * Reports the context it runs in; blocks in the "slow" context and fails in the context given by "fail".
+     */
+    private static class ContextEchoTool extends AbstractStrimziTool {
+
+        ContextEchoTool(KubernetesClient kubernetesClient) {
+            super(kubernetesClient);
+        }
+
+        @Override
+        protected String getName() {
+            return "echo";
+        }
+
+        @Override
+        protected String getDescription() {
+            return "Echo";
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return true;
+        }
+
+        @Override
+        protected JsonSchema getInputSchema() {
+            return parseSchema("{\"type\": \"object\", \"properties\": {}}");
+        }
+
+        @Override
+        protected CallToolResult execute(McpSchema.CallToolRequest args) {
+            String context = KubernetesClientPool.of(kubernetesClient).orElseThrow().currentContext();
+            if (context.equals("slow")) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (context.equals(getStringArg(args, "fail"))) {
+                return error("Failed in " + context);
+            }
+            return success("context=" + context);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.seequick.mcp.tool;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final Object client = new Object();
+
+    private RequestCoalescer.Key key(String namespace) {
+        return new RequestCoalescer.Key(client, "kafkatopics", namespace, null, null);
+    }
+
+    @Test
+    void concurrentIdenticalReadsShouldShareOneCall() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescer.execute(key("kafka"), () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "topics";
+            })));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> coalescer.execute(key("kafka"), () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // Wait until all followers joined the in-flight call
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescer.stats().coalesced() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("topics");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        RequestCoalescer.Stats stats = coalescer.stats();
+        assertThat(stats.requests()).isEqualTo(callers);
+        assertThat(stats.apiCalls()).isEqualTo(1);
+        assertThat(stats.coalesced()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void sequentialReadsWithoutCacheShouldEachCallApi() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute(key("kafka"), calls::incrementAndGet);
+        coalescer.execute(key("kafka"), calls::incrementAndGet);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(coalescer.stats().cacheHits()).isZero();
+    }
+
+    @Test
+    void differentKeysShouldNotBeShared() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+
+        String first = coalescer.execute(key("kafka"), () -> "kafka");
+        String second = coalescer.execute(key("other"), () -> "other");
+        String otherClient = coalescer.execute(new RequestCoalescer.Key(new Object(), "kafkatopics", "kafka", null, null),
+                () -> "other-client");
+
+        assertThat(first).isEqualTo("kafka");
+        assertThat(second).isEqualTo("other");
+        assertThat(otherClient).isEqualTo("other-client");
+    }
+
+    @Test
+    void cacheShouldServeRepeatedReadsWithinTtl() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        int first = coalescer.execute(key("kafka"), calls::incrementAndGet);
+        int second = coalescer.execute(key("kafka"), calls::incrementAndGet);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(coalescer.stats().cacheHits()).isEqualTo(1);
+        assertThat(coalescer.stats().cacheEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidateShouldDropNamespaceAndAllNamespaceEntries() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        coalescer.execute(key("kafka"), calls::incrementAndGet);
+        coalescer.execute(key(null), calls::incrementAndGet);
+        coalescer.execute(key("other"), calls::incrementAndGet);
+
+        coalescer.invalidate(client, "kafkatopics", "kafka");
+
+        assertThat(coalescer.stats().cacheEntries()).isEqualTo(1);
+        coalescer.execute(key("kafka"), calls::incrementAndGet);
+        coalescer.execute(key("other"), calls::incrementAndGet);
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void reportedWritesShouldDropTheListsAndTheWrittenResourceOfEveryClient() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+        Object otherClient = new Object();
+        coalescer.execute(key("kafka"), () -> "list");
+        coalescer.execute(new RequestCoalescer.Key(otherClient, "kafkatopics", "kafka", null, null), () -> "list");
+        coalescer.execute(new RequestCoalescer.Key(client, "kafkatopics", "kafka", null, "orders"), () -> "orders");
+        coalescer.execute(new RequestCoalescer.Key(client, "kafkatopics", "kafka", null, "payments"), () -> "payments");
+        coalescer.execute(new RequestCoalescer.Key(client, "kafkausers", "kafka", null, null), () -> "users");
+
+        coalescer.invalidate("kafkatopics", "kafka", "orders");
+
+        assertThat(coalescer.stats().cacheEntries()).isEqualTo(2);
+        AtomicInteger calls = new AtomicInteger();
+        coalescer.execute(new RequestCoalescer.Key(client, "kafkatopics", "kafka", null, "payments"),
+                calls::incrementAndGet);
+        coalescer.execute(new RequestCoalescer.Key(client, "kafkausers", "kafka", null, null), calls::incrementAndGet);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void disablingCacheShouldClearEntries() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+        coalescer.execute(key("kafka"), () -> "topics");
+
+        coalescer.setCacheTtl(Duration.ZERO);
+
+        assertThat(coalescer.stats().cacheEntries()).isZero();
+        assertThat(coalescer.getCacheTtl()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void failuresShouldPropagateAndNotBeCached() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> coalescer.execute(key("kafka"), () -> {
+            throw new IllegalStateException("API unavailable");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("API unavailable");
+
+        assertThat(coalescer.execute(key("kafka"), () -> "topics")).isEqualTo("topics");
+        assertThat(coalescer.stats().apiCalls()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.seequick.mcp.tool;
+
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseRendererTest {
+
+    @Test
+    void itemsWithinBudgetShouldBeRenderedWithoutFooter() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(100, 0), 0);
+
+        renderer.item(text -> text.append("- a\n"));
+        renderer.item(text -> text.append("- b\n"));
+
+        assertThat(renderer.itemCount()).isEqualTo(2);
+        assertThat(renderer.omittedCount()).isZero();
+        assertThat(renderer.render()).isEqualTo("- a\n- b\n");
+    }
+
+    @Test
+    void byteBudgetShouldOmitRemainingItemsWithoutRenderingThem() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(10, 0), 0);
+        AtomicInteger rendered = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            int item = i;
+            renderer.item(text -> {
+                rendered.incrementAndGet();
+                text.append("- ").append(item).append("\n");
+            });
+        }
+
+        // Two 4-byte items fit, the third is rendered and discarded, the rest are only counted
+        assertThat(rendered.get()).isEqualTo(2 + 1);
+        assertThat(renderer.itemCount()).isEqualTo(10);
+        assertThat(renderer.omittedCount()).isEqualTo(8);
+        assertThat(renderer.render()).isEqualTo("- 0\n- 1\n\n... 8 more item(s) omitted "
+                + "(output budget of 10 bytes reached), use cursor 2 to continue\n");
+    }
+
+    @Test
+    void lineBudgetShouldCountLinesOfEachItem() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(0, 3), 0);
+
+        renderer.item(text -> text.append("a\nb\n"));
+        renderer.item(text -> text.append("c\nd\n"));
+        renderer.item(text -> text.append("e\n"));
+
+        assertThat(renderer.omittedCount()).isEqualTo(2);
+        assertThat(renderer.render()).startsWith("a\nb\n\n... 2 more item(s) omitted (output budget of 3 lines");
+    }
+
+    @Test
+    void bytesShouldBeCountedAsUtf8() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(7, 0), 0);
+
+        renderer.item(text -> text.append("═\n"));
+        renderer.item(text -> text.append("═\n"));
+
+        // 3 + 1 bytes per item, so the second exceeds the budget of 7
+        assertThat(renderer.omittedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cursorShouldSkipItemsAndContinueAfterThem() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(10, 0), 3);
+        AtomicInteger rendered = new AtomicInteger();
+
+        for (int i = 0; i < 10; i++) {
+            int item = i;
+            renderer.item(text -> {
+                rendered.incrementAndGet();
+                text.append("- ").append(item).append("\n");
+            });
+        }
+
+        assertThat(rendered.get()).isEqualTo(3);
+        assertThat(renderer.render()).isEqualTo("(starting at cursor 3)\n- 3\n- 4\n\n... 5 more item(s) omitted "
+                + "(output budget of 10 bytes reached), use cursor 5 to continue\n");
+    }
+
+    @Test
+    void firstItemAfterCursorShouldBeRenderedEvenIfOverBudget() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(2, 0), 0);
+
+        renderer.item(text -> text.append("- a long item\n"));
+        renderer.item(text -> text.append("- b\n"));
+
+        assertThat(renderer.render()).startsWith("- a long item\n\n... 1 more item(s) omitted");
+    }
+
+    @Test
+    void cursorPastTheEndShouldBeReported() {
+        ResponseRenderer renderer = new ResponseRenderer(OutputBudget.UNLIMITED, 5);
+
+        renderer.item(text -> text.append("- a\n"));
+
+        assertThat(renderer.render()).isEqualTo("(cursor 5 is past the last of 1 items)\n");
+    }
+
+    @Test
+    void structuredFormatShouldKeepTheItemArrayValidWhenOmittingItems() {
+        ResponseRenderer renderer = new ResponseRenderer(new OutputBudget(20, 0), 0, OutputFormat.COMPACT);
+
+        for (int i = 0; i < 5; i++) {
+            int item = i;
+            renderer.item(text -> text.append("- ").append(item).append("\n"), json -> {
+                json.writeStartObject();
+                json.writeNumberField("id", item);
+                json.writeEndObject();
+            });
+        }
+
+        CallToolResult result = renderer.result(() -> "unused", json -> json.writeStringField("kind", "Test"));
+
+        // {"id":0} is 8 bytes, ,{"id":1} 9 more, ,{"id":2} would exceed 20
+        assertThat(((TextContent) result.content().get(0)).text()).isEqualTo(
+                "{\"items\":[{\"id\":0},{\"id\":1}],\"count\":5,\"omitted\":3,\"nextCursor\":2,\"kind\":\"Test\"}");
+    }
+}
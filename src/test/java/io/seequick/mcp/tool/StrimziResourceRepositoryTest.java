@@ -8,6 +8,10 @@ import io.strimzi.api.kafka.model.topic.KafkaTopicList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @EnableKubernetesMockClient(crud = true)
@@ -130,6 +134,44 @@ class StrimziResourceRepositoryTest {
         assertThat(list.getItems()).hasSize(3);
     }
 
+    @Test
+    void forEachShouldStreamMatchingResources() {
+        createTopic("topic-1", "kafka", "cluster-a");
+        createTopic("topic-2", "kafka", "cluster-b");
+        createTopic("topic-3", "other-ns", "cluster-a");
+
+        List<String> inNamespace = new ArrayList<>();
+        repository.forEach("kafka", null, topic -> inNamespace.add(topic.getMetadata().getName()));
+        List<String> inCluster = new ArrayList<>();
+        repository.forEach(null, "cluster-a", topic -> inCluster.add(topic.getMetadata().getName()));
+
+        assertThat(inNamespace).containsExactlyInAnyOrder("topic-1", "topic-2");
+        assertThat(inCluster).containsExactlyInAnyOrder("topic-1", "topic-3");
+    }
+
+    @Test
+    void forEachShouldUseCachedListWhenCacheIsEnabled() {
+        var cached = new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class,
+                new RequestCoalescer(Duration.ofMinutes(1)));
+        assertThat(cached.list("kafka", null).getItems()).isEmpty();
+        createTopic("topic-1", "kafka", "cluster-a");
+
+        List<KafkaTopic> topics = new ArrayList<>();
+        cached.forEach("kafka", null, topics::add);
+
+        assertThat(topics).isEmpty();
+    }
+
+    @Test
+    void getResourceVersionShouldReturnTheVersionOfTheResource() {
+        createTopic("versioned", "kafka", "my-cluster");
+        String version = client.resources(KafkaTopic.class).inNamespace("kafka").withName("versioned").get()
+                .getMetadata().getResourceVersion();
+
+        assertThat(repository.getResourceVersion("kafka", "versioned")).isNotNull().isEqualTo(version);
+        assertThat(repository.getResourceVersion("kafka", "missing")).isNull();
+    }
+
     @Test
     void deleteShouldRemoveResource() {
         createTopic("to-delete", "kafka", "my-cluster");
@@ -140,6 +182,21 @@ class StrimziResourceRepositoryTest {
         assertThat(repository.exists("kafka", "to-delete")).isFalse();
     }
 
+    @Test
+    void writesShouldInvalidateCachedReads() {
+        var cached = new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class,
+                new RequestCoalescer(Duration.ofMinutes(1)));
+        assertThat(cached.list("kafka", null).getItems()).isEmpty();
+        assertThat(cached.list(null, null).getItems()).isEmpty();
+
+        createTopic("new-topic", "kafka", "my-cluster");
+        assertThat(cached.list("kafka", null).getItems()).isEmpty();
+
+        cached.delete("kafka", "missing");
+        assertThat(cached.list("kafka", null).getItems()).hasSize(1);
+        assertThat(cached.list(null, null).getItems()).hasSize(1);
+    }
+
     private void createTopic(String name, String namespace, String clusterLabel) {
         KafkaTopic topic = new KafkaTopicBuilder()
                 .withNewMetadata()
@@ -0,0 +1,131 @@
+package io.seequick.mcp.tool;
+
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolResultCacheTest {
+
+    private static final Object CLIENT = new Object();
+    private static final ToolResultCache.Resource ORDERS =
+            new ToolResultCache.Resource(StrimziKind.KAFKA_TOPIC, "kafka", "orders");
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void callAtTheSameVersionShouldReturnTheKeptResult() {
+        ToolResultCache cache = new ToolResultCache(8);
+
+        CallToolResult first = describe(cache, "{name=orders}", ORDERS, "1");
+        CallToolResult second = describe(cache, "{name=orders}", ORDERS, "1");
+
+        assertThat(second).isSameAs(first);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(cache.stats()).isEqualTo(new ToolResultCache.Stats(8, 1, 2, 1, 0, 0, 0));
+    }
+
+    @Test
+    void changedVersionShouldExecuteTheToolAgain() {
+        ToolResultCache cache = new ToolResultCache(8);
+
+        describe(cache, "{name=orders}", ORDERS, "1");
+        CallToolResult changed = describe(cache, "{name=orders}", ORDERS, "2");
+
+        assertThat(text(changed)).isEqualTo("result 2");
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(cache.stats().changed()).isEqualTo(1);
+        assertThat(describe(cache, "{name=orders}", ORDERS, "2")).isSameAs(changed);
+    }
+
+    @Test
+    void argumentsAndClientsShouldHaveEntriesOfTheirOwn() {
+        ToolResultCache cache = new ToolResultCache(8);
+
+        describe(cache, "{format=text, name=orders}", ORDERS, "1");
+        describe(cache, "{format=json, name=orders}", ORDERS, "1");
+        cache.call(new Object(), "describe_topic", "{format=text, name=orders}", ORDERS, () -> "1", this::execute);
+
+        assertThat(executions.get()).isEqualTo(3);
+        assertThat(cache.stats().entries()).isEqualTo(3);
+    }
+
+    @Test
+    void errorsAndMissingResourcesShouldNotBeKept() {
+        ToolResultCache cache = new ToolResultCache(8);
+
+        cache.call(CLIENT, "describe_topic", "{}", ORDERS, () -> "1",
+                () -> new CallToolResult(List.of(new TextContent("failed")), true));
+        describe(cache, "{}", ORDERS, null);
+
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void writesShouldDropTheEntriesOfTheWrittenResources() {
+        ToolResultCache cache = new ToolResultCache(8);
+        describe(cache, "{name=orders}", ORDERS, "1");
+        describe(cache, "{name=payments}", new ToolResultCache.Resource(StrimziKind.KAFKA_TOPIC, "kafka", "payments"), "1");
+        describe(cache, "{user=orders}", new ToolResultCache.Resource(StrimziKind.KAFKA_USER, "kafka", "orders"), "1");
+
+        cache.invalidate("kafkatopics", "kafka", "orders");
+        assertThat(cache.stats().entries()).isEqualTo(2);
+
+        cache.invalidate("kafkatopics", "kafka", null);
+        assertThat(cache.stats().entries()).isEqualTo(1);
+        assertThat(cache.stats().invalidated()).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesShouldBeEvicted() {
+        ToolResultCache cache = new ToolResultCache(2);
+        describe(cache, "a", ORDERS, "1");
+        describe(cache, "b", ORDERS, "1");
+        describe(cache, "a", ORDERS, "1");
+
+        describe(cache, "c", ORDERS, "1");
+
+        assertThat(cache.stats().evicted()).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(3);
+        describe(cache, "a", ORDERS, "1");
+        assertThat(executions.get()).isEqualTo(3);
+        describe(cache, "b", ORDERS, "1");
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    @Test
+    void disabledCacheShouldNotLookUpVersions() {
+        ToolResultCache cache = new ToolResultCache(0);
+        AtomicReference<String> lookedUp = new AtomicReference<>();
+
+        cache.call(CLIENT, "describe_topic", "{}", ORDERS, () -> {
+            lookedUp.set("looked up");
+            return "1";
+        }, this::execute);
+
+        assertThat(lookedUp.get()).isNull();
+        assertThat(cache.stats().lookups()).isZero();
+    }
+
+    private CallToolResult describe(ToolResultCache cache, String arguments, ToolResultCache.Resource resource,
+                                    String version) {
+        return cache.call(CLIENT, "describe_topic", arguments, resource, () -> version, () -> {
+            executions.incrementAndGet();
+            return new CallToolResult(List.of(new TextContent("result " + version)), false);
+        });
+    }
+
+    private CallToolResult execute() {
+        executions.incrementAndGet();
+        return new CallToolResult(List.of(new TextContent("result")), false);
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+}
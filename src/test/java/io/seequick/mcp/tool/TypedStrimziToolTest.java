@@ -0,0 +1,213 @@
+package io.seequick.mcp.tool;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.args.Arg;
+import io.seequick.mcp.tool.args.ArgumentBinder;
+import io.seequick.mcp.tool.args.ToolArguments;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class TypedStrimziToolTest {
+
+    @ToolArguments
+    record Arguments(
+            @Arg(value = "Resource name", required = true) String name,
+            @Arg(value = "Number of lines", defaultValue = "100") int lines,
+            @Arg("Optional limit") Integer limit,
+            @Arg(value = "Only warnings", defaultValue = "false") boolean warnings,
+            @Arg(value = "Resource kind", allowed = {"Kafka", "KafkaTopic"}) String kind,
+            @Arg("Broker IDs") List<Integer> brokers,
+            @Arg("Configuration") Map<String, Object> config,
+            @Arg("Entries") List<Map<String, Object>> entries) {
+    }
+
+    @Mock
+    private KubernetesClient kubernetesClient;
+
+    private final AtomicInteger binds = new AtomicInteger();
+
+    private TestTool tool;
+    private int maxCachedResults;
+
+    @BeforeEach
+    void setUp() {
+        tool = new TestTool(kubernetesClient, binds);
+        // Looking up the version of the cached resource would need an API server
+        maxCachedResults = ToolResultCache.shared().getMaxEntries();
+        ToolResultCache.shared().setMaxEntries(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ToolResultCache.shared().setMaxEntries(maxCachedResults);
+    }
+
+    @Test
+    void schemaShouldBeGeneratedFromTheRecord() {
+        JsonSchema schema = tool.getSpecification().tool().inputSchema();
+
+        assertThat(schema.type()).isEqualTo("object");
+        assertThat(schema.properties()).containsOnlyKeys("name", "lines", "limit", "warnings", "kind", "brokers",
+                "config", "entries");
+        assertThat(schema.required()).containsExactly("name");
+        assertThat(schema.properties().get("lines")).isEqualTo(Map.of(
+                "type", "integer", "default", 100, "description", "Number of lines"));
+        assertThat(schema.properties().get("kind")).isEqualTo(Map.of(
+                "type", "string", "enum", List.of("Kafka", "KafkaTopic"), "description", "Resource kind"));
+        assertThat(schema.properties().get("brokers")).isEqualTo(Map.of(
+                "type", "array", "items", Map.of("type", "integer"), "description", "Broker IDs"));
+        assertThat(schema.properties().get("entries")).isEqualTo(Map.of(
+                "type", "array", "items", Map.of("type", "object"), "description", "Entries"));
+    }
+
+    @Test
+    void executeShouldBindArgumentsAndDefaults() {
+        Map<String, Object> args = new HashMap<>();
+        args.put("name", "my-cluster");
+        args.put("limit", 3.0);
+        args.put("kind", "kafkatopic");
+        args.put("brokers", List.of(1, 2L));
+        args.put("entries", List.of(Map.of("tool", "describe_topic")));
+        args.put("unknown", "ignored");
+
+        CallToolResult result = call(args);
+
+        assertThat(result.isError()).isFalse();
+        assertThat(tool.arguments).isEqualTo(new Arguments("my-cluster", 100, 3, false, "KafkaTopic",
+                List.of(1, 2), null, List.of(Map.of("tool", "describe_topic"))));
+        assertThat(tool.request.arguments()).containsEntry("unknown", "ignored");
+    }
+
+    @Test
+    void executeShouldRejectMissingRequiredArgument() {
+        CallToolResult result = call(Map.of("lines", 5));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo("Missing required argument: name");
+        assertThat(tool.arguments).isNull();
+    }
+
+    @Test
+    void executeShouldRejectWrongType() {
+        CallToolResult result = call(Map.of("name", "my-cluster", "warnings", "yes"));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo("Invalid argument warnings: expected a boolean, got \"yes\"");
+        assertThat(tool.arguments).isNull();
+    }
+
+    @Test
+    void executeShouldRejectFractionalInteger() {
+        CallToolResult result = call(Map.of("name", "my-cluster", "lines", 1.5));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo("Invalid argument lines: expected an integer, got 1.5");
+    }
+
+    @Test
+    void executeShouldRejectAnArrayWithItemsThatAreNotObjects() {
+        CallToolResult result = call(Map.of("name", "my-cluster", "entries", List.of("describe_topic")));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo(
+                "Invalid argument entries: expected an array of objects, got [describe_topic]");
+    }
+
+    @Test
+    void executeShouldRejectValueNotAllowed() {
+        CallToolResult result = call(Map.of("name", "my-cluster", "kind", "Pod"));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).isEqualTo("Invalid argument kind: Pod is not one of Kafka, KafkaTopic");
+    }
+
+    @Test
+    void callShouldBindTheArgumentsOnceForTheCacheAndTheExecution() {
+        CallToolResult result = call(Map.of("name", "my-topic"));
+
+        assertThat(result.isError()).isFalse();
+        assertThat(binds).hasValue(1);
+        assertThat(tool.cached).isSameAs(tool.arguments);
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest("test_tool", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private static class TestTool extends TypedStrimziTool<Arguments> {
+
+        private Arguments arguments;
+        private Arguments cached;
+        private McpSchema.CallToolRequest request;
+
+        TestTool(KubernetesClient kubernetesClient, AtomicInteger binds) {
+            super(kubernetesClient, new ArgumentBinder<>() {
+                @Override
+                public JsonSchema schema() {
+                    return TypedStrimziToolTestArgumentsBinder.INSTANCE.schema();
+                }
+
+                @Override
+                public Arguments bind(Map<String, Object> arguments) {
+                    binds.incrementAndGet();
+                    return TypedStrimziToolTestArgumentsBinder.INSTANCE.bind(arguments);
+                }
+            });
+        }
+
+        @Override
+        protected String getName() {
+            return "test_tool";
+        }
+
+        @Override
+        protected String getDescription() {
+            return "Test tool for unit testing";
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return true;
+        }
+
+        @Override
+        protected ToolResultCache.Resource cachedResource(Arguments args) {
+            this.cached = args;
+            return new ToolResultCache.Resource(StrimziKind.KAFKA_TOPIC, "kafka", args.name());
+        }
+
+        @Override
+        protected CallToolResult execute(McpSyncServerExchange exchange, McpSchema.CallToolRequest request,
+                                         Arguments args) {
+            this.request = request;
+            return super.execute(exchange, request, args);
+        }
+
+        @Override
+        protected CallToolResult execute(Arguments args) {
+            this.arguments = args;
+            return success("Test executed");
+        }
+    }
+}
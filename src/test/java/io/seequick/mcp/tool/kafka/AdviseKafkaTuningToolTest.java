@@ -0,0 +1,205 @@
+package io.seequick.mcp.tool.kafka;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.common.JvmOptions;
+import io.strimzi.api.kafka.model.common.JvmOptionsBuilder;
+import io.strimzi.api.kafka.model.kafka.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.Storage;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class AdviseKafkaTuningToolTest {
+
+    KubernetesClient client;
+
+    private AdviseKafkaTuningTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new AdviseKafkaTuningTool(client);
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        assertThat(tool.getSpecification().tool().name()).isEqualTo("advise_kafka_tuning");
+    }
+
+    @Test
+    void executeShouldReturnErrorWhenKafkaNotFound() {
+        CallToolResult result = call(Map.of("name", "missing", "namespace", "kafka"));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("Kafka cluster not found: kafka/missing");
+    }
+
+    @Test
+    void executeShouldReturnErrorWhenTheClusterHasNoNodePools() {
+        createKafka(Map.of());
+
+        CallToolResult result = call(Map.of("name", "my-cluster", "namespace", "kafka"));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("No KafkaNodePools found for Kafka cluster kafka/my-cluster");
+    }
+
+    @Test
+    void executeShouldRankFindingsWithSuggestedValues() {
+        createKafka(Map.of("num.io.threads", 64, "socket.send.buffer.bytes", 8192));
+        createNodePool("dual", 3, List.of(ProcessRoles.CONTROLLER, ProcessRoles.BROKER),
+                resources("2", null, "4Gi", "4Gi"), jvmOptions("4g"),
+                new JbodStorageBuilder().withVolumes(
+                        new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build(),
+                        new PersistentClaimStorageBuilder().withId(1).withSize("50Gi").build()).build());
+
+        CallToolResult result = call(Map.of("name", "my-cluster", "namespace", "kafka"));
+
+        assertThat(result.isError()).isFalse();
+        String content = text(result);
+        assertThat(content)
+                .contains("Tuning advice for Kafka kafka/my-cluster: 1 node pool(s), 3 broker(s), 3 controller(s); "
+                        + "6 finding(s) (1 critical, 3 warning, 2 info)")
+                .contains("- dual: 3 x [broker,controller], cpu 2 (limit none), memory 4Gi (limit 4Gi), -Xmx 4g, "
+                        + "storage jbod [100Gi, 50Gi]")
+                .contains("- [CRITICAL] pool dual: jvmOptions.-Xmx - -Xmx 4g is 100% of the 4Gi memory limit")
+                .contains("Suggested: -Xms: 2g, -Xmx: 2g")
+                .contains("[WARNING] pool dual: num.io.threads - num.io.threads=64 for 2 CPU(s)")
+                .contains("Suggested: num.io.threads: 4 (about 2 per CPU)")
+                .contains("[WARNING] cluster: socket.send.buffer.bytes")
+                .contains("Suggested: size: 100Gi on all 2 volumes")
+                .contains("[INFO] pool dual: resources.limits.cpu")
+                .contains("[INFO] pool dual: roles")
+                .doesNotContain("num.network.threads -")
+                .doesNotContain("num.replica.fetchers -");
+        assertThat(content.indexOf("[CRITICAL]")).isLessThan(content.indexOf("[WARNING]"));
+        assertThat(content.indexOf("[WARNING]")).isLessThan(content.indexOf("[INFO]"));
+    }
+
+    @Test
+    void executeShouldReportNothingForAWellSizedCluster() {
+        createKafka(Map.of());
+        createNodePool("controllers", 3, List.of(ProcessRoles.CONTROLLER), resources("1", "1", "2Gi", "2Gi"),
+                jvmOptions("1g"), null);
+        createNodePool("brokers", 3, List.of(ProcessRoles.BROKER), resources("4", "4", "8Gi", "8Gi"),
+                jvmOptions("4g"), null);
+
+        assertThat(text(call(Map.of("name", "my-cluster", "namespace", "kafka"))))
+                .contains("2 node pool(s), 3 broker(s), 3 controller(s); 0 finding(s)")
+                .doesNotContain("FINDINGS");
+
+        CallToolResult result = call(Map.of("name", "my-cluster", "namespace", "kafka", "format", "json"));
+
+        assertThat(result.isError()).isFalse();
+        Map<?, ?> content = (Map<?, ?>) result.structuredContent();
+        assertThat((List<?>) content.get("items")).isEmpty();
+        List<?> pools = (List<?>) content.get("pools");
+        assertThat(pools).hasSize(2);
+        assertThat(((Map<?, ?>) pools.get(0)).get("name")).isEqualTo("brokers");
+        assertThat(((Map<?, ?>) pools.get(0)).get("memoryLimit")).isEqualTo("8Gi");
+    }
+
+    @Test
+    void executeShouldFlagAnEvenNumberOfControllers() {
+        createKafka(Map.of());
+        createNodePool("controllers", 2, List.of(ProcessRoles.CONTROLLER), resources("1", "1", "2Gi", "2Gi"),
+                jvmOptions("1g"), null);
+        createNodePool("brokers", 3, List.of(ProcessRoles.BROKER), resources("4", "4", "8Gi", "8Gi"),
+                jvmOptions("4g"), null);
+
+        String content = text(call(Map.of("name", "my-cluster", "namespace", "kafka")));
+
+        assertThat(content).contains("[WARNING] cluster: controllers - 2 KRaft controllers")
+                .contains("Suggested: 1 or 3 controller replicas");
+    }
+
+    @Test
+    void executeShouldSuggestAMemoryLimitWhenNoneIsSet() {
+        createKafka(Map.of());
+        createNodePool("brokers", 3, List.of(ProcessRoles.CONTROLLER, ProcessRoles.BROKER), null, null, null);
+
+        String content = text(call(Map.of("name", "my-cluster", "namespace", "kafka")));
+
+        assertThat(content).contains("[WARNING] pool brokers: resources.requests.cpu")
+                .contains("Suggested: requests.cpu: \"2\"")
+                .contains("[WARNING] pool brokers: resources.limits.memory")
+                .contains("Suggested: limits.memory: 8Gi");
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null,
+                new McpSchema.CallToolRequest("advise_kafka_tuning", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private static ResourceRequirements resources(String cpuRequest, String cpuLimit, String memoryRequest,
+                                                  String memoryLimit) {
+        ResourceRequirementsBuilder builder = new ResourceRequirementsBuilder()
+                .addToRequests("cpu", new Quantity(cpuRequest))
+                .addToRequests("memory", new Quantity(memoryRequest))
+                .addToLimits("memory", new Quantity(memoryLimit));
+        if (cpuLimit != null) {
+            builder.addToLimits("cpu", new Quantity(cpuLimit));
+        }
+        return builder.build();
+    }
+
+    private static JvmOptions jvmOptions(String heap) {
+        return new JvmOptionsBuilder().withXms(heap).withXmx(heap).build();
+    }
+
+    private void createKafka(Map<String, Object> config) {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster")
+                    .withNamespace("kafka")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withConfig(config)
+                    .endKafka()
+                .endSpec()
+                .build();
+        client.resources(Kafka.class).inNamespace("kafka").resource(kafka).create();
+    }
+
+    private void createNodePool(String name, int replicas, List<ProcessRoles> roles, ResourceRequirements resources,
+                                JvmOptions jvmOptions, Storage storage) {
+        KafkaNodePool pool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(replicas)
+                    .withRoles(roles)
+                    .withResources(resources)
+                    .withJvmOptions(jvmOptions)
+                    .withStorage(storage)
+                .endSpec()
+                .build();
+        client.resources(KafkaNodePool.class).inNamespace("kafka").resource(pool).create();
+    }
+}
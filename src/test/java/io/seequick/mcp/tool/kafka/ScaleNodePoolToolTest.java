@@ -0,0 +1,75 @@
+package io.seequick.mcp.tool.kafka;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class ScaleNodePoolToolTest {
+
+    KubernetesClient client;
+
+    private ScaleNodePoolTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new ScaleNodePoolTool(client);
+        KafkaNodePool pool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName("brokers")
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(3)
+                    .withRoles(ProcessRoles.BROKER)
+                .endSpec()
+                .build();
+        client.resources(KafkaNodePool.class).inNamespace("kafka").resource(pool).create();
+    }
+
+    @Test
+    void executeShouldScaleTheNodePool() {
+        CallToolResult result = call(Map.of("name", "brokers", "namespace", "kafka", "replicas", 5));
+
+        assertThat(result.isError()).isFalse();
+        assertThat(text(result)).contains("New replicas: 5");
+        assertThat(replicas()).isEqualTo(5);
+    }
+
+    @Test
+    void executeShouldRejectAnInvalidTimeoutBeforeScaling() {
+        CallToolResult result = call(Map.of("name", "brokers", "namespace", "kafka", "replicas", 5,
+                "track", true, "timeoutSeconds", 0));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("timeoutSeconds must be between 1 and 7200");
+        assertThat(replicas()).isEqualTo(3);
+    }
+
+    private int replicas() {
+        return client.resources(KafkaNodePool.class).inNamespace("kafka").withName("brokers").get()
+                .getSpec().getReplicas();
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null,
+                new McpSchema.CallToolRequest("scale_node_pool", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+}
@@ -0,0 +1,94 @@
+package io.seequick.mcp.tool.progress;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class NodePoolScaleTrackerTest {
+
+    KubernetesClient client;
+
+    @Test
+    void trackShouldCompleteWhenPodSetReachesTargetReplicas() throws Exception {
+        createPodSet("my-cluster-brokers", 3, 3);
+        NodePoolScaleTracker tracker = new NodePoolScaleTracker(client, "kafka", "my-cluster-brokers", 3, 4);
+
+        CompletableFuture<TrackingResult> future = CompletableFuture.supplyAsync(
+                () -> tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(30)));
+
+        Thread.sleep(300);
+        updatePodSetStatus("my-cluster-brokers", 4, 3);
+        Thread.sleep(300);
+        updatePodSetStatus("my-cluster-brokers", 4, 4);
+
+        TrackingResult result = future.get(30, TimeUnit.SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.timeline()).first().asString().contains("3/4 pods, 3 ready");
+        assertThat(result.timeline()).last().asString().contains("4/4 pods, 4 ready");
+        assertThat(result.last().done()).isEqualTo(1.0);
+        assertThat(result.format()).contains("Operation completed");
+    }
+
+    @Test
+    void trackShouldTimeOutWhenScalingDoesNotFinish() {
+        createPodSet("my-cluster-brokers", 3, 3);
+        NodePoolScaleTracker tracker = new NodePoolScaleTracker(client, "kafka", "my-cluster-brokers", 3, 2);
+
+        TrackingResult result = tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(1));
+
+        assertThat(result.timedOut()).isTrue();
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.format()).contains("Timed out");
+    }
+
+    @Test
+    void trackShouldWaitForMissingPodSet() {
+        NodePoolScaleTracker tracker = new NodePoolScaleTracker(client, "kafka", "my-cluster-new", 0, 3);
+
+        TrackingResult result = tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(1));
+
+        assertThat(result.timedOut()).isTrue();
+        assertThat(result.timeline()).containsExactly("Waiting for StrimziPodSet kafka/my-cluster-new");
+    }
+
+    private void createPodSet(String name, int pods, int readyPods) {
+        StrimziPodSet podSet = new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("kafka")
+                .endMetadata()
+                .withNewSpec()
+                    .withPods(List.of())
+                .endSpec()
+                .withNewStatus()
+                    .withPods(pods)
+                    .withReadyPods(readyPods)
+                    .withCurrentPods(pods)
+                .endStatus()
+                .build();
+        client.resources(StrimziPodSet.class, StrimziPodSetList.class).inNamespace("kafka").resource(podSet).create();
+    }
+
+    private void updatePodSetStatus(String name, int pods, int readyPods) {
+        client.resources(StrimziPodSet.class, StrimziPodSetList.class)
+                .inNamespace("kafka")
+                .withName(name)
+                .editStatus(ps -> {
+                    ps.getStatus().setPods(pods);
+                    ps.getStatus().setReadyPods(readyPods);
+                    return ps;
+                });
+    }
+}
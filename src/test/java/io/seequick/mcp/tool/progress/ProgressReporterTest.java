@@ -0,0 +1,87 @@
+package io.seequick.mcp.tool.progress;
+
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.ProgressNotification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressReporterTest {
+
+    @Mock
+    private McpSyncServerExchange exchange;
+
+    @Test
+    void reportShouldSendNotificationWithProgressToken() {
+        ProgressReporter reporter = ProgressReporter.of(exchange, requestWithToken("token-1"));
+
+        reporter.report(1, 3.0, "Pods rolled 1/3");
+
+        ArgumentCaptor<ProgressNotification> captor = ArgumentCaptor.forClass(ProgressNotification.class);
+        verify(exchange).progressNotification(captor.capture());
+        assertThat(captor.getValue().progressToken()).isEqualTo("token-1");
+        assertThat(captor.getValue().progress()).isEqualTo(1.0);
+        assertThat(captor.getValue().total()).isEqualTo(3.0);
+        assertThat(captor.getValue().message()).isEqualTo("Pods rolled 1/3");
+    }
+
+    @Test
+    void reportShouldNeverDecreaseProgress() {
+        ProgressReporter reporter = ProgressReporter.of(exchange, requestWithToken("token-1"));
+
+        reporter.report(2, 3.0, "two");
+        reporter.report(1, 3.0, "one");
+
+        ArgumentCaptor<ProgressNotification> captor = ArgumentCaptor.forClass(ProgressNotification.class);
+        verify(exchange, times(2)).progressNotification(captor.capture());
+        assertThat(captor.getAllValues().get(1).progress()).isEqualTo(2.0);
+        assertThat(captor.getAllValues().get(1).message()).isEqualTo("one");
+    }
+
+    @Test
+    void reportShouldBeNoOpWithoutProgressToken() {
+        ProgressReporter reporter = ProgressReporter.of(exchange,
+                new McpSchema.CallToolRequest("restart_kafka_broker", Map.of()));
+
+        reporter.report(1, 3.0, "Pods rolled 1/3");
+
+        assertThat(reporter.isEnabled()).isFalse();
+        verifyNoInteractions(exchange);
+    }
+
+    @Test
+    void reportShouldBeNoOpWithoutExchange() {
+        ProgressReporter reporter = ProgressReporter.of(null, requestWithToken("token-1"));
+
+        reporter.report(1, 3.0, "Pods rolled 1/3");
+
+        assertThat(reporter.isEnabled()).isFalse();
+    }
+
+    @Test
+    void reportShouldIgnoreNotificationFailures() {
+        doThrow(new RuntimeException("closed")).when(exchange).progressNotification(any());
+        ProgressReporter reporter = ProgressReporter.of(exchange, requestWithToken("token-1"));
+
+        reporter.report(1, 3.0, "Pods rolled 1/3");
+
+        verify(exchange).progressNotification(any());
+    }
+
+    private McpSchema.CallToolRequest requestWithToken(String token) {
+        return new McpSchema.CallToolRequest("restart_kafka_broker", Map.of(), Map.of("progressToken", token));
+    }
+}
@@ -0,0 +1,141 @@
+package io.seequick.mcp.tool.progress;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.common.ConditionBuilder;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceBuilder;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceProgressBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class RebalanceTrackerTest {
+
+    KubernetesClient client;
+
+    @Test
+    void trackShouldReportProgressUntilRebalanceIsReady() throws Exception {
+        createRebalance("ProposalReady");
+        createProgress("40");
+
+        RebalanceTracker tracker = new RebalanceTracker(client, "kafka", "my-rebalance");
+        CompletableFuture<TrackingResult> future = CompletableFuture.supplyAsync(
+                () -> tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(30)));
+
+        Thread.sleep(300);
+        updateState("Rebalancing", true);
+        Thread.sleep(300);
+        updateState("Ready", false);
+
+        TrackingResult result = future.get(30, TimeUnit.SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.timeline()).anySatisfy(entry -> assertThat(entry)
+                .contains("40% of data moved")
+                .contains("20/50 partition movements finished")
+                .contains("~12 min remaining"));
+        assertThat(result.last().message()).contains("rebalance completed");
+    }
+
+    @Test
+    void trackShouldFailWhenRebalanceBecomesNotReady() throws Exception {
+        createRebalance("ProposalReady");
+
+        RebalanceTracker tracker = new RebalanceTracker(client, "kafka", "my-rebalance");
+        CompletableFuture<TrackingResult> future = CompletableFuture.supplyAsync(
+                () -> tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(30)));
+
+        Thread.sleep(300);
+        updateState("NotReady", false);
+
+        TrackingResult result = future.get(30, TimeUnit.SECONDS);
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.timedOut()).isFalse();
+        assertThat(result.last().message()).contains("NotReady");
+        assertThat(result.format()).contains("Operation failed");
+    }
+
+    @Test
+    void evaluateShouldReadTheProgressConfigMapOnlyWhenTheRebalanceChanged() {
+        createRebalance("ProposalReady");
+        createProgress("40");
+        updateState("Rebalancing", true);
+        RebalanceTracker tracker = new RebalanceTracker(client, "kafka", "my-rebalance");
+
+        assertThat(tracker.evaluate(List.of(rebalance())).message()).contains("40% of data moved");
+        createProgress("60");
+        // Refreshes without a change of the KafkaRebalance reuse the progress read last
+        assertThat(tracker.evaluate(List.of(rebalance())).message()).contains("40% of data moved");
+
+        client.resources(KafkaRebalance.class, KafkaRebalanceList.class).inNamespace("kafka").withName("my-rebalance")
+                .edit(r -> new KafkaRebalanceBuilder(r).editMetadata().addToAnnotations("touched", "true").endMetadata()
+                        .build());
+        assertThat(tracker.evaluate(List.of(rebalance())).message()).contains("60% of data moved");
+    }
+
+    @Test
+    void trackShouldFailWhenRebalanceIsMissing() {
+        RebalanceTracker tracker = new RebalanceTracker(client, "kafka", "missing");
+
+        TrackingResult result = tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(5));
+
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.last().message()).contains("was deleted");
+    }
+
+    private void createRebalance(String state) {
+        KafkaRebalance rebalance = new KafkaRebalanceBuilder()
+                .withNewMetadata()
+                    .withName("my-rebalance")
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                .endSpec()
+                .withNewStatus()
+                    .withConditions(new ConditionBuilder().withType(state).withStatus("True").build())
+                .endStatus()
+                .build();
+        client.resources(KafkaRebalance.class, KafkaRebalanceList.class).inNamespace("kafka").resource(rebalance).create();
+    }
+
+    private void createProgress(String completedPercentage) {
+        client.configMaps().inNamespace("kafka").resource(new ConfigMapBuilder()
+                .withNewMetadata().withName("my-rebalance-progress").withNamespace("kafka").endMetadata()
+                .addToData("completedByteMovementPercentage", completedPercentage)
+                .addToData("estimatedTimeToCompletionInMinutes", "12")
+                .addToData("executorState.json", "{\"numFinishedPartitionMovements\":20,\"numTotalPartitionMovements\":50}")
+                .build()).createOr(NonDeletingOperation::update);
+    }
+
+    private KafkaRebalance rebalance() {
+        return client.resources(KafkaRebalance.class, KafkaRebalanceList.class).inNamespace("kafka")
+                .withName("my-rebalance").get();
+    }
+
+    private void updateState(String state, boolean withProgress) {
+        client.resources(KafkaRebalance.class, KafkaRebalanceList.class)
+                .inNamespace("kafka")
+                .withName("my-rebalance")
+                .editStatus(r -> {
+                    r.getStatus().setConditions(List.of(new ConditionBuilder().withType(state).withStatus("True").build()));
+                    if (withProgress) {
+                        r.getStatus().setProgress(new KafkaRebalanceProgressBuilder()
+                                .withRebalanceProgressConfigMap("my-rebalance-progress").build());
+                    }
+                    return r;
+                });
+    }
+}
@@ -0,0 +1,97 @@
+package io.seequick.mcp.tool.progress;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.seequick.mcp.tool.StrimziLabels;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class RollingRestartTrackerTest {
+
+    private static final Map<String, String> LABELS = Map.of(
+            StrimziLabels.CLUSTER, "my-cluster",
+            StrimziLabels.POOL_NAME, "brokers");
+
+    KubernetesClient client;
+
+    @Test
+    void trackShouldCompleteWhenAllPodsWereReplaced() throws Exception {
+        createPod("my-cluster-brokers-0", "uid-0");
+        createPod("my-cluster-brokers-1", "uid-1");
+        RollingRestartTracker tracker = RollingRestartTracker.forPods(client, "kafka", LABELS);
+
+        CompletableFuture<TrackingResult> future = CompletableFuture.supplyAsync(
+                () -> tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(30)));
+
+        Thread.sleep(300);
+        replacePod("my-cluster-brokers-0", "uid-0-new");
+        Thread.sleep(300);
+        replacePod("my-cluster-brokers-1", "uid-1-new");
+
+        TrackingResult result = future.get(30, TimeUnit.SECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.timeline()).first().asString()
+                .isEqualTo("Pods rolled 0/2 (waiting for my-cluster-brokers-0, my-cluster-brokers-1)");
+        assertThat(result.timeline()).last().asString().isEqualTo("Pods rolled 2/2");
+    }
+
+    @Test
+    void trackShouldTimeOutWhenPodsAreNotRolled() {
+        createPod("my-cluster-brokers-0", "uid-0");
+        RollingRestartTracker tracker = RollingRestartTracker.forPod(client, "kafka", "my-cluster-brokers-0");
+
+        TrackingResult result = tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(1));
+
+        assertThat(result.timedOut()).isTrue();
+        assertThat(result.last().message()).isEqualTo("Pods rolled 0/1 (waiting for my-cluster-brokers-0)");
+    }
+
+    @Test
+    void trackShouldCompleteImmediatelyWithoutPods() {
+        RollingRestartTracker tracker = RollingRestartTracker.forPods(client, "kafka", LABELS);
+
+        TrackingResult result = tracker.track(new ProgressReporter(null, null), Duration.ofSeconds(5));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.last().message()).isEqualTo("Pods rolled 0/0");
+    }
+
+    private void createPod(String name, String uid) {
+        client.pods().inNamespace("kafka").resource(pod(name, uid)).create();
+    }
+
+    private void replacePod(String name, String uid) {
+        client.pods().inNamespace("kafka").withName(name).delete();
+        client.pods().inNamespace("kafka").withName(name)
+                .waitUntilCondition(p -> p == null, 5, TimeUnit.SECONDS);
+        createPod(name, uid);
+    }
+
+    private Pod pod(String name, String uid) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("kafka")
+                    .withUid(uid)
+                    .withLabels(LABELS)
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+}
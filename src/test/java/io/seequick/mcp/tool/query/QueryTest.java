@@ -0,0 +1,146 @@
+package io.seequick.mcp.tool.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.seequick.mcp.tool.args.InvalidArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final JsonNode TOPIC = tree("""
+            {
+                "metadata": {"name": "orders", "namespace": "kafka", "labels": {"strimzi.io/cluster": "my-cluster"}},
+                "spec": {"partitions": 60, "replicas": 3, "config": {"retention.ms": 3600000, "cleanup.policy": "delete"}},
+                "status": {"conditions": [{"type": "Ready", "status": "True"}], "topicName": "orders"}
+            }
+            """);
+
+    private static final JsonNode USER = tree("""
+            {
+                "metadata": {"name": "app", "namespace": "kafka"},
+                "spec": {"authentication": {"type": "tls"}, "authorization": {"acls": []}}
+            }
+            """);
+
+    @Test
+    void compareShouldUseNumbersWithUnits() {
+        assertThat(matches("spec.partitions > 50", TOPIC)).isTrue();
+        assertThat(matches("spec.partitions >= 61", TOPIC)).isFalse();
+        assertThat(matches("spec.config.\"retention.ms\" < 1d", TOPIC)).isTrue();
+        assertThat(matches("spec.config.'retention.ms' == 1h", TOPIC)).isTrue();
+        assertThat(matches("spec.config.\"retention.ms\" > 2h", TOPIC)).isFalse();
+    }
+
+    @Test
+    void compareShouldParseKubernetesQuantities() {
+        JsonNode pod = tree("""
+                {"spec": {"resources": {"requests": {"cpu": "500m", "memory": "2G"}, "limits": {"memory": "2Gi"}}}}
+                """);
+
+        assertThat(matches("spec.resources.requests.cpu < 1", pod)).isTrue();
+        assertThat(matches("spec.resources.requests.cpu == 0.5", pod)).isTrue();
+        assertThat(matches("spec.resources.requests.memory > 1Gi", pod)).isTrue();
+        assertThat(matches("spec.resources.requests.memory < 2Gi", pod)).isTrue();
+        assertThat(matches("spec.resources.requests.memory == 2000M", pod)).isTrue();
+    }
+
+    @Test
+    void compareShouldCombineWithAndOrNot() {
+        assertThat(matches("spec.partitions > 50 and spec.replicas < 3", TOPIC)).isFalse();
+        assertThat(matches("spec.partitions > 50 and (spec.replicas < 3 or cluster == 'my-cluster')", TOPIC)).isTrue();
+        assertThat(matches("not spec.partitions > 50 || name = \"orders\"", TOPIC)).isTrue();
+        assertThat(matches("!(spec.partitions > 50) && name == \"orders\"", TOPIC)).isFalse();
+    }
+
+    @Test
+    void pathsShouldMatchAnyArrayElement() {
+        assertThat(matches("status.conditions.type == \"Ready\"", TOPIC)).isTrue();
+        assertThat(matches("status.conditions.0.status == true", TOPIC)).isTrue();
+        assertThat(matches("status.conditions.type != \"NotReady\"", TOPIC)).isTrue();
+        assertThat(matches("status.conditions.type != \"Ready\"", TOPIC)).isFalse();
+    }
+
+    @Test
+    void bareFieldsShouldTestThatTheyAreSet() {
+        assertThat(matches("spec.authentication.type == \"tls\" and not spec.quotas", USER)).isTrue();
+        assertThat(matches("spec.authorization.acls", USER)).isFalse();
+        assertThat(matches("spec.quotas == null and spec.authentication != null", USER)).isTrue();
+    }
+
+    @Test
+    void matchesShouldFindTheRegex() {
+        assertThat(matches("name matches \"^ord\"", TOPIC)).isTrue();
+        assertThat(matches("namespace matches 'prod'", TOPIC)).isFalse();
+    }
+
+    @Test
+    void blankExpressionShouldMatchEverything() {
+        assertThat(Query.compile(null, "where").test(USER)).isTrue();
+        assertThat(Query.compile("  ", "where").test(TOPIC)).isTrue();
+    }
+
+    @Test
+    void compileShouldReportThePositionOfSyntaxErrors() {
+        assertThatThrownBy(() -> Query.compile("spec.partitions > ", "where"))
+                .isInstanceOf(InvalidArgumentException.class)
+                .hasMessageStartingWith("Invalid argument where: expected a quoted string, a number, true, false or null at position 19");
+        assertThatThrownBy(() -> Query.compile("(spec.partitions > 1", "where"))
+                .hasMessageContaining("expected ')'");
+        assertThatThrownBy(() -> Query.compile("spec.partitions > 1 spec.replicas", "where"))
+                .hasMessageContaining("unexpected 'spec.replicas'");
+        assertThatThrownBy(() -> Query.compile("name matches '['", "where"))
+                .hasMessageContaining("invalid regular expression");
+        assertThatThrownBy(() -> Query.compile("spec.partitions < true", "where"))
+                .hasMessageContaining("only == and != apply to true");
+        assertThatThrownBy(() -> Query.compile("spec.partitions > 5x", "where"))
+                .hasMessageContaining("expected a quoted string");
+    }
+
+    @Test
+    void orderingShouldSortMissingValuesLast() {
+        JsonNode small = tree("{\"spec\": {\"partitions\": 3}}");
+        JsonNode large = tree("{\"spec\": {\"partitions\": 12}}");
+        JsonNode none = tree("{\"spec\": {}}");
+        Ordering descending = Ordering.parse("spec.partitions desc", "orderBy");
+        Comparator<JsonNode> comparator = descending.comparator(descending.path()::first);
+
+        List<JsonNode> sorted = new ArrayList<>(List.of(small, none, large));
+        sorted.sort(comparator);
+
+        assertThat(sorted).containsExactly(large, small, none);
+        assertThat(descending).hasToString("spec.partitions desc");
+    }
+
+    @Test
+    void valuesShouldParseUnits() {
+        assertThat(Values.number("7d")).isEqualTo(604_800_000d);
+        assertThat(Values.number("100Gi")).isEqualTo(100d * 1024 * 1024 * 1024);
+        assertThat(Values.number("1.5")).isEqualTo(1.5);
+        assertThat(Values.number("90min")).isEqualTo(5_400_000d);
+        assertThat(Values.number("500m")).isEqualTo(0.5);
+        assertThat(Values.number("2G")).isEqualTo(2e9);
+        assertThat(Values.number("5x")).isNull();
+        assertThat(Values.number("abc")).isNull();
+    }
+
+    private static boolean matches(String expression, JsonNode resource) {
+        return Query.compile(expression, "where").test(resource);
+    }
+
+    private static JsonNode tree(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.seequick.mcp.tool.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class AnalyzeTopicConfigDriftToolTest {
+
+    KubernetesClient client;
+
+    private AnalyzeTopicConfigDriftTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new AnalyzeTopicConfigDriftTool(client);
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        assertThat(tool.getSpecification().tool().name()).isEqualTo("analyze_topic_config_drift");
+    }
+
+    @Test
+    void executeShouldGroupTopicsIntoFamiliesAndReportOutliers() {
+        createTopic("orders", Map.of("retention.ms", "604800000"));
+        createTopic("payments", Map.of("retention.ms", 604800000));
+        createTopic("invoices", Map.of("retention.ms", "604800000"));
+        createTopic("audit", Map.of("retention.ms", "-1"));
+
+        String text = text(call(Map.of("namespace", "kafka")));
+
+        assertThat(text).startsWith("Analyzed 4 KafkaTopic(s) in namespace kafka: 2 config family(ies)");
+        assertThat(text).containsPattern("- [0-9a-f]{16}: 3 topic\\(s\\) \\(75\\.0%\\)");
+        assertThat(text).contains("retention.ms=604800000, spec.partitions=3, spec.replicas=3");
+        assertThat(text).contains("- kafka/audit [").contains("retention.ms=-1 (usually 604800000)");
+        assertThat(text).contains("- retention.ms: set on 4 of 4; 604800000 (3) -1 (1)");
+    }
+
+    @Test
+    void executeShouldReportStructuredFamilies() {
+        createTopic("orders", Map.of("cleanup.policy", "compact"));
+        createTopic("payments", Map.of());
+
+        CallToolResult result = call(Map.of("format", "json"));
+
+        assertThat(result.isError()).isFalse();
+        Map<?, ?> content = (Map<?, ?>) result.structuredContent();
+        assertThat(content.get("families")).isEqualTo(2);
+        assertThat(content.get("topics")).isEqualTo(2);
+        assertThat((List<?>) content.get("items")).hasSize(2);
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("analyze_topic_config_drift", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private void createTopic(String name, Map<String, Object> config) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(3)
+                    .withConfig(config)
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(topic).create();
+    }
+}
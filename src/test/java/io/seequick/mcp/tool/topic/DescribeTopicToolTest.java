@@ -104,6 +104,85 @@ class DescribeTopicToolTest {
         assertThat(content).contains("Partitions: 1");
     }
 
+    @Test
+    void executeShouldReturnStructuredContentInJsonFormat() {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("json-topic")
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(2)
+                    .withConfig(Map.of("retention.ms", 86400000, "cleanup.policy", "compact"))
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(topic).create();
+
+        Map<String, Object> args = new HashMap<>();
+        args.put("name", "json-topic");
+        args.put("namespace", "kafka");
+        args.put("format", "json");
+        McpSchema.CallToolRequest request = new McpSchema.CallToolRequest("describe_topic", args);
+
+        CallToolResult result = tool.getSpecification().callHandler().apply(null, request);
+
+        assertThat(result.isError()).isFalse();
+        assertThat(result.structuredContent()).isEqualTo(Map.of(
+                "namespace", "kafka",
+                "name", "json-topic",
+                "cluster", "my-cluster",
+                "partitions", 3,
+                "replicas", 2,
+                "config", Map.of("retention.ms", 86400000, "cleanup.policy", "compact")));
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).startsWith("{\"namespace\":\"kafka\",\"name\":\"json-topic\"").doesNotContain("\n");
+    }
+
+    @Test
+    void executeShouldRejectUnknownFormat() {
+        Map<String, Object> args = new HashMap<>();
+        args.put("name", "my-topic");
+        args.put("namespace", "kafka");
+        args.put("format", "xml");
+        McpSchema.CallToolRequest request = new McpSchema.CallToolRequest("describe_topic", args);
+
+        CallToolResult result = tool.getSpecification().callHandler().apply(null, request);
+
+        assertThat(result.isError()).isTrue();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Invalid argument format: xml is not one of text, compact, json");
+    }
+
+    @Test
+    void executeShouldReuseTheResultUntilTheTopicChanges() {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("cached-topic")
+                    .withNamespace("kafka")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(topic).create();
+        McpSchema.CallToolRequest request = new McpSchema.CallToolRequest("describe_topic",
+                Map.of("name", "cached-topic", "namespace", "kafka"));
+
+        CallToolResult first = tool.getSpecification().callHandler().apply(null, request);
+        CallToolResult second = tool.getSpecification().callHandler().apply(null, request);
+
+        assertThat(second).isSameAs(first);
+
+        client.resources(KafkaTopic.class).inNamespace("kafka").withName("cached-topic")
+                .edit(t -> new KafkaTopicBuilder(t).editSpec().withPartitions(6).endSpec().build());
+        CallToolResult changed = tool.getSpecification().callHandler().apply(null, request);
+
+        assertThat(((TextContent) changed.content().get(0)).text()).contains("Partitions: 6");
+    }
+
     @Test
     void executeShouldFailWhenTopicDoesNotExist() {
         Map<String, Object> args = new HashMap<>();
@@ -0,0 +1,128 @@
+package io.seequick.mcp.tool.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class LintTopicConfigToolTest {
+
+    KubernetesClient client;
+
+    private LintTopicConfigTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new LintTopicConfigTool(client);
+        createTopic("orders", 3, Map.of("min.insync.replicas", 2));
+        createTopic("legacy", 3, Map.of("min.insync.replicas", "3", "unclean.leader.election.enable", true,
+                "segment.bytes", 1048576));
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        assertThat(tool.getSpecification().tool().name()).isEqualTo("lint_topic_config");
+    }
+
+    @Test
+    void executeShouldRankFindingsBySeverity() {
+        String text = text(call(Map.of("namespace", "kafka")));
+
+        assertThat(text).startsWith("Linted 2 KafkaTopic(s) in namespace kafka against 6 rule(s): 3 finding(s) "
+                + "on 1 topic(s) (2 critical, 1 warning, 0 info)");
+        assertThat(text).contains("- [CRITICAL] unclean-leader-election: 1 topic(s)");
+        assertThat(text.substring(text.indexOf("FINDINGS"))).containsSubsequence(
+                "- [CRITICAL] kafka/legacy: unclean-leader-election",
+                "- [CRITICAL] kafka/legacy: min-isr-not-below-replicas - min.insync.replicas=3 equals replicas=3",
+                "- [WARNING] kafka/legacy: small-segment-bytes - segment.bytes=1048576 is below 100Mi");
+        assertThat(text).doesNotContain("kafka/orders");
+    }
+
+    @Test
+    void executeShouldApplyThresholdsSeveritiesAndRuleSelection() {
+        String text = text(call(Map.of("thresholds", Map.of("small-segment-bytes", 1024),
+                "severities", Map.of("unclean-leader-election", "info"), "minSeverity", "WARNING")));
+
+        assertThat(text).contains("against 5 rule(s): 1 finding(s)");
+        assertThat(text).contains("min-isr-not-below-replicas").doesNotContain("kafka/legacy: unclean");
+
+        String selected = text(call(Map.of("rules", List.of("small-segment-bytes"))));
+        assertThat(selected).contains("against 1 rule(s): 1 finding(s)");
+    }
+
+    @Test
+    void executeShouldTakeTheDefaultsFromTheKafkaCluster() {
+        createTopic("defaults", null, Map.of());
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata().withName("my-cluster").withNamespace("kafka").endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withConfig(Map.of("default.replication.factor", 2, "min.insync.replicas", 2,
+                                "log.segment.bytes", 1048576))
+                    .endKafka()
+                .endSpec()
+                .build();
+        client.resources(Kafka.class).inNamespace("kafka").resource(kafka).create();
+
+        String text = text(call(Map.of("namespace", "kafka", "kafkaCluster", "my-cluster")));
+
+        assertThat(text).contains("Defaults of unset configs: spec.kafka.config of Kafka kafka/my-cluster");
+        assertThat(text).contains("- [CRITICAL] kafka/defaults: min-isr-not-below-replicas - min.insync.replicas=2 "
+                + "(min.insync.replicas of Kafka kafka/my-cluster) equals replicas=2 (default.replication.factor of "
+                + "Kafka kafka/my-cluster)");
+        assertThat(text).contains("- [WARNING] kafka/orders: small-segment-bytes - segment.bytes=1048576 "
+                + "(log.segment.bytes of Kafka kafka/my-cluster) is below 100Mi");
+        assertThat(text(call(Map.of("namespace", "kafka"))))
+                .contains("Defaults of unset configs: Kafka defaults")
+                .contains("- [CRITICAL] kafka/defaults: min-isr-not-below-replicas - min.insync.replicas=1 "
+                        + "(Kafka default) equals replicas=1 (Kafka default)")
+                .doesNotContain("kafka/orders: small-segment-bytes");
+    }
+
+    @Test
+    void executeShouldRejectUnknownRules() {
+        CallToolResult result = call(Map.of("rules", List.of("no-such-rule")));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("Invalid argument rules: unknown rule no-such-rule");
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("lint_topic_config", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private void createTopic(String name, Integer replicas, Map<String, Object> config) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("kafka")
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(replicas)
+                    .withConfig(config)
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace("kafka").resource(topic).create();
+    }
+}
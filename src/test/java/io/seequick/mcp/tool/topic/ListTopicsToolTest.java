@@ -5,14 +5,19 @@ import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.store.ResourceCache;
 import io.seequick.mcp.tool.StrimziLabels;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -142,6 +147,113 @@ class ListTopicsToolTest {
         assertThat(content).contains("-> production-cluster");
     }
 
+    @Test
+    void executeShouldStopAtTheOutputBudgetAndContinueAtTheCursor() {
+        createTopic("topic-1", "kafka", "my-cluster", 1, 1);
+        createTopic("topic-2", "kafka", "my-cluster", 1, 1);
+        createTopic("topic-3", "kafka", "my-cluster", 1, 1);
+
+        String first = text(tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka", "maxOutputLines", 2))));
+
+        assertThat(first).contains("Found 3 KafkaTopic(s)");
+        assertThat(first.lines().filter(line -> line.startsWith("- kafka/"))).hasSize(2);
+        assertThat(first).contains("... 1 more item(s) omitted (output budget of 2 lines reached), use cursor 2");
+
+        String next = text(tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka", "maxOutputLines", 2, "cursor", 2))));
+
+        assertThat(next).contains("(starting at cursor 2)");
+        assertThat(next.lines().filter(line -> line.startsWith("- kafka/"))).hasSize(1);
+        assertThat(next).doesNotContain("omitted");
+    }
+
+    @Test
+    void executeShouldWriteCompactJsonWithinTheOutputBudget() {
+        createTopic("topic-1", "kafka", "my-cluster", 3, 2);
+        createTopic("topic-2", "kafka", "my-cluster", 6, 3);
+
+        CallToolResult compact = tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka", "format", "compact")));
+
+        assertThat(compact.isError()).isFalse();
+        assertThat(compact.structuredContent()).isNull();
+        assertThat(text(compact))
+                .contains("{\"namespace\":\"kafka\",\"name\":\"topic-1\",\"partitions\":3,\"replicas\":2,"
+                        + "\"cluster\":\"my-cluster\"}")
+                .contains("],\"count\":2,\"total\":2,\"token\":");
+
+        CallToolResult truncated = tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka", "format", "json", "maxOutputBytes", 10)));
+
+        assertThat(truncated.structuredContent()).isInstanceOf(Map.class);
+        Map<?, ?> content = (Map<?, ?>) truncated.structuredContent();
+        assertThat((List<?>) content.get("items")).hasSize(1);
+        assertThat(content.get("count")).isEqualTo(2);
+        assertThat(content.get("omitted")).isEqualTo(1);
+        assertThat(content.get("nextCursor")).isEqualTo(1);
+    }
+
+    @Test
+    void executeShouldOnlyReportChangesSinceTheToken() {
+        createTopic("topic-1", "kafka", "my-cluster", 1, 1);
+        createTopic("topic-2", "kafka", "my-cluster", 1, 1);
+
+        String first = text(tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka"))));
+        String token = token(first);
+
+        String unchanged = text(tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka", "since", token))));
+
+        assertThat(unchanged).startsWith("Found 2 KafkaTopic(s), 0 added or changed and 0 removed since " + token);
+        assertThat(unchanged).doesNotContain("- kafka/");
+        assertThat(token(unchanged)).isEqualTo(token);
+
+        createTopic("topic-3", "kafka", "my-cluster", 1, 1);
+        client.resources(KafkaTopic.class).inNamespace("kafka").withName("topic-1").delete();
+
+        String changed = text(tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest(
+                "list_topics", Map.of("namespace", "kafka", "since", token))));
+
+        assertThat(changed).startsWith("Found 2 KafkaTopic(s), 1 added or changed and 1 removed since " + token);
+        assertThat(changed).contains("- kafka/topic-3").doesNotContain("- kafka/topic-2");
+        assertThat(changed).contains("Removed:\n- kafka/topic-1\n");
+    }
+
+    @Test
+    void executeShouldAnswerFromTheResourceCacheWhenStarted() throws InterruptedException {
+        createTopic("topic-1", "kafka", "my-cluster", 3, 2);
+        createTopic("topic-2", "other-ns", "other-cluster", 6, 3);
+
+        String listed = text(tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("list_topics", Map.of())));
+
+        try (ResourceCache cache = new ResourceCache()) {
+            cache.start(client, "ctx", null, Duration.ZERO);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!cache.isRevalidated() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(cache.topics(client)).isPresent();
+
+            String cached = text(new ListTopicsTool(client, cache).getSpecification().callHandler()
+                    .apply(null, new McpSchema.CallToolRequest("list_topics", Map.of())));
+
+            assertThat(cached).isEqualTo(listed);
+        }
+    }
+
+    private static String token(String text) {
+        Matcher matcher = Pattern.compile("since=(\\w+)").matcher(text);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
     private void createTopic(String name, String namespace, String cluster, int partitions, int replicas) {
         KafkaTopic topic = new KafkaTopicBuilder()
                 .withNewMetadata()
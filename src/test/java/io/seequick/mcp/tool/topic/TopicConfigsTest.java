@@ -0,0 +1,76 @@
+package io.seequick.mcp.tool.topic;
+
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicSpec;
+import io.strimzi.api.kafka.model.topic.KafkaTopicSpecBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicConfigsTest {
+
+    @Test
+    void canonicalShouldNormalizeEquivalentValues() {
+        KafkaTopicSpec quoted = new KafkaTopicSpecBuilder().withPartitions(3).withReplicas(3)
+                .withConfig(Map.of("retention.ms", "604800000", "unclean.leader.election.enable", "FALSE",
+                        "min.cleanable.dirty.ratio", "0.5", "segment.bytes", "01073741824"))
+                .build();
+        KafkaTopicSpec typed = new KafkaTopicSpecBuilder().withPartitions(3).withReplicas(3)
+                .withConfig(Map.of("retention.ms", 604800000L, "unclean.leader.election.enable", false,
+                        "min.cleanable.dirty.ratio", 0.5, "segment.bytes", 1073741824))
+                .build();
+
+        assertThat(TopicConfigs.canonical(quoted)).isEqualTo(TopicConfigs.canonical(typed))
+                .containsEntry(TopicConfigs.PARTITIONS, "3")
+                .containsEntry("min.cleanable.dirty.ratio", "0.5")
+                .containsEntry("segment.bytes", "1073741824");
+        assertThat(TopicConfigs.fingerprint(TopicConfigs.canonical(quoted)))
+                .isEqualTo(TopicConfigs.fingerprint(TopicConfigs.canonical(typed)))
+                .hasSize(16);
+    }
+
+    @Test
+    void canonicalValueShouldJoinListsAndKeepText() {
+        assertThat(TopicConfigs.canonicalValue(List.of("compact", " delete"))).isEqualTo("compact,delete");
+        assertThat(TopicConfigs.canonicalValue(" zstd ")).isEqualTo("zstd");
+        assertThat(TopicConfigs.canonicalValue("-01")).isEqualTo("-1");
+        assertThat(TopicConfigs.canonicalValue("3.0")).isEqualTo("3.0");
+        assertThat(TopicConfigs.canonicalValue("1e3")).isEqualTo("1e3");
+    }
+
+    @Test
+    void effectiveShouldFallBackToTheBrokerConfigOfTheCluster() {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata().withName("my-cluster").withNamespace("kafka").endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withConfig(Map.of("log.retention.hours", 24, "default.replication.factor", 3,
+                                "compression.type", "zstd"))
+                    .endKafka()
+                .endSpec()
+                .build();
+        TopicConfigs.Effective effective = new TopicConfigs.Effective(TopicConfigs.canonical(
+                new KafkaTopicSpecBuilder().withConfig(Map.of("compression.type", "lz4")).build()),
+                TopicConfigs.Defaults.of(kafka));
+
+        assertThat(effective.get("retention.ms"))
+                .isEqualTo(new TopicConfigs.Value("86400000", "log.retention.hours of Kafka kafka/my-cluster"));
+        assertThat(effective.describe(TopicConfigs.REPLICAS))
+                .isEqualTo("replicas=3 (default.replication.factor of Kafka kafka/my-cluster)");
+        assertThat(effective.describe("compression.type")).isEqualTo("compression.type=lz4");
+        assertThat(effective.describe("segment.bytes")).isEqualTo("segment.bytes=1073741824 (Kafka default)");
+    }
+
+    @Test
+    void fingerprintShouldDifferForDifferentValues() {
+        KafkaTopicSpec one = new KafkaTopicSpecBuilder().withPartitions(3).build();
+        KafkaTopicSpec other = new KafkaTopicSpecBuilder().withPartitions(6).build();
+
+        assertThat(TopicConfigs.fingerprint(TopicConfigs.canonical(one)))
+                .isNotEqualTo(TopicConfigs.fingerprint(TopicConfigs.canonical(other)));
+    }
+}
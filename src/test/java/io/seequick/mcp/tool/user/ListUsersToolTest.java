@@ -5,6 +5,7 @@ import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.store.ResourceCache;
 import io.seequick.mcp.tool.StrimziLabels;
 import io.strimzi.api.kafka.model.user.KafkaUser;
 import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
@@ -13,6 +14,7 @@ import io.strimzi.api.kafka.model.user.KafkaUserTlsClientAuthentication;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -124,6 +126,33 @@ class ListUsersToolTest {
         assertThat(content).contains("Found 0 KafkaUser(s)");
     }
 
+    @Test
+    void executeShouldAnswerFromTheResourceCacheWhenStarted() throws InterruptedException {
+        createUser("user-1", "kafka", "my-cluster", "scram-sha-512");
+        createUser("user-2", "other-ns", "other-cluster", "tls");
+
+        String listed = text(tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("list_users", Map.of())));
+
+        try (ResourceCache cache = new ResourceCache()) {
+            cache.start(client, "ctx", null, Duration.ZERO);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!cache.isRevalidated() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(cache.users(client)).isPresent();
+
+            String cached = text(new ListUsersTool(client, cache).getSpecification().callHandler()
+                    .apply(null, new McpSchema.CallToolRequest("list_users", Map.of())));
+
+            assertThat(cached).isEqualTo(listed);
+        }
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
     private void createUser(String name, String namespace, String cluster, String authType) {
         var builder = new KafkaUserBuilder()
                 .withNewMetadata()
@@ -119,7 +119,7 @@ class ExportResourceYamlToolTest {
 
         assertThat(result.isError()).isTrue();
         String content = ((TextContent) result.content().get(0)).text();
-        assertThat(content).contains("not found");
+        assertThat(content).contains("UnsupportedKind is not one of");
     }
 
     private void createKafka(String name, String namespace) {
@@ -0,0 +1,118 @@
+package io.seequick.mcp.tool.utility;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import io.seequick.mcp.client.ApiRequestScheduler;
+import io.seequick.mcp.client.ConcurrencyLimiter;
+import io.seequick.mcp.store.ResourceCache;
+import io.seequick.mcp.tool.RequestCoalescer;
+import io.seequick.mcp.tool.StrimziKind;
+import io.seequick.mcp.tool.StrimziResourceRepository;
+import io.seequick.mcp.tool.ToolResultCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class GetServerMetricsToolTest {
+
+    KubernetesClient client;
+
+    private RequestCoalescer coalescer;
+    private ApiRequestScheduler scheduler;
+    private ConcurrencyLimiter limiter;
+    private ToolResultCache resultCache;
+    private GetServerMetricsTool tool;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new RequestCoalescer(Duration.ofMinutes(1));
+        scheduler = new ApiRequestScheduler(10, 20);
+        limiter = new ConcurrencyLimiter(8, 4);
+        resultCache = new ToolResultCache(ToolResultCache.DEFAULT_MAX_ENTRIES);
+        tool = new GetServerMetricsTool(client, coalescer, scheduler, limiter, new ResourceCache(), resultCache);
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        assertThat(tool.getSpecification().tool().name()).isEqualTo("get_server_metrics");
+    }
+
+    @Test
+    void executeShouldReportCoalescerCounters() {
+        var repository = new StrimziResourceRepository<>(client, KafkaTopic.class, KafkaTopicList.class, coalescer);
+        repository.list("kafka", null);
+        repository.list("kafka", null);
+
+        CallToolResult result = tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("get_server_metrics", Map.of()));
+
+        assertThat(result.isError()).isFalse();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Requested: 2");
+        assertThat(content).contains("API calls: 1");
+        assertThat(content).contains("Served from cache: 1");
+        assertThat(content).contains("Saved: 50.0%");
+        assertThat(content).contains("TTL: 60000ms");
+        assertThat(content).contains("Entries: 1");
+    }
+
+    @Test
+    void executeShouldReportRateLimiterQueues() throws InterruptedException {
+        scheduler.acquire(ApiRequestScheduler.Lane.INTERACTIVE);
+        scheduler.acquire(ApiRequestScheduler.Lane.BULK);
+        scheduler.recordExempt();
+
+        CallToolResult result = tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("get_server_metrics", Map.of()));
+
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("API RATE LIMITER");
+        assertThat(content).contains("Limit: 10.0 req/s, burst 20");
+        assertThat(content).contains("Exempt (watches): 1");
+        assertThat(content).contains("INTERACTIVE lane:");
+        assertThat(content).contains("BULK lane:");
+        assertThat(content).contains("Queue depth: 0 (max 1)");
+    }
+
+    @Test
+    void executeShouldReportRequestsInFlight() {
+        limiter.acquire("api:6443").join();
+        limiter.acquire("api:6443").join().release();
+
+        CallToolResult result = tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("get_server_metrics", Map.of()));
+
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("HTTP CONNECTIONS");
+        assertThat(content).contains("Limit: 8 total, 4 per host");
+        assertThat(content).contains("In flight: 1 (max 2)");
+        assertThat(content).contains("Admitted: 2");
+    }
+
+    @Test
+    void executeShouldReportToolResultCacheHits() {
+        ToolResultCache.Resource resource = new ToolResultCache.Resource(StrimziKind.KAFKA_TOPIC, "kafka", "orders");
+        CallToolResult described = new CallToolResult(List.of(new TextContent("described")), false);
+        resultCache.call(client, "describe_topic", "{}", resource, () -> "1", () -> described);
+        resultCache.call(client, "describe_topic", "{}", resource, () -> "1", () -> described);
+
+        CallToolResult result = tool.getSpecification().callHandler()
+                .apply(null, new McpSchema.CallToolRequest("get_server_metrics", Map.of()));
+
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("TOOL RESULT CACHE");
+        assertThat(content).contains("Entries: 1 (max 256)");
+        assertThat(content).contains("Hits: 1 (50.0%)");
+    }
+}
@@ -0,0 +1,112 @@
+package io.seequick.mcp.tool.utility;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class QueryResourcesToolTest {
+
+    KubernetesClient client;
+
+    private QueryResourcesTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new QueryResourcesTool(client);
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        assertThat(tool.getSpecification().tool().name()).isEqualTo("query_resources");
+    }
+
+    @Test
+    void executeShouldReturnOnlyMatchingResourcesWithSelectedFields() {
+        createTopic("orders", "kafka", "my-cluster", 60, 3600000);
+        createTopic("payments", "kafka", "my-cluster", 12, 3600000);
+        createTopic("audit", "kafka", "my-cluster", 100, 604800000);
+
+        String content = text(call(Map.of("kind", "KafkaTopic", "namespace", "kafka",
+                "where", "spec.partitions > 50 and spec.config.\"retention.ms\" < 1d",
+                "select", List.of("spec.partitions", "cluster"))));
+
+        assertThat(content).startsWith("Matched 1 of 3 KafkaTopic(s) where spec.partitions > 50");
+        assertThat(content).contains("- kafka/orders  spec.partitions=60  cluster=my-cluster");
+        assertThat(content).doesNotContain("payments").doesNotContain("audit");
+    }
+
+    @Test
+    void executeShouldReturnTheTopRowsOfTheSortOrder() {
+        createTopic("small", "kafka", "my-cluster", 3, 1000);
+        createTopic("large", "kafka", "my-cluster", 100, 1000);
+        createTopic("medium", "kafka", "my-cluster", 12, 1000);
+
+        String content = text(call(Map.of("kind", "KafkaTopic", "orderBy", "spec.partitions desc", "limit", 2)));
+
+        assertThat(content).startsWith("Matched 3 of 3 KafkaTopic(s), ordered by spec.partitions desc, first 2");
+        assertThat(content.lines().filter(line -> line.startsWith("- ")).toList())
+                .containsExactly("- kafka/large  spec.partitions=100", "- kafka/medium  spec.partitions=12");
+    }
+
+    @Test
+    void executeShouldWriteJsonRows() {
+        createTopic("orders", "kafka", "my-cluster", 60, 3600000);
+
+        CallToolResult result = call(Map.of("kind", "kafkatopic", "select", List.of("spec.config.\"retention.ms\""),
+                "format", "json"));
+
+        Map<?, ?> content = (Map<?, ?>) result.structuredContent();
+        assertThat(content.get("matched")).isEqualTo(1);
+        assertThat(content.get("scanned")).isEqualTo(1);
+        assertThat(content.get("items")).isEqualTo(List.of(Map.of("namespace", "kafka", "name", "orders",
+                "fields", Map.of("spec.config.\"retention.ms\"", 3600000))));
+    }
+
+    @Test
+    void executeShouldReportInvalidExpressions() {
+        CallToolResult invalid = call(Map.of("kind", "KafkaTopic", "where", "spec.partitions >"));
+        assertThat(invalid.isError()).isTrue();
+        assertThat(text(invalid)).startsWith("Invalid argument where: expected a quoted string");
+
+        CallToolResult unknownKind = call(Map.of("kind", "Deployment"));
+        assertThat(unknownKind.isError()).isTrue();
+        assertThat(text(unknownKind)).contains("Invalid argument kind: Deployment is not one of Kafka,");
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest("query_resources", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private void createTopic(String name, String namespace, String cluster, int partitions, long retentionMs) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToLabels(StrimziLabels.CLUSTER, cluster)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(partitions)
+                    .withReplicas(1)
+                    .withConfig(Map.of("retention.ms", retentionMs))
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace(namespace).resource(topic).create();
+    }
+}
@@ -0,0 +1,105 @@
+package io.seequick.mcp.tool.utility;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.store.ResourceIndex;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class SearchResourcesToolTest {
+
+    KubernetesClient client;
+
+    private ResourceIndex resourceIndex;
+    private SearchResourcesTool tool;
+
+    @BeforeEach
+    void setUp() {
+        resourceIndex = new ResourceIndex();
+        tool = new SearchResourcesTool(client, resourceIndex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resourceIndex.close();
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        assertThat(tool.getSpecification().tool().name()).isEqualTo("search_resources");
+    }
+
+    @Test
+    void executeShouldFindPrefixesAndTypos() {
+        createTopic("orders", "kafka");
+        createTopic("orders-dlq", "kafka");
+        createTopic("payments", "kafka");
+
+        String prefix = text(call(Map.of("query", "order")));
+        assertThat(prefix).startsWith("Found 2 match(es) for \"order\" among 3 indexed resource(s)");
+        assertThat(prefix).contains("- KafkaTopic kafka/orders -> my-cluster [prefix]");
+        assertThat(prefix).contains("- KafkaTopic kafka/orders-dlq -> my-cluster [prefix]");
+
+        String typo = text(call(Map.of("query", "paymnets", "kind", "KafkaTopic")));
+        assertThat(typo).contains("- KafkaTopic kafka/payments -> my-cluster [2 typo(s)]");
+    }
+
+    @Test
+    void executeShouldFollowChangesAfterTheFirstSearch() throws InterruptedException {
+        createTopic("orders", "kafka");
+        assertThat(text(call(Map.of("query", "audit")))).startsWith("Found 0 match(es)");
+
+        createTopic("audit-log", "kafka");
+        long deadline = System.currentTimeMillis() + 5000;
+        String found = text(call(Map.of("query", "audit")));
+        while (found.startsWith("Found 0") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            found = text(call(Map.of("query", "audit")));
+        }
+
+        assertThat(found).contains("- KafkaTopic kafka/audit-log");
+    }
+
+    @Test
+    void executeShouldRejectAnEmptyQuery() {
+        CallToolResult result = call(Map.of("query", " "));
+
+        assertThat(result.isError()).isTrue();
+        assertThat(text(result)).contains("Invalid argument query");
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        return tool.getSpecification().callHandler().apply(null, new McpSchema.CallToolRequest("search_resources", args));
+    }
+
+    private static String text(CallToolResult result) {
+        return ((TextContent) result.content().get(0)).text();
+    }
+
+    private void createTopic(String name, String namespace) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+        client.resources(KafkaTopic.class).inNamespace(namespace).resource(topic).create();
+    }
+}
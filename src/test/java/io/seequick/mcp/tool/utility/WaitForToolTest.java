@@ -0,0 +1,248 @@
+package io.seequick.mcp.tool.utility;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.seequick.mcp.tool.StrimziLabels;
+import io.strimzi.api.kafka.model.common.ConditionBuilder;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.topic.KafkaTopicList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(crud = true)
+class WaitForToolTest {
+
+    KubernetesClient client;
+
+    private WaitForTool tool;
+
+    @BeforeEach
+    void setUp() {
+        tool = new WaitForTool(client);
+    }
+
+    @Test
+    void getNameShouldReturnCorrectName() {
+        var spec = tool.getSpecification();
+        assertThat(spec.tool().name()).isEqualTo("wait_for");
+    }
+
+    @Test
+    void executeShouldReturnImmediatelyWhenConditionAlreadyMet() {
+        createTopic("ready-topic", "True");
+
+        CallToolResult result = call(topicArgs("ready-topic", null, 5));
+
+        assertThat(result.isError()).isFalse();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Condition met: Ready=True");
+        assertThat(content).contains("KafkaTopic kafka/ready-topic");
+        assertThat(content).contains("Elapsed:");
+    }
+
+    @Test
+    void executeShouldWaitUntilConditionIsMet() throws Exception {
+        createTopic("pending-topic", "False");
+
+        CompletableFuture<CallToolResult> future = CompletableFuture.supplyAsync(
+                () -> call(topicArgs("pending-topic", "Ready", 30)));
+
+        Thread.sleep(500);
+        client.resources(KafkaTopic.class, KafkaTopicList.class)
+                .inNamespace("kafka")
+                .withName("pending-topic")
+                .editStatus(t -> {
+                    t.getStatus().setConditions(List.of(new ConditionBuilder()
+                            .withType("Ready").withStatus("True").build()));
+                    return t;
+                });
+
+        CallToolResult result = future.get(30, TimeUnit.SECONDS);
+
+        assertThat(result.isError()).isFalse();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Condition met: Ready=True");
+    }
+
+    @Test
+    void executeShouldTimeOutWhenConditionIsNotMet() {
+        createTopic("stuck-topic", "False");
+
+        CallToolResult result = call(topicArgs("stuck-topic", "Ready", 1));
+
+        assertThat(result.isError()).isTrue();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Timed out after 1s");
+        assertThat(content).contains("Ready=False");
+    }
+
+    @Test
+    void executeShouldNotAcceptReadyOfAnOlderGeneration() {
+        createTopic("stale-topic", "True", 0L);
+
+        CallToolResult result = call(topicArgs("stale-topic", "Ready", 1));
+
+        assertThat(result.isError()).isTrue();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Timed out after 1s");
+    }
+
+    @Test
+    void executeShouldSupportConditionWithExplicitStatus() {
+        createTopic("failed-topic", "False");
+
+        CallToolResult result = call(topicArgs("failed-topic", "Ready=False", 5));
+
+        assertThat(result.isError()).isFalse();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Condition met: Ready=False");
+    }
+
+    @Test
+    void executeShouldSupportDeletedCondition() {
+        CallToolResult result = call(topicArgs("missing-topic", "Deleted", 5));
+
+        assertThat(result.isError()).isFalse();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Condition met: Deleted");
+    }
+
+    @Test
+    void executeShouldFailWhenResourceNotFound() {
+        CallToolResult result = call(topicArgs("missing-topic", null, 5));
+
+        assertThat(result.isError()).isTrue();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("KafkaTopic not found: kafka/missing-topic");
+    }
+
+    @Test
+    void executeShouldCheckNodePoolReplicas() {
+        KafkaNodePool nodePool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName("brokers")
+                    .withNamespace("kafka")
+                    .withGeneration(2L)
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(3)
+                    .withRoles(ProcessRoles.BROKER)
+                .endSpec()
+                .withNewStatus()
+                    .withReplicas(3)
+                    .withNodeIds(0, 1, 2)
+                    .withObservedGeneration(2L)
+                .endStatus()
+                .build();
+        client.resources(KafkaNodePool.class, KafkaNodePoolList.class).inNamespace("kafka").resource(nodePool).create();
+
+        Map<String, Object> args = new HashMap<>();
+        args.put("kind", "KafkaNodePool");
+        args.put("name", "brokers");
+        args.put("namespace", "kafka");
+        args.put("condition", "ReplicasMatched");
+        args.put("timeoutSeconds", 5);
+
+        CallToolResult result = call(args);
+
+        assertThat(result.isError()).isFalse();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Condition met: ReplicasMatched");
+    }
+
+    @Test
+    void replicasShouldNotMatchWithoutSpec() {
+        KafkaNodePool nodePool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName("brokers")
+                    .withNamespace("kafka")
+                .endMetadata()
+                .withNewStatus()
+                    .withReplicas(3)
+                .endStatus()
+                .build();
+
+        assertThat(WaitForTool.isReplicasMatched(nodePool)).isFalse();
+    }
+
+    @Test
+    void executeShouldRejectReplicasMatchedForUnsupportedKind() {
+        createTopic("ready-topic", "True");
+
+        CallToolResult result = call(topicArgs("ready-topic", "ReplicasMatched", 5));
+
+        assertThat(result.isError()).isTrue();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("ReplicasMatched is only supported");
+    }
+
+    @Test
+    void executeShouldRejectUnsupportedKind() {
+        Map<String, Object> args = topicArgs("ready-topic", null, 5);
+        args.put("kind", "Deployment");
+
+        CallToolResult result = call(args);
+
+        assertThat(result.isError()).isTrue();
+        String content = ((TextContent) result.content().get(0)).text();
+        assertThat(content).contains("Unsupported kind");
+    }
+
+    private CallToolResult call(Map<String, Object> args) {
+        McpSchema.CallToolRequest request = new McpSchema.CallToolRequest("wait_for", args);
+        return tool.getSpecification().callHandler().apply(null, request);
+    }
+
+    private Map<String, Object> topicArgs(String name, String condition, int timeoutSeconds) {
+        Map<String, Object> args = new HashMap<>();
+        args.put("kind", "KafkaTopic");
+        args.put("name", name);
+        args.put("namespace", "kafka");
+        if (condition != null) {
+            args.put("condition", condition);
+        }
+        args.put("timeoutSeconds", timeoutSeconds);
+        return args;
+    }
+
+    private void createTopic(String name, String readyStatus) {
+        createTopic(name, readyStatus, 1L);
+    }
+
+    private void createTopic(String name, String readyStatus, long observedGeneration) {
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace("kafka")
+                    .withGeneration(1L)
+                    .addToLabels(StrimziLabels.CLUSTER, "my-cluster")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus(readyStatus).build())
+                .endStatus()
+                .build();
+        client.resources(KafkaTopic.class, KafkaTopicList.class).inNamespace("kafka").resource(topic).create();
+    }
+}